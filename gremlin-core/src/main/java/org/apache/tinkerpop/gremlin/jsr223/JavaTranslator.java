@@ -30,9 +30,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.TraversalStrategyProxy;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,6 +58,13 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
     private final S traversalSource;
     private final Class<?> anonymousTraversal;
     private static final Map<Class<?>, Map<String, List<ReflectedMethod>>> GLOBAL_METHOD_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of instruction shapes for which the resolved method is retained.
+     */
+    static final int MAX_DISPATCH_CACHE_SIZE = 16384;
+
+    static final Map<DispatchKey, Dispatch> GLOBAL_DISPATCH_CACHE = new ConcurrentHashMap<>();
     private final Map<Class<?>, Map<String,Method>> localMethodCache = new ConcurrentHashMap<>();
     private final Method anonymousTraversalStart;
 
@@ -204,69 +216,20 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
         }
 
         try {
-            for (final ReflectedMethod methodx : methodCache.get(methodName)) {
-                final Method method = methodx.method;
-                if (returnType.isAssignableFrom(method.getReturnType())) {
-                    final Parameter[] parameters = methodx.parameters;
-                    if (parameters.length == argumentsCopy.length || methodx.hasVarArgs) {
-                        final Object[] newArguments = new Object[parameters.length];
-                        boolean found = true;
-                        for (int i = 0; i < parameters.length; i++) {
-                            if (parameters[i].isVarArgs()) {
-                                final Class<?> parameterClass = parameters[i].getType().getComponentType();
-                                if (argumentsCopy.length > i && argumentsCopy[i] != null && !parameterClass.isAssignableFrom(argumentsCopy[i].getClass())) {
-                                    found = false;
-                                    break;
-                                }
-                                final Object[] varArgs = (Object[]) Array.newInstance(parameterClass, argumentsCopy.length - i);
-                                int counter = 0;
-                                for (int j = i; j < argumentsCopy.length; j++) {
-                                    varArgs[counter++] = argumentsCopy[j];
-                                }
-                                newArguments[i] = varArgs;
-                                break;
-                            } else {
-                                // try to detect the right method by comparing the type of the parameter to the type
-                                // of the argument. doesn't always work so well because of null arguments which don't
-                                // bring their type in bytecode and rely on position. this doesn't seem to happen often
-                                // ...luckily...because method signatures tend to be sufficiently unique and do not
-                                // encourage whacky use - like g.V().has(null, null) is clearly invalid so we don't
-                                // even need to try to sort that out. on the other hand g.V().has('name',null) which
-                                // is valid hits like four different possible overloads, but we can rely on the most
-                                // generic one which takes Object as the second parameter. that seems to work in this
-                                // case, but it's a shame this isn't nicer. seems like nicer would mean a heavy
-                                // overhaul to Gremlin or to GLVs/bytecode and/or to serialization mechanisms.
-                                //
-                                // the check where argumentsCopy[i] is null could be accompanied by a type check for
-                                // allowable signatures like:
-                                // null == argumentsCopy[i] && parameters[i].getType() == Object.class
-                                // but that doesn't seem helpful. perhaps this approach is fine as long as we ensure
-                                // consistency of null calls to all overloads. in other words addV(String) must behave
-                                // the same as addV(Traversal) if null is used as the argument. so far, that seems to
-                                // be the case. if we find that is not happening we either fix that specific
-                                // inconsistency, start special casing those method finds here, or as mentioned above
-                                // do something far more drastic that doesn't involve reflection.
-                                if (i < argumentsCopy.length && (null == argumentsCopy[i] ||
-                                        (argumentsCopy[i] != null && (
-                                        parameters[i].getType().isAssignableFrom(argumentsCopy[i].getClass()) ||
-                                                (parameters[i].getType().isPrimitive() &&
-                                                        (Number.class.isAssignableFrom(argumentsCopy[i].getClass()) ||
-                                                                argumentsCopy[i].getClass().equals(Boolean.class) ||
-                                                                argumentsCopy[i].getClass().equals(Byte.class) ||
-                                                                argumentsCopy[i].getClass().equals(Character.class))))))) {
-                                    newArguments[i] = argumentsCopy[i];
-                                } else {
-                                    found = false;
-                                    break;
-                                }
-                            }
-                        }
-                        if (found) {
-                            return 0 == newArguments.length ? method.invoke(delegate) : method.invoke(delegate, newArguments);
-                        }
-                    }
-                }
+            // the method that is called only depends on the classes of the delegate and the arguments so it is
+            // resolved once for each such shape of an instruction. once the cache is full, methods are resolved for
+            // each call and invoked reflectively as building a MethodHandle would not pay off for a single call
+            final List<ReflectedMethod> methods = methodCache.get(methodName);
+            final DispatchKey key = new DispatchKey(delegate.getClass(), returnType, methodName, argumentsCopy, maxParameterCount(methods));
+            Dispatch dispatch = GLOBAL_DISPATCH_CACHE.get(key);
+            if (null == dispatch) {
+                final boolean cacheable = GLOBAL_DISPATCH_CACHE.size() < MAX_DISPATCH_CACHE_SIZE;
+                dispatch = resolveDispatch(methods, returnType, argumentsCopy, cacheable);
+                if (null != dispatch && cacheable)
+                    GLOBAL_DISPATCH_CACHE.put(key, dispatch);
             }
+            if (null != dispatch)
+                return dispatch.invoke(delegate, argumentsCopy);
         } catch (final Throwable e) {
             throw new IllegalStateException(e.getMessage() + ":" + methodName + "(" + Arrays.toString(argumentsCopy) + ")", e);
         }
@@ -276,6 +239,73 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
         throw new IllegalStateException("Could not locate method: " + delegate.getClass().getSimpleName() + "." + methodName + "(" + Arrays.toString(argumentsCopy) + ")");
     }
 
+    /**
+     * Finds the first method of the overloads that can be called with the arguments or returns {@code null} if there
+     * is none.
+     */
+    private static Dispatch resolveDispatch(final List<ReflectedMethod> methods, final Class<?> returnType,
+                                            final Object[] arguments, final boolean withInvoker) {
+        for (final ReflectedMethod methodx : methods) {
+            final Method method = methodx.method;
+            if (returnType.isAssignableFrom(method.getReturnType())) {
+                final Parameter[] parameters = methodx.parameters;
+                if (parameters.length == arguments.length || methodx.hasVarArgs) {
+                    boolean found = true;
+                    for (int i = 0; i < parameters.length; i++) {
+                        if (parameters[i].isVarArgs()) {
+                            final Class<?> parameterClass = parameters[i].getType().getComponentType();
+                            if (arguments.length > i && arguments[i] != null && !parameterClass.isAssignableFrom(arguments[i].getClass()))
+                                found = false;
+                            break;
+                        } else {
+                            // try to detect the right method by comparing the type of the parameter to the type
+                            // of the argument. doesn't always work so well because of null arguments which don't
+                            // bring their type in bytecode and rely on position. this doesn't seem to happen often
+                            // ...luckily...because method signatures tend to be sufficiently unique and do not
+                            // encourage whacky use - like g.V().has(null, null) is clearly invalid so we don't
+                            // even need to try to sort that out. on the other hand g.V().has('name',null) which
+                            // is valid hits like four different possible overloads, but we can rely on the most
+                            // generic one which takes Object as the second parameter. that seems to work in this
+                            // case, but it's a shame this isn't nicer. seems like nicer would mean a heavy
+                            // overhaul to Gremlin or to GLVs/bytecode and/or to serialization mechanisms.
+                            //
+                            // the check where arguments[i] is null could be accompanied by a type check for
+                            // allowable signatures like:
+                            // null == arguments[i] && parameters[i].getType() == Object.class
+                            // but that doesn't seem helpful. perhaps this approach is fine as long as we ensure
+                            // consistency of null calls to all overloads. in other words addV(String) must behave
+                            // the same as addV(Traversal) if null is used as the argument. so far, that seems to
+                            // be the case. if we find that is not happening we either fix that specific
+                            // inconsistency, start special casing those method finds here, or as mentioned above
+                            // do something far more drastic that doesn't involve reflection.
+                            if (!(i < arguments.length && (null == arguments[i] ||
+                                    parameters[i].getType().isAssignableFrom(arguments[i].getClass()) ||
+                                    (parameters[i].getType().isPrimitive() &&
+                                            (Number.class.isAssignableFrom(arguments[i].getClass()) ||
+                                                    arguments[i].getClass().equals(Boolean.class) ||
+                                                    arguments[i].getClass().equals(Byte.class) ||
+                                                    arguments[i].getClass().equals(Character.class)))))) {
+                                found = false;
+                                break;
+                            }
+                        }
+                    }
+                    if (found)
+                        return new Dispatch(methodx, withInvoker ? arguments : null);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int maxParameterCount(final List<ReflectedMethod> methods) {
+        int max = 0;
+        for (final ReflectedMethod method : methods) {
+            max = Math.max(max, method.parameters.length);
+        }
+        return max;
+    }
+
     private synchronized static void buildMethodCache(final Object delegate, final Map<String, List<ReflectedMethod>> methodCache) {
         if (methodCache.isEmpty()) {
             for (final Method method : delegate.getClass().getMethods()) {
@@ -297,6 +327,122 @@ public final class JavaTranslator<S extends TraversalSource, T extends Traversal
         return null;
     }
 
+    /**
+     * The shape of an instruction, i.e. the classes of the object it is applied to and of its arguments, for which
+     * the same method is called. Only the arguments that can be bound to a parameter other than varargs of one of the
+     * overloads of the method are part of the shape. All further arguments are varargs and so instructions that only
+     * differ in the number of varargs share their shape.
+     */
+    private static final class DispatchKey {
+        private final Class<?> delegateClass;
+        private final Class<?> returnType;
+        private final String methodName;
+        private final Class<?>[] argumentClasses;
+        private final int hashCode;
+
+        private DispatchKey(final Class<?> delegateClass, final Class<?> returnType, final String methodName,
+                            final Object[] arguments, final int maxParameterCount) {
+            this.delegateClass = delegateClass;
+            this.returnType = returnType;
+            this.methodName = methodName;
+            // one more slot than any overload has parameters marks that there are further varargs
+            this.argumentClasses = new Class<?>[Math.min(arguments.length, maxParameterCount + 1)];
+            for (int i = 0; i < this.argumentClasses.length; i++) {
+                if (i == maxParameterCount)
+                    this.argumentClasses[i] = Void.class;
+                else
+                    this.argumentClasses[i] = null == arguments[i] ? null : arguments[i].getClass();
+            }
+            this.hashCode = ((delegateClass.hashCode() * 31 + returnType.hashCode()) * 31 + methodName.hashCode()) * 31 +
+                    Arrays.hashCode(this.argumentClasses);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) return true;
+            if (!(other instanceof DispatchKey)) return false;
+            final DispatchKey that = (DispatchKey) other;
+            return this.hashCode == that.hashCode && this.delegateClass == that.delegateClass &&
+                    this.returnType == that.returnType && this.methodName.equals(that.methodName) &&
+                    Arrays.equals(this.argumentClasses, that.argumentClasses);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Calls the method that was resolved for the shape of an instruction. Varargs are first collected into an array
+     * so that the call does not depend on their number. Where possible the method is then called with a
+     * {@code MethodHandle} that applies the conversions to the parameter types that were determined for the shape.
+     * Arguments that {@code MethodHandle} conversions do not cover, like {@code null} for a primitive parameter, are
+     * passed reflectively so that they fail as they would with {@code Method.invoke()}. A dispatch that is not
+     * cached is created without a {@code MethodHandle} and always calls the method reflectively.
+     */
+    private static final class Dispatch {
+        private final ReflectedMethod method;
+        private final MethodHandle invoker;
+
+        private Dispatch(final ReflectedMethod method, final Object[] arguments) {
+            this.method = method;
+            this.invoker = null == arguments ? null : createInvoker(method, arguments);
+        }
+
+        private Object invoke(final Object delegate, final Object[] arguments) throws Throwable {
+            final Parameter[] parameters = this.method.parameters;
+            final Object[] newArguments;
+            if (this.method.hasVarArgs) {
+                newArguments = new Object[parameters.length];
+                final int varArgsIndex = parameters.length - 1;
+                System.arraycopy(arguments, 0, newArguments, 0, varArgsIndex);
+                final Object[] varArgs = (Object[]) Array.newInstance(parameters[varArgsIndex].getType().getComponentType(), arguments.length - varArgsIndex);
+                System.arraycopy(arguments, varArgsIndex, varArgs, 0, varArgs.length);
+                newArguments[varArgsIndex] = varArgs;
+            } else
+                newArguments = arguments;
+
+            if (null != this.invoker)
+                return (Object) this.invoker.invokeExact(delegate, newArguments);
+            return 0 == newArguments.length ? this.method.method.invoke(delegate) : this.method.method.invoke(delegate, newArguments);
+        }
+
+        private static MethodHandle createInvoker(final ReflectedMethod reflectedMethod, final Object[] arguments) {
+            final Method method = reflectedMethod.method;
+            final Parameter[] parameters = reflectedMethod.parameters;
+            final int fixedCount = reflectedMethod.hasVarArgs ? parameters.length - 1 : parameters.length;
+            if (reflectedMethod.hasVarArgs && parameters[fixedCount].getType().getComponentType().isPrimitive())
+                return null;
+            try {
+                MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+                if (Modifier.isStatic(method.getModifiers()))
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+
+                // narrow the parameters other than varargs to the classes of the arguments so that primitive
+                // conversions are checked once here rather than on each call
+                final Class<?>[] argumentTypes = new Class<?>[parameters.length];
+                for (int i = 0; i < parameters.length; i++) {
+                    final Class<?> parameterType = handle.type().parameterType(i + 1);
+                    if (i == fixedCount)
+                        argumentTypes[i] = parameterType;
+                    else if (null == arguments[i]) {
+                        if (parameterType.isPrimitive())
+                            return null;
+                        argumentTypes[i] = parameterType;
+                    } else
+                        argumentTypes[i] = arguments[i].getClass();
+                }
+                return handle.asType(MethodType.methodType(handle.type().returnType(), handle.type().parameterType(0), argumentTypes)).
+                        asType(MethodType.genericMethodType(parameters.length + 1)).
+                        asSpreader(Object[].class, parameters.length).
+                        asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+            } catch (final IllegalAccessException | IllegalArgumentException | WrongMethodTypeException e) {
+                return null;
+            }
+        }
+    }
+
     private static final class ReflectedMethod {
         private final Method method;
         private final Parameter[] parameters;
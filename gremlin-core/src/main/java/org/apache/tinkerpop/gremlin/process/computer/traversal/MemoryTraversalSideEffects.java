@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.ProgramPhase;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCancellation;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuota;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -124,6 +126,26 @@ public final class MemoryTraversalSideEffects implements TraversalSideEffects {
         return this.sideEffects.getSackMerger();
     }
 
+    @Override
+    public TraversalCancellation getCancellation() {
+        return this.sideEffects.getCancellation();
+    }
+
+    @Override
+    public void setCancellation(final TraversalCancellation cancellation) {
+        this.sideEffects.setCancellation(cancellation);
+    }
+
+    @Override
+    public TraversalMemoryQuota getMemoryQuota() {
+        return this.sideEffects.getMemoryQuota();
+    }
+
+    @Override
+    public void setMemoryQuota(final TraversalMemoryQuota memoryQuota) {
+        this.sideEffects.setMemoryQuota(memoryQuota);
+    }
+
     @Override
     public TraversalSideEffects clone() {
         try {
@@ -25,6 +25,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalTemplate;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalTemplateCache;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import java.util.Iterator;
@@ -46,14 +48,28 @@ import java.util.concurrent.CompletableFuture;
  * }
  * </pre>
  *
+ * A connection that is given a template cache size compiles each distinct {@link Bytecode} once and creates the
+ * traversals of repeated submissions from a {@link TraversalTemplate}, which is only appropriate if the strategies of
+ * the embedded "g" do not depend on anything but the bytecode.
+ *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public class EmbeddedRemoteConnection implements RemoteConnection {
 
     private final GraphTraversalSource g;
+    private final TraversalTemplateCache templates;
 
     public EmbeddedRemoteConnection(final GraphTraversalSource g) {
+        this(g, 0);
+    }
+
+    /**
+     * Creates a connection that caches the templates of up to the specified number of distinct traversals or none if
+     * the size is not positive.
+     */
+    public EmbeddedRemoteConnection(final GraphTraversalSource g, final int templateCacheSize) {
         this.g = g;
+        this.templates = templateCacheSize > 0 ? new TraversalTemplateCache(templateCacheSize) : null;
     }
 
     @Override
@@ -62,7 +78,10 @@ public class EmbeddedRemoteConnection implements RemoteConnection {
         // the new submit() in 3.3.x when the deprecation is removed
         final CompletableFuture<RemoteTraversal<?, E>> promise = new CompletableFuture<>();
         try {
-            promise.complete(new EmbeddedRemoteTraversal(JavaTranslator.of(g).translate(bytecode)));
+            final Traversal.Admin<?, ?> traversal = null == templates ?
+                    JavaTranslator.of(g).translate(bytecode) :
+                    templates.instantiate(bytecode, () -> JavaTranslator.of(g).translate(bytecode));
+            promise.complete(new EmbeddedRemoteTraversal(traversal));
         } catch (Exception t) {
             promise.completeExceptionally(t);
         }
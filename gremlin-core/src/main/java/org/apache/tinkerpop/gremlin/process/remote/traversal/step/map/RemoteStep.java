@@ -26,10 +26,13 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -80,6 +83,29 @@ public final class RemoteStep<S, E> extends AbstractStep<S, E> {
         return this.remoteTraversal.nextTraverser();
     }
 
+    /**
+     * Gets the next n-number of results asynchronously from the {@link RemoteTraversal}, submitting the traversal
+     * first if that was not yet done. Results that were already consumed from the remote by a call to
+     * {@link #hasNext()} are returned first.
+     */
+    public CompletableFuture<List<E>> nextAsync(final int amount) {
+        final List<E> results = new ArrayList<>();
+        while (results.size() < amount && this.nextEnd.bulk() > 0L) {
+            results.add(this.nextEnd.get());
+            this.nextEnd.setBulk(this.nextEnd.bulk() - 1L);
+        }
+        if (0L == this.nextEnd.bulk())
+            this.nextEnd = EmptyTraverser.instance();
+
+        if (results.size() == amount)
+            return CompletableFuture.completedFuture(results);
+
+        return promise().thenCompose(t -> this.remoteTraversal.nextAsync(amount - results.size())).thenApply(more -> {
+            results.addAll(more);
+            return results;
+        });
+    }
+
     /**
      * Submits the traversal asynchronously to a "remote" using {@link RemoteConnection#submitAsync(Bytecode)}.
      */
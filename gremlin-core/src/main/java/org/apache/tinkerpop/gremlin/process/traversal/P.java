@@ -19,7 +19,9 @@
 package org.apache.tinkerpop.gremlin.process.traversal;
 
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PredicateCompiler;
 
 import java.io.Serializable;
 import java.util.Arrays;
@@ -34,9 +36,13 @@ import java.util.function.Predicate;
  */
 public class P<V> implements Predicate<V>, Serializable, Cloneable {
 
+    private static final Predicate NOT_COMPILED = value -> false;
+    private static final Predicate VARIABLE = value -> false;
+
     protected BiPredicate<V, V> biPredicate;
     protected V value;
     protected V originalValue;
+    private transient Predicate<V> compiledPredicate;
 
     public P(final BiPredicate<V, V> biPredicate, final V value) {
         this.value = value;
@@ -63,13 +69,50 @@ public class P<V> implements Predicate<V>, Serializable, Cloneable {
         return this.value;
     }
 
+    /**
+     * Sets the value to be passed to the predicate for testing. A predicate whose value is set is no longer compiled,
+     * nor is a connective containing it, as such values typically change for every test (e.g. the values that
+     * {@code where()} selects for each traverser).
+     */
     public void setValue(final V value) {
         this.value = value;
+        this.compiledPredicate = VARIABLE;
     }
 
+    /**
+     * Tests the value with the predicate. The first test compiles the predicate with {@link PredicateCompiler} and
+     * subsequent tests use the specialized form, if there is one.
+     */
     @Override
     public boolean test(final V testValue) {
-        return this.biPredicate.test(testValue, this.value);
+        Predicate<V> compiled = this.compiledPredicate;
+        if (null == compiled) {
+            compiled = isVariable(this) ? null : PredicateCompiler.compile(this);
+            this.compiledPredicate = compiled = null == compiled ? NOT_COMPILED : compiled;
+        }
+        return NOT_COMPILED == compiled || VARIABLE == compiled ?
+                this.biPredicate.test(testValue, this.value) :
+                compiled.test(testValue);
+    }
+
+    private static boolean isVariable(final P<?> predicate) {
+        if (VARIABLE == predicate.compiledPredicate)
+            return true;
+        if (predicate instanceof ConnectiveP) {
+            for (final P<?> p : ((ConnectiveP<?>) predicate).getPredicates()) {
+                if (isVariable(p))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Discards the compiled form of the predicate, which must be done whenever the predicate is changed in a way
+     * other than with {@link #setValue(Object)}.
+     */
+    protected void resetCompiledPredicate() {
+        this.compiledPredicate = null;
     }
 
     @Override
@@ -114,7 +157,9 @@ public class P<V> implements Predicate<V>, Serializable, Cloneable {
 
     public P<V> clone() {
         try {
-            return (P<V>) super.clone();
+            final P<V> clone = (P<V>) super.clone();
+            clone.compiledPredicate = VARIABLE == this.compiledPredicate ? VARIABLE : null;
+            return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
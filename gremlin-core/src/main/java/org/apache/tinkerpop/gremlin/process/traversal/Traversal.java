@@ -110,6 +110,28 @@ public interface Traversal<S, E> extends Iterator<E>, Serializable, Cloneable, A
         return result;
     }
 
+    /**
+     * Get the next n-number of results from the traversal asynchronously. The returned future completes with at most
+     * n-results and only returns less if the traversal is exhausted, so that the caller controls how many results are
+     * in flight at any time. For a {@code Traversal} constructed using
+     * {@link AnonymousTraversalSource#withRemote(Configuration)} the future is completed as results arrive from the
+     * remote without blocking the calling thread. Other traversals are iterated for the requested amount in the calling
+     * thread and the returned future is already completed. A subsequent call should only be made once the future of
+     * the previous call has completed.
+     *
+     * @param amount the number of results to get
+     * @return a future that completes with the n-results in a {@link List}
+     */
+    public default CompletableFuture<List<E>> nextAsync(final int amount) {
+        try {
+            return CompletableFuture.completedFuture(this.next(amount));
+        } catch (final Exception ex) {
+            final CompletableFuture<List<E>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(ex);
+            return failed;
+        }
+    }
+
     /**
      * Put all the results into an {@link ArrayList}.
      *
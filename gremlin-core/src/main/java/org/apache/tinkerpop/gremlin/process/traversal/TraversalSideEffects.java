@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal;
 
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCancellation;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuota;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
 
 import java.io.Serializable;
@@ -191,6 +193,38 @@ public interface TraversalSideEffects extends Cloneable, Serializable, AutoClose
      */
     public <S> BinaryOperator<S> getSackMerger();
 
+    /**
+     * Gets the token that steps check to determine if the traversal has to stop. Unless one was set with
+     * {@link #setCancellation(TraversalCancellation)} this is {@link TraversalCancellation#NONE}.
+     */
+    public default TraversalCancellation getCancellation() {
+        return TraversalCancellation.NONE;
+    }
+
+    /**
+     * Sets the token that steps check to determine if the traversal has to stop. Implementations that do not hold a
+     * token ignore it, in which case the traversal can only be stopped by interrupting its thread.
+     */
+    public default void setCancellation(final TraversalCancellation cancellation) {
+        // cancellation is optional
+    }
+
+    /**
+     * Gets the quota that steps charge with the memory they retain. Unless one was set with
+     * {@link #setMemoryQuota(TraversalMemoryQuota)} this is {@link TraversalMemoryQuota#NONE}.
+     */
+    public default TraversalMemoryQuota getMemoryQuota() {
+        return TraversalMemoryQuota.NONE;
+    }
+
+    /**
+     * Sets the quota that steps charge with the memory they retain. Implementations that do not hold a quota ignore
+     * it and the memory of the traversal is not limited.
+     */
+    public default void setMemoryQuota(final TraversalMemoryQuota memoryQuota) {
+        // memory quotas are optional
+    }
+
     ////////////
 
     public default <V> void forEach(final BiConsumer<String, V> biConsumer) {
@@ -225,6 +225,7 @@ public interface TraversalStrategies extends Serializable, Cloneable, Iterable<T
                     MatchPredicateStrategy.instance(),
                     RepeatUnrollStrategy.instance(),
                     CountStrategy.instance(),
+                    OrderLimitStrategy.instance(),
                     PathRetractionStrategy.instance(),
                     LazyBarrierStrategy.instance(),
                     ProfileStrategy.instance(),
@@ -238,7 +239,6 @@ public interface TraversalStrategies extends Serializable, Cloneable, Iterable<T
             graphComputerStrategies.addStrategies(
                     GraphFilterStrategy.instance(),
                     MessagePassingReductionStrategy.instance(),
-                    OrderLimitStrategy.instance(),
                     PathProcessorStrategy.instance(),
                     ComputerFinalizationStrategy.instance(),
                     ComputerVerificationStrategy.instance());
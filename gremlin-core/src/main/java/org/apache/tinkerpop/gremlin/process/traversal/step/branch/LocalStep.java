@@ -22,11 +22,17 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemo;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.javatuples.Pair;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -38,6 +44,8 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
 
     private Traversal.Admin<S, E> localTraversal;
     private boolean first = true;
+    private Traverser.Admin<S> memoStart;
+    private Iterator<Traverser.Admin<E>> memoResults;
 
     public LocalStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> localTraversal) {
         super(traversal);
@@ -56,6 +64,10 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
 
     @Override
     protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        final TraversalMemo memo = this.localTraversal instanceof DefaultTraversal ?
+                ((DefaultTraversal<S, E>) this.localTraversal).getMemo() : null;
+        if (null != memo)
+            return this.processNextMemoizedStart(memo);
         if (this.first) {
             this.first = false;
             this.localTraversal.addStart(this.starts.next());
@@ -72,9 +84,35 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
         }
     }
 
+    /**
+     * Evaluates the local traversal only once for each distinct start object and bulk and splits the start traverser
+     * for each of the cached results.
+     */
+    private Traverser.Admin<E> processNextMemoizedStart(final TraversalMemo memo) {
+        while (null == this.memoResults || !this.memoResults.hasNext()) {
+            final Traverser.Admin<S> start = this.starts.next();
+            this.memoStart = start;
+            this.memoResults = memo.<List<Traverser.Admin<E>>>map(Pair.with(start.get(), start.bulk()), () -> {
+                final List<Traverser.Admin<E>> results = new ArrayList<>();
+                this.localTraversal.reset();
+                this.localTraversal.addStart(start.split());
+                while (this.localTraversal.hasNext()) {
+                    results.add(this.localTraversal.nextTraverser());
+                }
+                return results;
+            }).iterator();
+        }
+        final Traverser.Admin<E> result = this.memoResults.next();
+        final Traverser.Admin<E> split = this.memoStart.split(result.get(), EmptyStep.instance());
+        split.setBulk(result.bulk());
+        return split;
+    }
+
     @Override
     public void reset() {
         super.reset();
+        this.memoStart = null;
+        this.memoResults = null;
         this.first = true;
         this.localTraversal.reset();
     }
@@ -84,6 +122,8 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
         final LocalStep<S, E> clone = (LocalStep<S, E>) super.clone();
         clone.localTraversal = this.localTraversal.clone();
         clone.first = true;
+        clone.memoStart = null;
+        clone.memoResults = null;
         return clone;
     }
 
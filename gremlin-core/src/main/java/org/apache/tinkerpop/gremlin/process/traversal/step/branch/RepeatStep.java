@@ -24,18 +24,27 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
+ * Loops its traversers through the repeat traversal until the until()-condition is met. By default, traversers are
+ * pushed through the repeat traversal depth-first. In breadth-first mode (see
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BreadthFirstRepeatStrategy}) all
+ * starts are gathered into a frontier and each loop processes the whole frontier, whereby equal traversers of the
+ * next frontier are merged into one bulked traverser. Breadth-first mode may additionally prune any traverser whose
+ * object was already seen after a loop if the results of the repeat are deduplicated anyway.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements TraversalParent {
@@ -46,6 +55,11 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     private String loopName = null;
     public boolean untilFirst = false;
     public boolean emitFirst = false;
+    private boolean breadthFirst = false;
+    private boolean pruneVisited = false;
+    private TraverserSet<S> frontier = null;
+    private Set<Object> visited = null;
+
 
     public RepeatStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -70,6 +84,30 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     }
 
 
+    /**
+     * Determines if the traversers are looped breadth-first with a frontier per loop rather than depth-first.
+     */
+    public void setBreadthFirst(final boolean breadthFirst) {
+        this.breadthFirst = breadthFirst;
+    }
+
+    public boolean isBreadthFirst() {
+        return this.breadthFirst;
+    }
+
+    /**
+     * Determines if a breadth-first loop drops traversers whose object was already seen after a previous loop. This is
+     * only sound if the results of the repeat are deduplicated and the repeat does not depend on the number of loops
+     * or on the path taken.
+     */
+    public void setPruneVisited(final boolean pruneVisited) {
+        this.pruneVisited = pruneVisited;
+    }
+
+    public boolean isPruneVisited() {
+        return this.pruneVisited;
+    }
+
     public void setLoopName(final String loopName) {
         this.loopName = loopName;
     }
@@ -142,6 +180,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             this.untilTraversal.reset();
         if (null != this.repeatTraversal)
             this.repeatTraversal.reset();
+        this.frontier = null;
+        this.visited = null;
     }
 
     private final String untilString() {
@@ -162,6 +202,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             clone.untilTraversal = this.untilTraversal.clone();
         if (null != this.emitTraversal)
             clone.emitTraversal = this.emitTraversal.clone();
+        clone.frontier = null;
+        clone.visited = null;
         return clone;
     }
 
@@ -184,6 +226,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             result ^= this.untilTraversal.hashCode();
         if (this.emitTraversal != null)
             result ^= this.emitTraversal.hashCode();
+        if (this.breadthFirst)
+            result ^= Boolean.hashCode(this.pruneVisited) << 2;
         return result;
     }
 
@@ -191,6 +235,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     protected Iterator<Traverser.Admin<S>> standardAlgorithm() throws NoSuchElementException {
         if (null == this.repeatTraversal)
             throw new IllegalStateException("The repeat()-traversal was not defined: " + this);
+        if (this.breadthFirst)
+            return this.breadthFirstAlgorithm();
 
         while (true) {
             if (this.repeatTraversal.getEndStep().hasNext()) {
@@ -212,6 +258,57 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         }
     }
 
+    private Iterator<Traverser.Admin<S>> breadthFirstAlgorithm() {
+        if (null == this.frontier)
+            this.frontier = new TraverserSet<>();
+
+        while (true) {
+            // drains the current loop from the repeat traversal while the RepeatEndStep gathers the next frontier
+            if (this.repeatTraversal.getEndStep().hasNext()) {
+                return this.repeatTraversal.getEndStep();
+            } else if (!this.frontier.isEmpty()) {
+                final TraverserSet<S> loop = this.frontier;
+                this.frontier = new TraverserSet<>();
+                final List<Traverser.Admin<S>> emits = new ArrayList<>();
+                for (final Traverser.Admin<S> start : loop) {
+                    if (doUntil(start, true)) {
+                        start.resetLoops();
+                        emits.add(start);
+                    } else {
+                        this.repeatTraversal.addStart(start);
+                        if (doEmit(start, true)) {
+                            final Traverser.Admin<S> emitSplit = start.split();
+                            emitSplit.resetLoops();
+                            emits.add(emitSplit);
+                        }
+                    }
+                }
+                if (!emits.isEmpty())
+                    return emits.iterator();
+            } else {
+                // all available starts form the first frontier and the step is done if there are none
+                do {
+                    final Traverser.Admin<S> start = this.starts.next();
+                    start.initialiseLoops(this.getId(), this.loopName);
+                    this.frontier.add(start);
+                } while (this.starts.hasNext());
+            }
+        }
+    }
+
+    /**
+     * Marks the object of a traverser that completed a breadth-first loop as visited and determines if the traverser
+     * should be processed further, which is not the case if the object was visited before and visited objects are
+     * pruned.
+     */
+    private boolean visit(final Traverser.Admin<S> traverser) {
+        if (!this.pruneVisited)
+            return true;
+        if (null == this.visited)
+            this.visited = new HashSet<>();
+        return this.visited.add(traverser.get());
+    }
+
     @Override
     protected Iterator<Traverser.Admin<S>> computerAlgorithm() throws NoSuchElementException {
         if (null == this.repeatTraversal)
@@ -295,11 +392,15 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             while (true) {
                 final Traverser.Admin<S> start = this.starts.next();
                 start.incrLoops();
+                if (repeatStep.breadthFirst && !repeatStep.visit(start))
+                    continue;
                 if (repeatStep.doUntil(start, false)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
                 } else {
-                    if (!repeatStep.untilFirst && !repeatStep.emitFirst)
+                    if (repeatStep.breadthFirst)
+                        repeatStep.frontier.add(start);
+                    else if (!repeatStep.untilFirst && !repeatStep.emitFirst)
                         repeatStep.repeatTraversal.addStart(start);
                     else
                         repeatStep.addStart(start);
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalTemplate;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
@@ -80,7 +81,8 @@ public class HasStep<S extends Element> extends FilterStep<S> implements HasCont
         final HasStep<S> clone = (HasStep<S>) super.clone();
         clone.hasContainers = new ArrayList<>();
         for (final HasContainer hasContainer : this.hasContainers) {
-            clone.addHasContainer(hasContainer.clone());
+            // copies of a template share the containers as nothing changes them once strategies are applied
+            clone.addHasContainer(TraversalTemplate.isInstantiating() ? hasContainer : hasContainer.clone());
         }
         return clone;
     }
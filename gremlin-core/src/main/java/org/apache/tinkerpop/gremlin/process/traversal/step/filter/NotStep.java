@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HashJoinTable;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -35,6 +36,7 @@ import java.util.Set;
 public final class NotStep<S> extends FilterStep<S> implements TraversalParent{
 
     private Traversal.Admin<S, ?> notTraversal;
+    private HashJoinTable hashJoinTable = null;
 
     public NotStep(final Traversal.Admin traversal, final Traversal<S, ?> notTraversal) {
         super(traversal);
@@ -43,7 +45,9 @@ public final class NotStep<S> extends FilterStep<S> implements TraversalParent{
 
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
-        return !TraversalUtil.test(traverser, this.notTraversal);
+        return !(null == this.hashJoinTable ?
+                TraversalUtil.test(traverser, this.notTraversal) :
+                this.hashJoinTable.test(traverser));
     }
 
     @Override
@@ -55,9 +59,24 @@ public final class NotStep<S> extends FilterStep<S> implements TraversalParent{
     public NotStep<S> clone() {
         final NotStep<S> clone = (NotStep<S>) super.clone();
         clone.notTraversal = this.notTraversal.clone();
+        if (null != this.hashJoinTable)
+            clone.hashJoinTable = new HashJoinTable(clone.notTraversal);
         return clone;
     }
 
+    /**
+     * Evaluates the not()-traversal as a hash anti-join. See {@link HashJoinTable}.
+     */
+    public void setHashJoin(final boolean hashJoin) {
+        if (null != this.hashJoinTable)
+            this.hashJoinTable.release();
+        this.hashJoinTable = hashJoin ? new HashJoinTable(this.notTraversal) : null;
+    }
+
+    public boolean isHashJoin() {
+        return null != this.hashJoinTable;
+    }
+
     @Override
     public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
         super.setTraversal(parentTraversal);
@@ -80,6 +80,18 @@ public final class PathFilterStep<S> extends FilterStep<S> implements FromToModu
         this.toLabel = toLabel;
     }
 
+    public String getFromLabel() {
+        return this.fromLabel;
+    }
+
+    public String getToLabel() {
+        return this.toLabel;
+    }
+
+    public boolean isSimple() {
+        return this.isSimple;
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.isSimple ? "simple" : "cyclic", this.fromLabel, this.toLabel, this.traversalRing);
@@ -58,6 +58,16 @@ public final class RangeGlobalStep<S> extends FilterStep<S> implements Ranging,
         this.high = high;
     }
 
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        // once the high range is reached there is no need to pull (and thus compute) another traverser
+        if (!this.bypass && this.high != -1 && this.counter.get() >= this.high) {
+            CloseableIterator.closeIterator(traversal);
+            throw FastNoSuchElementException.instance();
+        }
+        return super.processNextStart();
+    }
+
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
         if (this.bypass) return true;
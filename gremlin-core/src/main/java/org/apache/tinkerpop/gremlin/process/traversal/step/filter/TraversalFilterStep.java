@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HashJoinTable;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -35,6 +36,7 @@ import java.util.Set;
 public final class TraversalFilterStep<S> extends FilterStep<S> implements TraversalParent {
 
     private Traversal.Admin<S, ?> filterTraversal;
+    private HashJoinTable hashJoinTable = null;
 
     public TraversalFilterStep(final Traversal.Admin traversal, final Traversal<S, ?> filterTraversal) {
         super(traversal);
@@ -43,7 +45,9 @@ public final class TraversalFilterStep<S> extends FilterStep<S> implements Trave
 
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
-        return TraversalUtil.test(traverser, this.filterTraversal);
+        return null == this.hashJoinTable ?
+                TraversalUtil.test(traverser, this.filterTraversal) :
+                this.hashJoinTable.test(traverser);
     }
 
     @Override
@@ -55,9 +59,25 @@ public final class TraversalFilterStep<S> extends FilterStep<S> implements Trave
     public TraversalFilterStep<S> clone() {
         final TraversalFilterStep<S> clone = (TraversalFilterStep<S>) super.clone();
         clone.filterTraversal = this.filterTraversal.clone();
+        if (null != this.hashJoinTable)
+            clone.hashJoinTable = new HashJoinTable(clone.filterTraversal);
         return clone;
     }
 
+    /**
+     * Evaluates the filter traversal through a {@link HashJoinTable} so that it is only computed once if it does not
+     * depend on the incoming traverser.
+     */
+    public void setHashJoin(final boolean hashJoin) {
+        if (null != this.hashJoinTable)
+            this.hashJoinTable.release();
+        this.hashJoinTable = hashJoin ? new HashJoinTable(this.filterTraversal) : null;
+    }
+
+    public boolean isHashJoin() {
+        return null != this.hashJoinTable;
+    }
+
     @Override
     public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
         super.setTraversal(parentTraversal);
@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ScalarMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HashJoinTable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
@@ -47,6 +48,7 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
     protected Traversal.Admin<?, ?> whereTraversal;
     protected final Set<String> scopeKeys = new HashSet<>();
     protected Set<String> keepLabels;
+    private HashJoinTable hashJoinTable = null;
 
     public WhereTraversalStep(final Traversal.Admin traversal, final Traversal<?, ?> whereTraversal) {
         super(traversal);
@@ -96,7 +98,9 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
 
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
-        return TraversalUtil.test((Traverser.Admin) traverser, this.whereTraversal);
+        return null == this.hashJoinTable ?
+                TraversalUtil.test((Traverser.Admin) traverser, this.whereTraversal) :
+                this.hashJoinTable.test(traverser);
     }
 
     @Override
@@ -118,9 +122,26 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
     public WhereTraversalStep<S> clone() {
         final WhereTraversalStep<S> clone = (WhereTraversalStep<S>) super.clone();
         clone.whereTraversal = this.whereTraversal.clone();
+        if (null != this.hashJoinTable)
+            clone.hashJoinTable = new HashJoinTable(clone.whereTraversal);
         return clone;
     }
 
+    /**
+     * Evaluates the where()-traversal as a hash semi-join, i.e. its results are computed once for each distinct
+     * object of the start label and the object of the end label is probed in them. See
+     * {@link HashJoinTable#isJoinable(Traversal.Admin)} for the where()-traversals that qualify.
+     */
+    public void setHashJoin(final boolean hashJoin) {
+        if (null != this.hashJoinTable)
+            this.hashJoinTable.release();
+        this.hashJoinTable = hashJoin ? new HashJoinTable(this.whereTraversal) : null;
+    }
+
+    public boolean isHashJoin() {
+        return null != this.hashJoinTable;
+    }
+
     @Override
     public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
         super.setTraversal(parentTraversal);
@@ -191,6 +212,7 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
 
         private final String matchKey;
         private Object matchValue = null;
+        private boolean hashJoin = false;
 
         public WhereEndStep(final Traversal.Admin traversal, final String matchKey) {
             super(traversal);
@@ -204,7 +226,14 @@ public final class WhereTraversalStep<S> extends FilterStep<S> implements Traver
 
         @Override
         protected boolean filter(final Traverser.Admin<Object> traverser) {
-            return null == this.matchKey || traverser.get().equals(this.matchValue);
+            return null == this.matchKey || this.hashJoin || traverser.get().equals(this.matchValue);
+        }
+
+        /**
+         * Passes all objects if the parent probes the object of the end label in a {@link HashJoinTable}.
+         */
+        public void setHashJoin(final boolean hashJoin) {
+            this.hashJoin = hashJoin;
         }
 
         @Override
@@ -30,9 +30,12 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.Projectable;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -47,8 +50,14 @@ import java.util.Set;
  */
 public class ElementMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>> implements TraversalParent, GraphComputing {
 
+    private static final PropertyRow.Shape ID_SHAPE = PropertyRow.Shape.of(false, Collections.singletonList(T.id));
+    private static final PropertyRow.Shape ID_LABEL_SHAPE = PropertyRow.Shape.of(false, Arrays.asList(T.id, T.label));
+
     protected final String[] propertyKeys;
     private boolean onGraphComputer = false;
+    private transient PropertyRow.Shape vertexPropertyShape;
+    private transient PropertyRow.Shape edgeShape;
+    private transient PropertyRow.Shape elementShape;
 
     public ElementMapStep(final Traversal.Admin traversal, final String... propertyKeys) {
         super(traversal);
@@ -57,8 +66,11 @@ public class ElementMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>> imple
 
     @Override
     protected Map<K, E> map(final Traverser.Admin<Element> traverser) {
-        final Map<Object, Object> map = new LinkedHashMap<>();
         final Element element = traverser.get();
+        if (this.propertyKeys.length > 0)
+            return (Map) this.project(element);
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
         map.put(T.id, element.id());
         if (element instanceof VertexProperty) {
             map.put(T.key, ((VertexProperty<?>) element).key());
@@ -83,15 +95,46 @@ public class ElementMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>> imple
     }
 
     protected Map<Object, Object> getVertexStructure(final Vertex v) {
-        final Map<Object, Object> m = new LinkedHashMap<>();
-        m.put(T.id, v.id());
-
         // can't add label if doing GraphComputer stuff as there is no access to the label of the adjacent vertex
-        if (!onGraphComputer) m.put(T.label, v.label());
+        final PropertyRow m = new PropertyRow(onGraphComputer ? ID_SHAPE : ID_LABEL_SHAPE);
+        m.set(0, v.id());
+        if (!onGraphComputer) m.set(1, v.label());
 
         return m;
     }
 
+    /**
+     * Fills a {@link PropertyRow} whose shape is made once for each kind of element as the keys are known upfront.
+     */
+    private PropertyRow project(final Element element) {
+        final PropertyRow row;
+        if (element instanceof VertexProperty) {
+            if (null == this.vertexPropertyShape)
+                this.vertexPropertyShape = PropertyRow.Shape.of(false, Arrays.asList(T.id, T.key, T.value), this.propertyKeys);
+            row = new PropertyRow(this.vertexPropertyShape);
+            row.set(0, element.id());
+            row.set(1, ((VertexProperty<?>) element).key());
+            row.set(2, ((VertexProperty<?>) element).value());
+        } else if (element instanceof Edge) {
+            if (null == this.edgeShape)
+                this.edgeShape = PropertyRow.Shape.of(false, Arrays.asList(T.id, T.label, Direction.IN, Direction.OUT), this.propertyKeys);
+            final Edge e = (Edge) element;
+            row = new PropertyRow(this.edgeShape);
+            row.set(0, e.id());
+            row.set(1, e.label());
+            row.set(2, getVertexStructure(e.inVertex()));
+            row.set(3, getVertexStructure(e.outVertex()));
+        } else {
+            if (null == this.elementShape)
+                this.elementShape = PropertyRow.Shape.of(false, Arrays.asList(T.id, T.label), this.propertyKeys);
+            row = new PropertyRow(this.elementShape);
+            row.set(0, element.id());
+            row.set(1, element.label());
+        }
+        Projectable.project(element, row);
+        return row;
+    }
+
     @Override
     public void onGraphComputer() {
         this.onGraphComputer = true;
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link FlatMapStep} that executes a linear run of simple steps (e.g. {@code has().out().has().values()}) as a
+ * single loop over the objects of the incoming {@link Traverser}. Each fused step is compiled once into a stage that
+ * works on raw objects so that no intermediate traversers are generated, split or handed from step to step. Only the
+ * final objects of the run are turned back into traversers. Steps are only fused if their class is exactly one of
+ * those that {@link #isFusible(Step)} accepts as provider subclasses may change execution semantics.
+ */
+public final class FusedStep<S, E> extends FlatMapStep<S, E> implements AutoCloseable {
+
+    private List<Step> fusedSteps;
+    private transient Stage[] stages;
+
+    public FusedStep(final Traversal.Admin traversal, final List<Step> fusedSteps) {
+        super(traversal);
+        this.fusedSteps = new ArrayList<>(fusedSteps);
+    }
+
+    /**
+     * Determines if the specified {@link Step} can be compiled into a stage of a {@code FusedStep}.
+     */
+    public static boolean isFusible(final Step<?, ?> step) {
+        final Class<?> stepClass = step.getClass();
+        return stepClass.equals(HasStep.class) ||
+                stepClass.equals(IsStep.class) ||
+                stepClass.equals(VertexStep.class) ||
+                stepClass.equals(EdgeVertexStep.class) ||
+                stepClass.equals(PropertiesStep.class) ||
+                stepClass.equals(IdStep.class) ||
+                stepClass.equals(LabelStep.class);
+    }
+
+    public List<Step> getFusedSteps() {
+        return Collections.unmodifiableList(this.fusedSteps);
+    }
+
+    @Override
+    protected Iterator<E> flatMap(final Traverser.Admin<S> traverser) {
+        if (null == this.stages)
+            this.stages = compile(this.fusedSteps);
+        return new FusedIterator<>(this.stages, traverser.get());
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return EnumSet.of(TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public FusedStep<S, E> clone() {
+        final FusedStep<S, E> clone = (FusedStep<S, E>) super.clone();
+        clone.fusedSteps = new ArrayList<>(this.fusedSteps.size());
+        for (final Step step : this.fusedSteps) {
+            clone.fusedSteps.add(step.clone());
+        }
+        clone.stages = null;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.fusedSteps);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        for (final Step step : this.fusedSteps) {
+            result = 31 * result + step.hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws Exception {
+        closeIterator();
+    }
+
+    private static Stage[] compile(final List<Step> steps) {
+        final Stage[] stages = new Stage[steps.size()];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = compile(steps.get(i));
+        }
+        return stages;
+    }
+
+    private static Stage compile(final Step step) {
+        if (step instanceof HasStep) {
+            final List<HasContainer> hasContainers = ((HasStep<?>) step).getHasContainers();
+            return Stage.filter(object -> HasContainer.testAll((Element) object, hasContainers));
+        } else if (step instanceof IsStep) {
+            final P<Object> predicate = ((IsStep<Object>) step).getPredicate();
+            return Stage.filter(predicate);
+        } else if (step instanceof VertexStep) {
+            final VertexStep<?> vertexStep = (VertexStep<?>) step;
+            final Direction direction = vertexStep.getDirection();
+            final String[] edgeLabels = vertexStep.getEdgeLabels();
+            return vertexStep.returnsVertex() ?
+                    Stage.flatMap(object -> ((Vertex) object).vertices(direction, edgeLabels)) :
+                    Stage.flatMap(object -> ((Vertex) object).edges(direction, edgeLabels));
+        } else if (step instanceof EdgeVertexStep) {
+            final Direction direction = ((EdgeVertexStep) step).getDirection();
+            return Stage.flatMap(object -> ((Edge) object).vertices(direction));
+        } else if (step instanceof PropertiesStep) {
+            final PropertiesStep<?> propertiesStep = (PropertiesStep<?>) step;
+            final String[] propertyKeys = propertiesStep.getPropertyKeys();
+            return propertiesStep.getReturnType().equals(PropertyType.VALUE) ?
+                    Stage.flatMap(object -> ((Element) object).values(propertyKeys)) :
+                    Stage.flatMap(object -> ((Element) object).properties(propertyKeys));
+        } else if (step instanceof IdStep) {
+            return Stage.map(object -> ((Element) object).id());
+        } else if (step instanceof LabelStep) {
+            return Stage.map(object -> ((Element) object).label());
+        } else
+            throw new IllegalArgumentException("The step can not be fused: " + step);
+    }
+
+    /**
+     * The compiled form of a single fused step. Exactly one of the functions is non-null.
+     */
+    private static final class Stage {
+        private final Predicate<Object> filter;
+        private final Function<Object, Object> map;
+        private final Function<Object, Iterator<?>> flatMap;
+
+        private Stage(final Predicate<Object> filter, final Function<Object, Object> map, final Function<Object, Iterator<?>> flatMap) {
+            this.filter = filter;
+            this.map = map;
+            this.flatMap = flatMap;
+        }
+
+        private static Stage filter(final Predicate<Object> filter) {
+            return new Stage(filter, null, null);
+        }
+
+        private static Stage map(final Function<Object, Object> map) {
+            return new Stage(null, map, null);
+        }
+
+        private static Stage flatMap(final Function<Object, Iterator<?>> flatMap) {
+            return new Stage(null, null, flatMap);
+        }
+    }
+
+    /**
+     * Walks the stages depth-first for a single start object. The object entering stage {@code i} is held in
+     * {@code objects[i]} and the open iterator of a flat-mapping stage is held in {@code iterators[i]} so that
+     * backtracking resumes from the deepest stage that can still produce objects.
+     */
+    private static final class FusedIterator<E> implements CloseableIterator<E> {
+        private final Stage[] stages;
+        private final Object[] objects;
+        private final Iterator<?>[] iterators;
+        private int depth;
+        private boolean nextReady = false;
+        private boolean done = false;
+
+        private FusedIterator(final Stage[] stages, final Object start) {
+            this.stages = stages;
+            this.objects = new Object[stages.length + 1];
+            this.iterators = new Iterator<?>[stages.length];
+            this.objects[0] = start;
+            this.depth = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!this.nextReady && !this.done)
+                this.advance();
+            return this.nextReady;
+        }
+
+        @Override
+        public E next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            this.nextReady = false;
+            return (E) this.objects[this.stages.length];
+        }
+
+        private void advance() {
+            int i = this.depth;
+            while (true) {
+                if (i == this.stages.length) {
+                    this.nextReady = true;
+                    this.depth = this.backtrack(i);
+                    return;
+                } else if (i < 0) {
+                    this.done = true;
+                    return;
+                }
+
+                final Stage stage = this.stages[i];
+                if (null != stage.filter) {
+                    if (stage.filter.test(this.objects[i])) {
+                        this.objects[i + 1] = this.objects[i];
+                        i++;
+                    } else
+                        i = this.backtrack(i);
+                } else if (null != stage.map) {
+                    this.objects[i + 1] = stage.map.apply(this.objects[i]);
+                    i++;
+                } else {
+                    Iterator<?> iterator = this.iterators[i];
+                    if (null == iterator) {
+                        iterator = stage.flatMap.apply(this.objects[i]);
+                        this.iterators[i] = iterator;
+                    }
+                    if (iterator.hasNext()) {
+                        this.objects[i + 1] = iterator.next();
+                        i++;
+                    } else {
+                        CloseableIterator.closeIterator(iterator);
+                        this.iterators[i] = null;
+                        i = this.backtrack(i);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Finds the deepest open flat-mapping stage below the specified one or returns {@code -1} if there is none.
+         */
+        private int backtrack(final int from) {
+            for (int j = from - 1; j >= 0; j--) {
+                if (null != this.iterators[j])
+                    return j;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            for (int i = 0; i < this.iterators.length; i++) {
+                CloseableIterator.closeIterator(this.iterators[i]);
+                this.iterators[i] = null;
+            }
+            this.done = true;
+        }
+    }
+}
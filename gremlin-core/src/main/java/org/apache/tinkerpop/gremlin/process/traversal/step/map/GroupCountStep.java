@@ -19,6 +19,8 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import com.carrotsearch.hppc.ObjectLongHashMap;
+import com.carrotsearch.hppc.cursors.ObjectLongCursor;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
@@ -39,11 +41,16 @@ import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
+ * Counts the traversers by key. While starts are reduced, the counts are accumulated in place in a primitive
+ * object-to-long map so that neither a map nor a boxed count is created per traverser. The counts are folded into the
+ * seed once all available starts are consumed.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Long>> implements TraversalParent, ByModulating {
 
     private Traversal.Admin<S, E> keyTraversal = null;
+    private transient ObjectLongHashMap<E> counts = null;
 
     public GroupCountStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -58,6 +65,31 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
         return map;
     }
 
+    @Override
+    protected Map<E, Long> reduceTraverser(final Map<E, Long> seed, final Traverser.Admin<S> traverser) {
+        if (null == this.counts)
+            this.counts = new ObjectLongHashMap<>();
+        this.counts.addTo(TraversalUtil.applyNullable(traverser, this.keyTraversal), traverser.bulk());
+        return seed;
+    }
+
+    @Override
+    protected Map<E, Long> completeReduction(final Map<E, Long> seed) {
+        if (null != this.counts && !this.counts.isEmpty()) {
+            for (final ObjectLongCursor<E> cursor : this.counts) {
+                MapHelper.incr(seed, cursor.key, cursor.value);
+            }
+            this.counts.clear();
+        }
+        return seed;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.counts = null;
+    }
+
     @Override
     public void addLocalChild(final Traversal.Admin<?, ?> groupTraversal) {
         this.keyTraversal = this.integrateChild(groupTraversal);
@@ -83,6 +115,7 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
         final GroupCountStep<S, E> clone = (GroupCountStep<S, E>) super.clone();
         if (null != this.keyTraversal)
             clone.keyTraversal = this.keyTraversal.clone();
+        clone.counts = null;
         return clone;
     }
 
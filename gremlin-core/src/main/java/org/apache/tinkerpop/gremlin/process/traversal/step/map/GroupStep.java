@@ -19,6 +19,8 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import com.carrotsearch.hppc.ObjectLongHashMap;
+import com.carrotsearch.hppc.cursors.ObjectLongCursor;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -51,15 +53,23 @@ import java.util.Set;
 import java.util.function.BinaryOperator;
 
 /**
+ * Groups the traversers by key and reduces the traversers of each group with the value traversal. If the value
+ * traversal is a single reducing barrier step (e.g. {@code count()}, {@code sum()} or {@code max()}), the traversers
+ * are reduced straight into the group of their key rather than through a single-entry map per traverser. The counts
+ * of {@code count()} are further accumulated in a primitive object-to-long map.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent, ProfilingAware {
 
+    private static final Object NO_VALUE = new Object();
+
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal;
     private Traversal.Admin<S, V> valueTraversal;
     private Barrier barrierStep;
     private boolean resetBarrierForProfiling = false;
+    private transient ObjectLongHashMap<K> counts = null;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -121,6 +131,34 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     @Override
     public Map<K, V> projectTraverser(final Traverser.Admin<S> traverser) {
         final Map<K, V> map = new HashMap<>(1);
+        final Object value = this.projectValue(traverser);
+        if (NO_VALUE != value)
+            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) value);
+        return map;
+    }
+
+    @Override
+    protected Map<K, V> reduceTraverser(final Map<K, V> seed, final Traverser.Admin<S> traverser) {
+        final ReducingBarrierStep<S, V> valueStep = this.getReducingValueStep();
+        if (valueStep instanceof CountGlobalStep) {
+            if (null == this.counts)
+                this.counts = new ObjectLongHashMap<>();
+            this.counts.addTo(TraversalUtil.applyNullable(traverser, this.keyTraversal), traverser.bulk());
+        } else {
+            // a lone reducing step yields the same value for the traverser as the value traversal would
+            final Object value = null == valueStep ?
+                    this.projectValue(traverser) :
+                    valueStep.getBiOperator().apply(valueStep.getSeedSupplier().get(), valueStep.projectTraverser(traverser));
+            if (NO_VALUE != value)
+                this.merge(seed, TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) value);
+        }
+        return seed;
+    }
+
+    /**
+     * Applies the value traversal to the traverser and returns its result or {@link #NO_VALUE} if there is none.
+     */
+    private Object projectValue(final Traverser.Admin<S> traverser) {
         this.valueTraversal.reset();
         this.valueTraversal.addStart(traverser);
 
@@ -135,10 +173,50 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
         if (null == this.barrierStep) {
             if (this.valueTraversal.hasNext())
-                map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.valueTraversal.next());
+                return this.valueTraversal.next();
         } else if (this.barrierStep.hasNextBarrier())
-            map.put(TraversalUtil.applyNullable(traverser, this.keyTraversal), (V) this.barrierStep.nextBarrier());
-        return map;
+            return this.barrierStep.nextBarrier();
+        return NO_VALUE;
+    }
+
+    /**
+     * Merges the value into the group of the key in the same way that {@link GroupBiOperator} merges two groups.
+     */
+    private void merge(final Map<K, V> seed, final K key, final V value) {
+        final V current = seed.get(key);
+        if (null == current)
+            seed.put(key, value);
+        else if (null != value)
+            seed.put(key, ((GroupBiOperator<K, V>) this.reducingBiOperator).barrierAggregator.apply(current, value));
+    }
+
+    @Override
+    protected Map<K, V> completeReduction(final Map<K, V> seed) {
+        if (null != this.counts && !this.counts.isEmpty()) {
+            for (final ObjectLongCursor<K> cursor : this.counts) {
+                this.merge(seed, cursor.key, (V) Long.valueOf(cursor.value));
+            }
+            this.counts.clear();
+        }
+        return seed;
+    }
+
+    /**
+     * Gets the value traversal's only step if it is a {@link ReducingBarrierStep} that can be applied directly to
+     * each traverser, and {@code null} otherwise.
+     */
+    private ReducingBarrierStep<S, V> getReducingValueStep() {
+        final List<Step> steps = this.valueTraversal.getSteps();
+        if (steps.size() != 1)
+            return null;
+        final Step step = steps.get(0);
+        return step instanceof ReducingBarrierStep && step == this.barrierStep ? (ReducingBarrierStep<S, V>) step : null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.counts = null;
     }
 
     @Override
@@ -167,6 +245,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.barrierStep = determineBarrierStep(clone.valueTraversal);
+        clone.counts = null;
         return clone;
     }
 
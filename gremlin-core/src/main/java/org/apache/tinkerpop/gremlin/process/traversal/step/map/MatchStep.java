@@ -29,31 +29,41 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.PathUtil;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -226,6 +236,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
     public void reset() {
         super.reset();
         this.first = true;
+        this.joinedTraversers = EmptyIterator.instance();
     }
 
     public void setMatchAlgorithm(final Class<? extends MatchAlgorithm> matchAlgorithmClass) {
@@ -247,6 +258,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         }
         if (this.dedups != null) clone.dedups = new HashSet<>();
         clone.standardAlgorithmBarrier = new TraverserSet();
+        clone.joinedTraversers = EmptyIterator.instance();
         return clone;
     }
 
@@ -353,7 +365,35 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         return this.referencedLabelsMap;
     }
 
+    private Traverser.Admin<Object> prepareStart(final Traverser.Admin<Object> traverser) {
+        if (!traverser.getTags().contains(this.getId())) {
+            traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
+            if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
+                traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
+        }
+        return traverser;
+    }
+
+    /**
+     * Gathers a batch of start traversers for the {@link JoinMatchAlgorithm}. Starts that can not be joined are
+     * prepared for the pattern traversals and left in the barrier.
+     */
+    private List<Traverser.Admin<Object>> nextJoinBatch(final Traverser.Admin<Object> first) {
+        final List<Traverser.Admin<Object>> batch = new ArrayList<>();
+        batch.add(first);
+        while (batch.size() < PathRetractionStrategy.MAX_BARRIER_SIZE && this.starts.hasNext()) {
+            final Traverser.Admin<Object> traverser = (Traverser.Admin) this.starts.next();
+            if (!traverser.getTags().contains(this.getId()) && this.joinAlgorithm.canJoin(traverser))
+                batch.add(traverser);
+            else
+                this.standardAlgorithmBarrier.add(this.prepareStart(traverser));
+        }
+        return batch;
+    }
+
     private TraverserSet standardAlgorithmBarrier = new TraverserSet();
+    private JoinMatchAlgorithm joinAlgorithm = null;
+    private Iterator<Traverser.Admin<Object>> joinedTraversers = EmptyIterator.instance();
 
     @Override
     protected Iterator<Traverser.Admin<Map<String, E>>> standardAlgorithm() throws NoSuchElementException {
@@ -361,6 +401,8 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             if (this.first) {
                 this.first = false;
                 this.initializeMatchAlgorithm(false);
+                this.joinAlgorithm = this.connective == ConnectiveStep.Connective.AND && this.matchAlgorithm instanceof JoinMatchAlgorithm ?
+                        (JoinMatchAlgorithm) this.matchAlgorithm : null;
                 if (null != this.keepLabels &&
                         this.keepLabels.containsAll(this.matchEndLabels) &&
                         this.keepLabels.containsAll(this.matchStartLabels))
@@ -379,13 +421,16 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                 }
             }
             final Traverser.Admin traverser;
-            if (this.standardAlgorithmBarrier.isEmpty()) {
-                traverser = this.starts.next();
-                if (!traverser.getTags().contains(this.getId())) {
-                    traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
-                    if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
-                        traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
+            if (this.joinedTraversers.hasNext()) {
+                traverser = this.joinedTraversers.next(); // a solution of the join that has executed all pattern traversals
+                traverser.getTags().add(this.getId());
+            } else if (this.standardAlgorithmBarrier.isEmpty()) {
+                final Traverser.Admin start = this.starts.next();
+                if (null != this.joinAlgorithm && !start.getTags().contains(this.getId()) && this.joinAlgorithm.canJoin(start)) {
+                    this.joinedTraversers = this.joinAlgorithm.join(this.nextJoinBatch(start));
+                    continue;
                 }
+                traverser = this.prepareStart(start);
             } else
                 traverser = this.standardAlgorithmBarrier.remove();
 
@@ -420,12 +465,7 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                         this.keepLabels.containsAll(this.matchStartLabels))
                     this.keepLabels = null;
             }
-            final Traverser.Admin traverser = this.starts.next();
-            if (!traverser.getTags().contains(this.getId())) {
-                traverser.getTags().add(this.getId()); // so the traverser never returns to this branch ever again
-                if (!this.hasPathLabel(traverser.path(), this.matchStartLabels))
-                    traverser.addLabels(Collections.singleton(this.computedStartLabel)); // if the traverser doesn't have a legal start, then provide it the pre-computed one
-            }
+            final Traverser.Admin traverser = this.prepareStart((Traverser.Admin) this.starts.next());
             ///
             if (!this.isDuplicate(traverser)) {
                 if (hasMatched(this.connective, traverser)) {
@@ -814,4 +854,394 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             }
         }
     }
+
+    /**
+     * A {@link MatchAlgorithm} that can solve the match pattern for a batch of start traversers at once instead of
+     * routing each traverser through the pattern traversals. Start traversers that the algorithm can not join are
+     * routed by {@link #apply(Object)} as usual.
+     */
+    public interface JoinMatchAlgorithm extends MatchAlgorithm {
+
+        /**
+         * Determines if the match pattern can be solved by {@link #join(List)} for the specified start traverser.
+         */
+        public boolean canJoin(final Traverser.Admin<Object> traverser);
+
+        /**
+         * Solves the match pattern for the specified start traversers and returns a traverser for every solution. The
+         * path of a solution holds the objects bound to the variables of the pattern, its tags mark all pattern
+         * traversals as executed and its bulk is the bulk of its start multiplied by the number of ways in which the
+         * solution was matched.
+         */
+        public Iterator<Traverser.Admin<Object>> join(final List<Traverser.Admin<Object>> starts);
+    }
+
+    /**
+     * A {@link JoinMatchAlgorithm} for cyclic patterns such as triangles, cliques or rings that binds the pattern a
+     * variable at a time (i.e. a worst-case optimal join) rather than a pattern traversal at a time. The candidates of
+     * a variable are the intersection of the adjacent vertices of all its bound neighbors. Adjacencies are sorted by
+     * id and shared by all start traversers of a batch. Only patterns that are made up of single vertex steps between
+     * two variables (e.g. {@code as("a").out("knows").as("b")}) and {@code has()} filters of a variable can be joined.
+     * Other patterns, start traversers that already have variables bound and {@code GraphComputer} executions are
+     * handled by {@link CountMatchAlgorithm}.
+     */
+    public static class WorstCaseOptimalMatchAlgorithm extends CountMatchAlgorithm implements JoinMatchAlgorithm {
+
+        private static final int MAX_ADJACENCY_CACHE_SIZE = 100000;
+
+        protected List<Traversal.Admin<Object, Object>> traversals;
+        protected String[] variables = null; // in join order with the start label first (null if the pattern can not be joined)
+        protected List<HasContainer>[] filters;
+        protected Constraint[][] constraints;
+        protected int constraintsCount;
+
+        @Override
+        public void initialize(final boolean onComputer, final List<Traversal.Admin<Object, Object>> traversals) {
+            super.initialize(onComputer, traversals);
+            this.traversals = traversals;
+            this.variables = null;
+            if (!onComputer)
+                this.compile(traversals);
+        }
+
+        @Override
+        public boolean canJoin(final Traverser.Admin<Object> traverser) {
+            if (null == this.variables || !(traverser.get() instanceof Vertex))
+                return false;
+            final Path path = traverser.path();
+            for (final String variable : this.variables) {
+                if (path.hasLabel(variable))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Iterator<Traverser.Admin<Object>> join(final List<Traverser.Admin<Object>> starts) {
+            return new JoinIterator(starts);
+        }
+
+        private void compile(final List<Traversal.Admin<Object, Object>> traversals) {
+            final Set<String> variables = new LinkedHashSet<>();
+            final Map<String, List<HasContainer>> filters = new HashMap<>();
+            final List<Pattern> patterns = new ArrayList<>();
+            for (final Traversal.Admin<Object, Object> traversal : traversals) {
+                final List<Step> steps = traversal.getSteps();
+                if (steps.size() < 3 || !(steps.get(0) instanceof MatchStartStep) || !(steps.get(steps.size() - 1) instanceof MatchEndStep))
+                    return;
+                final Optional<String> startKey = ((MatchStartStep) steps.get(0)).getSelectKey();
+                final Optional<String> endKey = ((MatchEndStep) steps.get(steps.size() - 1)).getMatchKey();
+                if (!startKey.isPresent())
+                    return;
+                variables.add(startKey.get());
+                if (endKey.isPresent()) {
+                    final Step<?, ?> step = steps.get(1);
+                    if (steps.size() != 3 || !step.getClass().equals(VertexStep.class) || !((VertexStep<?>) step).returnsVertex() ||
+                            !step.getLabels().isEmpty() || startKey.get().equals(endKey.get()))
+                        return;
+                    variables.add(endKey.get());
+                    patterns.add(new Pattern(startKey.get(), endKey.get(), (VertexStep<?>) step));
+                } else {
+                    for (final Step<?, ?> step : steps.subList(1, steps.size() - 1)) {
+                        if (!step.getClass().equals(HasStep.class) || !step.getLabels().isEmpty())
+                            return;
+                        filters.computeIfAbsent(startKey.get(), k -> new ArrayList<>()).addAll(((HasStep<?>) step).getHasContainers());
+                    }
+                }
+            }
+
+            // bind the start label first and then always the variable with the most edges to bound variables
+            final List<String> order = new ArrayList<>(variables.size());
+            order.add(Helper.computeStartLabel(traversals));
+            while (order.size() < variables.size()) {
+                String next = null;
+                int nextEdges = 0;
+                for (final String variable : variables) {
+                    if (order.contains(variable))
+                        continue;
+                    int edges = 0;
+                    for (final Pattern pattern : patterns) {
+                        if ((pattern.from.equals(variable) && order.contains(pattern.to)) || (pattern.to.equals(variable) && order.contains(pattern.from)))
+                            edges++;
+                    }
+                    if (edges > nextEdges) {
+                        next = variable;
+                        nextEdges = edges;
+                    }
+                }
+                if (null == next)
+                    return; // the pattern is not connected
+                order.add(next);
+            }
+
+            this.filters = new List[order.size()];
+            this.constraints = new Constraint[order.size()][];
+            this.constraintsCount = 0;
+            for (int i = 0; i < order.size(); i++) {
+                final String variable = order.get(i);
+                final List<String> bound = order.subList(0, i);
+                final List<Constraint> constraints = new ArrayList<>();
+                for (final Pattern pattern : patterns) {
+                    if (pattern.to.equals(variable) && bound.contains(pattern.from))
+                        constraints.add(new Constraint(this.constraintsCount++, bound.indexOf(pattern.from), pattern.direction, pattern.edgeLabels));
+                    else if (pattern.from.equals(variable) && bound.contains(pattern.to))
+                        constraints.add(new Constraint(this.constraintsCount++, bound.indexOf(pattern.to), pattern.direction.opposite(), pattern.edgeLabels));
+                }
+                this.constraints[i] = constraints.toArray(new Constraint[constraints.size()]);
+                this.filters[i] = filters.getOrDefault(variable, Collections.emptyList());
+            }
+            this.variables = order.toArray(new String[order.size()]);
+        }
+
+        private static int compareIds(final Vertex a, final Vertex b) {
+            final Object aId = a.id();
+            final Object bId = b.id();
+            if (aId.getClass().equals(bId.getClass()) && aId instanceof Comparable)
+                return ((Comparable) aId).compareTo(bId);
+            final int compare = aId.getClass().getName().compareTo(bId.getClass().getName());
+            return 0 != compare ? compare : aId.toString().compareTo(bId.toString());
+        }
+
+        /**
+         * Finds the index of the specified vertex in the adjacency starting at the specified index or returns the
+         * negative insertion point minus one if the adjacency does not contain it.
+         */
+        private static int seek(final Adjacency adjacency, final int from, final Vertex vertex) {
+            // gallop forward to find the range that holds the vertex and then binary search within it
+            int low = from;
+            int bound = 1;
+            while (low + bound < adjacency.vertices.length && compareIds(adjacency.vertices[low + bound], vertex) < 0) {
+                low += bound;
+                bound <<= 1;
+            }
+            int high = Math.min(low + bound, adjacency.vertices.length);
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (compareIds(adjacency.vertices[middle], vertex) < 0)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            for (int i = low; i < adjacency.vertices.length && 0 == compareIds(adjacency.vertices[i], vertex); i++) {
+                if (adjacency.vertices[i].equals(vertex))
+                    return i;
+            }
+            return -low - 1;
+        }
+
+        private static Adjacency intersect(final Adjacency[] adjacencies) {
+            Arrays.sort(adjacencies, Comparator.comparingInt(a -> a.vertices.length));
+            final Adjacency smallest = adjacencies[0];
+            final int[] cursors = new int[adjacencies.length];
+            final Vertex[] vertices = new Vertex[smallest.vertices.length];
+            final long[] counts = new long[smallest.vertices.length];
+            int size = 0;
+            for (int i = 0; i < smallest.vertices.length; i++) {
+                final Vertex vertex = smallest.vertices[i];
+                long count = smallest.counts[i];
+                for (int j = 1; j < adjacencies.length && count > 0; j++) {
+                    final int index = seek(adjacencies[j], cursors[j], vertex);
+                    if (index < 0) {
+                        cursors[j] = -index - 1;
+                        count = 0;
+                    } else {
+                        cursors[j] = index;
+                        count *= adjacencies[j].counts[index];
+                    }
+                }
+                if (count > 0) {
+                    vertices[size] = vertex;
+                    counts[size++] = count;
+                }
+            }
+            return new Adjacency(Arrays.copyOf(vertices, size), Arrays.copyOf(counts, size));
+        }
+
+        ///////////
+
+        private static final class Pattern {
+            private final String from;
+            private final String to;
+            private final Direction direction;
+            private final String[] edgeLabels;
+
+            private Pattern(final String from, final String to, final VertexStep<?> vertexStep) {
+                this.from = from;
+                this.to = to;
+                this.direction = vertexStep.getDirection();
+                this.edgeLabels = vertexStep.getEdgeLabels();
+            }
+        }
+
+        /**
+         * An edge of the pattern from a bound variable to the variable being bound.
+         */
+        protected static final class Constraint implements Serializable {
+            private final int index;
+            private final int bound;
+            private final Direction direction;
+            private final String[] edgeLabels;
+
+            private Constraint(final int index, final int bound, final Direction direction, final String[] edgeLabels) {
+                this.index = index;
+                this.bound = bound;
+                this.direction = direction;
+                this.edgeLabels = edgeLabels;
+            }
+        }
+
+        /**
+         * The distinct adjacent vertices of a vertex sorted by id and the number of edges that lead to each of them.
+         */
+        protected static final class Adjacency {
+            private final Vertex[] vertices;
+            private final long[] counts;
+
+            private Adjacency(final Vertex[] vertices, final long[] counts) {
+                this.vertices = vertices;
+                this.counts = counts;
+            }
+
+            private static Adjacency of(final Vertex vertex, final Constraint constraint) {
+                final Map<Vertex, long[]> counts = new HashMap<>();
+                final Iterator<Vertex> iterator = vertex.vertices(constraint.direction, constraint.edgeLabels);
+                try {
+                    while (iterator.hasNext()) {
+                        counts.computeIfAbsent(iterator.next(), v -> new long[1])[0]++;
+                    }
+                } finally {
+                    CloseableIterator.closeIterator(iterator);
+                }
+                final Vertex[] vertices = counts.keySet().toArray(new Vertex[counts.size()]);
+                Arrays.sort(vertices, WorstCaseOptimalMatchAlgorithm::compareIds);
+                final long[] multiplicities = new long[vertices.length];
+                for (int i = 0; i < vertices.length; i++) {
+                    multiplicities[i] = counts.get(vertices[i])[0];
+                }
+                return new Adjacency(vertices, multiplicities);
+            }
+        }
+
+        /**
+         * Binds the variables depth-first for each start traverser of a batch. The candidates of the variable at depth
+         * {@code i} are held in {@code candidates[i]} so that backtracking resumes with the next candidate of the
+         * deepest variable.
+         */
+        private final class JoinIterator implements Iterator<Traverser.Admin<Object>> {
+            private final List<Traverser.Admin<Object>> starts;
+            private final Map<Vertex, Adjacency>[] adjacencies;
+            private final Set<String>[] labels;
+            private final Vertex[] bindings;
+            private final long[] multiplicities;
+            private final Adjacency[] candidates;
+            private final int[] positions;
+            private int startIndex = 0;
+            private int depth = 0;
+            private Traverser.Admin<Object> next = null;
+
+            private JoinIterator(final List<Traverser.Admin<Object>> starts) {
+                final int size = variables.length;
+                this.starts = starts;
+                this.adjacencies = new Map[constraintsCount];
+                for (int i = 0; i < constraintsCount; i++) {
+                    this.adjacencies[i] = new HashMap<>();
+                }
+                this.labels = new Set[size];
+                for (int i = 0; i < size; i++) {
+                    this.labels[i] = Collections.singleton(variables[i]);
+                }
+                this.bindings = new Vertex[size];
+                this.multiplicities = new long[size];
+                this.candidates = new Adjacency[size];
+                this.positions = new int[size];
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (null == this.next)
+                    this.next = this.advance();
+                return null != this.next;
+            }
+
+            @Override
+            public Traverser.Admin<Object> next() {
+                if (!this.hasNext())
+                    throw FastNoSuchElementException.instance();
+                final Traverser.Admin<Object> traverser = this.next;
+                this.next = null;
+                return traverser;
+            }
+
+            private Traverser.Admin<Object> advance() {
+                final int last = variables.length - 1;
+                while (true) {
+                    if (0 == this.depth) {
+                        if (this.startIndex == this.starts.size())
+                            return null;
+                        final Vertex start = (Vertex) this.starts.get(this.startIndex++).get();
+                        if (!HasContainer.testAll(start, filters[0]))
+                            continue;
+                        this.bindings[0] = start;
+                        this.multiplicities[0] = 1L;
+                        if (0 == last)
+                            return this.solution();
+                        this.open(++this.depth);
+                    } else if (this.positions[this.depth] < this.candidates[this.depth].vertices.length) {
+                        final int position = this.positions[this.depth]++;
+                        final Vertex candidate = this.candidates[this.depth].vertices[position];
+                        if (!HasContainer.testAll(candidate, filters[this.depth]))
+                            continue;
+                        this.bindings[this.depth] = candidate;
+                        this.multiplicities[this.depth] = this.multiplicities[this.depth - 1] * this.candidates[this.depth].counts[position];
+                        if (last == this.depth)
+                            return this.solution();
+                        this.open(++this.depth);
+                    } else
+                        this.depth--;
+                }
+            }
+
+            private void open(final int depth) {
+                final Constraint[] constraints = WorstCaseOptimalMatchAlgorithm.this.constraints[depth];
+                if (1 == constraints.length)
+                    this.candidates[depth] = this.adjacency(constraints[0]);
+                else {
+                    final Adjacency[] adjacencies = new Adjacency[constraints.length];
+                    for (int i = 0; i < constraints.length; i++) {
+                        adjacencies[i] = this.adjacency(constraints[i]);
+                    }
+                    this.candidates[depth] = intersect(adjacencies);
+                }
+                this.positions[depth] = 0;
+            }
+
+            private Adjacency adjacency(final Constraint constraint) {
+                final Map<Vertex, Adjacency> cache = this.adjacencies[constraint.index];
+                final Vertex vertex = this.bindings[constraint.bound];
+                Adjacency adjacency = cache.get(vertex);
+                if (null == adjacency) {
+                    if (cache.size() >= MAX_ADJACENCY_CACHE_SIZE)
+                        cache.clear();
+                    adjacency = Adjacency.of(vertex, constraint);
+                    cache.put(vertex, adjacency);
+                }
+                return adjacency;
+            }
+
+            private Traverser.Admin<Object> solution() {
+                final Traverser.Admin<Object> start = this.starts.get(this.startIndex - 1);
+                Traverser.Admin<Object> traverser = start.split();
+                traverser.addLabels(this.labels[0]);
+                for (int i = 1; i < variables.length; i++) {
+                    traverser = traverser.split(this.bindings[i], EmptyStep.instance());
+                    traverser.addLabels(this.labels[i]);
+                }
+                traverser.setBulk(start.bulk() * this.multiplicities[variables.length - 1]);
+                for (final Traversal.Admin<Object, Object> traversal : traversals) {
+                    traverser.getTags().add(traversal.getStartStep().getId());
+                }
+                return traverser;
+            }
+        }
+    }
 }
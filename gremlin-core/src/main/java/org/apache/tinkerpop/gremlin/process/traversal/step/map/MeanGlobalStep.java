@@ -42,6 +42,8 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
 
     private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
 
+    private transient NumberHelper.SumAccumulator sum = null;
+
     public MeanGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier((Supplier) MeanNumberSupplier.instance());
@@ -59,6 +61,44 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
         return (E) new MeanNumber(traverser.get(), traverser.bulk());
     }
 
+    /**
+     * Adds the traverser to the sum of the {@link MeanNumber} seed in a primitive accumulator rather than projecting
+     * it to a {@link MeanNumber} of its own.
+     */
+    @Override
+    protected E reduceTraverser(final E seed, final Traverser.Admin<S> traverser) {
+        if (seed instanceof MeanNumber) {
+            if (null == this.sum)
+                this.sum = new NumberHelper.SumAccumulator();
+            final MeanNumber meanNumber = (MeanNumber) seed;
+            if (this.sum.add(meanNumber.sum, traverser.get(), traverser.bulk())) {
+                meanNumber.count += traverser.bulk();
+                return seed;
+            }
+        }
+        return super.reduceTraverser(this.completeReduction(seed), traverser);
+    }
+
+    @Override
+    protected E completeReduction(final E seed) {
+        if (null != this.sum && this.sum.isActive())
+            ((MeanNumber) seed).sum = this.sum.finish();
+        return seed;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.sum = null;
+    }
+
+    @Override
+    public MeanGlobalStep<S, E> clone() {
+        final MeanGlobalStep<S, E> clone = (MeanGlobalStep<S, E>) super.clone();
+        clone.sum = null;
+        return clone;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return REQUIREMENTS;
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.util.NumberHelper;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
 
 import java.util.Collections;
@@ -34,6 +35,8 @@ import java.util.function.BinaryOperator;
  */
 public final class MinGlobalStep<S extends Comparable> extends ReducingBarrierStep<S, S> {
 
+    private transient NumberHelper.ExtremumAccumulator extremum = null;
+
     public MinGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>((S) Double.valueOf(Double.NaN)));
@@ -51,6 +54,33 @@ public final class MinGlobalStep<S extends Comparable> extends ReducingBarrierSt
         return traverser.get();
     }
 
+    @Override
+    protected S reduceTraverser(final S seed, final Traverser.Admin<S> traverser) {
+        if (null == this.extremum)
+            this.extremum = new NumberHelper.ExtremumAccumulator(false);
+        if (this.extremum.add(seed, traverser.get()))
+            return seed;
+        return super.reduceTraverser(this.completeReduction(seed), traverser);
+    }
+
+    @Override
+    protected S completeReduction(final S seed) {
+        return null != this.extremum && this.extremum.isActive() ? (S) this.extremum.finish() : seed;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.extremum = null;
+    }
+
+    @Override
+    public MinGlobalStep<S> clone() {
+        final MinGlobalStep<S> clone = (MinGlobalStep<S>) super.clone();
+        clone.extremum = null;
+        return clone;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.OBJECT);
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Collections;
@@ -33,11 +34,30 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
+ * A barrier that collects traversers so that equal traversers are bulked before they are handed to the next step.
+ * A barrier with a fixed size collects up to {@code maxBarrierSize} distinct traversers at a time. An adaptive
+ * barrier starts with {@code minBarrierSize} so that the first results are passed on quickly and doubles its size
+ * (up to {@code maxBarrierSize}) whenever at least {@link #GROW_MERGE_RATE} of the traversers collected in a round
+ * were merged into others. It halves its size again (down to {@code minBarrierSize}) if less than
+ * {@link #SHRINK_MERGE_RATE} of them were merged as bulking then does not pay for the latency of the barrier.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements LocalBarrier<S> {
 
+    /**
+     * The ratio of merged to collected traversers at or above which an adaptive barrier grows.
+     */
+    public static final double GROW_MERGE_RATE = 0.5d;
+
+    /**
+     * The ratio of merged to collected traversers below which an adaptive barrier shrinks.
+     */
+    public static final double SHRINK_MERGE_RATE = 0.1d;
+
     private int maxBarrierSize;
+    private int minBarrierSize;
+    private transient int barrierSize;
     private TraverserSet<S> barrier = new TraverserSet<>();
 
     public NoOpBarrierStep(final Traversal.Admin traversal) {
@@ -45,15 +65,44 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     }
 
     public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize) {
+        this(traversal, maxBarrierSize, maxBarrierSize);
+    }
+
+    /**
+     * Creates a barrier that adapts its size between the specified bounds or has a fixed size if both are equal.
+     */
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int minBarrierSize, final int maxBarrierSize) {
         super(traversal);
+        if (minBarrierSize < 1 || minBarrierSize > maxBarrierSize)
+            throw new IllegalArgumentException(String.format("The barrier size bounds are invalid: [%s, %s]", minBarrierSize, maxBarrierSize));
+        this.minBarrierSize = minBarrierSize;
         this.maxBarrierSize = maxBarrierSize;
+        this.barrierSize = minBarrierSize;
+    }
+
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    /**
+     * Gets the number of distinct traversers the barrier currently collects at a time.
+     */
+    public int getBarrierSize() {
+        return 0 == this.barrierSize ? this.minBarrierSize : this.barrierSize;
     }
 
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
         if (this.barrier.isEmpty())
             this.processAllStarts();
-        return this.barrier.remove();
+        final Traverser.Admin<S> traverser = this.barrier.remove();
+        if (this.barrier.isEmpty())
+            this.releaseMemory();
+        return traverser;
     }
 
     @Override
@@ -63,11 +112,30 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
 
     @Override
     public void processAllStarts() {
-        while (this.starts.hasNext() && (this.maxBarrierSize == Integer.MAX_VALUE || this.barrier.size() < this.maxBarrierSize)) {
+        final int barrierSize = this.getBarrierSize();
+        long collected = 0;
+        while (this.starts.hasNext() && (barrierSize == Integer.MAX_VALUE || this.barrier.size() < barrierSize)) {
             final Traverser.Admin<S> traverser = this.starts.next();
             traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
             this.barrier.add(traverser);
+            if ((++collected & (MEMORY_CHECK_INTERVAL - 1)) == 0) this.retainMemory(this.barrier);
         }
+        if (collected > 0) {
+            TraversalEvents.barrier(this, this.barrier);
+            this.checkCancellation();
+            this.retainMemory(this.barrier);
+        }
+        // only a barrier that filled up has seen enough traversers to judge whether a different size pays off
+        if (this.minBarrierSize < this.maxBarrierSize && collected > 0 && this.barrier.size() >= barrierSize)
+            this.adapt((double) (collected - this.barrier.size()) / collected);
+    }
+
+    private void adapt(final double mergeRate) {
+        final int barrierSize = this.getBarrierSize();
+        if (mergeRate >= GROW_MERGE_RATE)
+            this.barrierSize = (int) Math.min(this.maxBarrierSize, 2L * barrierSize);
+        else if (mergeRate < SHRINK_MERGE_RATE)
+            this.barrierSize = Math.max(this.minBarrierSize, barrierSize / 2);
     }
 
     @Override
@@ -84,6 +152,7 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
         else {
             final TraverserSet<S> temp = this.barrier;
             this.barrier = new TraverserSet<>();
+            this.releaseMemory();
             return temp;
         }
     }
@@ -97,22 +166,29 @@ public final class NoOpBarrierStep<S> extends AbstractStep<S, S> implements Loca
     public NoOpBarrierStep<S> clone() {
         final NoOpBarrierStep<S> clone = (NoOpBarrierStep<S>) super.clone();
         clone.barrier = new TraverserSet<>();
+        clone.barrierSize = this.minBarrierSize;
         return clone;
     }
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.maxBarrierSize == Integer.MAX_VALUE ? null : this.maxBarrierSize);
+        return this.minBarrierSize < this.maxBarrierSize ?
+                StringFactory.stepString(this, this.minBarrierSize, this.maxBarrierSize) :
+                StringFactory.stepString(this, this.maxBarrierSize == Integer.MAX_VALUE ? null : this.maxBarrierSize);
     }
 
     @Override
     public int hashCode() {
-        return super.hashCode() ^ this.maxBarrierSize;
+        int result = super.hashCode() ^ this.maxBarrierSize;
+        if (this.minBarrierSize < this.maxBarrierSize)
+            result ^= Integer.rotateLeft(this.minBarrierSize, 16);
+        return result;
     }
 
     @Override
     public void reset() {
         super.reset();
         this.barrier.clear();
+        this.barrierSize = this.minBarrierSize;
     }
 }
@@ -27,32 +27,49 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.MultiComparator;
 import org.javatuples.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
 /**
+ * Sorts all traversers of the barrier. If a limit is set (e.g. by {@link OrderLimitStrategy}), only the traversers
+ * that fall within the limit are retained in a bounded heap while starts are consumed. Otherwise, if a
+ * {@link TraverserSpill#SPILL_THRESHOLD} is configured for the traversal, the step sorts and spills its traversers to
+ * disk whenever it holds that many of them and then merges the spilled runs with the remaining traversers as results
+ * are requested.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBarrierStep<S> implements ComparatorHolder<S, C>, TraversalParent, ByModulating {
+public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBarrierStep<S> implements ComparatorHolder<S, C>, TraversalParent, ByModulating, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderGlobalStep.class);
 
     private List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators = new ArrayList<>();
     private MultiComparator<C> multiComparator = null;
     private long limit = Long.MAX_VALUE;
+    private int spillThreshold = -1;
+    private TraverserSpill<S> spill = null;
+    private Iterator<Traverser.Admin<S>> merged = null;
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -70,8 +87,83 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
     @Override
     public void processAllStarts() {
+        if (null == this.multiComparator) this.multiComparator = this.createMultiComparator();
+        if (this.limit != -1 && this.limit != Long.MAX_VALUE && !this.multiComparator.isShuffle()) {
+            if (this.starts.hasNext()) {
+                final BoundedTraverserHeap<S> heap = new BoundedTraverserHeap<>((Comparator) this.multiComparator, this.limit);
+                this.traverserSet.forEach(heap::add);
+                this.traverserSet.clear();
+                while (this.starts.hasNext()) {
+                    heap.add(this.createProjectedTraverser(this.starts.next()));
+                }
+                heap.drainTo(this.traverserSet);
+                this.checkCancellation();
+                this.retainMemory(this.traverserSet);
+            }
+            return;
+        }
+
+        if (-1 == this.spillThreshold)
+            this.spillThreshold = TraverserSpill.getSpillThreshold(this.getTraversal());
+        int collected = 0;
         while (this.starts.hasNext()) {
             this.traverserSet.add(this.createProjectedTraverser(this.starts.next()));
+            if (this.spillThreshold > 0 && this.traverserSet.size() >= this.spillThreshold)
+                this.spill();
+            if ((++collected & (MEMORY_CHECK_INTERVAL - 1)) == 0) this.retainMemory(this.traverserSet);
+        }
+        this.checkCancellation();
+        this.retainMemory(this.traverserSet);
+    }
+
+    @Override
+    public Traverser.Admin<S> processNextStart() {
+        if (null == this.merged && this.traverserSet.isEmpty() && this.starts.hasNext()) {
+            this.processAllStarts();
+            this.barrierConsumed = false;
+        }
+
+        if (null == this.merged && null != this.spill) {
+            // the spilled runs are merged with the traversers that remained in memory
+            this.barrierConsumer(this.traverserSet);
+            this.barrierConsumed = true;
+            this.merged = this.spill.merge(this.traverserSet.iterator());
+        }
+
+        if (null != this.merged) {
+            if (this.merged.hasNext())
+                return ProjectedTraverser.tryUnwrap(this.merged.next());
+            this.closeSpill();
+        }
+        return super.processNextStart();
+    }
+
+    private void spill() {
+        if (null == this.multiComparator) this.multiComparator = this.createMultiComparator();
+        if (this.multiComparator.isShuffle()) {
+            this.spillThreshold = 0;
+            return;
+        }
+
+        this.traverserSet.sort((Comparator) this.multiComparator);
+        if (null == this.spill)
+            this.spill = new TraverserSpill<>(this, (Comparator) this.multiComparator, TraverserSpill.getSpillDirectory(this.getTraversal()));
+        try {
+            this.spill.spill(this.traverserSet);
+        } catch (IOException ex) {
+            // continue in memory with what could not be spilled
+            logger.warn(String.format("Could not spill traversers of %s - continuing in memory", this), ex);
+            this.spillThreshold = 0;
+        }
+    }
+
+    private void closeSpill() {
+        this.merged = null;
+        this.traverserSet.clear();
+        this.releaseMemory();
+        if (null != this.spill) {
+            this.spill.close();
+            this.spill = null;
         }
     }
 
@@ -127,9 +219,23 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
         return (List) this.comparators.stream().map(Pair::getValue0).collect(Collectors.toList());
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.closeSpill();
+    }
+
+    @Override
+    public void close() {
+        this.closeSpill();
+    }
+
     @Override
     public OrderGlobalStep<S, C> clone() {
         final OrderGlobalStep<S, C> clone = (OrderGlobalStep<S, C>) super.clone();
+        clone.spillThreshold = -1;
+        clone.spill = null;
+        clone.merged = null;
         clone.comparators = new ArrayList<>();
         for (final Pair<Traversal.Admin<S, C>, Comparator<C>> comparator : this.comparators) {
             clone.comparators.add(new Pair<>(comparator.getValue0().clone(), comparator.getValue1()));
@@ -183,6 +289,15 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
         @Override
         public TraverserSet<S> apply(final TraverserSet<S> setA, final TraverserSet<S> setB) {
+            if (this.limit != -1 && this.limit != Long.MAX_VALUE && !this.comparator.isShuffle()) {
+                final BoundedTraverserHeap<S> heap = new BoundedTraverserHeap<>(this.comparator, this.limit);
+                setA.forEach(heap::add);
+                setB.forEach(heap::add);
+                setA.clear();
+                heap.drainTo(setA);
+                return setA;
+            }
+
             setA.addAll(setB);
             if (this.limit != -1 && setA.bulkSize() > this.limit) {
                 if (this.comparator.isShuffle())
@@ -201,4 +316,64 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
             return setA;
         }
     }
+
+    /**
+     * A heap that retains the first traversers of an ordering until their bulk reaches the limit. The head of the
+     * heap is the traverser that is the first to be evicted, so adding a traverser costs {@code O(log k)} and the
+     * heap never holds more traversers than are needed to satisfy the limit. Ties are broken in favor of the
+     * traverser that was added first, which retains the stable order of a full sort.
+     */
+    private static final class BoundedTraverserHeap<S> {
+        private final Comparator<Traverser.Admin<S>> comparator;
+        private final long limit;
+        private final PriorityQueue<Ranked<S>> heap;
+        private long bulk = 0L;
+        private long sequence = 0L;
+
+        private BoundedTraverserHeap(final Comparator<Traverser.Admin<S>> comparator, final long limit) {
+            this.comparator = comparator;
+            this.limit = limit;
+            this.heap = new PriorityQueue<>((a, b) -> this.compare(b, a));
+        }
+
+        private int compare(final Ranked<S> a, final Ranked<S> b) {
+            final int comparison = this.comparator.compare(a.traverser, b.traverser);
+            return 0 == comparison ? Long.compare(a.sequence, b.sequence) : comparison;
+        }
+
+        private void add(final Traverser.Admin<S> traverser) {
+            if (this.limit <= 0L)
+                return;
+
+            // a traverser that does not come before the last retained one can not fall within the limit
+            if (this.bulk >= this.limit && this.comparator.compare(traverser, this.heap.peek().traverser) >= 0)
+                return;
+
+            this.heap.add(new Ranked<>(traverser, this.sequence++));
+            this.bulk = this.bulk + traverser.bulk();
+            while (this.bulk - this.heap.peek().traverser.bulk() >= this.limit) {
+                this.bulk = this.bulk - this.heap.poll().traverser.bulk();
+            }
+        }
+
+        private void drainTo(final TraverserSet<S> traverserSet) {
+            final List<Ranked<S>> ranked = new ArrayList<>(this.heap);
+            ranked.sort(this::compare);
+            for (final Ranked<S> r : ranked) {
+                traverserSet.add(r.traverser);
+            }
+            this.heap.clear();
+            this.bulk = 0L;
+        }
+    }
+
+    private static final class Ranked<S> {
+        private final Traverser.Admin<S> traverser;
+        private final long sequence;
+
+        private Ranked(final Traverser.Admin<S> traverser, final long sequence) {
+            this.traverser = traverser;
+            this.sequence = sequence;
+        }
+    }
 }
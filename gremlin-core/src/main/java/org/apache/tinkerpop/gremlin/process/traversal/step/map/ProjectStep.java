@@ -26,10 +26,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalRing;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +41,7 @@ import java.util.Set;
 public final class ProjectStep<S, E> extends ScalarMapStep<S, Map<String, E>> implements TraversalParent, ByModulating {
 
     private final List<String> projectKeys;
+    private transient PropertyRow.Shape shape;
     private TraversalRing<S, E> traversalRing;
 
     public ProjectStep(final Traversal.Admin traversal, final String... projectKeys) {
@@ -50,12 +52,15 @@ public final class ProjectStep<S, E> extends ScalarMapStep<S, Map<String, E>> im
 
     @Override
     protected Map<String, E> map(final Traverser.Admin<S> traverser) {
-        final Map<String, E> end = new LinkedHashMap<>(this.projectKeys.size(), 1.0f);
+        // the shape is not serialized with the step and so it is made on first use
+        if (null == this.shape)
+            this.shape = PropertyRow.Shape.of(false, Collections.emptyList(), this.projectKeys.toArray(new String[this.projectKeys.size()]));
+        final PropertyRow end = new PropertyRow(this.shape);
         for (final String projectKey : this.projectKeys) {
-            end.put(projectKey, TraversalUtil.applyNullable(traverser, this.traversalRing.next()));
+            end.set(this.shape.slot(projectKey), TraversalUtil.applyNullable(traverser, this.traversalRing.next()));
         }
         this.traversalRing.reset();
-        return end;
+        return (Map) end;
     }
 
     @Override
@@ -34,6 +34,8 @@ import org.apache.tinkerpop.gremlin.structure.PropertyType;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.Projectable;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.ArrayList;
@@ -60,6 +62,9 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
 
     private Parameters parameters = new Parameters();
     private TraversalRing<K, E> traversalRing;
+    private transient PropertyRow.Shape vertexShape;
+    private transient PropertyRow.Shape vertexPropertyShape;
+    private transient PropertyRow.Shape elementShape;
 
     public PropertyMapStep(final Traversal.Admin traversal, final PropertyType propertyType, final String... propertyKeys) {
         super(traversal);
@@ -76,9 +81,12 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
 
     @Override
     protected Map<K, E> map(final Traverser.Admin<Element> traverser) {
-        final Map<Object, Object> map = new LinkedHashMap<>();
         final Element element = traverser.get();
         final boolean isVertex = element instanceof Vertex;
+        if (this.returnType == PropertyType.VALUE && this.propertyKeys.length > 0 && null == this.propertyTraversal)
+            return this.applyTraversalRing(this.project(element, isVertex));
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
         if (this.returnType == PropertyType.VALUE) {
             if (includeToken(WithOptions.ids)) map.put(T.id, element.id());
             if (element instanceof VertexProperty) {
@@ -105,6 +113,10 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
                 map.put(property.key(), value);
             }
         }
+        return this.applyTraversalRing(map);
+    }
+
+    private Map<K, E> applyTraversalRing(final Map<Object, Object> map) {
         if (!traversalRing.isEmpty()) {
             for (final Object key : map.keySet()) {
                 map.compute(key, (k, v) -> TraversalUtil.applyNullable(v, (Traversal.Admin) this.traversalRing.next()));
@@ -114,6 +126,39 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
         return (Map) map;
     }
 
+    /**
+     * Fills a {@link PropertyRow} whose shape is made once for each kind of element as the keys are known upfront.
+     */
+    private PropertyRow project(final Element element, final boolean isVertex) {
+        final boolean isVertexProperty = element instanceof VertexProperty;
+        PropertyRow.Shape shape = isVertexProperty ? this.vertexPropertyShape : (isVertex ? this.vertexShape : this.elementShape);
+        if (null == shape) {
+            final List<T> tokens = new ArrayList<>(3);
+            if (includeToken(WithOptions.ids)) tokens.add(T.id);
+            if (isVertexProperty) {
+                if (includeToken(WithOptions.keys)) tokens.add(T.key);
+                if (includeToken(WithOptions.values)) tokens.add(T.value);
+            } else {
+                if (includeToken(WithOptions.labels)) tokens.add(T.label);
+            }
+            // only the values of vertex properties are collected in lists
+            shape = PropertyRow.Shape.of(isVertex, tokens, this.propertyKeys);
+            if (isVertexProperty) this.vertexPropertyShape = shape;
+            else if (isVertex) this.vertexShape = shape;
+            else this.elementShape = shape;
+        }
+
+        final PropertyRow row = new PropertyRow(shape);
+        for (int i = 0; i < shape.getTokenCount(); i++) {
+            final T token = (T) shape.key(i);
+            row.set(i, T.id == token ? element.id() :
+                    T.label == token ? element.label() :
+                    T.key == token ? ((VertexProperty<?>) element).key() : ((VertexProperty<?>) element).value());
+        }
+        Projectable.project(element, row);
+        return row;
+    }
+
     @Override
     public void configure(final Object... keyValues) {
         if (keyValues[0].equals(WithOptions.tokens)) {
@@ -127,6 +172,7 @@ public class PropertyMapStep<K,E> extends ScalarMapStep<Element, Map<K, E>>
                     this.tokens |= (int) keyValues[i];
                 }
             }
+            this.vertexShape = this.vertexPropertyShape = this.elementShape = null;
         } else {
             this.parameters.set(this, keyValues);
         }
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.util.NumberHelper;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
 
 import java.util.EnumSet;
@@ -41,6 +42,8 @@ public final class SumGlobalStep<S extends Number> extends ReducingBarrierStep<S
             TraverserRequirement.OBJECT
     );
 
+    private transient NumberHelper.SumAccumulator sum = null;
+
     public SumGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>((S) Integer.valueOf(0)));
@@ -58,6 +61,32 @@ public final class SumGlobalStep<S extends Number> extends ReducingBarrierStep<S
         return (S) mul(traverser.get(), traverser.bulk());
     }
 
+    @Override
+    protected S reduceTraverser(final S seed, final Traverser.Admin<S> traverser) {
+        if (null == this.sum)
+            this.sum = new NumberHelper.SumAccumulator();
+        if (this.sum.add(seed, traverser.get(), traverser.bulk()))
+            return seed;
+        return super.reduceTraverser(this.completeReduction(seed), traverser);
+    }
+
+    @Override
+    protected S completeReduction(final S seed) {
+        return null != this.sum && this.sum.isActive() ? (S) this.sum.finish() : seed;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.sum = null;
+    }
+
+    @Override
+    public SumGlobalStep<S> clone() {
+        final SumGlobalStep<S> clone = (SumGlobalStep<S>) super.clone();
+        clone.sum = null;
+        return clone;
+    }
 
     @Override
     public Set<TraverserRequirement> getRequirements() {
@@ -109,20 +109,28 @@ public final class AggregateGlobalStep<S> extends AbstractStep<S, S> implements
         if (this.barrier.isEmpty()) {
             this.processAllStarts();
         }
-        return this.barrier.remove();
+        final Traverser.Admin<S> traverser = this.barrier.remove();
+        if (this.barrier.isEmpty())
+            this.releaseMemory();
+        return traverser;
     }
 
     @Override
     public void processAllStarts() {
         if (this.starts.hasNext()) {
             final BulkSet<Object> bulkSet = new BulkSet<>();
+            int collected = 0;
             while (this.starts.hasNext()) {
                 final Traverser.Admin<S> traverser = this.starts.next();
                 bulkSet.add(TraversalUtil.applyNullable(traverser, this.aggregateTraversal), traverser.bulk());
                 traverser.setStepId(this.getNextStep().getId()); // when barrier is reloaded, the traversers should be at the next step
                 this.barrier.add(traverser);
+                if ((++collected & (MEMORY_CHECK_INTERVAL - 1)) == 0) this.retainMemory(this.barrier);
             }
             this.getTraversal().getSideEffects().add(this.sideEffectKey, bulkSet);
+            this.checkCancellation();
+            this.retainMemory(this.barrier);
+            this.retainSideEffectMemory(this.sideEffectKey);
         }
     }
 
@@ -144,6 +152,7 @@ public final class AggregateGlobalStep<S> extends AbstractStep<S, S> implements
         else {
             final TraverserSet<S> temp = this.barrier;
             this.barrier = new TraverserSet<>();
+            this.releaseMemory();
             return temp;
         }
     }
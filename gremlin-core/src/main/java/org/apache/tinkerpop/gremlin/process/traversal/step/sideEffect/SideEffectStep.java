@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
 /**
@@ -27,6 +28,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
  */
 public abstract class SideEffectStep<S> extends AbstractStep<S, S> {
 
+    private transient int added = 0;
+
     public SideEffectStep(final Traversal.Admin traversal) {
         super(traversal);
     }
@@ -37,6 +40,9 @@ public abstract class SideEffectStep<S> extends AbstractStep<S, S> {
     protected Traverser.Admin<S> processNextStart() {
         final Traverser.Admin<S> traverser = this.starts.next();
         this.sideEffect(traverser);
+        // the side-effect value of steps like group("x") grows with every traverser
+        if (this instanceof SideEffectCapable && (++this.added & (MEMORY_CHECK_INTERVAL - 1)) == 0)
+            this.retainSideEffectMemory(((SideEffectCapable<?, ?>) this).getSideEffectKey());
         return traverser;
     }
 }
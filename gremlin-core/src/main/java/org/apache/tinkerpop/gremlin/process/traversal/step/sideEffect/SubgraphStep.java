@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SubgraphSink;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -37,10 +38,12 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
- * A side-effect step that produces an edge induced subgraph.
+ * A side-effect step that produces an edge induced subgraph. If the side-effect is a {@link SubgraphSink} rather than
+ * a {@link Graph}, the edges are streamed to the sink in batches which are written out as the traversal proceeds.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -53,6 +56,7 @@ public final class SubgraphStep extends SideEffectStep<Edge> implements SideEffe
     );
 
     private Graph subgraph;
+    private SubgraphSink sink;
     private String sideEffectKey;
     private Graph.Features.VertexFeatures parentGraphFeatures;
     private boolean subgraphSupportsMetaProperties = false;
@@ -69,6 +73,16 @@ public final class SubgraphStep extends SideEffectStep<Edge> implements SideEffe
 
     @Override
     protected void sideEffect(final Traverser.Admin<Edge> traverser) {
+        if (null == this.subgraph && null == this.sink) {
+            final Object sideEffect = traverser.sideEffects(this.sideEffectKey);
+            if (sideEffect instanceof SubgraphSink)
+                this.sink = (SubgraphSink) sideEffect;
+        }
+        if (null != this.sink) {
+            this.sink.add(traverser.get());
+            return;
+        }
+
         parentGraphFeatures = ((Graph) traversal.getGraph().get()).features().vertex();
         if (null == subgraph) {
             subgraph = traverser.sideEffects(sideEffectKey);
@@ -81,6 +95,18 @@ public final class SubgraphStep extends SideEffectStep<Edge> implements SideEffe
         addEdgeToSubgraph(traverser.get());
     }
 
+    @Override
+    protected Traverser.Admin<Edge> processNextStart() throws NoSuchElementException {
+        try {
+            return super.processNextStart();
+        } catch (final NoSuchElementException e) {
+            // the last partial batch is written once the step is exhausted
+            if (null != this.sink)
+                this.sink.flush();
+            throw e;
+        }
+    }
+
     @Override
     public String getSideEffectKey() {
         return this.sideEffectKey;
@@ -100,6 +126,7 @@ public final class SubgraphStep extends SideEffectStep<Edge> implements SideEffe
     public SubgraphStep clone() {
         final SubgraphStep clone = (SubgraphStep) super.clone();
         this.subgraph = null;
+        clone.sink = null;
         return clone;
     }
 
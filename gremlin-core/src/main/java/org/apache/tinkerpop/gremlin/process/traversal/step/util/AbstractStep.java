@@ -23,7 +23,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MemoryEstimator;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCancellation;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuota;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuotaExceededException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Collections;
@@ -38,6 +42,19 @@ import java.util.Set;
  */
 public abstract class AbstractStep<S, E> implements Step<S, E> {
 
+    /**
+     * The number of calls to {@link #next()} or {@link #hasNext()} that have to pull from the previous step between
+     * two checks of the {@link TraversalCancellation} of the traversal. It is a power of two.
+     */
+    public static final int CANCELLATION_CHECK_INTERVAL = 64;
+
+    /**
+     * The number of traversers a barrier collects or reduces, or a side-effect step adds to its side-effect, between
+     * two estimates of the memory it retains for the {@link TraversalMemoryQuota} of the traversal. It is a power of
+     * two.
+     */
+    public static final int MEMORY_CHECK_INTERVAL = 1024;
+
     protected Set<String> labels = new LinkedHashSet<>();
     protected String id = Traverser.Admin.HALT;
     protected Traversal.Admin traversal;
@@ -47,6 +64,9 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
+    private transient int pulls = 0;
+    private transient long retainedMemory = 0L;
+    private transient long retainedSideEffectMemory = 0L;
 
     public AbstractStep(final Traversal.Admin traversal) {
         this.traversal = traversal;
@@ -83,6 +103,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public void reset() {
         this.starts.clear();
         this.nextEnd = EmptyTraverser.instance();
+        this.releaseMemory();
+        this.releaseSideEffectMemory();
     }
 
     @Override
@@ -125,7 +147,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             }
         } else {
             while (true) {
-                if (Thread.interrupted()) throw new TraversalInterruptedException();
+                if ((this.pulls++ & (CANCELLATION_CHECK_INTERVAL - 1)) == 0) this.checkCancellation();
                 final Traverser.Admin<E> traverser = this.processNextStart();
                 if (traverser.bulk() > 0)
                     return this.prepareTraversalForNextStep(traverser);
@@ -140,7 +162,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         else {
             try {
                 while (true) {
-                    if (Thread.interrupted()) throw new TraversalInterruptedException();
+                    if ((this.pulls++ & (CANCELLATION_CHECK_INTERVAL - 1)) == 0) this.checkCancellation();
                     this.nextEnd = this.processNextStart();
                     if (this.nextEnd.bulk() > 0)
                         return true;
@@ -165,6 +187,70 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected abstract Traverser.Admin<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Stops the traversal if its {@link TraversalCancellation} is cancelled or expired or if the thread was
+     * interrupted. Besides the amortized checks in {@link #next()} and {@link #hasNext()}, steps call this after
+     * filling a barrier as that may take long without producing a traverser.
+     *
+     * @throws TraversalInterruptedException if the traversal has to stop
+     */
+    protected void checkCancellation() {
+        this.traversal.getSideEffects().getCancellation().check();
+    }
+
+    /**
+     * Charges the {@link TraversalMemoryQuota} of the traversal with the estimated size of what the step retains,
+     * such as its barrier or its seed, in place of what it charged before. Steps call this every
+     * {@link #MEMORY_CHECK_INTERVAL} traversers while they fill a barrier and once it is filled.
+     *
+     * @throws TraversalMemoryQuotaExceededException if the traversal retains more memory than its quota allows
+     */
+    protected void retainMemory(final Object retained) {
+        final TraversalMemoryQuota quota = this.traversal.getSideEffects().getMemoryQuota();
+        if (quota.isAccounting()) {
+            final long size = MemoryEstimator.estimate(retained);
+            final long delta = size - this.retainedMemory;
+            this.retainedMemory = size;
+            quota.adjust(this, size + this.retainedSideEffectMemory, delta);
+        }
+    }
+
+    /**
+     * Releases the memory that the step charged with {@link #retainMemory(Object)} once it no longer retains it.
+     */
+    protected void releaseMemory() {
+        if (0L != this.retainedMemory) {
+            final long released = this.retainedMemory;
+            this.retainedMemory = 0L;
+            this.traversal.getSideEffects().getMemoryQuota().adjust(this, this.retainedSideEffectMemory, -released);
+        }
+    }
+
+    /**
+     * Charges the {@link TraversalMemoryQuota} of the traversal with the estimated size of the side-effect value that
+     * the step accumulates, in place of what it charged for it before. Unlike a barrier, the value outlives the
+     * iteration of the step, so it stays charged until the step is reset.
+     *
+     * @throws TraversalMemoryQuotaExceededException if the traversal retains more memory than its quota allows
+     */
+    protected void retainSideEffectMemory(final String sideEffectKey) {
+        final TraversalMemoryQuota quota = this.traversal.getSideEffects().getMemoryQuota();
+        if (quota.isAccounting()) {
+            final long size = MemoryEstimator.estimate(this.traversal.getSideEffects().get(sideEffectKey));
+            final long delta = size - this.retainedSideEffectMemory;
+            this.retainedSideEffectMemory = size;
+            quota.adjust(this, this.retainedMemory + size, delta);
+        }
+    }
+
+    private void releaseSideEffectMemory() {
+        if (0L != this.retainedSideEffectMemory) {
+            final long released = this.retainedSideEffectMemory;
+            this.retainedSideEffectMemory = 0L;
+            this.traversal.getSideEffects().getMemoryQuota().adjust(this, this.retainedMemory, -released);
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this);
@@ -181,6 +267,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             clone.nextEnd = EmptyTraverser.instance();
             clone.traversal = EmptyTraversal.instance();
             clone.labels = new LinkedHashSet<>(this.labels);
+            clone.retainedMemory = 0L;
+            clone.retainedSideEffectMemory = 0L;
             clone.reset();
             return clone;
         } catch (final CloneNotSupportedException e) {
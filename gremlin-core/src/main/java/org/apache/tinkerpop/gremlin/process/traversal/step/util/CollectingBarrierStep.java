@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTravers
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -43,7 +44,7 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
 
     protected TraverserSet<S> traverserSet = new TraverserSet<>();
     private int maxBarrierSize;
-    private boolean barrierConsumed = false;
+    protected boolean barrierConsumed = false;
 
     public CollectingBarrierStep(final Traversal.Admin traversal) {
         this(traversal, Integer.MAX_VALUE);
@@ -64,13 +65,14 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
     @Override
     public void processAllStarts() {
         if (this.starts.hasNext()) {
-            if (Integer.MAX_VALUE == this.maxBarrierSize) {
-                this.starts.forEachRemaining(this.traverserSet::add);
-            } else {
-                while (this.starts.hasNext() && this.traverserSet.size() < this.maxBarrierSize) {
-                    this.traverserSet.add(this.starts.next());
-                }
+            int collected = 0;
+            while (this.starts.hasNext() && this.traverserSet.size() < this.maxBarrierSize) {
+                this.traverserSet.add(this.starts.next());
+                if ((++collected & (MEMORY_CHECK_INTERVAL - 1)) == 0) this.retainMemory(this.traverserSet);
             }
+            TraversalEvents.barrier(this, this.traverserSet);
+            this.checkCancellation();
+            this.retainMemory(this.traverserSet);
         }
     }
 
@@ -91,6 +93,7 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
                 DetachedFactory.detach(t, true); // this should be dynamic
                 temp.add(t);
             });
+            this.releaseMemory();
             return temp;
         }
     }
@@ -113,7 +116,9 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
             this.barrierConsumer(this.traverserSet);
             this.barrierConsumed = true;
         }
-        return ProjectedTraverser.tryUnwrap(this.traverserSet.remove());
+        final Traverser.Admin<S> traverser = this.traverserSet.remove();
+        if (this.traverserSet.isEmpty()) this.releaseMemory();
+        return ProjectedTraverser.tryUnwrap(traverser);
     }
 
     @Override
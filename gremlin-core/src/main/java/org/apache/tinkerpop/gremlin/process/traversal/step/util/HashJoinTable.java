@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evaluates the filter traversal of a {@link TraversalParent} as a hash semi-join. The filter traversal has the form
+ * {@code [WhereStartStep] body [WhereEndStep]} where the body only depends on the object that it starts with. The body
+ * is evaluated once for each distinct start object, or only once if it starts with a mid-traversal {@code V()} or
+ * {@code E()}, and its results are kept in a hash table. A traverser passes the filter if the object bound to the end
+ * label is in the results of its start object or, without an end label, if there are any results at all.
+ */
+public final class HashJoinTable implements Serializable {
+
+    /**
+     * The maximum number of start objects for which the results of the body are retained.
+     */
+    public static final int MAX_TABLE_SIZE = 10000;
+
+    private final Traversal.Admin<?, ?> filterTraversal;
+    private boolean initialized = false;
+    private WhereTraversalStep.WhereStartStep<?> startStep;
+    private WhereTraversalStep.WhereEndStep endStep;
+    private String startKey;
+    private String endKey;
+    private boolean correlated;
+    private transient Map<Object, Set<Object>> results;
+    private transient Map<Object, Boolean> exists;
+
+    public HashJoinTable(final Traversal.Admin<?, ?> filterTraversal) {
+        this.filterTraversal = filterTraversal;
+    }
+
+    // the steps are only resolved on first use as strategies may still change the filter traversal
+    private void initialize() {
+        final List<Step> steps = this.filterTraversal.getSteps();
+        this.startStep = steps.get(0) instanceof WhereTraversalStep.WhereStartStep ? (WhereTraversalStep.WhereStartStep<?>) steps.get(0) : null;
+        this.endStep = steps.get(steps.size() - 1) instanceof WhereTraversalStep.WhereEndStep ? (WhereTraversalStep.WhereEndStep) steps.get(steps.size() - 1) : null;
+        this.startKey = null == this.startStep || this.startStep.getScopeKeys().isEmpty() ? null : this.startStep.getScopeKeys().iterator().next();
+        this.endKey = null == this.endStep || this.endStep.getScopeKeys().isEmpty() ? null : this.endStep.getScopeKeys().iterator().next();
+        this.correlated = !(steps.get(null == this.startStep ? 0 : 1) instanceof GraphStep);
+        if (null != this.endKey)
+            this.endStep.setHashJoin(true); // the end label is probed in the table instead
+        this.initialized = true;
+    }
+
+    /**
+     * Restores the filter traversal so that it can be evaluated for each traverser again.
+     */
+    public void release() {
+        final Step<?, ?> endStep = this.filterTraversal.getEndStep();
+        if (endStep instanceof WhereTraversalStep.WhereEndStep)
+            ((WhereTraversalStep.WhereEndStep) endStep).setHashJoin(false);
+    }
+
+    /**
+     * Determines if the specified filter traversal can be evaluated by a {@code HashJoinTable}. That is the case if it
+     * either starts with a variable (e.g. {@code as("a").out().as("b")}) or with a mid-traversal {@code V()} or
+     * {@code E()} and if the steps in between are {@link TraversalHelper#isMemoizable(Step)}.
+     */
+    public static boolean isJoinable(final Traversal.Admin<?, ?> filterTraversal) {
+        final List<Step> steps = filterTraversal.getSteps();
+        int from = 0;
+        int to = steps.size();
+        if (to > from && steps.get(from) instanceof WhereTraversalStep.WhereStartStep)
+            from++;
+        if (to > from && steps.get(to - 1) instanceof WhereTraversalStep.WhereEndStep)
+            to--;
+        if (from == to || (0 == from && !(steps.get(0) instanceof GraphStep)))
+            return false;
+        for (final Step<?, ?> step : steps.subList(from, to)) {
+            if (!TraversalHelper.isMemoizable(step))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines if the specified traverser passes the filter traversal.
+     */
+    public boolean test(final Traverser.Admin<?> traverser) {
+        if (!this.initialized)
+            this.initialize();
+        final Object start = !this.correlated ? null :
+                null == this.startKey ? traverser.get() : this.startStep.getSafeScopeValue(Pop.last, this.startKey, traverser);
+        if (null == this.endKey) {
+            if (null == this.exists)
+                this.exists = new HashMap<>();
+            Boolean exists = this.exists.get(start);
+            if (null == exists) {
+                this.reset(this.exists);
+                exists = this.evaluate(traverser, null);
+                this.exists.put(start, exists);
+            }
+            return exists;
+        } else {
+            final Object end = this.endStep.getSafeScopeValue(Pop.last, this.endKey, traverser);
+            if (null == end)
+                return false;
+            if (null == this.results)
+                this.results = new HashMap<>();
+            Set<Object> results = this.results.get(start);
+            if (null == results) {
+                this.reset(this.results);
+                results = new HashSet<>();
+                this.evaluate(traverser, results);
+                this.results.put(start, results);
+            }
+            return results.contains(end);
+        }
+    }
+
+    private void reset(final Map<Object, ?> table) {
+        if (table.size() >= MAX_TABLE_SIZE)
+            table.clear();
+    }
+
+    private boolean evaluate(final Traverser.Admin<?> traverser, final Set<Object> results) {
+        final Traverser.Admin split = traverser.split();
+        split.setSideEffects(this.filterTraversal.getSideEffects());
+        split.setBulk(1L);
+        this.filterTraversal.reset();
+        this.filterTraversal.addStart(split);
+        boolean exists = this.filterTraversal.hasNext();
+        if (null != results) {
+            while (this.filterTraversal.hasNext()) {
+                results.add(this.filterTraversal.next());
+            }
+        }
+        CloseableIterator.closeIterator(this.filterTraversal);
+        return exists;
+    }
+}
@@ -22,8 +22,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -32,19 +35,35 @@ import java.util.Objects;
 import java.util.Set;
 
 /**
+ * A {@link Path} that is a chain of immutable sections where each section holds an object, its labels and a reference
+ * to the previous section so that paths which share a history share the sections of that history. Labels are further
+ * mapped to bit positions of a label table so that each section knows the labels it holds as well as all the labels
+ * held by the path ending at it. Thus {@link #hasLabel(String)} is answered in constant time and label lookups stop as
+ * soon as the label can no longer be found further down the path.
+ * <p/>
+ * Each call to {@link #make()} starts a new label table that is shared only by the paths extended from it, i.e. by the
+ * paths of one start traverser and the traversers split from it. A table holds at most 64 labels. Any further label of
+ * those paths has no bit and is found by testing the label sets of the sections, which is correct but no longer takes
+ * constant time.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, Serializable, Cloneable {
 
     private static final Object END = EmptyPath.instance();
-    private static final ImmutablePath TAIL_PATH = new ImmutablePath(null, END, null);
 
     private ImmutablePath previousPath;
     private Object currentObject;
     private Set<String> currentLabels;
 
+    private transient LabelTable labelTable;
+    private transient long currentLabelBits;
+    private transient long labelBits;
+    private transient int size;
+    private transient boolean fullyLabeled;
+
     public static Path make() {
-        return TAIL_PATH;
+        return new ImmutablePath(null, END, Collections.emptySet());
     }
 
     @SuppressWarnings("CloneDoesntCallSuperClone,CloneDoesntDeclareCloneNotSupportedException")
@@ -57,10 +76,77 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
         this.currentLabels = currentLabels;
+        this.initialize();
+    }
+
+    private void initialize() {
+        if (null == this.previousPath) {
+            this.labelTable = new LabelTable();
+            this.fullyLabeled = true;
+            return;
+        }
+        this.labelTable = this.previousPath.labelTable;
+        this.currentLabelBits = this.labelBits(this.currentLabels);
+        this.labelBits = this.previousPath.labelBits | this.currentLabelBits;
+        this.size = this.previousPath.size + 1;
+        this.fullyLabeled = this.previousPath.fullyLabeled && !this.currentLabels.isEmpty();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // the label table is not serialized so it is rebuilt from the tail of the path along with the bits
+        this.initialize();
+    }
+
+    /**
+     * Gets the bit of the label a path is extended with, giving it the next free bit if it has none, or {@code 0} if
+     * the label table is full and the label has no bit.
+     */
+    private long labelBit(final String label) {
+        return this.labelTable.bit(label);
+    }
+
+    /**
+     * Gets the bit of a label the path is queried for without giving the label a bit when it has none, so that
+     * selecting labels which no path carries does not use up the label table.
+     */
+    private long findLabelBit(final String label) {
+        return this.labelTable.find(label);
+    }
+
+    /**
+     * Determines if the label whose bit was found is on no path of the label table. Paths give their labels a bit
+     * when they are extended, so a label without a bit is absent as long as the table is not full.
+     */
+    private boolean isAbsent(final long bit) {
+        return 0L == bit && !this.labelTable.isFull();
+    }
+
+    private long labelBits(final Set<String> labels) {
+        long bits = 0L;
+        for (final String label : labels) {
+            bits |= this.labelBit(label);
+        }
+        return bits;
     }
 
     private final boolean isTail() {
-        return END.equals(this.currentObject);
+        return null == this.previousPath;
+    }
+
+    /**
+     * Determines if this section is labeled with the label whose bit is given. A bit of {@code 0} means that the
+     * label is not in the label table and the label set has to be tested.
+     */
+    private boolean hasCurrentLabel(final String label, final long bit) {
+        return 0L == bit ? this.currentLabels.contains(label) : (this.currentLabelBits & bit) != 0L;
+    }
+
+    /**
+     * Determines if this section or any section before it may be labeled with the label whose bit is given.
+     */
+    private boolean mayHaveLabel(final long bit) {
+        return 0L == bit || (this.labelBits & bit) != 0L;
     }
 
     @Override
@@ -70,13 +156,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public int size() {
-        int counter = 0;
-        ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail()) return counter;
-            counter++;
-            currentPath = currentPath.previousPath;
-        }
+        return this.size;
     }
 
     @Override
@@ -106,35 +186,85 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         if (labels.isEmpty())
             return this;
 
-        // get all the immutable path sections
-        final List<ImmutablePath> immutablePaths = new ArrayList<>();
+        long retractBits = 0L;
+        boolean bitsOnly = true;
+        for (final String label : labels) {
+            final long bit = findLabelBit(label);
+            if (isAbsent(bit))
+                continue;
+            retractBits |= bit;
+            bitsOnly = bitsOnly && 0L != bit;
+        }
+
+        // sections that are labeled and hold none of the labels to retract are kept as they are along with all the
+        // sections before them. only the sections after those need to be rebuilt.
+        final ImmutablePath[] immutablePaths = new ImmutablePath[this.size];
+        int index = 0;
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            immutablePaths.add(0, currentPath);
+        while (!currentPath.isTail() &&
+                !(bitsOnly && currentPath.fullyLabeled && (currentPath.labelBits & retractBits) == 0L)) {
+            immutablePaths[index++] = currentPath;
             currentPath = currentPath.previousPath;
         }
+        if (0 == index)
+            return this;
+
         // build a new immutable path using the respective path sections that are not to be retracted
-        Path newPath = TAIL_PATH;
-        for (final ImmutablePath immutablePath : immutablePaths) {
-            final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
-            temp.removeAll(labels);
-            if (!temp.isEmpty())
-                newPath = newPath.extend(immutablePath.currentObject, temp);
+        ImmutablePath newPath = currentPath;
+        for (int i = index - 1; i >= 0; i--) {
+            final ImmutablePath immutablePath = immutablePaths[i];
+            if (bitsOnly && (immutablePath.currentLabelBits & retractBits) == 0L) {
+                if (!immutablePath.currentLabels.isEmpty())
+                    newPath = immutablePath.previousPath == newPath ?
+                            immutablePath :
+                            new ImmutablePath(newPath, immutablePath.currentObject, immutablePath.currentLabels);
+            } else {
+                final Set<String> temp = new LinkedHashSet<>(immutablePath.currentLabels);
+                temp.removeAll(labels);
+                if (!temp.isEmpty())
+                    newPath = new ImmutablePath(newPath, immutablePath.currentObject, temp);
+            }
         }
         return newPath;
     }
 
     @Override
     public <A> A get(final int index) {
-        int counter = this.size();
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
         ImmutablePath currentPath = this;
-        while (true) {
-            if (index == --counter)
-                return (A) currentPath.currentObject;
+        for (int i = this.size - 1; i > index; i--) {
             currentPath = currentPath.previousPath;
         }
+        return (A) currentPath.currentObject;
+    }
+
+    @Override
+    public <A> A get(final String label) {
+        final long bit = findLabelBit(label);
+        if (isAbsent(bit))
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        Object object = null;
+        int found = 0;
+        ImmutablePath currentPath = this;
+        while (!currentPath.isTail() && currentPath.mayHaveLabel(bit)) {
+            if (currentPath.hasCurrentLabel(label, bit)) {
+                if (0 == found)
+                    object = currentPath.currentObject;
+                else if (1 == found) {
+                    final List<Object> list = new ArrayList<>(2);
+                    list.add(currentPath.currentObject);
+                    list.add(object);
+                    object = list;
+                } else
+                    ((List<Object>) object).add(0, currentPath.currentObject);
+                found++;
+            }
+            currentPath = currentPath.previousPath;
+        }
+        if (0 == found)
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        return (A) object;
     }
 
     @Override
@@ -143,33 +273,37 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             return this.get(label);
         } else if (Pop.all == pop) {
             // Recursively build the list to avoid building objects/labels collections.
+            final long bit = findLabelBit(label);
+            if (isAbsent(bit))
+                return (A) new ArrayList<>();
             final List<Object> list = new ArrayList<>();
             ImmutablePath currentPath = this;
-            while (true) {
-                if (currentPath.isTail())
-                    break;
-                else if (currentPath.currentLabels.contains(label))
-                    list.add(0, currentPath.currentObject);
+            while (!currentPath.isTail() && currentPath.mayHaveLabel(bit)) {
+                if (currentPath.hasCurrentLabel(label, bit))
+                    list.add(currentPath.currentObject);
                 currentPath = currentPath.previousPath;
             }
+            Collections.reverse(list);
             return (A) list;
         } else if (Pop.last == pop) {
+            final long bit = findLabelBit(label);
+            if (isAbsent(bit))
+                throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
             ImmutablePath currentPath = this;
-            while (true) {
-                if (currentPath.isTail())
-                    throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
-                else if (currentPath.currentLabels.contains(label))
+            while (!currentPath.isTail() && currentPath.mayHaveLabel(bit)) {
+                if (currentPath.hasCurrentLabel(label, bit))
                     return (A) currentPath.currentObject;
-                else
-                    currentPath = currentPath.previousPath;
+                currentPath = currentPath.previousPath;
             }
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
         } else { // Pop.first
+            final long bit = findLabelBit(label);
+            if (isAbsent(bit))
+                throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
             A found = null;
             ImmutablePath currentPath = this;
-            while (true) {
-                if (currentPath.isTail())
-                    break;
-                else if (currentPath.currentLabels.contains(label))
+            while (!currentPath.isTail() && currentPath.mayHaveLabel(bit)) {
+                if (currentPath.hasCurrentLabel(label, bit))
                     found = (A) currentPath.currentObject;
                 currentPath = currentPath.previousPath;
             }
@@ -181,41 +315,41 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public boolean hasLabel(final String label) {
+        final long bit = findLabelBit(label);
+        if (isAbsent(bit))
+            return false;
+        else if (0L != bit)
+            return (this.labelBits & bit) != 0L;
+
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                return false;
-            else if (currentPath.currentLabels.contains(label))
+        while (!currentPath.isTail()) {
+            if (currentPath.currentLabels.contains(label))
                 return true;
-            else
-                currentPath = currentPath.previousPath;
+            currentPath = currentPath.previousPath;
         }
+        return false;
     }
 
     @Override
     public List<Object> objects() {
-        final List<Object> objects = new ArrayList<>();
+        final Object[] objects = new Object[this.size];
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            objects.add(0, currentPath.currentObject);
+        for (int i = this.size - 1; i >= 0; i--) {
+            objects[i] = currentPath.currentObject;
             currentPath = currentPath.previousPath;
         }
-        return Collections.unmodifiableList(objects);
+        return Collections.unmodifiableList(Arrays.asList(objects));
     }
 
     @Override
     public List<Set<String>> labels() {
-        final List<Set<String>> labels = new ArrayList<>();
+        final Set<String>[] labels = new Set[this.size];
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            labels.add(0, currentPath.currentLabels);
+        for (int i = this.size - 1; i >= 0; i--) {
+            labels[i] = currentPath.currentLabels;
             currentPath = currentPath.previousPath;
         }
-        return Collections.unmodifiableList(labels);
+        return Collections.unmodifiableList(Arrays.asList(labels));
     }
 
     @Override
@@ -226,15 +360,11 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
     @Override
     public int hashCode() {
         // hashCode algorithm from AbstractList
-        int[] hashCodes = new int[this.size()];
-        int index = hashCodes.length - 1;
+        final int[] hashCodes = new int[this.size];
         ImmutablePath currentPath = this;
-        while (true) {
-            if (currentPath.isTail())
-                break;
-            hashCodes[index] = Objects.hashCode(currentPath.currentObject);
+        for (int i = this.size - 1; i >= 0; i--) {
+            hashCodes[i] = Objects.hashCode(currentPath.currentObject);
             currentPath = currentPath.previousPath;
-            index--;
         }
         int hashCode = 1;
         for (final int hash : hashCodes) {
@@ -245,24 +375,33 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public boolean equals(final Object other) {
+        if (this == other)
+            return true;
         if (!(other instanceof Path))
             return false;
         final Path otherPath = (Path) other;
-        int size = this.size();
-        if (otherPath.size() != size)
+        if (otherPath.size() != this.size)
             return false;
-        if (size > 0) {
+        if (otherPath instanceof ImmutablePath) {
+            ImmutablePath currentPath = this;
+            ImmutablePath otherCurrentPath = (ImmutablePath) otherPath;
+            // shared sections are equal by definition
+            while (currentPath != otherCurrentPath) {
+                if (!Objects.equals(currentPath.currentObject, otherCurrentPath.currentObject) ||
+                        !currentPath.currentLabels.equals(otherCurrentPath.currentLabels))
+                    return false;
+                currentPath = currentPath.previousPath;
+                otherCurrentPath = otherCurrentPath.previousPath;
+            }
+        } else if (this.size > 0) {
             ImmutablePath currentPath = this;
             final List<Object> otherObjects = otherPath.objects();
             final List<Set<String>> otherLabels = otherPath.labels();
             for (int i = otherLabels.size() - 1; i >= 0; i--) {
-                if (currentPath.isTail())
-                    return true;
-                else if (!currentPath.currentObject.equals(otherObjects.get(i)) ||
+                if (!Objects.equals(currentPath.currentObject, otherObjects.get(i)) ||
                         !currentPath.currentLabels.equals(otherLabels.get(i)))
                     return false;
-                else
-                    currentPath = currentPath.previousPath;
+                currentPath = currentPath.previousPath;
             }
         }
         return true;
@@ -301,4 +440,45 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             }
         }
     }
+
+    /**
+     * Maps up to 64 labels to their bits in the order in which paths are first extended with them. Lookups read the labels without
+     * locking as the paths of a traverser may be read by several threads, e.g. by the workers of a graph computer.
+     */
+    private static final class LabelTable {
+
+        private volatile String[] labels = new String[0];
+
+        private long bit(final String label) {
+            final long bit = find(this.labels, label);
+            if (0L != bit || this.labels.length >= Long.SIZE)
+                return bit;
+            synchronized (this) {
+                final String[] current = this.labels;
+                final long existing = find(current, label);
+                if (0L != existing || current.length >= Long.SIZE)
+                    return existing;
+                final String[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = label;
+                this.labels = grown;
+                return 1L << current.length;
+            }
+        }
+
+        private long find(final String label) {
+            return find(this.labels, label);
+        }
+
+        private boolean isFull() {
+            return this.labels.length >= Long.SIZE;
+        }
+
+        private static long find(final String[] labels, final String label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i].equals(label))
+                    return 1L << i;
+            }
+            return 0L;
+        }
+    }
 }
@@ -29,14 +29,21 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BinaryOperator;
 
 /**
+ * Collects the {@link MutableMetrics} of the step that precedes it. By default every call to {@link #next()} and
+ * {@link #hasNext()} is timed. With a sample rate below {@code 1.0} only a random fraction of the calls is timed and
+ * their durations are weighted with the reciprocal of the rate so that the reported duration is an estimate of the
+ * total. Traverser and element counts are always exact.
+ *
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryComputing<MutableMetrics> {  // pseudo GraphComputing but local traversals are "GraphComputing"
     private MutableMetrics metrics;
     private boolean onGraphComputer = false;
+    private double sampleRate = 1.0d;
 
     public ProfileStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -46,27 +53,35 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
         return metrics;
     }
 
+    public double getSampleRate() {
+        return this.sampleRate;
+    }
+
+    /**
+     * Sets the fraction of calls that are timed which must be greater than {@code 0.0} and at most {@code 1.0}.
+     */
+    public void setSampleRate(final double sampleRate) {
+        if (!(sampleRate > 0.0d && sampleRate <= 1.0d))
+            throw new IllegalArgumentException("The sample rate must be in (0.0, 1.0]: " + sampleRate);
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     public Traverser.Admin<S> next() {
         Traverser.Admin<S> start = null;
         this.initializeIfNeeded();
-        this.metrics.start();
+        final boolean timed = this.isTimed();
+        if (timed) this.metrics.start();
         try {
             start = super.next();
             return start;
         } finally {
-            if (start != null) {
-                this.metrics.finish(start.bulk());
-                if (this.onGraphComputer) {
-                    this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
-                    this.metrics = null;
-                }
-            } else {
-                this.metrics.stop();
-                if (this.onGraphComputer) {
-                    this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
-                    this.metrics = null;
-                }
+            if (timed) this.stopTimer();
+            if (start != null)
+                this.metrics.count(start.bulk());
+            if (this.onGraphComputer) {
+                this.getTraversal().getSideEffects().add(this.getId(), this.metrics);
+                this.metrics = null;
             }
         }
     }
@@ -74,12 +89,24 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MemoryCo
     @Override
     public boolean hasNext() {
         initializeIfNeeded();
-        this.metrics.start();
+        final boolean timed = this.isTimed();
+        if (timed) this.metrics.start();
         boolean ret = super.hasNext();
-        this.metrics.stop();
+        if (timed) this.stopTimer();
         return ret;
     }
 
+    private boolean isTimed() {
+        return this.sampleRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+    }
+
+    private void stopTimer() {
+        if (this.sampleRate >= 1.0d)
+            this.metrics.stop();
+        else
+            this.metrics.stop(1.0d / this.sampleRate);
+    }
+
     @Override
     protected Traverser.Admin<S> processNextStart() throws NoSuchElementException {
         return this.starts.next();
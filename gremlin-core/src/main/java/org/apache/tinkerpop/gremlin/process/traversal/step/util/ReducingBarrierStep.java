@@ -79,8 +79,31 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             return;
         this.hasProcessedOnce = true;
         if (this.seed == null) this.seed = this.seedSupplier.get();
-        while (this.starts.hasNext())
-            this.seed = this.reducingBiOperator.apply(this.seed, this.projectTraverser(this.starts.next()));
+        int reduced = 0;
+        while (this.starts.hasNext()) {
+            this.seed = this.reduceTraverser(this.seed, this.starts.next());
+            if ((++reduced & (MEMORY_CHECK_INTERVAL - 1)) == 0) this.retainMemory(this.seed);
+        }
+        this.checkCancellation();
+        this.seed = this.completeReduction(this.seed);
+        this.retainMemory(this.seed);
+    }
+
+    /**
+     * Reduces a single traverser into the seed. By default, the traverser is projected with
+     * {@link #projectTraverser(Traverser.Admin)} and then merged into the seed with the reducing bi-operator. Steps
+     * that can update their seed in place may override this to avoid creating the intermediate projection.
+     */
+    protected E reduceTraverser(final E seed, final Traverser.Admin<S> traverser) {
+        return this.reducingBiOperator.apply(seed, this.projectTraverser(traverser));
+    }
+
+    /**
+     * Called once all available starts have been reduced so that steps which accumulate into a structure other than
+     * the seed in {@link #reduceTraverser(Object, Traverser.Admin)} can fold it into the seed.
+     */
+    protected E completeReduction(final E seed) {
+        return seed;
     }
 
     @Override
@@ -96,6 +119,7 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         else {
             final E temp = this.seed;
             this.seed = null;
+            this.releaseMemory();
             return temp;
         }
     }
@@ -114,6 +138,7 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             throw FastNoSuchElementException.instance();
         final Traverser.Admin<E> traverser = this.getTraversal().getTraverserGenerator().generate(this.generateFinalResult(this.seed), (Step<E, E>) this, 1l);
         this.seed = null;
+        this.releaseMemory();
         return traverser;
     }
 
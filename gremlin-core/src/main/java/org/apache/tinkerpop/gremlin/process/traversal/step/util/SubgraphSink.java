@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SubgraphStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Receives the edges of a subgraph from {@link SubgraphStep} when it is given as the value of the side-effect that
+ * the step writes to, e.g. {@code g.withSideEffect("sg", SubgraphSink.of(writer, out)).E().subgraph("sg")}. Rather
+ * than building the subgraph in memory, each edge and its vertices are collected in batches that are written to the
+ * target once full, so only the ids of the elements written so far are retained. Numeric ids are kept in primitive
+ * hash tables which take a fraction of the memory of boxed ids in a {@code HashSet}.
+ * <p/>
+ * The vertices of a batch are written before its edges so that every edge follows its vertices. The last batch is
+ * written when the {@link SubgraphStep} is exhausted, or by {@link #flush()} and {@link #close()} if the traversal is
+ * not iterated to its end. A sink is meant for OLTP traversals and is not thread-safe.
+ */
+public abstract class SubgraphSink implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+
+    private final int batchSize;
+    private final IdSet vertexIds = new IdSet();
+    private final IdSet edgeIds = new IdSet();
+    private final List<Vertex> vertices = new ArrayList<>();
+    private final List<Edge> edges = new ArrayList<>();
+
+    protected SubgraphSink(final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a sink that adds the subgraph to a {@link Graph} which must support user supplied ids.
+     */
+    public static SubgraphSink of(final Graph graph) {
+        return of(graph, DEFAULT_BATCH_SIZE);
+    }
+
+    public static SubgraphSink of(final Graph graph, final int batchSize) {
+        return new GraphSink(graph, batchSize);
+    }
+
+    /**
+     * Creates a sink that writes the subgraph to a stream as a sequence of vertices as produced by
+     * {@link GraphWriter#writeVertices(OutputStream, Iterator, Direction)} with {@link Direction#OUT}. Each vertex is
+     * written once with its properties and each edge is written as a vertex that only consists of the id and label of
+     * its out-vertex and the edge itself, so that the stream can be loaded by reading the vertices with
+     * {@link org.apache.tinkerpop.gremlin.structure.util.Attachable.Method#getOrCreate} for both vertices and edges.
+     * The stream is not closed by the sink.
+     */
+    public static SubgraphSink of(final GraphWriter writer, final OutputStream outputStream) {
+        return of(writer, outputStream, DEFAULT_BATCH_SIZE);
+    }
+
+    public static SubgraphSink of(final GraphWriter writer, final OutputStream outputStream, final int batchSize) {
+        return new GraphWriterSink(writer, outputStream, batchSize);
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Gets the number of distinct vertices that were added to the sink.
+     */
+    public long getVertexCount() {
+        return this.vertexIds.size();
+    }
+
+    /**
+     * Gets the number of distinct edges that were added to the sink.
+     */
+    public long getEdgeCount() {
+        return this.edgeIds.size();
+    }
+
+    /**
+     * Adds an edge and its vertices unless they were added before.
+     */
+    public void add(final Edge edge) {
+        if (!this.edgeIds.add(edge.id()))
+            return;
+
+        final Iterator<Vertex> vertexIterator = edge.vertices(Direction.BOTH);
+        while (vertexIterator.hasNext()) {
+            final Vertex vertex = vertexIterator.next();
+            if (this.vertexIds.add(vertex.id()))
+                this.vertices.add(vertex);
+        }
+        this.edges.add(edge);
+
+        if (this.vertices.size() + this.edges.size() >= this.batchSize)
+            this.flush();
+    }
+
+    /**
+     * Writes the elements that were added since the last batch was written.
+     */
+    public void flush() {
+        if (this.vertices.isEmpty() && this.edges.isEmpty())
+            return;
+        try {
+            this.write(this.vertices, this.edges);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        this.vertices.clear();
+        this.edges.clear();
+    }
+
+    @Override
+    public void close() {
+        this.flush();
+    }
+
+    /**
+     * Writes a batch of new vertices and edges where the vertices of each edge are either part of the batch or of an
+     * earlier one.
+     */
+    protected abstract void write(final List<Vertex> vertices, final List<Edge> edges) throws IOException;
+
+    private static void copyProperties(final Vertex vertex, final Vertex copy, final boolean supportsMetaProperties) {
+        final Graph.Features.VertexFeatures features = vertex.graph().features().vertex();
+        vertex.properties().forEachRemaining(vertexProperty -> {
+            final VertexProperty<?> copyProperty = copy.property(features.getCardinality(vertexProperty.key()),
+                    vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+            if (supportsMetaProperties && features.supportsMetaProperties())
+                vertexProperty.properties().forEachRemaining(property -> copyProperty.property(property.key(), property.value()));
+        });
+    }
+
+    private static final class GraphSink extends SubgraphSink {
+
+        private final Graph graph;
+        private final boolean supportsMetaProperties;
+        private final boolean supportsTransactions;
+
+        private GraphSink(final Graph graph, final int batchSize) {
+            super(batchSize);
+            if (!graph.features().vertex().supportsUserSuppliedIds() || !graph.features().edge().supportsUserSuppliedIds())
+                throw new IllegalArgumentException("The provided subgraph must support user supplied ids for vertices and edges: " + graph);
+            this.graph = graph;
+            this.supportsMetaProperties = graph.features().vertex().supportsMetaProperties();
+            this.supportsTransactions = graph.features().graph().supportsTransactions();
+        }
+
+        @Override
+        protected void write(final List<Vertex> vertices, final List<Edge> edges) {
+            final Map<Object, Vertex> added = new HashMap<>(vertices.size() * 2);
+            for (final Vertex vertex : vertices) {
+                final Vertex copy = this.graph.addVertex(T.id, vertex.id(), T.label, vertex.label());
+                copyProperties(vertex, copy, this.supportsMetaProperties);
+                added.put(vertex.id(), copy);
+            }
+
+            // the vertices of earlier batches are looked up together rather than one by one
+            final Set<Object> earlier = new HashSet<>();
+            for (final Edge edge : edges) {
+                if (!added.containsKey(edge.outVertex().id())) earlier.add(edge.outVertex().id());
+                if (!added.containsKey(edge.inVertex().id())) earlier.add(edge.inVertex().id());
+            }
+            if (!earlier.isEmpty())
+                this.graph.vertices(earlier.toArray()).forEachRemaining(vertex -> added.put(vertex.id(), vertex));
+
+            for (final Edge edge : edges) {
+                final Edge copy = added.get(edge.outVertex().id()).addEdge(edge.label(), added.get(edge.inVertex().id()), T.id, edge.id());
+                edge.properties().forEachRemaining(property -> copy.property(property.key(), property.value()));
+            }
+
+            if (this.supportsTransactions)
+                this.graph.tx().commit();
+        }
+    }
+
+    private static final class GraphWriterSink extends SubgraphSink {
+
+        private final GraphWriter writer;
+        private final OutputStream outputStream;
+
+        private GraphWriterSink(final GraphWriter writer, final OutputStream outputStream, final int batchSize) {
+            super(batchSize);
+            this.writer = writer;
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        protected void write(final List<Vertex> vertices, final List<Edge> edges) throws IOException {
+            final Iterator<Vertex> records = IteratorUtils.concat(
+                    IteratorUtils.map(vertices.iterator(), GraphWriterSink::vertexRecord),
+                    IteratorUtils.map(edges.iterator(), GraphWriterSink::edgeRecord));
+            this.writer.writeVertices(this.outputStream, records, Direction.OUT);
+            this.outputStream.flush();
+        }
+
+        private static Vertex vertexRecord(final Vertex vertex) {
+            final StarGraph starGraph = StarGraph.open();
+            final Vertex starVertex = starGraph.addVertex(T.id, vertex.id(), T.label, vertex.label());
+            copyProperties(vertex, starVertex, true);
+            return starVertex;
+        }
+
+        private static Vertex edgeRecord(final Edge edge) {
+            final StarGraph starGraph = StarGraph.open();
+            final Vertex outVertex = edge.outVertex();
+            final Vertex starVertex = starGraph.addVertex(T.id, outVertex.id(), T.label, outVertex.label());
+            final Edge starEdge = starVertex.addEdge(edge.label(), starGraph.addVertex(T.id, edge.inVertex().id()), T.id, edge.id());
+            edge.properties().forEachRemaining(property -> starEdge.property(property.key(), property.value()));
+            return starVertex;
+        }
+    }
+
+    /**
+     * A set of element ids that keeps {@code Long} and {@code Integer} ids in open addressing tables of primitives
+     * and all other ids in a {@code HashSet}.
+     */
+    static final class IdSet {
+        private final LongSet longIds = new LongSet();
+        private final LongSet intIds = new LongSet();
+        private final Set<Object> otherIds = new HashSet<>();
+
+        boolean add(final Object id) {
+            if (id instanceof Long)
+                return this.longIds.add((Long) id);
+            else if (id instanceof Integer)
+                return this.intIds.add((Integer) id);
+            else
+                return this.otherIds.add(id);
+        }
+
+        long size() {
+            return this.longIds.size + this.intIds.size + this.otherIds.size();
+        }
+    }
+
+    /**
+     * A set of {@code long} values with linear probing where {@code 0} marks an empty slot and is tracked apart.
+     */
+    static final class LongSet {
+        private long[] table = new long[16];
+        private long size = 0L;
+        private boolean containsZero = false;
+
+        boolean add(final long value) {
+            if (0L == value) {
+                if (this.containsZero)
+                    return false;
+                this.containsZero = true;
+                this.size++;
+                return true;
+            }
+            // grow at a load factor of 0.75
+            if (4L * (this.size + 1) > 3L * this.table.length)
+                this.grow();
+            if (!insert(this.table, value))
+                return false;
+            this.size++;
+            return true;
+        }
+
+        private void grow() {
+            final long[] larger = new long[this.table.length * 2];
+            for (final long value : this.table) {
+                if (0L != value)
+                    insert(larger, value);
+            }
+            this.table = larger;
+        }
+
+        private static boolean insert(final long[] table, final long value) {
+            final int mask = table.length - 1;
+            final long hash = value * 0x9E3779B97F4A7C15L;
+            int index = (int) (hash ^ (hash >>> 32)) & mask;
+            while (0L != table[index]) {
+                if (table[index] == value)
+                    return false;
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+            return true;
+        }
+    }
+}
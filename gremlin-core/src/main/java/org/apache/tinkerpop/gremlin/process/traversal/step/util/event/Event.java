@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 
 import java.util.Iterator;
+import java.util.Objects;
 
 /**
  * A representation of some action that occurs on a {@link Graph} for a {@link Traversal}.
@@ -219,6 +220,30 @@ public interface Event {
         public ElementPropertyChangedEvent(final Element element, final Property oldValue, final Object newValue, final Object... vertexPropertyKeyValues) {
             super(element, oldValue, newValue, vertexPropertyKeyValues);
         }
+
+        /**
+         * Combines this change with a later change of the same element into a single change from the old value of
+         * this one to the new value of the later one. This is only possible if the later change replaced the value
+         * that this one set, so {@code null} is returned for changes of other properties or changes that added
+         * another value to a multi-property.
+         */
+        public ElementPropertyChangedEvent coalesce(final ElementPropertyChangedEvent next) {
+            final Property nextOldValue = next.getOldValue();
+            if (next.getClass() != this.getClass() || !nextOldValue.isPresent() ||
+                    !nextOldValue.key().equals(this.getOldValue().key()) ||
+                    !Objects.equals(nextOldValue.value(), this.getNewValue()) ||
+                    !this.getElement().equals(next.getElement()))
+                return null;
+
+            if (this instanceof VertexPropertyChangedEvent)
+                return new VertexPropertyChangedEvent((Vertex) this.getElement(), this.getOldValue(), next.getNewValue(), next.getVertexPropertyKeyValues());
+            else if (this instanceof EdgePropertyChangedEvent)
+                return new EdgePropertyChangedEvent((Edge) this.getElement(), this.getOldValue(), next.getNewValue());
+            else if (this instanceof VertexPropertyPropertyChangedEvent)
+                return new VertexPropertyPropertyChangedEvent((VertexProperty) this.getElement(), this.getOldValue(), next.getNewValue());
+            else
+                return null;
+        }
     }
 
     /**
@@ -238,6 +263,22 @@ public interface Event {
             this.vertexPropertyKeyValues = vertexPropertyKeyValues;
         }
 
+        public Element getElement() {
+            return this.element;
+        }
+
+        public Property getOldValue() {
+            return this.oldValue;
+        }
+
+        public Object getNewValue() {
+            return this.newValue;
+        }
+
+        public Object[] getVertexPropertyKeyValues() {
+            return this.vertexPropertyKeyValues;
+        }
+
         abstract void fire(final MutationListener listener, final Element element, final Property oldValue, final Object newValue, final Object... vertexPropertyKeyValues);
 
         @Override
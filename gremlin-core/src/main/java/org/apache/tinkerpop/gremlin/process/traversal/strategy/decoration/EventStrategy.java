@@ -39,6 +39,8 @@ import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertexProper
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceProperty;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertexProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.ArrayDeque;
@@ -46,6 +48,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A strategy that raises events when {@link Mutating} steps are encountered and successfully executed.
@@ -268,4 +273,271 @@ public final class EventStrategy extends AbstractTraversalStrategy<TraversalStra
         }
     }
 
+    /**
+     * Hands events to a bounded ring buffer from which a dedicated thread fires them to the listeners in batches, so
+     * that a mutating step only pays for enqueuing its event and slow listeners do not add to the latency of writes.
+     * Events are fired in the order they were added. If the graph supports transactions, the events of a transaction
+     * are held back like in {@link TransactionalEventQueue} and handed to the buffer together once it is committed.
+     * <p/>
+     * With coalescing enabled, a property change that replaces the value set by the last buffered event is merged
+     * into that event, so that listeners see a single change from the first old value to the last new value. Once the
+     * buffer is full the {@link Backpressure} decides what happens to a new event. Exceptions thrown by listeners are
+     * logged as they can no longer fail the traversal. The queue must be closed to stop its thread, which first fires
+     * the events that remain in the buffer.
+     */
+    public static class AsyncEventQueue implements EventQueue, AutoCloseable {
+
+        private static final Logger logger = LoggerFactory.getLogger(AsyncEventQueue.class);
+        private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+
+        public static final int DEFAULT_CAPACITY = 1024;
+
+        /**
+         * The maximum number of events that the consumer takes from the buffer at once.
+         */
+        public static final int MAX_BATCH_SIZE = 64;
+
+        /**
+         * What happens to an event that is added while the buffer is full.
+         */
+        public enum Backpressure {
+            /**
+             * Waits until the consumer made room for the event.
+             */
+            BLOCK,
+
+            /**
+             * Discards the event which is counted by {@link AsyncEventQueue#getDropped()}.
+             */
+            DROP,
+
+            /**
+             * Merges a property change into the latest buffered event of the same element if that is possible and
+             * waits for room otherwise. This may fire the change before buffered changes of other elements.
+             */
+            COALESCE
+        }
+
+        private final Event[] buffer;
+        private final Backpressure backpressure;
+        private final boolean coalesce;
+        private final ThreadLocal<Deque<Event>> transactionEvents;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+        private final Condition fired = lock.newCondition();
+        private final Thread consumer;
+        private volatile List<MutationListener> listeners = Collections.emptyList();
+        private int head = 0;
+        private int count = 0;
+        private long enqueued = 0L;
+        private long completed = 0L;
+        private long dropped = 0L;
+        private boolean closed = false;
+
+        public AsyncEventQueue() {
+            this(DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+        }
+
+        public AsyncEventQueue(final int capacity, final Backpressure backpressure, final boolean coalesce) {
+            this(null, capacity, backpressure, coalesce);
+        }
+
+        /**
+         * Creates a queue that hands the events of a transaction to the buffer on commit and discards them on rollback
+         * if the graph supports transactions.
+         */
+        public AsyncEventQueue(final Graph graph, final int capacity, final Backpressure backpressure, final boolean coalesce) {
+            if (capacity < 1)
+                throw new IllegalArgumentException("The capacity of the event queue must be positive: " + capacity);
+            this.buffer = new Event[capacity];
+            this.backpressure = backpressure;
+            this.coalesce = coalesce;
+
+            if (null != graph && graph.features().graph().supportsTransactions()) {
+                this.transactionEvents = ThreadLocal.withInitial(ArrayDeque::new);
+                graph.tx().addTransactionListener(status -> {
+                    final Deque<Event> events = this.transactionEvents.get();
+                    if (status == Transaction.Status.COMMIT) {
+                        for (Event event = events.pollFirst(); event != null; event = events.pollFirst()) {
+                            this.enqueue(event);
+                        }
+                    } else if (status == Transaction.Status.ROLLBACK)
+                        events.clear();
+                    else
+                        throw new RuntimeException(String.format("The %s is not aware of this status: %s", EventQueue.class.getName(), status));
+                });
+            } else
+                this.transactionEvents = null;
+
+            this.consumer = new Thread(this::consume, "gremlin-event-queue-" + THREAD_COUNTER.incrementAndGet());
+            this.consumer.setDaemon(true);
+            this.consumer.start();
+        }
+
+        public int getCapacity() {
+            return this.buffer.length;
+        }
+
+        public Backpressure getBackpressure() {
+            return this.backpressure;
+        }
+
+        public boolean isCoalescing() {
+            return this.coalesce;
+        }
+
+        /**
+         * Gets the number of events that were discarded as the buffer was full.
+         */
+        public long getDropped() {
+            this.lock.lock();
+            try {
+                return this.dropped;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        @Override
+        public void setListeners(final List<MutationListener> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void addEvent(final Event evt) {
+            if (null != this.transactionEvents)
+                this.transactionEvents.get().add(evt);
+            else
+                this.enqueue(evt);
+        }
+
+        /**
+         * Waits until the events that were in the buffer when this method was called have been fired.
+         */
+        public void flush() throws InterruptedException {
+            this.lock.lock();
+            try {
+                final long target = this.enqueued;
+                while (this.completed < target) {
+                    this.fired.await();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        /**
+         * Stops accepting events and waits until the remaining events have been fired.
+         */
+        @Override
+        public void close() throws InterruptedException {
+            this.lock.lock();
+            try {
+                this.closed = true;
+                this.notEmpty.signalAll();
+                this.notFull.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+            if (Thread.currentThread() != this.consumer)
+                this.consumer.join();
+        }
+
+        private void enqueue(final Event evt) {
+            this.lock.lock();
+            try {
+                if (this.closed)
+                    throw new IllegalStateException("The event queue is closed");
+                if (this.coalesce && this.count > 0 && this.coalesceInto(this.count - 1, evt))
+                    return;
+                while (this.count == this.buffer.length) {
+                    if (Backpressure.DROP == this.backpressure) {
+                        this.dropped++;
+                        return;
+                    }
+                    if (Backpressure.COALESCE == this.backpressure && this.coalesceIntoLatest(evt))
+                        return;
+                    this.notFull.awaitUninterruptibly();
+                    if (this.closed)
+                        throw new IllegalStateException("The event queue is closed");
+                }
+                this.buffer[(this.head + this.count) % this.buffer.length] = evt;
+                this.count++;
+                this.enqueued++;
+                this.notEmpty.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private boolean coalesceInto(final int offset, final Event evt) {
+            final int index = (this.head + offset) % this.buffer.length;
+            if (!(evt instanceof Event.ElementPropertyChangedEvent) || !(this.buffer[index] instanceof Event.ElementPropertyChangedEvent))
+                return false;
+            final Event coalesced = ((Event.ElementPropertyChangedEvent) this.buffer[index]).coalesce((Event.ElementPropertyChangedEvent) evt);
+            if (null == coalesced)
+                return false;
+            this.buffer[index] = coalesced;
+            return true;
+        }
+
+        private boolean coalesceIntoLatest(final Event evt) {
+            if (!(evt instanceof Event.ElementPropertyChangedEvent))
+                return false;
+            final Element element = ((Event.ElementPropertyChangedEvent) evt).getElement();
+            for (int offset = this.count - 1; offset >= 0; offset--) {
+                final Event buffered = this.buffer[(this.head + offset) % this.buffer.length];
+                // other events do not expose their element so the change must not be moved before them
+                if (!(buffered instanceof Event.ElementPropertyEvent))
+                    return false;
+                if (((Event.ElementPropertyEvent) buffered).getElement().equals(element))
+                    return this.coalesceInto(offset, evt);
+            }
+            return false;
+        }
+
+        private void consume() {
+            final Event[] batch = new Event[Math.min(MAX_BATCH_SIZE, this.buffer.length)];
+            while (true) {
+                final int size;
+                this.lock.lock();
+                try {
+                    while (0 == this.count && !this.closed) {
+                        this.notEmpty.awaitUninterruptibly();
+                    }
+                    if (0 == this.count)
+                        return;
+                    size = Math.min(this.count, batch.length);
+                    for (int i = 0; i < size; i++) {
+                        batch[i] = this.buffer[this.head];
+                        this.buffer[this.head] = null;
+                        this.head = (this.head + 1) % this.buffer.length;
+                    }
+                    this.count -= size;
+                    this.notFull.signalAll();
+                } finally {
+                    this.lock.unlock();
+                }
+
+                final List<MutationListener> listeners = this.listeners;
+                for (int i = 0; i < size; i++) {
+                    try {
+                        batch[i].fireEvent(listeners.iterator());
+                    } catch (Exception ex) {
+                        logger.warn(String.format("A listener of %s failed to process an event", EventStrategy.class.getSimpleName()), ex);
+                    }
+                    batch[i] = null;
+                }
+
+                this.lock.lock();
+                try {
+                    this.completed += size;
+                    this.fired.signalAll();
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTravers
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ClassFilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.OrStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddEdgeStep;
@@ -42,6 +43,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyValueStep
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
@@ -59,6 +61,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +70,12 @@ import java.util.stream.Stream;
  * {@link Traversal} representations that represent a form of filtering criterion for vertices and/or edges,
  * this strategy will inject that criterion into the appropriate places of a traversal thus restricting what
  * it traverses and returns.
+ * <p/>
+ * A criterion that consists of nothing but {@code has()} steps is injected as a {@link HasStep} rather than as a
+ * {@link TraversalFilterStep} so that providers can fold it into the index lookups of the step it follows, including
+ * vertex-centric indices for the edges of a vertex. If the adjacent vertices of edges are checked and there is no edge
+ * criterion or a simple one, {@code out()} and its kin check the vertex they start from once instead of checking both
+ * vertices of every edge they traverse.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -79,6 +88,15 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
     private final Traversal.Admin<VertexProperty, ?> vertexPropertyCriterion;
     private final boolean checkAdjacentVertices;
 
+    // the parts of the edge criterion which are applied separately to the edges of a vertex
+    private final Traversal.Admin<Edge, ?> ownEdgeCriterion;
+    private final Traversal.Admin<Edge, ?> adjacentVertexCriterion;
+
+    // the has() containers of the criteria that can be inlined or null if a criterion is not that simple
+    private final List<HasContainer> vertexHasContainers;
+    private final List<HasContainer> ownEdgeHasContainers;
+    private final List<HasContainer> vertexPropertyHasContainers;
+
     private static final Set<Class<? extends DecorationStrategy>> POSTS = Collections.singleton(ConnectiveStrategy.class);
 
     private final String MARKER = Graph.Hidden.hide("gremlin.subgraphStrategy");
@@ -92,6 +110,8 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
         // be simply configured in the builder to not be used
         if (null == this.vertexCriterion || !checkAdjacentVertices) {
             this.edgeCriterion = null == builder.edgeCriterion ? null : builder.edgeCriterion.asAdmin().clone();
+            this.ownEdgeCriterion = this.edgeCriterion;
+            this.adjacentVertexCriterion = null;
         } else {
             final Traversal.Admin<Edge, ?> vertexPredicate;
             vertexPredicate = __.<Edge>and(
@@ -103,6 +123,8 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
             this.edgeCriterion = null == builder.edgeCriterion ?
                     vertexPredicate :
                     builder.edgeCriterion.asAdmin().clone().addStep(new TraversalFilterStep<>(builder.edgeCriterion.asAdmin(), vertexPredicate));
+            this.ownEdgeCriterion = null == builder.edgeCriterion ? null : builder.edgeCriterion.asAdmin().clone();
+            this.adjacentVertexCriterion = vertexPredicate;
         }
 
         this.vertexPropertyCriterion = null == builder.vertexPropertyCriterion ? null : builder.vertexPropertyCriterion.asAdmin().clone();
@@ -113,15 +135,60 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
             TraversalHelper.applyTraversalRecursively(t -> t.getStartStep().addLabel(MARKER), this.edgeCriterion);
         if (null != this.vertexPropertyCriterion)
             TraversalHelper.applyTraversalRecursively(t -> t.getStartStep().addLabel(MARKER), this.vertexPropertyCriterion);
+        // the combined edge criterion marked the start step of the adjacent vertex criterion already
+        if (null != this.ownEdgeCriterion && this.ownEdgeCriterion != this.edgeCriterion)
+            TraversalHelper.applyTraversalRecursively(t -> t.getStartStep().addLabel(MARKER), this.ownEdgeCriterion);
+
+        this.vertexHasContainers = getHasContainers(this.vertexCriterion);
+        this.ownEdgeHasContainers = getHasContainers(this.ownEdgeCriterion);
+        this.vertexPropertyHasContainers = getHasContainers(this.vertexPropertyCriterion);
+    }
+
+    /**
+     * Gets the containers of a criterion that only consists of {@link HasStep} instances or {@code null} otherwise.
+     */
+    private List<HasContainer> getHasContainers(final Traversal.Admin<?, ?> criterion) {
+        if (null == criterion)
+            return null;
+        final List<HasContainer> hasContainers = new ArrayList<>();
+        for (final Step<?, ?> step : criterion.getSteps()) {
+            if (step.getClass() != HasStep.class || step.getLabels().stream().anyMatch(label -> !label.equals(MARKER)))
+                return null;
+            hasContainers.addAll(((HasStep<?>) step).getHasContainers());
+        }
+        return hasContainers.isEmpty() ? null : hasContainers;
+    }
+
+    private static Step newFilter(final Traversal.Admin traversal, final Traversal.Admin<?, ?> criterion,
+                                        final List<HasContainer> hasContainers) {
+        if (null == hasContainers)
+            return new TraversalFilterStep<>(traversal, criterion.clone());
+        final HasStep<?> hasStep = new HasStep<>(traversal);
+        hasContainers.forEach(hasContainer -> hasStep.addHasContainer(hasContainer.clone()));
+        return hasStep;
+    }
+
+    private List<Step> newEdgeFilters(final Traversal.Admin traversal) {
+        // a simple edge criterion is inlined and checked ahead of the adjacent vertices
+        if (null == this.ownEdgeHasContainers)
+            return Collections.singletonList(new TraversalFilterStep<>(traversal, this.edgeCriterion.clone()));
+        final List<Step> filters = new ArrayList<>(2);
+        filters.add(newFilter(traversal, this.ownEdgeCriterion, this.ownEdgeHasContainers));
+        if (null != this.adjacentVertexCriterion)
+            filters.add(new TraversalFilterStep<>(traversal, this.adjacentVertexCriterion.clone()));
+        return filters;
     }
 
     private static void applyCriterion(final List<Step> stepsToApplyCriterionAfter, final Traversal.Admin traversal,
-                                       final Traversal.Admin<? extends Element, ?> criterion) {
+                                       final Supplier<List<Step>> filters) {
         for (final Step<?, ?> step : stepsToApplyCriterionAfter) {
             // re-assign the step label to the criterion because the label should apply seamlessly after the filter
-            final Step filter = new TraversalFilterStep<>(traversal, criterion.clone());
-            TraversalHelper.insertAfterStep(filter, step, traversal);
-            TraversalHelper.copyLabels(step, filter, true);
+            Step previous = step;
+            for (final Step filter : filters.get()) {
+                TraversalHelper.insertAfterStep(filter, previous, traversal);
+                previous = filter;
+            }
+            TraversalHelper.copyLabels(step, previous, true);
         }
     }
 
@@ -161,7 +228,8 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
             vertexStepsToInsertFilterAfter.addAll(TraversalHelper.getStepsOfAssignableClass(AddVertexStep.class, traversal));
             vertexStepsToInsertFilterAfter.addAll(TraversalHelper.getStepsOfAssignableClass(AddVertexStartStep.class, traversal));
             vertexStepsToInsertFilterAfter.addAll(graphSteps.stream().filter(GraphStep::returnsVertex).collect(Collectors.toList()));
-            applyCriterion(vertexStepsToInsertFilterAfter, traversal, this.vertexCriterion);
+            applyCriterion(vertexStepsToInsertFilterAfter, traversal,
+                    () -> Collections.singletonList(newFilter(traversal, this.vertexCriterion, this.vertexHasContainers)));
         }
 
         if (null != this.edgeCriterion) {
@@ -169,7 +237,7 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
             edgeStepsToInsertFilterAfter.addAll(TraversalHelper.getStepsOfAssignableClass(AddEdgeStep.class, traversal));
             edgeStepsToInsertFilterAfter.addAll(graphSteps.stream().filter(GraphStep::returnsEdge).collect(Collectors.toList()));
             edgeStepsToInsertFilterAfter.addAll(vertexSteps.stream().filter(VertexStep::returnsEdge).collect(Collectors.toList()));
-            applyCriterion(edgeStepsToInsertFilterAfter, traversal, this.edgeCriterion);
+            applyCriterion(edgeStepsToInsertFilterAfter, traversal, () -> newEdgeFilters(traversal));
         }
 
         // turn g.V().out() to g.V().outE().inV() only if there is an edge predicate otherwise
@@ -177,7 +245,7 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
             if (step.returnsEdge())
                 continue;
             if (null != this.vertexCriterion && null == edgeCriterion) {
-                TraversalHelper.insertAfterStep(new TraversalFilterStep<>(traversal, (Traversal) this.vertexCriterion.clone()), step, traversal);
+                TraversalHelper.insertAfterStep(newFilter(traversal, this.vertexCriterion, this.vertexHasContainers), step, traversal);
             } else {
                 final VertexStep<Edge> someEStep = new VertexStep<>(traversal, Edge.class, step.getDirection(), step.getEdgeLabels());
                 final boolean addsPathRequirement;
@@ -189,20 +257,33 @@ public final class SubgraphStrategy extends AbstractTraversalStrategy<TraversalS
                 TraversalHelper.insertAfterStep(someVStep, someEStep, traversal);
                 TraversalHelper.copyLabels(step, someVStep, true);
 
-                if (null != this.edgeCriterion)
-                    TraversalHelper.insertAfterStep(new TraversalFilterStep<>(traversal, this.edgeCriterion.clone()), someEStep, traversal);
+                if (null != this.adjacentVertexCriterion && (null == this.ownEdgeCriterion || null != this.ownEdgeHasContainers)) {
+                    // all edges share the vertex they are traversed from so it is checked once before rather than
+                    // for every edge while the vertices at the other end are checked by the vertex criterion below
+                    TraversalHelper.insertBeforeStep(newFilter(traversal, this.vertexCriterion, this.vertexHasContainers), someEStep, traversal);
+                    if (null != this.ownEdgeCriterion)
+                        TraversalHelper.insertAfterStep(newFilter(traversal, this.ownEdgeCriterion, this.ownEdgeHasContainers), someEStep, traversal);
+                } else if (null != this.edgeCriterion) {
+                    Step previous = someEStep;
+                    for (final Step filter : newEdgeFilters(traversal)) {
+                        TraversalHelper.insertAfterStep(filter, previous, traversal);
+                        previous = filter;
+                    }
+                }
                 if (null != this.vertexCriterion)
-                    TraversalHelper.insertAfterStep(new TraversalFilterStep<>(traversal, this.vertexCriterion.clone()), someVStep, traversal);
+                    TraversalHelper.insertAfterStep(newFilter(traversal, this.vertexCriterion, this.vertexHasContainers), someVStep, traversal);
             }
         }
 
         // turn g.V().properties() to g.V().properties().xxx
         // turn g.V().values() to g.V().properties().xxx.value()
         if (null != this.vertexPropertyCriterion) {
+            // the criterion is cloned so that it never becomes a child of the traversal being strategized
             final OrStep<Object> checkPropertyCriterion = new OrStep(traversal,
                     new DefaultTraversal<>().addStep(new ClassFilterStep<>(traversal, VertexProperty.class, false)),
-                    new DefaultTraversal<>().addStep(new TraversalFilterStep<>(traversal, this.vertexPropertyCriterion)));
-            final Traversal.Admin nonCheckPropertyCriterion = new DefaultTraversal<>().addStep(new TraversalFilterStep<>(traversal, this.vertexPropertyCriterion));
+                    new DefaultTraversal<>().addStep(new TraversalFilterStep<>(traversal, this.vertexPropertyCriterion.clone())));
+            final Traversal.Admin nonCheckPropertyCriterion = new DefaultTraversal<>().addStep(
+                    newFilter(traversal, this.vertexPropertyCriterion, this.vertexPropertyHasContainers));
 
             // turn all ElementValueTraversals into filters
             for (final Step<?, ?> step : traversal.getSteps()) {
@@ -27,12 +27,21 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSid
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuota;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import java.util.List;
 
 /**
+ * Injects a {@link ProfileStep} after every step of a traversal that is profiled. By default each {@link ProfileStep}
+ * times every call it receives. If the {@link #SAMPLE_RATE} option of the {@link OptionsStrategy} is set to a value
+ * below {@code 1.0}, e.g. {@code g.with("profileSampleRate", 0.01).V().out().profile()}, only that fraction of the calls
+ * is timed and the durations in the resulting {@link TraversalMetrics} are extrapolated, which keeps the overhead of
+ * profiling low enough for production workloads at the cost of precision.
+ *
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
@@ -40,6 +49,11 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
     private static final ProfileStrategy INSTANCE = new ProfileStrategy();
     private static final String MARKER = Graph.Hidden.hide("gremlin.profile");
 
+    /**
+     * The {@link OptionsStrategy} key for the fraction of calls to each step that are timed.
+     */
+    public static final String SAMPLE_RATE = "profileSampleRate";
+
     private ProfileStrategy() {
     }
 
@@ -52,6 +66,10 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
 
         if (traversal.getEndStep().getLabels().contains(MARKER)) {
             traversal.getEndStep().removeLabel(MARKER);
+            // memory accounting is enabled so that the metrics can report what each step retained
+            if (traversal.isRoot() && !traversal.getSideEffects().getMemoryQuota().isAccounting())
+                traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.unlimited());
+            final double sampleRate = getSampleRate(traversal);
             // Add .profile() step after every pre-existing step.
             final List<Step> steps = traversal.getSteps();
             final int numSteps = steps.size();
@@ -61,6 +79,7 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
                     break;
                 // Create and inject ProfileStep
                 final ProfileStep profileStepToAdd = new ProfileStep(traversal);
+                profileStepToAdd.setSampleRate(sampleRate);
                 traversal.addStep((i * 2) + 1, profileStepToAdd);
 
                 final Step stepToBeProfiled = traversal.getSteps().get(i * 2);
@@ -71,6 +90,14 @@ public final class ProfileStrategy extends AbstractTraversalStrategy<TraversalSt
         }
     }
 
+    private static double getSampleRate(final Traversal.Admin<?, ?> traversal) {
+        final Object rate = TraversalHelper.getRootTraversal(traversal).getStrategies().getStrategy(OptionsStrategy.class).
+                map(OptionsStrategy::getOptions).map(options -> options.get(SAMPLE_RATE)).orElse(null);
+        if (null == rate)
+            return 1.0d;
+        return rate instanceof Number ? ((Number) rate).doubleValue() : Double.parseDouble(rate.toString());
+    }
+
     public static ProfileStrategy instance() {
         return INSTANCE;
     }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code StepFusionStrategy} is an OLTP-only strategy that replaces runs of two or more consecutive simple steps with
+ * a single {@link FusedStep} which processes the run as one loop and thus avoids generating a traverser for every
+ * intermediate object. Steps that can not be fused (e.g. barriers, steps with children or provider-specific step
+ * implementations) remain as they are and are executed as usual. As intermediate objects of a fused run are not
+ * recorded, the strategy does nothing if the root traversal requires full path tracking, even when the path is only
+ * consumed outside of the traversal being fused, and only the last step of a run may be labeled. Profiled traversals
+ * are not fused. This strategy is not added to the default strategies and must be added with
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource#withStrategies(TraversalStrategy[])}.
+ *
+ * @example <pre>
+ * __.out().has("name","marko").out().values("age")   // is replaced by __.fused([out, has, out, values])
+ * __.out().barrier().out().in()                      // is replaced by __.out().barrier().fused([out, in])
+ * </pre>
+ */
+public final class StepFusionStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private static final StepFusionStrategy INSTANCE = new StepFusionStrategy();
+    private static final Set<Class<? extends FinalizationStrategy>> POSTS = Collections.singleton(ProfileStrategy.class);
+
+    private StepFusionStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // profiled traversals are left alone so that their metrics reflect the steps as they were written
+        if (TraversalHelper.onGraphComputer(traversal) ||
+                TraversalHelper.getRootTraversal(traversal).getTraverserRequirements().contains(TraverserRequirement.PATH) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, TraversalHelper.getRootTraversal(traversal)))
+            return;
+
+        final List<List<Step>> runs = new ArrayList<>();
+        List<Step> run = new ArrayList<>();
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (FusedStep.isFusible(step)) {
+                run.add(step);
+                // labels can only be retained on the last step of a run
+                if (!step.getLabels().isEmpty()) {
+                    runs.add(run);
+                    run = new ArrayList<>();
+                }
+            } else if (!run.isEmpty()) {
+                runs.add(run);
+                run = new ArrayList<>();
+            }
+        }
+        runs.add(run);
+
+        for (final List<Step> fusible : runs) {
+            if (fusible.size() > 1) {
+                final int index = TraversalHelper.stepIndex(fusible.get(0), traversal);
+                final FusedStep<?, ?> fusedStep = new FusedStep<>(traversal, fusible);
+                TraversalHelper.copyLabels(fusible.get(fusible.size() - 1), fusedStep, true);
+                for (final Step step : fusible) {
+                    traversal.removeStep(step);
+                }
+                traversal.addStep(index, fusedStep);
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPost() {
+        return POSTS;
+    }
+
+    public static StepFusionStrategy instance() {
+        return INSTANCE;
+    }
+}
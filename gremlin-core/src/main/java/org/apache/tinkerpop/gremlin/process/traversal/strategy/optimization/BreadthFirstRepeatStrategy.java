@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.LoopTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.PathFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code BreadthFirstRepeatStrategy} is an OLTP-only strategy that switches every {@link RepeatStep} to breadth-first
+ * execution. Each loop then processes the whole frontier of the previous loop and equal traversers of a frontier are
+ * merged into a single bulked traverser, which keeps multi-hop expansions from multiplying traversers. If the
+ * repeat is directly followed by a {@link DedupGlobalStep} and neither the repeat traversal nor its until()/emit()
+ * conditions depend on the loop count, the path, sacks or side-effects, traversers whose object was already seen
+ * after a previous loop are pruned as well. Path filters such as {@code simplePath()} prevent the pruning, as an
+ * object that is filtered on one path may be kept on another one. As the order of the results
+ * changes, this strategy is not added to the default strategies and must be added with
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource#withStrategies(TraversalStrategy[])}.
+ *
+ * @example <pre>
+ * __.repeat(out()).until(loops().is(4))                          // is executed breadth-first
+ * __.repeat(out()).emit().dedup()                                 // is executed breadth-first without revisiting vertices
+ * __.repeat(out().simplePath()).until(hasLabel("person")).dedup() // is executed breadth-first
+ * </pre>
+ */
+public final class BreadthFirstRepeatStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final BreadthFirstRepeatStrategy INSTANCE = new BreadthFirstRepeatStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = Collections.singleton(RepeatUnrollStrategy.class);
+    private static final List<Class> INVALIDATING_STEPS = Arrays.asList(LoopsStep.class, PathFilterStep.class,
+            Ranging.class, Mutating.class, SideEffectCapable.class, SideEffectStep.class, LambdaHolder.class);
+    private static final Set<TraverserRequirement> INVALIDATING_REQUIREMENTS = EnumSet.of(TraverserRequirement.PATH,
+            TraverserRequirement.LABELED_PATH, TraverserRequirement.SINGLE_LOOP, TraverserRequirement.NESTED_LOOP,
+            TraverserRequirement.SACK, TraverserRequirement.SIDE_EFFECTS);
+
+    private BreadthFirstRepeatStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+
+        for (final RepeatStep<?> repeatStep : TraversalHelper.getStepsOfClass(RepeatStep.class, traversal)) {
+            if (null == repeatStep.getRepeatTraversal())
+                continue;
+            repeatStep.setBreadthFirst(true);
+            repeatStep.setPruneVisited(canPruneVisited(repeatStep));
+        }
+    }
+
+    private static boolean canPruneVisited(final RepeatStep<?> repeatStep) {
+        final Step<?, ?> nextStep = repeatStep.getNextStep();
+        if (!(nextStep instanceof DedupGlobalStep) ||
+                !((DedupGlobalStep<?>) nextStep).getScopeKeys().isEmpty() ||
+                !((DedupGlobalStep<?>) nextStep).getLocalChildren().isEmpty())
+            return false;
+
+        for (final Traversal.Admin<?, ?> condition : repeatStep.getLocalChildren()) {
+            if (condition instanceof LoopTraversal || !isLoopIndependent(condition))
+                return false;
+        }
+        return isLoopIndependent(repeatStep.getRepeatTraversal());
+    }
+
+    /**
+     * Determines if the traversal yields the same results for an object regardless of the loop and path that lead to
+     * it and of how often it is applied. Any step that requires the path makes the traversal loop dependent.
+     */
+    private static boolean isLoopIndependent(final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, traversal)) {
+            if (step instanceof RepeatStep.RepeatEndStep)
+                continue;
+            if (INVALIDATING_STEPS.stream().anyMatch(c -> c.isAssignableFrom(step.getClass())) ||
+                    !Collections.disjoint(step.getRequirements(), INVALIDATING_REQUIREMENTS))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static BreadthFirstRepeatStrategy instance() {
+        return INSTANCE;
+    }
+}
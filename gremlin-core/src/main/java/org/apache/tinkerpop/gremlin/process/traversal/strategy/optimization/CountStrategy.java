@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
@@ -43,36 +44,29 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.ConnectiveP;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.BiPredicate;
 
 /**
  * This strategy optimizes any occurrence of {@link CountGlobalStep} followed by an {@link IsStep}. The idea is to limit
  * the number of incoming elements in a way that it's enough for the {@link IsStep} to decide whether it evaluates
- * {@code true} or {@code false}. If the traversal already contains a user supplied limit, the strategy won't
- * modify it.
+ * {@code true} or {@code false}. The limit is derived from the predicate, which may combine comparisons and
+ * {@code within()}/{@code without()} of numbers with {@code and()} and {@code or()} at any depth, and the inserted
+ * {@link RangeGlobalStep} stops pulling elements as soon as it is reached. Counts that are compared with each other,
+ * e.g. in the {@code by()} of {@code order()}, are only limited if the predicate fails for every count at or beyond
+ * the limit so that the order of the counts that pass is unaffected. If the traversal already contains a user
+ * supplied limit, the strategy won't modify it.
  *
  * @author Daniel Kuppitz (http://gremlin.guru)
  * @example <pre>
  * __.outE().count().is(0)      // is replaced by __.not(outE())
  * __.outE().count().is(lt(3))  // is replaced by __.outE().limit(3).count().is(lt(3))
  * __.outE().count().is(gt(3))  // is replaced by __.outE().limit(4).count().is(gt(3))
+ * __.outE().count().is(or(lt(2), within(5, 7)))  // is replaced by __.outE().limit(8).count().is(or(lt(2), within(5, 7)))
  * </pre>
  */
 public final class CountStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
-    private static final Map<BiPredicate, Long> RANGE_PREDICATES = new HashMap<BiPredicate, Long>() {{
-        put(Contains.within, 1L);
-        put(Contains.without, 0L);
-    }};
-    private static final Set<Compare> INCREASED_OFFSET_SCALAR_PREDICATES =
-            EnumSet.of(Compare.eq, Compare.neq, Compare.lte, Compare.gt);
-
     private static final CountStrategy INSTANCE = new CountStrategy();
 
     private CountStrategy() {
@@ -92,49 +86,25 @@ public final class CountStrategy extends AbstractTraversalStrategy<TraversalStra
             if (i < size - 1 && doStrategy(curr)) {
                 final IsStep isStep = (IsStep) traversal.getSteps().get(i + 1);
                 final P isStepPredicate = isStep.getPredicate();
-                Long highRange = null;
-                boolean useNotStep = false, dismissCountIs = false;
-                for (P p : isStepPredicate instanceof ConnectiveP ? ((ConnectiveP<?>) isStepPredicate).getPredicates() : Collections.singletonList(isStepPredicate)) {
-                    final Object value = p.getValue();
-                    final BiPredicate predicate = p.getBiPredicate();
-                    if (value instanceof Number) {
-                        final long highRangeOffset = INCREASED_OFFSET_SCALAR_PREDICATES.contains(predicate) ? 1L : 0L;
-                        final Long highRangeCandidate = (long) Math.ceil(((Number) value).doubleValue()) + highRangeOffset;
-                        final boolean update = highRange == null || highRangeCandidate > highRange;
-                        if (update) {
-                            if (parent instanceof EmptyStep) {
-                                useNotStep = false;
-                            } else {
-                                if (parent instanceof RepeatStep) {
-                                    final RepeatStep repeatStep = (RepeatStep) parent;
-                                    dismissCountIs = useNotStep = Objects.equals(traversal, repeatStep.getUntilTraversal())
-                                            || Objects.equals(traversal, repeatStep.getEmitTraversal());
-                                } else {
-                                    dismissCountIs = useNotStep = parent instanceof FilterStep || parent instanceof SideEffectStep;
-                                }
-                            }
-                            highRange = highRangeCandidate;
-                            useNotStep &= curr.getLabels().isEmpty() && isStep.getLabels().isEmpty()
-                                    && isStep.getNextStep() instanceof EmptyStep
-                                    && ((highRange <= 1L && predicate.equals(Compare.lt))
-                                    || (highRange == 1L && (predicate.equals(Compare.eq) || predicate.equals(Compare.lte))));
-                            dismissCountIs &= curr.getLabels().isEmpty() && isStep.getLabels().isEmpty()
-                                    && isStep.getNextStep() instanceof EmptyStep
-                                    && (highRange == 1L && (predicate.equals(Compare.gt) || predicate.equals(Compare.gte)));
-                        }
-                    } else {
-                        final Long highRangeOffset = RANGE_PREDICATES.get(predicate);
-                        if (value instanceof Collection && highRangeOffset != null) {
-                            final Object high = Collections.max((Collection) value);
-                            if (high instanceof Number) {
-                                final Long highRangeCandidate = ((Number) high).longValue() + highRangeOffset;
-                                final boolean update = highRange == null || highRangeCandidate > highRange;
-                                if (update) highRange = highRangeCandidate;
-                            }
+                final Long highRange = getDecisionBound(isStepPredicate);
+                // counts that are compared with each other must be exact whenever they pass the predicate
+                if (null != highRange && !(parent instanceof ComparatorHolder && isStepPredicate.test(highRange))) {
+                    boolean useNotStep = false, dismissCountIs = false;
+                    if (!(parent instanceof EmptyStep) && highRange == 1L) {
+                        if (parent instanceof RepeatStep) {
+                            final RepeatStep repeatStep = (RepeatStep) parent;
+                            dismissCountIs = useNotStep = Objects.equals(traversal, repeatStep.getUntilTraversal())
+                                    || Objects.equals(traversal, repeatStep.getEmitTraversal());
+                        } else {
+                            dismissCountIs = useNotStep = parent instanceof FilterStep || parent instanceof SideEffectStep;
                         }
+                        // a predicate that is decided by the first element either tests for its absence or its presence
+                        final boolean unchanged = curr.getLabels().isEmpty() && isStep.getLabels().isEmpty()
+                                && isStep.getNextStep() instanceof EmptyStep;
+                        final boolean zero = isStepPredicate.test(0L), one = isStepPredicate.test(1L);
+                        useNotStep &= unchanged && zero && !one;
+                        dismissCountIs &= unchanged && !zero && one;
                     }
-                }
-                if (highRange != null) {
                     if (useNotStep || dismissCountIs) {
                         traversal.asAdmin().removeStep(isStep); // IsStep
                         traversal.asAdmin().removeStep(curr); // CountStep
@@ -187,6 +157,52 @@ public final class CountStrategy extends AbstractTraversalStrategy<TraversalStra
         }
     }
 
+    /**
+     * Gets the number of elements a count has to reach for the predicate to be decided, i.e. the smallest count from
+     * which on the predicate always evaluates to the same result, or {@code null} if there is no such count or it can
+     * not be determined (e.g. for predicates that do not compare numbers).
+     */
+    static Long getDecisionBound(final P<?> predicate) {
+        if (predicate instanceof ConnectiveP) {
+            long bound = 0L;
+            for (final P<?> p : ((ConnectiveP<?>) predicate).getPredicates()) {
+                final Long b = getDecisionBound(p);
+                if (null == b)
+                    return null;
+                bound = Math.max(bound, b);
+            }
+            return bound;
+        }
+
+        final BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+        final Object value = predicate.getValue();
+        if (biPredicate instanceof Compare) {
+            return value instanceof Number ? getDecisionBound((Compare) biPredicate, (Number) value) : null;
+        } else if ((biPredicate == Contains.within || biPredicate == Contains.without) && value instanceof Collection) {
+            // values that are not numbers never equal a count and thus do not need to be considered
+            long bound = 0L;
+            for (final Object v : (Collection<?>) value) {
+                if (v instanceof Number) {
+                    final Long b = getDecisionBound(Compare.eq, (Number) v);
+                    if (null == b)
+                        return null;
+                    bound = Math.max(bound, b);
+                }
+            }
+            return bound;
+        }
+        return null;
+    }
+
+    private static Long getDecisionBound(final Compare compare, final Number value) {
+        final double d = value.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d) || d >= Long.MAX_VALUE)
+            return null;
+        // gte(x) and lt(x) flip at the first count that is x or more, all others flip at the first count beyond x
+        final double bound = compare == Compare.gte || compare == Compare.lt ? Math.ceil(d) : Math.floor(d) + 1;
+        return Math.max(0L, (long) bound);
+    }
+
     private boolean doStrategy(final Step step) {
         if (!(step instanceof CountGlobalStep) ||
                 !(step.getNextStep() instanceof IsStep) ||
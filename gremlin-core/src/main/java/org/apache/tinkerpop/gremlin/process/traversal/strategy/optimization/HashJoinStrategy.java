@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HashJoinTable;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code HashJoinStrategy} is an OLTP-only strategy that evaluates the child traversals of {@code where()},
+ * {@code not()} and {@code filter()} (including the where()-patterns of {@code match()}) as hash semi-joins or
+ * anti-joins. A where()-traversal that leads from a start label to an end label is computed once for each distinct
+ * object of the start label and the object of the end label is probed in its results. A child traversal that starts
+ * with a mid-traversal {@code V()} or {@code E()} does not depend on the incoming traverser at all and is only
+ * computed once. The steps of a qualifying child traversal may neither depend on the path, loops, sacks or
+ * side-effects nor have side-effects or randomness themselves (see {@link HashJoinTable#isJoinable(Traversal.Admin)}).
+ * As the results are retained for the lifetime of the traversal, the strategy does nothing if the traversal mutates
+ * the graph or is profiled. This strategy is not added to the default strategies and must be added with
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource#withStrategies(TraversalStrategy[])}.
+ *
+ * @example <pre>
+ * __.as("a").out().as("b").where(__.as("a").out("knows").as("b"))     // out("knows") is computed once per "a"
+ * __.as("a").out().as("b").where(__.not(__.as("a").out().as("b")))    // out() is computed once per "a"
+ * __.out().where(__.V().has("name","marko").as("b"))                   // V().has("name","marko") is computed once
+ * __.out().not(__.V().hasLabel("software"))                          // V().hasLabel("software") is computed once
+ * </pre>
+ */
+public final class HashJoinStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final HashJoinStrategy INSTANCE = new HashJoinStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            InlineFilterStrategy.class,
+            MatchPredicateStrategy.class));
+
+    private HashJoinStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        if (TraversalHelper.onGraphComputer(traversal) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, root) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, root))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof WhereTraversalStep) {
+                final WhereTraversalStep<?> whereStep = (WhereTraversalStep<?>) step;
+                whereStep.setHashJoin(HashJoinTable.isJoinable(whereStep.getLocalChildren().get(0)));
+            } else if (step instanceof NotStep) {
+                final NotStep<?> notStep = (NotStep<?>) step;
+                notStep.setHashJoin(HashJoinTable.isJoinable(notStep.getLocalChildren().get(0)));
+            } else if (step instanceof TraversalFilterStep) {
+                final TraversalFilterStep<?> filterStep = (TraversalFilterStep<?>) step;
+                filterStep.setHashJoin(HashJoinTable.isJoinable(filterStep.getLocalChildren().get(0)));
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static HashJoinStrategy instance() {
+        return INSTANCE;
+    }
+}
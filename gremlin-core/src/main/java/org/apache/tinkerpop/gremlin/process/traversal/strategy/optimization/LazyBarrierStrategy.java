@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NoneStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
@@ -33,6 +34,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSid
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
@@ -45,11 +47,21 @@ import java.util.Set;
  * {@link FlatMapStep} if neither path-tracking nor partial path-tracking is required, and the next step is not the
  * traversal's last step or a {@link Barrier}. {@link NoOpBarrierStep}s allow traversers to be bulked, thus this strategy
  * is meant to reduce memory requirements and improve the overall query performance.
+ * <p/>
+ * The inserted barriers are adaptive: they start small so that first results are not held back and grow as long as
+ * the traversers they collect are merged at a high rate (see {@link NoOpBarrierStep}). The bounds default to
+ * {@link #DEFAULT_MIN_BARRIER_SIZE} and {@link #MAX_BARRIER_SIZE} and can be configured per traversal with the
+ * {@link #BARRIER_MIN_SIZE} and {@link #BARRIER_MAX_SIZE} options of the {@link OptionsStrategy}, e.g. to keep the
+ * barriers small for a remote client that streams results. Setting both options to the same value results in
+ * barriers of a fixed size. A barrier that is followed by a {@code limit()} without another {@link Barrier} in
+ * between never collects more traversers than the limit and is not inserted at all for a limit of one.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @example <pre>
- * __.out().bothE().count()      // is replaced by __.out().barrier(2500).bothE().count()
- * __.both().both().valueMap()   // is replaced by __.both().barrier(2500).both().barrier(2500).valueMap()
+ * __.out().bothE().count()                  // inserts NoOpBarrierStep(100,2500) after out()
+ * __.both().both().valueMap()               // inserts NoOpBarrierStep(100,2500) after each both()
+ * __.out().out().out().limit(10)            // is replaced by __.out().out().barrier(10).out().limit(10)
+ * g.with("barrierMaxSize",500).V().both().both()   // inserts barriers that grow from 100 up to 500
  * </pre>
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
@@ -66,7 +78,18 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
             MatchPredicateStrategy.class,
             EarlyLimitStrategy.class));
 
+    /**
+     * The {@link OptionsStrategy} key for the size an inserted barrier starts with and never shrinks below.
+     */
+    public static final String BARRIER_MIN_SIZE = "barrierMinSize";
+
+    /**
+     * The {@link OptionsStrategy} key for the size an inserted barrier never grows beyond.
+     */
+    public static final String BARRIER_MAX_SIZE = "barrierMaxSize";
+
     private static final int BIG_START_SIZE = 5;
+    protected static final int DEFAULT_MIN_BARRIER_SIZE = 100;
     protected static final int MAX_BARRIER_SIZE = 2500;
 
     private LazyBarrierStrategy() {
@@ -80,6 +103,10 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                         TraversalHelper.hasStepOfAssignableClass(ProfileSideEffectStep.class, TraversalHelper.getRootTraversal(traversal)))))) // necessary cause ProfileTest analyzes counts
             return;
 
+        final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        final int maxBarrierSize = getBarrierSize(root, BARRIER_MAX_SIZE, MAX_BARRIER_SIZE);
+        final int minBarrierSize = Math.min(maxBarrierSize, getBarrierSize(root, BARRIER_MIN_SIZE, DEFAULT_MIN_BARRIER_SIZE));
+
         boolean foundFlatMap = false;
         boolean labeledPath = false;
         for (int i = 0; i < traversal.getSteps().size(); i++) {
@@ -99,9 +126,13 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                         !(step.getNextStep() instanceof Barrier) &&
                         !(step.getNextStep() instanceof NoneStep) &&
                         !(step.getNextStep() instanceof EmptyStep)) {
-                    final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE);
-                    TraversalHelper.copyLabels(step, noOpBarrierStep, true);
-                    TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
+                    final long limit = getLimit(step);
+                    if (limit > 1) {
+                        final int max = (int) Math.min(maxBarrierSize, limit);
+                        final Step noOpBarrierStep = new NoOpBarrierStep<>(traversal, Math.min(minBarrierSize, max), max);
+                        TraversalHelper.copyLabels(step, noOpBarrierStep, true);
+                        TraversalHelper.insertAfterStep(noOpBarrierStep, step, traversal);
+                    }
                 } else
                     foundFlatMap = true;
             }
@@ -111,6 +142,31 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         }
     }
 
+    /**
+     * Gets the high range of the first {@code limit()} that follows the specified step before any other
+     * {@link Barrier} as no more traversers are needed to satisfy it or {@code Long.MAX_VALUE} if there is none.
+     */
+    private static long getLimit(final Step<?, ?> step) {
+        Step<?, ?> next = step.getNextStep();
+        while (!(next instanceof EmptyStep)) {
+            if (next instanceof RangeGlobalStep) {
+                final long high = ((RangeGlobalStep) next).getHighRange();
+                return high < 0 ? Long.MAX_VALUE : high;
+            } else if (next instanceof Barrier)
+                return Long.MAX_VALUE;
+            next = next.getNextStep();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static int getBarrierSize(final Traversal.Admin<?, ?> root, final String key, final int defaultSize) {
+        final Object size = root.getStrategies().getStrategy(OptionsStrategy.class).
+                map(OptionsStrategy::getOptions).map(options -> options.get(key)).orElse(null);
+        if (null == size)
+            return defaultSize;
+        final long value = size instanceof Number ? ((Number) size).longValue() : Long.parseLong(size.toString());
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, value));
+    }
 
     @Override
     public Set<Class<? extends OptimizationStrategy>> applyPrior() {
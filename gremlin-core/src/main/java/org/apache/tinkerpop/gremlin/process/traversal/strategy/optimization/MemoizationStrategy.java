@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemo;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code MemoizationStrategy} is an OLTP-only strategy that attaches a bounded {@link TraversalMemo} to the local
+ * children of a step (e.g. the {@code by()}-modulators of {@code order()}, the filters of {@code filter()} or the
+ * traversal of {@code local()}) so that a child is only evaluated once for each distinct object that it is started
+ * with. Only children whose results solely depend on their start object are memoized (see
+ * {@link TraversalHelper#isMemoizable(Traversal.Admin)}), and as the results of {@code local()} are handed on as
+ * traversers of their own, {@code local()} is only memoized if the traversal does not track paths. The strategy does
+ * nothing if the traversal mutates the graph or is profiled. This strategy is not added to the default strategies
+ * and must be added with
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource#withStrategies(TraversalStrategy[])}.
+ *
+ * @example <pre>
+ * __.V().out().order().by(__.out().count())                 // out().count() is computed once per distinct vertex
+ * __.V().out().filter(__.in("created").count().is(gt(1)))   // in("created").count() is computed once per vertex
+ * __.V().both().local(__.outE().limit(2))                    // outE().limit(2) is computed once per vertex and bulk
+ * </pre>
+ */
+public final class MemoizationStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final MemoizationStrategy INSTANCE = new MemoizationStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            CountStrategy.class,
+            InlineFilterStrategy.class));
+
+    private MemoizationStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        if (TraversalHelper.onGraphComputer(traversal) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, root) ||
+                TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, root))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (!(step instanceof TraversalParent))
+                continue;
+            if (step instanceof LocalStep) {
+                final Set<TraverserRequirement> requirements = root.getTraverserRequirements();
+                if (requirements.contains(TraverserRequirement.PATH) || requirements.contains(TraverserRequirement.LABELED_PATH))
+                    continue;
+            }
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                if (child instanceof DefaultTraversal && TraversalHelper.isMemoizable(child))
+                    ((DefaultTraversal<?, ?>) child).setMemo(new TraversalMemo());
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static MemoizationStrategy instance() {
+        return INSTANCE;
+    }
+}
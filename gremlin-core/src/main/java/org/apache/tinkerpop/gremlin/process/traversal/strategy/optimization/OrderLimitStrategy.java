@@ -30,7 +30,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.map.PathStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SackStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.TreeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
@@ -40,9 +39,10 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * {@code OrderLimitStrategy} is an OLAP strategy that folds a {@link RangeGlobalStep} into a preceding
- * {@link OrderGlobalStep}. This helps to eliminate traversers early in the traversal and can
- * significantly reduce the amount of memory required by the OLAP execution engine.
+ * {@code OrderLimitStrategy} folds a {@link RangeGlobalStep} into a preceding {@link OrderGlobalStep}. This helps to
+ * eliminate traversers early in the traversal as the {@link OrderGlobalStep} only needs to retain the traversers
+ * that fall within the limit. It thus significantly reduces the amount of memory required to order traversers both
+ * in OLTP and by the OLAP execution engine.
  *
  * It's worth noting that certain steps are allowed between {@link OrderGlobalStep} and {@link RangeGlobalStep}:
  * <p/>
@@ -53,7 +53,6 @@ import java.util.Set;
  *     <li>{@link SelectOneStep}</li>
  *     <li>{@link SelectStep}</li>
  *     <li>{@link PathStep}</li>
- *     <li>{@link TreeStep}</li>
  * </ul>
  * <p/>
  *
@@ -71,17 +70,13 @@ public final class OrderLimitStrategy extends AbstractTraversalStrategy<Traversa
                     PathStep.class,
                     SelectStep.class,
                     SelectOneStep.class,
-                    SackStep.class,
-                    TreeStep.class));
+                    SackStep.class));
 
     private OrderLimitStrategy() {
     }
 
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.onGraphComputer(traversal))
-            return;
-
         final List<OrderGlobalStep> orders = TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal);
         for (final OrderGlobalStep order : orders) {
             RangeGlobalStep range = null;
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
@@ -88,6 +89,7 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
         final Traverser.Admin<S> existing = this.map.get(traverser);
         if (null == existing) {
             this.map.put(traverser, traverser);
+            TraversalEvents.traverserSetGrowth(this.map.size());
             return true;
         } else {
             existing.merge(traverser);
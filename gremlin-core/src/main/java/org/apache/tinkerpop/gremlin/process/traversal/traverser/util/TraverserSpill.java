@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.KryoException;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Holds sorted runs of traversers that a barrier step has spilled to local temporary files so that the barrier does
+ * not have to keep all of its traversers on the heap. Each traverser is written with the Gryo mapper of the
+ * {@link Graph} of the traversal as its bulk, its object and, for a {@link ProjectedTraverser}, its projections.
+ * Elements, properties and paths are detached as they are written and re-attached to the {@link Graph} as they are
+ * read back. A value that holds elements, properties or paths within a collection or map can not be re-attached and
+ * so a run that contains such a value is not spilled at all. All other values are read back as equal copies of the
+ * values that were written.
+ * <p/>
+ * The runs are read back by way of {@link #merge(Iterator)} which performs a k-way merge of the runs and the
+ * traversers that remained in memory.
+ * <p/>
+ * Spilling is configured with {@link OptionsStrategy} where {@link #SPILL_THRESHOLD} is the number of traversers a
+ * barrier may hold in memory before spilling and {@link #SPILL_DIRECTORY} is the directory for the run files which
+ * defaults to {@code java.io.tmpdir}. The threshold counts traversers and not bytes, so it does not bound the heap
+ * that large objects take. Spilling is only possible in OLTP and when traversers carry nothing but their object and
+ * bulk, i.e. when paths, sacks and loops are not required.
+ * <p/>
+ * Only {@code order()} spills. The other collecting barriers, {@code sample()} and {@code barrier(consumer)}, as well
+ * as {@code dedup()}, {@code group()}, {@code groupCount()} and {@code aggregate()} hold their traversers, seen
+ * objects or reduced values in memory regardless of the threshold.
+ */
+public final class TraverserSpill<S> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TraverserSpill.class);
+
+    /**
+     * The {@link OptionsStrategy} key for the number of traversers a barrier may hold in memory before it spills
+     * them to disk. Spilling is disabled if the key is absent or not positive. The value is a count of traversers
+     * rather than a memory budget and only {@code order()} honors it.
+     */
+    public static final String SPILL_THRESHOLD = "spillThreshold";
+
+    /**
+     * The {@link OptionsStrategy} key for the directory to write spilled traversers to.
+     */
+    public static final String SPILL_DIRECTORY = "spillDirectory";
+
+    private final Step<?, S> step;
+    private final Comparator<Traverser.Admin<S>> comparator;
+    private final File directory;
+    private final Graph graph;
+    private final Kryo kryo;
+    private final List<File> runs = new ArrayList<>();
+    private final List<RunIterator> openRuns = new ArrayList<>();
+    private Traverser.Admin<S> prototype;
+
+    public TraverserSpill(final Step<?, S> step, final Comparator<Traverser.Admin<S>> comparator, final File directory) {
+        this.step = step;
+        this.comparator = comparator;
+        this.directory = directory;
+        this.graph = step.getTraversal().getGraph().orElse(null);
+        this.kryo = (null == this.graph ? GryoMapper.build().create() : this.graph.io(GryoIo.build()).mapper().create()).createMapper();
+    }
+
+    /**
+     * Gets the configured spill threshold for the traversal or {@code 0} if traversers of the traversal can not or
+     * should not be spilled.
+     */
+    public static int getSpillThreshold(final Traversal.Admin<?, ?> traversal) {
+        final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(traversal);
+        final Object threshold = getOption(root, SPILL_THRESHOLD);
+        if (null == threshold || TraversalHelper.onGraphComputer(root))
+            return 0;
+
+        for (final TraverserRequirement requirement : root.getTraverserRequirements()) {
+            if (requirement == TraverserRequirement.PATH || requirement == TraverserRequirement.LABELED_PATH ||
+                    requirement == TraverserRequirement.SACK || requirement == TraverserRequirement.SINGLE_LOOP ||
+                    requirement == TraverserRequirement.NESTED_LOOP)
+                return 0;
+        }
+
+        final long value = threshold instanceof Number ?
+                ((Number) threshold).longValue() : Long.parseLong(threshold.toString());
+        return (int) Math.max(0L, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    /**
+     * Gets the configured spill directory for the traversal.
+     */
+    public static File getSpillDirectory(final Traversal.Admin<?, ?> traversal) {
+        final Object directory = getOption(TraversalHelper.getRootTraversal(traversal), SPILL_DIRECTORY);
+        return new File(null == directory ? System.getProperty("java.io.tmpdir") : directory.toString());
+    }
+
+    private static Object getOption(final Traversal.Admin<?, ?> root, final String key) {
+        return root.getStrategies().getStrategy(OptionsStrategy.class).
+                map(OptionsStrategy::getOptions).map(options -> options.get(key)).orElse(null);
+    }
+
+    /**
+     * Determines if any run has been spilled.
+     */
+    public boolean isEmpty() {
+        return this.runs.isEmpty();
+    }
+
+    /**
+     * Writes the traversers of the set, which must already be sorted, as a new run and clears the set. If a traverser
+     * can not be written or could not be re-attached when read back, the run is discarded, the set is left as it was
+     * and an {@link IOException} is thrown.
+     */
+    public void spill(final TraverserSet<S> sorted) throws IOException {
+        final File run = File.createTempFile("gremlin-spill-", ".bin", this.directory);
+        try (final Output output = new Output(new FileOutputStream(run))) {
+            for (final Traverser.Admin<S> traverser : sorted) {
+                if (null == this.prototype)
+                    this.prototype = ProjectedTraverser.tryUnwrap(traverser);
+                final List<Object> projections = traverser instanceof ProjectedTraverser ?
+                        ((ProjectedTraverser) traverser).getProjections() : null;
+                if (!isAttachable(traverser.get(), false) || (null != projections && !projections.stream().allMatch(p -> isAttachable(p, false))))
+                    throw new IOException("Traverser holds a value that could not be re-attached: " + traverser);
+                output.writeLong(traverser.bulk());
+                this.kryo.writeClassAndObject(output, traverser.get());
+                this.kryo.writeClassAndObject(output, projections);
+            }
+        } catch (IOException | RuntimeException ex) {
+            if (!run.delete())
+                logger.warn("Could not delete spill file {}", run);
+            throw ex instanceof IOException ? (IOException) ex : new IOException(ex);
+        }
+        this.runs.add(run);
+        sorted.clear();
+    }
+
+    /**
+     * Merges the spilled runs with the sorted traversers that remained in memory. The returned iterator produces
+     * all traversers in the order of the comparator. Run files are deleted once they are fully read or when the
+     * spill is closed.
+     */
+    public Iterator<Traverser.Admin<S>> merge(final Iterator<Traverser.Admin<S>> inMemory) {
+        final List<Iterator<Traverser.Admin<S>>> sources = new ArrayList<>(this.runs.size() + 1);
+        for (final File run : this.runs) {
+            final RunIterator iterator = new RunIterator(run);
+            this.openRuns.add(iterator);
+            sources.add(iterator);
+        }
+        this.runs.clear();
+        sources.add(inMemory);
+        return new MergeIterator(sources);
+    }
+
+    @Override
+    public void close() {
+        for (final RunIterator iterator : this.openRuns) {
+            iterator.close();
+        }
+        this.openRuns.clear();
+        for (final File run : this.runs) {
+            if (!run.delete())
+                logger.warn("Could not delete spill file {}", run);
+        }
+        this.runs.clear();
+    }
+
+    /**
+     * Determines if the value is read back as it was written. Elements, properties and paths are re-attached on read
+     * when they are the value itself, but not when they are nested within a collection or map.
+     */
+    private static boolean isAttachable(final Object object, final boolean nested) {
+        if (object instanceof Element || object instanceof Property || object instanceof Path)
+            return !nested;
+        if (object instanceof Iterable) {
+            for (final Object o : (Iterable<?>) object) {
+                if (!isAttachable(o, true)) return false;
+            }
+        } else if (object instanceof Map) {
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                if (!isAttachable(entry.getKey(), true) || !isAttachable(entry.getValue(), true)) return false;
+            }
+        } else if (object instanceof Object[]) {
+            for (final Object o : (Object[]) object) {
+                if (!isAttachable(o, true)) return false;
+            }
+        }
+        return true;
+    }
+
+    private Traverser.Admin<S> read(final Input input) {
+        final long bulk = input.readLong();
+        final Object object = this.attach(this.kryo.readClassAndObject(input));
+        final List<Object> projections = (List<Object>) this.kryo.readClassAndObject(input);
+        if (null != projections)
+            projections.replaceAll(this::attach);
+
+        final Traverser.Admin<S> traverser = this.prototype.split((S) object, (Step) this.step);
+        traverser.setBulk(bulk);
+        return null == projections ? traverser : new ProjectedTraverser(traverser, projections);
+    }
+
+    private Object attach(final Object object) {
+        if (null != this.graph && object instanceof Attachable)
+            return ((Attachable) object).attach(Attachable.Method.get(this.graph));
+        return object;
+    }
+
+    /**
+     * Reads the traversers of a single run file and deletes the file once it is exhausted.
+     */
+    private final class RunIterator implements Iterator<Traverser.Admin<S>> {
+        private final File run;
+        private Input input;
+        private Traverser.Admin<S> next;
+
+        private RunIterator(final File run) {
+            this.run = run;
+            try {
+                this.input = new Input(new FileInputStream(run));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == this.next && null != this.input) {
+                try {
+                    if (this.input.eof()) {
+                        this.close();
+                        return false;
+                    }
+                    this.next = read(this.input);
+                } catch (KryoException ex) {
+                    this.close();
+                    throw new UncheckedIOException(new IOException("Could not read spill file " + this.run, ex));
+                }
+            }
+            return null != this.next;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            final Traverser.Admin<S> traverser = this.next;
+            this.next = null;
+            return traverser;
+        }
+
+        private void close() {
+            if (null == this.input)
+                return;
+            try {
+                this.input.close();
+            } catch (KryoException ex) {
+                logger.warn("Could not close spill file {}", this.run);
+            }
+            this.input = null;
+            if (!this.run.delete())
+                logger.warn("Could not delete spill file {}", this.run);
+        }
+    }
+
+    /**
+     * A k-way merge of sorted sources where ties are broken by the index of the source so that the merge is stable.
+     */
+    private final class MergeIterator implements Iterator<Traverser.Admin<S>> {
+        private final List<Iterator<Traverser.Admin<S>>> sources;
+        private final PriorityQueue<Head> heads;
+
+        private MergeIterator(final List<Iterator<Traverser.Admin<S>>> sources) {
+            this.sources = sources;
+            this.heads = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+                final int comparison = comparator.compare(a.traverser, b.traverser);
+                return 0 == comparison ? Integer.compare(a.source, b.source) : comparison;
+            });
+            for (int i = 0; i < sources.size(); i++) {
+                this.advance(i);
+            }
+        }
+
+        private void advance(final int source) {
+            final Iterator<Traverser.Admin<S>> iterator = this.sources.get(source);
+            if (iterator.hasNext())
+                this.heads.add(new Head(iterator.next(), source));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heads.isEmpty();
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            final Head head = this.heads.poll();
+            if (null == head)
+                throw new NoSuchElementException();
+            this.advance(head.source);
+            return head.traverser;
+        }
+    }
+
+    private final class Head {
+        private final Traverser.Admin<S> traverser;
+        private final int source;
+
+        private Head(final Traverser.Admin<S> traverser, final int source) {
+            this.traverser = traverser;
+            this.source = source;
+        }
+    }
+}
@@ -48,6 +48,7 @@ public final class AndP<V> extends ConnectiveP<V> {
             this.predicates.addAll(((AndP) predicate).getPredicates());
         else
             this.predicates.add((P<V>) predicate);
+        this.resetCompiledPredicate();
         return this;
     }
 
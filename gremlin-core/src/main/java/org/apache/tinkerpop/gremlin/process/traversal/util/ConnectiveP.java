@@ -50,6 +50,7 @@ public abstract class ConnectiveP<V> extends P<V> {
             negated.add(predicate.negate());
         }
         this.predicates = negated;
+        this.resetCompiledPredicate();
         return this;
     }
 
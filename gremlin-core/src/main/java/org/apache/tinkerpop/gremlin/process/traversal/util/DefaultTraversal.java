@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.remote.traversal.step.map.RemoteStep;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -46,6 +47,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -67,6 +69,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     protected Set<TraverserRequirement> requirements;
     protected boolean locked = false;
     protected Bytecode bytecode; // TODO: perhaps make transient until 3.3.0?
+    protected transient TraversalMemo memo;
+    private transient TraversalEvents.Timed executionEvent;
 
 
     private DefaultTraversal(final Graph graph, final TraversalStrategies traversalStrategies, final Bytecode bytecode) {
@@ -141,7 +145,9 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             final Iterator<TraversalStrategy<?>> strategyIterator = this.strategies.iterator();
             while (strategyIterator.hasNext()) {
                 final TraversalStrategy<?> strategy = strategyIterator.next();
+                final TraversalEvents.Timed event = TraversalEvents.strategyApplication(strategy);
                 TraversalHelper.applyTraversalRecursively(strategy::apply, this);
+                event.commit();
             }
 
             // don't need to re-apply strategies to "this" - leads to endless recursion in GraphComputer.
@@ -160,6 +166,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         // finalize requirements
         if (this.isRoot()) {
             resetTraverserRequirements();
+            this.executionEvent = TraversalEvents.traversal(this);
         }
         this.locked = true;
     }
@@ -207,6 +214,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
                 return this.finalEndStep.next();
             }
         } catch (final FastNoSuchElementException e) {
+            this.commitExecutionEvent();
             throw this.isRoot() ? new NoSuchElementException() : e;
         }
     }
@@ -214,7 +222,26 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public boolean hasNext() {
         if (!this.locked) this.applyStrategies();
-        return this.lastTraverser.bulk() > 0L || this.finalEndStep.hasNext();
+        if (this.lastTraverser.bulk() > 0L || this.finalEndStep.hasNext())
+            return true;
+        this.commitExecutionEvent();
+        return false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        this.commitExecutionEvent();
+        Traversal.Admin.super.close();
+    }
+
+    /**
+     * Ends the execution event of a root traversal the first time it is exhausted or closed.
+     */
+    private void commitExecutionEvent() {
+        if (null != this.executionEvent) {
+            this.executionEvent.commit();
+            this.executionEvent = null;
+        }
     }
 
     @Override
@@ -234,6 +261,28 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         }
     }
 
+    @Override
+    public CompletableFuture<List<E>> nextAsync(final int amount) {
+        if (!this.locked) this.applyStrategies();
+        if (!(this.finalEndStep instanceof RemoteStep))
+            return Traversal.Admin.super.nextAsync(amount);
+
+        // unroll whatever bulk is left over from a call to next() before asking the remote for more
+        final List<E> results = new ArrayList<>();
+        while (results.size() < amount && this.lastTraverser.bulk() > 0L) {
+            results.add(this.lastTraverser.get());
+            this.lastTraverser.setBulk(this.lastTraverser.bulk() - 1L);
+        }
+
+        if (results.size() == amount)
+            return CompletableFuture.completedFuture(results);
+
+        return ((RemoteStep<?, E>) this.finalEndStep).nextAsync(amount - results.size()).thenApply(more -> {
+            results.addAll(more);
+            return results;
+        });
+    }
+
     @Override
     public void reset() {
         this.steps.forEach(Step::reset);
@@ -272,12 +321,16 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     public DefaultTraversal<S, E> clone() {
         try {
             final DefaultTraversal<S, E> clone = (DefaultTraversal<S, E>) super.clone();
+            // the bytecode of a locked traversal no longer changes so copies of a template can share it
+            final boolean instantiating = this.locked && TraversalTemplate.isInstantiating();
             clone.lastTraverser = EmptyTraverser.instance();
+            clone.executionEvent = null;
             clone.steps = new ArrayList<>();
             clone.unmodifiableSteps = Collections.unmodifiableList(clone.steps);
             clone.sideEffects = this.sideEffects.clone();
             clone.strategies = this.strategies;
-            clone.bytecode = this.bytecode.clone();
+            clone.bytecode = instantiating ? this.bytecode : this.bytecode.clone();
+            clone.memo = null == this.memo ? null : new TraversalMemo(this.memo.getMaxSize());
             for (final Step<?, ?> step : this.steps) {
                 final Step<?, ?> clonedStep = step.clone();
                 clonedStep.setTraversal(clone);
@@ -287,12 +340,26 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
                 clone.steps.add(clonedStep);
             }
             clone.finalEndStep = clone.getEndStep();
+            if (instantiating && clone.isRoot())
+                clone.executionEvent = TraversalEvents.traversal(clone);
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Gets the {@link TraversalMemo} that caches the results of this traversal per start object or {@code null} if
+     * its results are not memoized.
+     */
+    public TraversalMemo getMemo() {
+        return this.memo;
+    }
+
+    public void setMemo(final TraversalMemo memo) {
+        this.memo = memo;
+    }
+
     @Override
     public boolean isLocked() {
         return this.locked;
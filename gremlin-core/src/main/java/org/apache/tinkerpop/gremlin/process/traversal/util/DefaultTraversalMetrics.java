@@ -184,9 +184,13 @@ public final class DefaultTraversalMetrics implements TraversalMetrics, Serializ
                 if (!onGraphComputer) {
                     // subtract upstream duration.
                     final long durBeforeAdjustment = metrics.getDuration(TimeUnit.NANOSECONDS);
-                    // adjust duration
-                    metrics.setDuration(metrics.getDuration(TimeUnit.NANOSECONDS) - prevDur, TimeUnit.NANOSECONDS);
+                    // adjust duration - estimates of sampled timers may leave less than the upstream duration
+                    metrics.setDuration(Math.max(0L, metrics.getDuration(TimeUnit.NANOSECONDS) - prevDur), TimeUnit.NANOSECONDS);
                     prevDur = durBeforeAdjustment;
+
+                    final long peakMemory = traversal.getSideEffects().getMemoryQuota().getPeak(step.getPreviousStep().getId());
+                    if (peakMemory > 0)
+                        metrics.setAnnotation(PEAK_MEMORY_KEY, peakMemory);
                 }
 
                 if (parentMetrics != null) {
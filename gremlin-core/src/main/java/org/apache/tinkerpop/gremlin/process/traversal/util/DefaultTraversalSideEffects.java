@@ -44,6 +44,8 @@ public class DefaultTraversalSideEffects implements TraversalSideEffects {
     protected UnaryOperator sackSplitOperator = null;
     protected BinaryOperator sackMergeOperator = null;
     protected Supplier sackInitialValue = null;
+    protected transient TraversalCancellation cancellation = TraversalCancellation.NONE;
+    protected transient TraversalMemoryQuota memoryQuota = TraversalMemoryQuota.NONE;
 
     public DefaultTraversalSideEffects() {
 
@@ -196,6 +198,39 @@ public class DefaultTraversalSideEffects implements TraversalSideEffects {
         return Collections.unmodifiableSet(this.keys);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TraversalCancellation getCancellation() {
+        // the field is transient and thus null after deserialization
+        return null == this.cancellation ? TraversalCancellation.NONE : this.cancellation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCancellation(final TraversalCancellation cancellation) {
+        this.cancellation = null == cancellation ? TraversalCancellation.NONE : cancellation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TraversalMemoryQuota getMemoryQuota() {
+        return null == this.memoryQuota ? TraversalMemoryQuota.NONE : this.memoryQuota;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMemoryQuota(final TraversalMemoryQuota memoryQuota) {
+        this.memoryQuota = null == memoryQuota ? TraversalMemoryQuota.NONE : memoryQuota;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+
+/**
+ * The Flight Recorder events behind {@link TraversalEvents}. This is the only class that refers to {@code jdk.jfr}
+ * and it is only instantiated reflectively by {@link TraversalEvents} once emission is enabled.
+ */
+final class FlightRecorderEvents implements TraversalEvents.Recorder {
+
+    FlightRecorderEvents() {
+    }
+
+    @Override
+    public TraversalEvents.Timed strategyApplication(final TraversalStrategy<?> strategy) {
+        final StrategyApplicationEvent event = new StrategyApplicationEvent();
+        if (event.isEnabled()) {
+            event.strategy = strategy.getClass().getName();
+            event.category = strategy.getTraversalCategory().getSimpleName();
+            event.begin();
+        }
+        return event;
+    }
+
+    @Override
+    public TraversalEvents.Timed traversal(final Traversal.Admin<?, ?> traversal) {
+        final String fingerprint = TraversalEvents.getFingerprint(traversal);
+        final TraversalStartEvent start = new TraversalStartEvent();
+        if (start.isEnabled()) {
+            start.fingerprint = fingerprint;
+            start.commit();
+        }
+        final TraversalEvent event = new TraversalEvent();
+        if (event.isEnabled()) {
+            event.fingerprint = fingerprint;
+            event.begin();
+        }
+        return event;
+    }
+
+    @Override
+    public void barrier(final Step<?, ?> step, final TraverserSet<?> barrier) {
+        final BarrierEvent event = new BarrierEvent();
+        if (event.isEnabled()) {
+            event.step = step.getClass().getSimpleName();
+            event.stepId = step.getId();
+            event.traversers = barrier.size();
+            event.bulk = barrier.bulkSize();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void traverserSetGrowth(final int size) {
+        final TraverserSetGrowthEvent event = new TraverserSetGrowthEvent();
+        if (event.isEnabled()) {
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    @Name("org.apache.tinkerpop.StrategyApplication")
+    @Label("Strategy Application")
+    @Description("The application of a traversal strategy to a root traversal and its children")
+    @Category({"TinkerPop", "Traversal"})
+    @StackTrace(false)
+    static final class StrategyApplicationEvent extends Event implements TraversalEvents.Timed {
+        @Label("Strategy")
+        String strategy;
+
+        @Label("Category")
+        String category;
+    }
+
+    @Name("org.apache.tinkerpop.TraversalStart")
+    @Label("Traversal Start")
+    @Description("The start of the execution of a root traversal")
+    @Category({"TinkerPop", "Traversal"})
+    @StackTrace(false)
+    static final class TraversalStartEvent extends Event {
+        @Label("Fingerprint")
+        @Description("The hash of the bytecode of the traversal")
+        String fingerprint;
+    }
+
+    @Name("org.apache.tinkerpop.Traversal")
+    @Label("Traversal")
+    @Description("The execution of a root traversal from its start until it is exhausted or closed")
+    @Category({"TinkerPop", "Traversal"})
+    @StackTrace(false)
+    static final class TraversalEvent extends Event implements TraversalEvents.Timed {
+        @Label("Fingerprint")
+        @Description("The hash of the bytecode of the traversal")
+        String fingerprint;
+    }
+
+    @Name("org.apache.tinkerpop.Barrier")
+    @Label("Barrier Materialization")
+    @Description("The traversers a barrier step collected before passing them on")
+    @Category({"TinkerPop", "Traversal"})
+    @StackTrace(false)
+    static final class BarrierEvent extends Event {
+        @Label("Step")
+        String step;
+
+        @Label("Step Id")
+        String stepId;
+
+        @Label("Traversers")
+        int traversers;
+
+        @Label("Bulk")
+        long bulk;
+    }
+
+    @Name("org.apache.tinkerpop.TraverserSetGrowth")
+    @Label("Traverser Set Growth")
+    @Description("A set of traversers grew to the size of a power of two")
+    @Category({"TinkerPop", "Traversal"})
+    @StackTrace(false)
+    static final class TraverserSetGrowthEvent extends Event {
+        @Label("Size")
+        int size;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Estimates the number of bytes that an object retains on the heap for the accounting of a
+ * {@link TraversalMemoryQuota}. The estimate assumes a 64-bit JVM and is computed from the structure of the object
+ * rather than by measuring it. Collections, maps, {@link BulkSet}, {@link TraverserSet} and
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.Tree} (a map) are estimated from their size and
+ * the average size of a few sampled entries, so that estimating a large barrier or reduction visits a bounded number
+ * of objects. Graph elements are counted as references since they are typically held by the graph anyway.
+ */
+public final class MemoryEstimator {
+
+    static final long HEADER = 16L;
+    static final long REFERENCE = 8L;
+    static final long ENTRY = 32L;
+    static final long COLLECTION = 64L;
+    static final long ELEMENT = 64L;
+    static final long OBJECT = 32L;
+
+    /**
+     * The number of entries of a collection or map that are estimated to compute the average size of its entries.
+     */
+    static final int SAMPLES = 8;
+
+    /**
+     * The number of objects an estimate visits at most. Objects beyond it count as {@link #OBJECT}.
+     */
+    static final int BUDGET = 256;
+
+    private MemoryEstimator() {
+    }
+
+    /**
+     * Estimates the number of bytes that the object retains.
+     */
+    public static long estimate(final Object object) {
+        return estimate(object, new int[]{BUDGET});
+    }
+
+    private static long estimate(final Object object, final int[] budget) {
+        if (null == object)
+            return 0L;
+        if (budget[0]-- <= 0)
+            return OBJECT;
+
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character)
+            return object instanceof Long || object instanceof Double ? HEADER + 8L : HEADER;
+        else if (object instanceof Enum)
+            return 0L;
+        else if (object instanceof CharSequence)
+            return HEADER + 24L + 2L * ((CharSequence) object).length();
+        else if (object instanceof Element || object instanceof Property)
+            return ELEMENT;
+        else if (object instanceof Traverser)
+            return estimateTraverser((Traverser<?>) object, budget);
+        else if (object instanceof TraverserSet)
+            return COLLECTION + sampled(((TraverserSet<?>) object).iterator(), ((TraverserSet<?>) object).size(), ENTRY, budget);
+        else if (object instanceof BulkSet)
+            return COLLECTION + sampled(((BulkSet<?>) object).asBulk().keySet().iterator(), ((BulkSet<?>) object).uniqueSize(), ENTRY + HEADER + 8L, budget);
+        else if (object instanceof Map)
+            return COLLECTION + sampledEntries((Map<?, ?>) object, budget);
+        else if (object instanceof Collection)
+            return COLLECTION + sampled(((Collection<?>) object).iterator(), ((Collection<?>) object).size(), REFERENCE, budget);
+        else if (object instanceof Path)
+            return COLLECTION + sampled(((Path) object).objects().iterator(), ((Path) object).size(), 2 * REFERENCE, budget);
+        else if (object.getClass().isArray())
+            return estimateArray(object, budget);
+        else
+            return OBJECT;
+    }
+
+    private static long estimateTraverser(final Traverser<?> traverser, final int[] budget) {
+        // the objects of a path are mostly shared with other traversers so only the references are counted
+        return 48L + estimate(traverser.get(), budget) + REFERENCE * traverser.path().size();
+    }
+
+    private static long sampledEntries(final Map<?, ?> map, final int[] budget) {
+        final int size = map.size();
+        if (0 == size) return 0L;
+        long sampled = 0L;
+        int count = 0;
+        final Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+        while (count < SAMPLES && entries.hasNext()) {
+            final Map.Entry<?, ?> entry = entries.next();
+            sampled += estimate(entry.getKey(), budget) + estimate(entry.getValue(), budget);
+            count++;
+        }
+        return size * (ENTRY + sampled / count);
+    }
+
+    private static long sampled(final Iterator<?> iterator, final int size, final long overhead, final int[] budget) {
+        if (0 == size) return 0L;
+        long sampled = 0L;
+        int count = 0;
+        while (count < SAMPLES && iterator.hasNext()) {
+            sampled += estimate(iterator.next(), budget);
+            count++;
+        }
+        return size * (overhead + (0 == count ? 0L : sampled / count));
+    }
+
+    private static long estimateArray(final Object array, final int[] budget) {
+        final int length = Array.getLength(array);
+        if (array.getClass().getComponentType().isPrimitive())
+            return HEADER + 8L * length;
+        long sampled = 0L;
+        final int count = Math.min(length, SAMPLES);
+        for (int i = 0; i < count; i++) {
+            sampled += estimate(Array.get(array, i), budget);
+        }
+        return HEADER + length * (REFERENCE + (0 == count ? 0L : sampled / count));
+    }
+}
@@ -90,6 +90,18 @@ public class MutableMetrics extends ImmutableMetrics implements Cloneable {
         this.tempTime = -1;
     }
 
+    /**
+     * Stops the timer for this metric and increments the overall duration by the elapsed time multiplied by the
+     * specified weight. A timer that is only started for a sample of the operations uses the reciprocal of the sample
+     * rate as the weight so that the duration is extrapolated to all operations.
+     */
+    public void stop(final double weight) {
+        if (finalized) throw new IllegalStateException("Metrics have been finalized and cannot be modified");
+        if (-1 == this.tempTime) throw new IllegalStateException("Internal Error: Metrics has not been started. Start timer before stopping timer");
+        this.durationNs = this.durationNs + Math.round((System.nanoTime() - this.tempTime) * weight);
+        this.tempTime = -1;
+    }
+
     /**
      * Increments a count metric.
      */
@@ -236,6 +248,13 @@ public class MutableMetrics extends ImmutableMetrics implements Cloneable {
 
     public void finish(final long bulk) {
         stop();
+        count(bulk);
+    }
+
+    /**
+     * Counts a traverser with the specified bulk without touching the timer.
+     */
+    public void count(final long bulk) {
         incrementCount(TraversalMetrics.TRAVERSER_COUNT_ID, 1);
         incrementCount(TraversalMetrics.ELEMENT_COUNT_ID, bulk);
     }
@@ -48,6 +48,7 @@ public final class OrP<V> extends ConnectiveP<V> {
             this.predicates.addAll(((OrP) predicate).getPredicates());
         else
             this.predicates.add((P<V>) predicate);
+        this.resetCompiledPredicate();
         return this;
     }
 
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link P} into a specialized {@code Predicate} that gives the same results as the {@link P} but avoids
+ * its generic evaluation for the most common cases:
+ * <ul>
+ *     <li>{@code within()} and {@code without()} of at least {@link #MIN_HASHED_SIZE} values are tested against hash
+ *     sets instead of scanning the values.</li>
+ *     <li>{@code eq()}, {@code neq()}, {@code gt()}, {@code gte()}, {@code lt()} and {@code lte()} of an integral
+ *     or {@code Double} value as well as {@code and()} and {@code or()} of such comparisons (e.g. {@code inside()} or
+ *     {@code between()}) are evaluated as primitive range checks.</li>
+ * </ul>
+ * Values that the specialized predicate can not decide on its own (e.g. {@code Float}, {@code BigDecimal} or
+ * {@code NaN}) are tested with the {@link P} as usual.
+ */
+public final class PredicateCompiler {
+
+    /**
+     * The minimum number of values of a {@code within()} or {@code without()} to test against hash sets.
+     */
+    public static final int MIN_HASHED_SIZE = 4;
+
+    private PredicateCompiler() {
+    }
+
+    /**
+     * Compiles the {@link P} or returns {@code null} if there is no specialization for it.
+     */
+    public static <V> Predicate<V> compile(final P<V> predicate) {
+        if (predicate instanceof AndP || predicate instanceof OrP)
+            return (Predicate<V>) compileComparisons((ConnectiveP<V>) predicate);
+        if (predicate instanceof ConnectiveP)
+            return null;
+        if (predicate.getBiPredicate() instanceof Contains)
+            return (Predicate<V>) compileContains(predicate);
+        if (predicate.getBiPredicate() instanceof Compare && isPrimitiveNumber(predicate.getValue()))
+            return (Predicate<V>) new Comparisons(predicate, new Compare[]{(Compare) predicate.getBiPredicate()},
+                    new Number[]{(Number) predicate.getValue()}, true);
+        return null;
+    }
+
+    private static Predicate<Object> compileContains(final P<?> predicate) {
+        if (!(predicate.getValue() instanceof Collection))
+            return null;
+        final Collection<?> values = (Collection<?>) predicate.getValue();
+        if (values.size() < MIN_HASHED_SIZE)
+            return null;
+        final Set<Object> objects = new HashSet<>();
+        final Set<Long> longs = new HashSet<>();
+        final Set<Double> doubles = new HashSet<>();
+        final Set<Double> doubleValues = new HashSet<>();
+        for (final Object value : values) {
+            if (value instanceof Number) {
+                if (!isPrimitiveNumber(value))
+                    return null;
+                final Number number = (Number) value;
+                if (number instanceof Double)
+                    doubles.add(number.doubleValue());
+                else
+                    longs.add(number.longValue());
+                doubleValues.add(number.doubleValue());
+            } else
+                objects.add(value);
+        }
+        return new HashedContains(predicate, Contains.within == predicate.getBiPredicate(), objects, longs, doubles, doubleValues);
+    }
+
+    private static Predicate<Object> compileComparisons(final ConnectiveP<?> predicate) {
+        final List<? extends P<?>> predicates = predicate.getPredicates();
+        final Compare[] compares = new Compare[predicates.size()];
+        final Number[] values = new Number[predicates.size()];
+        for (int i = 0; i < compares.length; i++) {
+            final P<?> p = predicates.get(i);
+            if (p instanceof ConnectiveP || !(p.getBiPredicate() instanceof Compare) || !isPrimitiveNumber(p.getValue()))
+                return null;
+            compares[i] = (Compare) p.getBiPredicate();
+            values[i] = (Number) p.getValue();
+        }
+        return new Comparisons(predicate, compares, values, predicate instanceof AndP);
+    }
+
+    /**
+     * Determines if the value is a number that is compared by its {@code long} value or a {@code Double} that is not
+     * {@code NaN}, i.e. a number whose comparisons to other such numbers can be decided with primitive comparisons.
+     */
+    private static boolean isPrimitiveNumber(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ||
+                (value instanceof Double && !Double.isNaN((Double) value));
+    }
+
+    private static final class HashedContains implements Predicate<Object> {
+
+        private final P predicate;
+        private final boolean within;
+        private final Set<Object> objects;
+        private final Set<Long> longs;
+        private final Set<Double> doubles;
+        private final Set<Double> doubleValues;
+
+        private HashedContains(final P<?> predicate, final boolean within, final Set<Object> objects,
+                               final Set<Long> longs, final Set<Double> doubles, final Set<Double> doubleValues) {
+            this.predicate = predicate;
+            this.within = within;
+            this.objects = objects;
+            this.longs = longs;
+            this.doubles = doubles;
+            this.doubleValues = doubleValues;
+        }
+
+        @Override
+        public boolean test(final Object value) {
+            final boolean contained;
+            if (!(value instanceof Number))
+                contained = this.objects.contains(value);
+            else if (!isPrimitiveNumber(value))
+                return this.predicate.getBiPredicate().test(value, this.predicate.getValue());
+            else if (value instanceof Double)
+                // a double equals both integral and floating point values by its double value
+                contained = this.doubleValues.contains(value);
+            else {
+                // an integral value equals integral values exactly and floating point values by its double value
+                final long longValue = ((Number) value).longValue();
+                contained = this.longs.contains(longValue) || (!this.doubles.isEmpty() && this.doubles.contains((double) longValue));
+            }
+            return contained == this.within;
+        }
+    }
+
+    private static final class Comparisons implements Predicate<Object> {
+
+        private final P predicate;
+        private final Compare[] compares;
+        private final boolean[] floatingPoint;
+        private final long[] longs;
+        private final double[] doubles;
+        private final boolean conjunction;
+
+        private Comparisons(final P<?> predicate, final Compare[] compares, final Number[] values, final boolean conjunction) {
+            this.predicate = predicate;
+            this.compares = compares;
+            this.floatingPoint = new boolean[values.length];
+            this.longs = new long[values.length];
+            this.doubles = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                this.floatingPoint[i] = values[i] instanceof Double;
+                this.longs[i] = values[i].longValue();
+                this.doubles[i] = values[i].doubleValue();
+            }
+            this.conjunction = conjunction;
+        }
+
+        @Override
+        public boolean test(final Object value) {
+            if (!isPrimitiveNumber(value))
+                return this.predicate.getBiPredicate().test(value, this.predicate.getValue());
+            final boolean isDouble = value instanceof Double;
+            final long longValue = ((Number) value).longValue();
+            final double doubleValue = ((Number) value).doubleValue();
+            for (int i = 0; i < this.compares.length; i++) {
+                final int comparison = isDouble || this.floatingPoint[i] ?
+                        Double.compare(doubleValue, this.doubles[i]) :
+                        Long.compare(longValue, this.longs[i]);
+                if (test(this.compares[i], comparison) != this.conjunction)
+                    return !this.conjunction;
+            }
+            return this.conjunction;
+        }
+
+        private static boolean test(final Compare compare, final int comparison) {
+            switch (compare) {
+                case eq:
+                    return comparison == 0;
+                case neq:
+                    return comparison != 0;
+                case gt:
+                    return comparison > 0;
+                case gte:
+                    return comparison >= 0;
+                case lt:
+                    return comparison < 0;
+                default:
+                    return comparison <= 0;
+            }
+        }
+    }
+}
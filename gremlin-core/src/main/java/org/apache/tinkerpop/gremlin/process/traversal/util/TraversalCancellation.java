@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token that cooperatively stops the execution of a {@link Traversal} once it is cancelled or once its deadline has
+ * passed. The token is carried by the {@link TraversalSideEffects} of a traversal, which are shared by its children,
+ * and steps check it every {@link AbstractStep#CANCELLATION_CHECK_INTERVAL} traversers and whenever a barrier has
+ * been filled. A check throws a {@link TraversalInterruptedException} if the token is cancelled, if the deadline has
+ * passed or if the executing thread was interrupted. The token may be cancelled from any thread.
+ */
+public final class TraversalCancellation {
+
+    /**
+     * A token without a deadline that can not be cancelled so that checks only respect thread interruption.
+     */
+    public static final TraversalCancellation NONE = new TraversalCancellation(false, 0L);
+
+    private final boolean hasDeadline;
+    private final long deadline;
+    private volatile boolean cancelled = false;
+
+    private TraversalCancellation(final boolean hasDeadline, final long deadline) {
+        this.hasDeadline = hasDeadline;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Creates a token without a deadline that stops the traversal once it is {@link #cancel() cancelled}.
+     */
+    public static TraversalCancellation create() {
+        return new TraversalCancellation(false, 0L);
+    }
+
+    /**
+     * Creates a token that stops the traversal once the timeout has elapsed from now or once it is
+     * {@link #cancel() cancelled}. A timeout that is not positive means that there is no deadline.
+     */
+    public static TraversalCancellation withTimeout(final long timeout, final TimeUnit unit) {
+        return timeout > 0 ?
+                new TraversalCancellation(true, System.nanoTime() + unit.toNanos(timeout)) :
+                new TraversalCancellation(false, 0L);
+    }
+
+    /**
+     * Cancels the traversals that carry this token. They stop at their next check.
+     *
+     * @throws IllegalStateException if this is {@link #NONE}
+     */
+    public void cancel() {
+        if (this == NONE)
+            throw new IllegalStateException("The empty cancellation token can not be cancelled");
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Determines if the deadline of the token has passed.
+     */
+    public boolean isExpired() {
+        return this.hasDeadline && System.nanoTime() - this.deadline >= 0L;
+    }
+
+    /**
+     * Gets the time remaining until the deadline which is negative once it has passed or {@code Long.MAX_VALUE} if
+     * there is no deadline.
+     */
+    public long getRemaining(final TimeUnit unit) {
+        return this.hasDeadline ? unit.convert(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Stops the traversal if the token is cancelled, if its deadline has passed or if the current thread was
+     * interrupted. As with {@link Thread#interrupted()}, the interrupted status of the thread is cleared.
+     *
+     * @throws TraversalInterruptedException if the traversal has to stop
+     */
+    public void check() {
+        if (Thread.interrupted())
+            throw new TraversalInterruptedException();
+        if (this.cancelled)
+            throw new TraversalInterruptedException("The traversal was cancelled");
+        if (this.isExpired())
+            throw new TraversalInterruptedException("The traversal exceeded its deadline");
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+
+/**
+ * Emits JDK Flight Recorder events for the execution of traversals so that latency can be diagnosed in production
+ * without {@code profile()}. Events cover the application of each strategy, the execution of root traversals
+ * (identified by a fingerprint of their bytecode), the materialization of barriers and the growth of large
+ * {@link TraverserSet} instances. Emission is disabled by default and is enabled with the {@link #ENABLED} system
+ * property or {@link #setEnabled(boolean)}. Once enabled, which events are recorded and their thresholds are
+ * configured with the usual JFR settings of a recording. The Flight Recorder implementation is loaded reflectively
+ * when emission is enabled and nothing else refers to {@code jdk.jfr}, so on JVMs without Flight Recorder the hooks
+ * fall back to a no-op.
+ */
+public final class TraversalEvents {
+
+    /**
+     * The system property that enables the emission of events on startup.
+     */
+    public static final String ENABLED = "tinkerpop.jfr.enabled";
+
+    /**
+     * The smallest size of a {@link TraverserSet} for which growth events are emitted. Growth is reported whenever
+     * the size of a set reaches a power of two from this size on.
+     */
+    public static final int TRAVERSER_SET_GROWTH_THRESHOLD = 1024;
+
+    private static final String FLIGHT_RECORDER_EVENTS = TraversalEvents.class.getPackage().getName() + ".FlightRecorderEvents";
+
+    private static final Timed NONE = () -> {
+    };
+
+    private static final Recorder NO_OP = new Recorder() {
+        @Override
+        public Timed strategyApplication(final TraversalStrategy<?> strategy) {
+            return NONE;
+        }
+
+        @Override
+        public Timed traversal(final Traversal.Admin<?, ?> traversal) {
+            return NONE;
+        }
+
+        @Override
+        public void barrier(final Step<?, ?> step, final TraverserSet<?> barrier) {
+        }
+
+        @Override
+        public void traverserSetGrowth(final int size) {
+        }
+    };
+
+    private static volatile Recorder recorder = Boolean.getBoolean(ENABLED) ? loadRecorder() : NO_OP;
+
+    private TraversalEvents() {
+    }
+
+    /**
+     * An event that measures the duration between its creation and its {@link #commit()}.
+     */
+    public interface Timed {
+        public void commit();
+    }
+
+    /**
+     * The hooks that the events are emitted through which are implemented by {@code FlightRecorderEvents}.
+     */
+    interface Recorder {
+        public Timed strategyApplication(final TraversalStrategy<?> strategy);
+
+        public Timed traversal(final Traversal.Admin<?, ?> traversal);
+
+        public void barrier(final Step<?, ?> step, final TraverserSet<?> barrier);
+
+        public void traverserSetGrowth(final int size);
+    }
+
+    /**
+     * Determines if Flight Recorder is available in this JVM.
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return recorder != NO_OP;
+    }
+
+    /**
+     * Enables or disables the emission of events.
+     *
+     * @throws IllegalStateException if emission is enabled on a JVM without Flight Recorder
+     */
+    public static void setEnabled(final boolean enabled) {
+        if (!enabled) {
+            recorder = NO_OP;
+            return;
+        }
+
+        final Recorder flightRecorder = loadRecorder();
+        if (flightRecorder == NO_OP)
+            throw new IllegalStateException("JDK Flight Recorder is not available in this JVM");
+        recorder = flightRecorder;
+    }
+
+    private static Recorder loadRecorder() {
+        if (!isAvailable())
+            return NO_OP;
+        try {
+            return (Recorder) Class.forName(FLIGHT_RECORDER_EVENTS).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return NO_OP;
+        }
+    }
+
+    /**
+     * Begins the event for the application of a strategy to a root traversal and its children.
+     */
+    public static Timed strategyApplication(final TraversalStrategy<?> strategy) {
+        return recorder.strategyApplication(strategy);
+    }
+
+    /**
+     * Emits the start of the execution of a root traversal and begins the event that measures it until it is
+     * exhausted or closed.
+     */
+    public static Timed traversal(final Traversal.Admin<?, ?> traversal) {
+        return recorder.traversal(traversal);
+    }
+
+    /**
+     * Emits the traversers that a barrier step collected before passing them on.
+     */
+    public static void barrier(final Step<?, ?> step, final TraverserSet<?> barrier) {
+        recorder.barrier(step, barrier);
+    }
+
+    /**
+     * Emits the growth of a {@link TraverserSet} to the specified size if it is worth reporting.
+     */
+    public static void traverserSetGrowth(final int size) {
+        if (size >= TRAVERSER_SET_GROWTH_THRESHOLD && (size & (size - 1)) == 0)
+            recorder.traverserSetGrowth(size);
+    }
+
+    /**
+     * Gets a fingerprint of the bytecode of the traversal that is stable for equal bytecode.
+     */
+    public static String getFingerprint(final Traversal.Admin<?, ?> traversal) {
+        return null == traversal.getBytecode() ? "" : String.format("%08x", traversal.getBytecode().hashCode());
+    }
+}
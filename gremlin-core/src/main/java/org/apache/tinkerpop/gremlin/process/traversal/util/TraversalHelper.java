@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -26,33 +27,47 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConnectiveStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertyMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.javatuples.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -68,6 +83,13 @@ import java.util.function.Predicate;
  */
 public final class TraversalHelper {
 
+    private static final List<Class> NON_MEMOIZABLE_STEPS = Arrays.asList(LoopsStep.class, Mutating.class,
+            SideEffectCapable.class, SideEffectStep.class, LambdaHolder.class, Scoping.class, ProfileStep.class,
+            CoinStep.class, SampleGlobalStep.class, SampleLocalStep.class);
+    private static final Set<TraverserRequirement> NON_MEMOIZABLE_REQUIREMENTS = EnumSet.of(TraverserRequirement.PATH,
+            TraverserRequirement.LABELED_PATH, TraverserRequirement.SINGLE_LOOP, TraverserRequirement.NESTED_LOOP,
+            TraverserRequirement.SACK, TraverserRequirement.SIDE_EFFECTS);
+
     private TraversalHelper() {
     }
 
@@ -673,6 +695,49 @@ public final class TraversalHelper {
         return true;
     }
 
+    /**
+     * Determines if the results of the traversal only depend on the object it starts with, so that they can be
+     * reused for other traversers with an equal object. That is the case if none of its steps (including those of
+     * child traversals) depend on the path, loops, sacks or side-effects, or has side-effects, lambdas or randomness
+     * of its own.
+     */
+    public static boolean isMemoizable(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getSteps().isEmpty())
+            return false;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (!isMemoizable(step))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines if the results of the step (including those of its child traversals) only depend on the object of
+     * the incoming traverser. See {@link #isMemoizable(Traversal.Admin)}.
+     */
+    public static boolean isMemoizable(final Step<?, ?> step) {
+        if (NON_MEMOIZABLE_STEPS.stream().anyMatch(c -> c.isAssignableFrom(step.getClass())) ||
+                !Collections.disjoint(step.getRequirements(), NON_MEMOIZABLE_REQUIREMENTS))
+            return false;
+        if (step instanceof ComparatorHolder) {
+            for (final Pair<?, ?> comparator : ((ComparatorHolder<?, ?>) step).getComparators()) {
+                if (Order.shuffle == comparator.getValue1())
+                    return false;
+            }
+        }
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                if (!child.getSteps().stream().allMatch(TraversalHelper::isMemoizable))
+                    return false;
+            }
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                if (!child.getSteps().stream().allMatch(TraversalHelper::isMemoizable))
+                    return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean hasStepOfClass(final Traversal.Admin<?, ?> traversal, final Class<?>... classesToCheck) {
         for (final Step<?, ?> step : traversal.getSteps()) {
             for (final Class<?> classToCheck : classesToCheck) {
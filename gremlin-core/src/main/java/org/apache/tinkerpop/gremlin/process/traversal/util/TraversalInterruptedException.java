@@ -24,4 +24,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
  * Thrown if a {@link Traversal} is interrupted during execution. This is an unchecked exception.
  */
 public class TraversalInterruptedException extends RuntimeException {
+
+    public TraversalInterruptedException() {
+    }
+
+    public TraversalInterruptedException(final String message) {
+        super(message);
+    }
 }
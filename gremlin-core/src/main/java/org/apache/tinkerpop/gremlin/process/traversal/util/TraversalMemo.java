@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the results of a child {@link Traversal} keyed by the object that the child is started with. It
+ * is attached to a child with {@link DefaultTraversal#setMemo(TraversalMemo)} and consulted by {@link TraversalUtil}
+ * so that the child is only evaluated once for equal start objects. A memo must only be attached to traversals for
+ * which {@link TraversalHelper#isMemoizable(Traversal.Admin)} holds. Once full, the least recently used results are
+ * evicted.
+ */
+public final class TraversalMemo {
+
+    /**
+     * The maximum number of start objects for which results are retained.
+     */
+    public static final int MAX_SIZE = 10000;
+
+    private static final Object NULL = new Object();
+
+    private final int maxSize;
+    private Map<Object, Object> mapped;
+    private Map<Object, Boolean> tested;
+
+    public TraversalMemo() {
+        this(MAX_SIZE);
+    }
+
+    public TraversalMemo(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of a memo must be positive: " + maxSize);
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets the object that the child maps the start object to, computing it with the supplier if it is not cached.
+     */
+    public <E> E map(final Object start, final Supplier<E> supplier) {
+        if (null == this.mapped)
+            this.mapped = this.createCache();
+        final Object cached = this.mapped.get(start);
+        if (null != cached)
+            return NULL == cached ? null : (E) cached;
+        final E result = supplier.get();
+        this.mapped.put(start, null == result ? NULL : result);
+        return result;
+    }
+
+    /**
+     * Gets whether the start object passes the child, computing it with the supplier if it is not cached.
+     */
+    public boolean test(final Object start, final BooleanSupplier supplier) {
+        if (null == this.tested)
+            this.tested = this.createCache();
+        final Boolean cached = this.tested.get(start);
+        if (null != cached)
+            return cached;
+        final boolean result = supplier.getAsBoolean();
+        this.tested.put(start, result);
+        return result;
+    }
+
+    /**
+     * Gets the number of start objects for which results are currently cached.
+     */
+    public int size() {
+        return (null == this.mapped ? 0 : this.mapped.size()) + (null == this.tested ? 0 : this.tested.size());
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        this.mapped = null;
+        this.tested = null;
+    }
+
+    private <V> Map<Object, V> createCache() {
+        final int maxSize = this.maxSize;
+        return new LinkedHashMap<Object, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, V> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts the estimated heap that the barriers and reductions of a {@link Traversal} retain and fails the traversal
+ * with a {@link TraversalMemoryQuotaExceededException} once they exceed a limit. The quota is carried by the
+ * {@link TraversalSideEffects} of a traversal so that it is shared by its children. Steps charge the change of their
+ * estimated size with {@link #adjust(Step, long, long)} and release it once they have handed their barrier on. The sizes
+ * come from {@link MemoryEstimator} and are thus approximate, which is enough to stop a traversal long before it
+ * exhausts the heap. The peak size that each step retained is kept so that it can be reported by {@code profile()}.
+ */
+public final class TraversalMemoryQuota {
+
+    /**
+     * A quota that neither limits nor accounts memory so that steps skip estimating their sizes.
+     */
+    public static final TraversalMemoryQuota NONE = new TraversalMemoryQuota(0L);
+
+    private final long limit;
+    private final AtomicLong used = new AtomicLong(0L);
+    private final AtomicLong peak = new AtomicLong(0L);
+    private final Map<String, Long> stepPeaks = new ConcurrentHashMap<>();
+
+    private TraversalMemoryQuota(final long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a quota that fails the traversal once its steps retain more than the specified number of bytes. A limit
+     * that is not positive only accounts memory.
+     */
+    public static TraversalMemoryQuota of(final long limit) {
+        return new TraversalMemoryQuota(limit);
+    }
+
+    /**
+     * Creates a quota that only accounts memory.
+     */
+    public static TraversalMemoryQuota unlimited() {
+        return new TraversalMemoryQuota(0L);
+    }
+
+    /**
+     * Determines if steps have to account the memory they retain.
+     */
+    public boolean isAccounting() {
+        return this != NONE;
+    }
+
+    /**
+     * Gets the limit in bytes which is not positive if there is none.
+     */
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Gets the estimated number of bytes that the steps of the traversal currently retain.
+     */
+    public long getUsed() {
+        return this.used.get();
+    }
+
+    /**
+     * Gets the largest estimated number of bytes that the steps of the traversal retained at once.
+     */
+    public long getPeak() {
+        return this.peak.get();
+    }
+
+    /**
+     * Gets the largest estimated number of bytes that the step with the specified id retained or {@code 0} if it
+     * did not account any.
+     */
+    public long getPeak(final String stepId) {
+        return this.stepPeaks.getOrDefault(stepId, 0L);
+    }
+
+    /**
+     * Gets the largest estimated number of bytes that each step retained by the id of the step.
+     */
+    public Map<String, Long> getStepPeaks() {
+        return Collections.unmodifiableMap(this.stepPeaks);
+    }
+
+    /**
+     * Charges the change in the estimated size of what a step retains.
+     *
+     * @param step     the step which retains the memory
+     * @param retained the estimated number of bytes that the step retains now
+     * @param delta    the change from the size it retained before
+     * @throws TraversalMemoryQuotaExceededException if more memory is charged than the limit allows
+     */
+    public void adjust(final Step<?, ?> step, final long retained, final long delta) {
+        if (this == NONE || 0L == delta) return;
+        final long now = this.used.addAndGet(delta);
+        if (delta > 0L) {
+            this.peak.accumulateAndGet(now, Math::max);
+            this.stepPeaks.merge(step.getId(), retained, Math::max);
+            if (this.limit > 0L && now > this.limit)
+                throw new TraversalMemoryQuotaExceededException(this.limit, now, step);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+
+/**
+ * Thrown if the steps of a {@link org.apache.tinkerpop.gremlin.process.traversal.Traversal} retain more memory than
+ * its {@link TraversalMemoryQuota} allows. This is an unchecked exception.
+ */
+public class TraversalMemoryQuotaExceededException extends RuntimeException {
+
+    private final long limit;
+    private final long estimated;
+
+    public TraversalMemoryQuotaExceededException(final long limit, final long estimated, final Step<?, ?> step) {
+        super(String.format("The traversal exceeded its memory quota of %s bytes with an estimated %s bytes at %s", limit, estimated, step));
+        this.limit = limit;
+        this.estimated = estimated;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
+    public long getEstimated() {
+        return this.estimated;
+    }
+}
@@ -43,6 +43,12 @@ public interface TraversalMetrics {
      */
     public static final String PERCENT_DURATION_KEY = "percentDur";
 
+    /**
+     * The annotation key used to obtain the estimated peak number of bytes a step retained via
+     * Metrics.getAnnotation(String key). Steps that retained nothing are not annotated.
+     */
+    public static final String PEAK_MEMORY_KEY = "peakMemory";
+
     /**
      * Get the total duration taken by the Traversal.
      *
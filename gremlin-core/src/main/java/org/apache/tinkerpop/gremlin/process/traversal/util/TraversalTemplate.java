@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A root {@link Traversal} whose strategies are applied once so that executable copies of it can be created
+ * repeatedly without translating its {@link Bytecode} or applying its strategies again. The template itself is never
+ * iterated. A copy shares the bytecode and the {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer}
+ * instances of the template and only allocates its steps, side-effects and child traversals. Copies get their own
+ * {@link TraversalMemoryQuota} and no {@link TraversalCancellation} as these are set per execution. The initial
+ * values of {@code withSideEffect()} and {@code withSack()} would be shared by all copies as well, so a traversal can
+ * only be captured if those values are immutable (see {@link #canCapture(Bytecode)}).
+ *
+ * <pre>
+ * final TraversalTemplate&lt;Vertex, Object&gt; template = TraversalTemplate.of(g.V().has("name", "marko").values("age").asAdmin());
+ * template.instantiate().next();
+ * </pre>
+ */
+public final class TraversalTemplate<S, E> {
+
+    private static final ThreadLocal<Boolean> INSTANTIATING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class));
+
+    private final Traversal.Admin<S, E> prototype;
+
+    private TraversalTemplate(final Traversal.Admin<S, E> prototype) {
+        this.prototype = prototype;
+    }
+
+    /**
+     * Captures a copy of the specified root traversal as a template, applying its strategies if they were not yet
+     * applied. The traversal itself is left untouched and should not have been iterated.
+     */
+    public static <S, E> TraversalTemplate<S, E> of(final Traversal.Admin<S, E> traversal) {
+        if (!traversal.isRoot())
+            throw new IllegalArgumentException("Only a root traversal can be captured as a template: " + traversal);
+        if (!canCapture(traversal.getBytecode()))
+            throw new IllegalArgumentException("A traversal with mutable side-effect or sack values can not be captured as a template: " + traversal);
+        final Traversal.Admin<S, E> prototype = traversal.clone();
+        if (!prototype.isLocked())
+            prototype.applyStrategies();
+
+        // execution state that was attached to the traversal must not be shared by the copies
+        final TraversalSideEffects sideEffects = prototype.getSideEffects();
+        if (sideEffects.getCancellation() != TraversalCancellation.NONE)
+            sideEffects.setCancellation(TraversalCancellation.NONE);
+        return new TraversalTemplate<>(prototype);
+    }
+
+    /**
+     * Determines if a traversal of the bytecode can be captured as a template, which is not the case if it has a
+     * {@code withSideEffect()} or {@code withSack()} argument other than a string, number, boolean, character, enum or
+     * {@code null}. Any other argument could be modified by one copy and then seen by the next.
+     */
+    public static boolean canCapture(final Bytecode bytecode) {
+        for (final Bytecode.Instruction instruction : bytecode.getSourceInstructions()) {
+            if (!instruction.getOperator().equals(TraversalSource.Symbols.withSideEffect) &&
+                    !instruction.getOperator().equals(TraversalSource.Symbols.withSack))
+                continue;
+            for (final Object argument : instruction.getArguments()) {
+                if (null != argument && !(argument instanceof Enum) && !IMMUTABLE_CLASSES.contains(argument.getClass()))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if the current thread is creating a copy of a template, in which case steps may share configuration
+     * that does not change once strategies are applied rather than cloning it.
+     */
+    public static boolean isInstantiating() {
+        return INSTANTIATING.get();
+    }
+
+    public Bytecode getBytecode() {
+        return this.prototype.getBytecode();
+    }
+
+    /**
+     * Creates a copy of the template that is ready to be iterated.
+     */
+    public Traversal.Admin<S, E> instantiate() {
+        final Traversal.Admin<S, E> traversal;
+        INSTANTIATING.set(Boolean.TRUE);
+        try {
+            traversal = this.prototype.clone();
+        } finally {
+            INSTANTIATING.set(Boolean.FALSE);
+        }
+
+        final TraversalMemoryQuota memoryQuota = traversal.getSideEffects().getMemoryQuota();
+        if (memoryQuota.isAccounting())
+            traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(memoryQuota.getLimit()));
+        return traversal;
+    }
+
+    @Override
+    public String toString() {
+        return this.prototype.toString();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A bounded and thread-safe cache of {@link TraversalTemplate} instances keyed by the request they were compiled for,
+ * typically the {@link org.apache.tinkerpop.gremlin.process.traversal.Bytecode} of the traversal along with the name
+ * of the traversal source it is executed on. Repeated requests then copy the template rather than translating the
+ * bytecode and applying strategies again. As strategies are only applied once per key, the cache must only be used
+ * when they do not depend on anything but the bytecode and the traversal source. Traversals that
+ * {@link TraversalTemplate#canCapture(org.apache.tinkerpop.gremlin.process.traversal.Bytecode)} rejects are never
+ * cached. Once full, the least recently used templates are evicted.
+ */
+public final class TraversalTemplateCache {
+
+    private final int maxSize;
+    private final Map<Object, TraversalTemplate<?, ?>> templates;
+
+    public TraversalTemplateCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of a template cache must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.templates = new LinkedHashMap<Object, TraversalTemplate<?, ?>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, TraversalTemplate<?, ?>> eldest) {
+                return this.size() > maxSize;
+            }
+        };
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Gets the template for the key or {@code null} if there is none.
+     */
+    public synchronized <S, E> TraversalTemplate<S, E> get(final Object key) {
+        return (TraversalTemplate<S, E>) this.templates.get(key);
+    }
+
+    /**
+     * Captures the traversal as the template for the key.
+     */
+    public <S, E> TraversalTemplate<S, E> put(final Object key, final Traversal.Admin<S, E> traversal) {
+        final TraversalTemplate<S, E> template = TraversalTemplate.of(traversal);
+        synchronized (this) {
+            this.templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Creates a copy of the template for the key, first capturing the traversal of the supplier as the template if
+     * there is none. A traversal that can not be captured is returned as is.
+     */
+    public <S, E> Traversal.Admin<S, E> instantiate(final Object key, final Supplier<Traversal.Admin<S, E>> supplier) {
+        TraversalTemplate<S, E> template = this.get(key);
+        if (null == template) {
+            final Traversal.Admin<S, E> traversal = supplier.get();
+            if (!TraversalTemplate.canCapture(traversal.getBytecode()))
+                return traversal;
+            template = this.put(key, traversal);
+        }
+        return template.instantiate();
+    }
+
+    public synchronized int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * Removes all templates.
+     */
+    public synchronized void clear() {
+        this.templates.clear();
+    }
+}
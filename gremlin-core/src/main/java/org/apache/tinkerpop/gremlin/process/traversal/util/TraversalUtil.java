@@ -35,6 +35,11 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> E apply(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalMemo memo = getMemo(traversal);
+        return null == memo ? doApply(traverser, traversal) : memo.map(traverser.get(), () -> doApply(traverser, traversal));
+    }
+
+    private static <S, E> E doApply(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
         split.setBulk(1l);
@@ -88,6 +93,11 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> boolean test(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
+        final TraversalMemo memo = getMemo(traversal);
+        return null == memo ? doTest(traverser, traversal) : memo.test(traverser.get(), () -> doTest(traverser, traversal));
+    }
+
+    private static <S, E> boolean doTest(final Traverser.Admin<S> traverser, final Traversal.Admin<S, E> traversal) {
         final Traverser.Admin<S> split = traverser.split();
         split.setSideEffects(traversal.getSideEffects());
         split.setBulk(1l);
@@ -104,6 +114,11 @@ public final class TraversalUtil {
     ///////
 
     public static final <S, E> E apply(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalMemo memo = getMemo(traversal);
+        return null == memo ? doApply(start, traversal) : memo.map(start, () -> doApply(start, traversal));
+    }
+
+    private static <S, E> E doApply(final S start, final Traversal.Admin<S, E> traversal) {
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         try {
@@ -148,6 +163,11 @@ public final class TraversalUtil {
     }
 
     public static final <S, E> boolean test(final S start, final Traversal.Admin<S, E> traversal) {
+        final TraversalMemo memo = getMemo(traversal);
+        return null == memo ? doTest(start, traversal) : memo.test(start, () -> doTest(start, traversal));
+    }
+
+    private static <S, E> boolean doTest(final S start, final Traversal.Admin<S, E> traversal) {
         traversal.reset();
         traversal.addStart(traversal.getTraverserGenerator().generate(start, traversal.getStartStep(), 1l));
         boolean result = traversal.hasNext(); // filter
@@ -157,4 +177,8 @@ public final class TraversalUtil {
 
         return result;
     }
+
+    private static TraversalMemo getMemo(final Traversal.Admin<?, ?> traversal) {
+        return traversal instanceof DefaultTraversal ? ((DefaultTraversal<?, ?>) traversal).getMemo() : null;
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.structure.io.binary.DataType;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
 import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryWriter;
 import org.apache.tinkerpop.gremlin.structure.io.Buffer;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 
 import java.io.IOException;
 import java.util.LinkedHashMap;
@@ -49,9 +50,31 @@ public class MapSerializer extends SimpleTypeSerializer<Map> {
     protected void writeValue(final Map value, final Buffer buffer, final GraphBinaryWriter context) throws IOException {
         buffer.writeInt(value.size());
 
+        if (value instanceof PropertyRow) {
+            writeRow((PropertyRow) value, buffer, context);
+            return;
+        }
+
         for (Map.Entry entry : (Set<Map.Entry>) value.entrySet()) {
             context.write(entry.getKey(), buffer);
             context.write(entry.getValue(), buffer);
         }
     }
+
+    /**
+     * Writes the slots of a {@link PropertyRow} in order without creating an entry for each of them.
+     */
+    private static void writeRow(final PropertyRow row, final Buffer buffer, final GraphBinaryWriter context) throws IOException {
+        final PropertyRow.Shape shape = row.getShape();
+        for (int i = 0; i < shape.size(); i++) {
+            if (row.isSet(i)) {
+                context.write(shape.key(i), buffer);
+                context.write(row.value(i), buffer);
+            }
+        }
+        for (Map.Entry<Object, Object> entry : row.getOverflow().entrySet()) {
+            context.write(entry.getKey(), buffer);
+            context.write(entry.getValue(), buffer);
+        }
+    }
 }
@@ -43,6 +43,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.Option
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.AdjacentToIncidentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.EarlyLimitStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.FilterRankingStrategy;
@@ -56,6 +57,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Path
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.RepeatUnrollStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BreadthFirstRepeatStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.HashJoinStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MemoizationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ComputerVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.EdgeLabelVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.LambdaRestrictionStrategy;
@@ -74,6 +78,7 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.star.DirectionalStarGraph;
 import org.apache.tinkerpop.gremlin.structure.util.star.StarGraphGraphSONSerializerV1d0;
 import org.apache.tinkerpop.gremlin.structure.util.star.StarGraphGraphSONSerializerV2d0;
@@ -206,6 +211,10 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             EarlyLimitStrategy.class,
                             EdgeLabelVerificationStrategy.class,
                             ReservedKeysVerificationStrategy.class,
+                            MemoizationStrategy.class,
+                            HashJoinStrategy.class,
+                            BreadthFirstRepeatStrategy.class,
+                            StepFusionStrategy.class,
                             //
                             GraphFilterStrategy.class,
                             VertexProgramStrategy.class
@@ -332,6 +341,10 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     EarlyLimitStrategy.class,
                     EdgeLabelVerificationStrategy.class,
                     ReservedKeysVerificationStrategy.class,
+                    MemoizationStrategy.class,
+                    HashJoinStrategy.class,
+                    BreadthFirstRepeatStrategy.class,
+                    StepFusionStrategy.class,
                     //
                     GraphFilterStrategy.class,
                     VertexProgramStrategy.class
@@ -438,6 +451,10 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                             EarlyLimitStrategy.class,
                             EdgeLabelVerificationStrategy.class,
                             ReservedKeysVerificationStrategy.class,
+                            MemoizationStrategy.class,
+                            HashJoinStrategy.class,
+                            BreadthFirstRepeatStrategy.class,
+                            StepFusionStrategy.class,
                             //
                             GraphFilterStrategy.class,
                             VertexProgramStrategy.class
@@ -554,6 +571,10 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
                     EarlyLimitStrategy.class,
                     EdgeLabelVerificationStrategy.class,
                     ReservedKeysVerificationStrategy.class,
+                    MemoizationStrategy.class,
+                    HashJoinStrategy.class,
+                    BreadthFirstRepeatStrategy.class,
+                    StepFusionStrategy.class,
                     //
                     GraphFilterStrategy.class,
                     VertexProgramStrategy.class
@@ -612,6 +633,7 @@ abstract class GraphSONModule extends TinkerPopJacksonModule {
 
             // java.util
             addSerializer(Map.Entry.class, new JavaUtilSerializersV1d0.MapEntryJacksonSerializer());
+            addSerializer(PropertyRow.class, new JavaUtilSerializersV1d0.PropertyRowJacksonSerializer());
 
             // java.time
             addSerializer(Duration.class, new JavaTimeSerializersV1d0.DurationJacksonSerializer());
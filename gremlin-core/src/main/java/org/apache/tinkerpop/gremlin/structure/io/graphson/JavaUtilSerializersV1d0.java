@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.structure.io.graphson;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.shaded.jackson.core.JsonGenerator;
 import org.apache.tinkerpop.shaded.jackson.databind.SerializationFeature;
 import org.apache.tinkerpop.shaded.jackson.databind.SerializerProvider;
@@ -28,6 +29,7 @@ import org.apache.tinkerpop.shaded.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -83,4 +85,26 @@ final class JavaUtilSerializersV1d0 {
             jsonGenerator.writeEndObject();
         }
     }
+
+    /**
+     * Writes a {@link PropertyRow} as a {@code LinkedHashMap} so that embedded types name a class that can be read.
+     */
+    final static class PropertyRowJacksonSerializer extends StdSerializer<PropertyRow> {
+
+        public PropertyRowJacksonSerializer() {
+            super(PropertyRow.class);
+        }
+
+        @Override
+        public void serialize(final PropertyRow row, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider)
+                throws IOException {
+            serializerProvider.defaultSerializeValue(new LinkedHashMap<>(row), jsonGenerator);
+        }
+
+        @Override
+        public void serializeWithType(final PropertyRow row, final JsonGenerator jsonGenerator,
+                                      final SerializerProvider serializerProvider, final TypeSerializer typeSerializer) throws IOException {
+            serializerProvider.defaultSerializeValue(new LinkedHashMap<>(row), jsonGenerator);
+        }
+    }
 }
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedProperty;
@@ -39,6 +40,7 @@ import org.apache.tinkerpop.gremlin.util.function.Lambda;
 
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
 
 /**
  * {@link AbstractGryoClassResolver} for Gryo 1.0.
@@ -71,6 +73,8 @@ public class GryoClassResolverV1d0 extends AbstractGryoClassResolver {
             type = InetAddress.class;
         else if (ConnectiveP.class.isAssignableFrom(clazz))
             type = P.class;
+        else if (PropertyRow.class.isAssignableFrom(clazz))
+            type = LinkedHashMap.class;
         else
             type = clazz;
 
@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedProperty;
@@ -41,6 +42,7 @@ import org.apache.tinkerpop.gremlin.util.function.Lambda;
 
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
 
 /**
  * {@link AbstractGryoClassResolver} for Gryo 3.0.
@@ -73,6 +75,8 @@ public class GryoClassResolverV3d0 extends AbstractGryoClassResolver {
             type = InetAddress.class;
         else if (ConnectiveP.class.isAssignableFrom(clazz))
             type = P.class;
+        else if (PropertyRow.class.isAssignableFrom(clazz))
+            type = LinkedHashMap.class;
         else if (Metrics.class.isAssignableFrom(clazz))
             type = Metrics.class;
         else if (TraversalMetrics.class.isAssignableFrom(clazz))
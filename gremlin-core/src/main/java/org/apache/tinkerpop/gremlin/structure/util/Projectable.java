@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+/**
+ * An optional interface for {@link Element} implementations that can write the values of a known list of properties
+ * into a {@link PropertyRow} without creating a {@link Property} for each of them. Steps such as
+ * {@code valueMap(keys...)} and {@code elementMap(keys...)} use it when it is available and otherwise fill the row
+ * from {@link Element#properties(String...)}.
+ */
+public interface Projectable {
+
+    /**
+     * Adds the value of every property of the element whose key is one of {@link PropertyRow.Shape#getPropertyKeys()}
+     * of the row to the row with {@link PropertyRow#addProperty(int, Object)}. A property that has more than one value
+     * (i.e. a multi-property) is added once for each value. Keys that the element has no property for are skipped.
+     */
+    public void project(final PropertyRow row);
+
+    /**
+     * Fills the property values of the row from the element, either through {@link #project(PropertyRow)} or by
+     * iterating its properties.
+     */
+    public static void project(final Element element, final PropertyRow row) {
+        if (element instanceof Projectable) {
+            ((Projectable) element).project(row);
+            return;
+        }
+
+        final PropertyRow.Shape shape = row.getShape();
+        final String[] propertyKeys = shape.getPropertyKeys();
+        if (0 == propertyKeys.length)
+            return;
+        element.properties(propertyKeys).forEachRemaining(property -> row.add(shape.slot(property.key()), property.value()));
+    }
+}
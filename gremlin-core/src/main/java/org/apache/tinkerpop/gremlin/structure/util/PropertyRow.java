@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code Map} that holds the values of a fixed list of keys, as produced by steps like {@code valueMap(keys...)},
+ * {@code elementMap(keys...)} or {@code project(keys...)}. The keys and their positions are defined once by a
+ * {@link Shape} that is shared by all rows a step produces, so that a row only consists of an array of values. A
+ * row iterates its entries in the order of its shape and only contains the keys that have a value. Elements that
+ * implement {@link Projectable} fill the property values of a row directly. Serializers may write a row by
+ * iterating its slots with {@link #isSet(int)} and {@link #value(int)} rather than its entries.
+ * <p/>
+ * A row may be modified like any other {@code Map}. Keys that are not part of its shape are kept in an additional
+ * {@code LinkedHashMap} and follow the keys of the shape. A row is not thread-safe.
+ */
+public final class PropertyRow extends AbstractMap<Object, Object> implements Serializable {
+
+    private static final Object ABSENT = new Object();
+
+    private final Shape shape;
+    private final Object[] values;
+    private int size = 0;
+    private Map<Object, Object> overflow = null;
+    private transient EntrySet entrySet;
+
+    public PropertyRow(final Shape shape) {
+        this.shape = shape;
+        this.values = new Object[shape.keys.length];
+        Arrays.fill(this.values, ABSENT);
+    }
+
+    public Shape getShape() {
+        return this.shape;
+    }
+
+    /**
+     * Determines if the slot at the specified position of the shape has a value.
+     */
+    public boolean isSet(final int slot) {
+        return ABSENT != this.values[slot];
+    }
+
+    /**
+     * Gets the value at the specified position of the shape or {@code null} if it has none.
+     */
+    public Object value(final int slot) {
+        final Object value = this.values[slot];
+        return ABSENT == value ? null : value;
+    }
+
+    /**
+     * Sets the value at the specified position of the shape.
+     */
+    public void set(final int slot, final Object value) {
+        if (ABSENT == this.values[slot]) this.size++;
+        this.values[slot] = value;
+    }
+
+    /**
+     * Adds a value at the specified position of the shape. If the shape is multi-valued, the values of a slot are
+     * collected in a {@code List}, otherwise the value replaces the existing one.
+     */
+    public void add(final int slot, final Object value) {
+        if (!this.shape.multiValued)
+            this.set(slot, value);
+        else if (ABSENT == this.values[slot]) {
+            final List<Object> list = new ArrayList<>(1);
+            list.add(value);
+            this.set(slot, list);
+        } else
+            ((List<Object>) this.values[slot]).add(value);
+    }
+
+    /**
+     * Adds a value for the property key at the specified position of {@link Shape#getPropertyKeys()}.
+     */
+    public void addProperty(final int index, final Object value) {
+        this.add(this.shape.tokenCount + index, value);
+    }
+
+    /**
+     * Gets the keys that are not part of the shape or an empty {@code Map} if there are none.
+     */
+    public Map<Object, Object> getOverflow() {
+        return null == this.overflow ? Collections.emptyMap() : this.overflow;
+    }
+
+    @Override
+    public int size() {
+        return null == this.overflow ? this.size : this.size + this.overflow.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final int slot = this.shape.slot(key);
+        return -1 == slot ? null != this.overflow && this.overflow.containsKey(key) : ABSENT != this.values[slot];
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final int slot = this.shape.slot(key);
+        return -1 == slot ? (null == this.overflow ? null : this.overflow.get(key)) : this.value(slot);
+    }
+
+    @Override
+    public Object put(final Object key, final Object value) {
+        final int slot = this.shape.slot(key);
+        if (-1 == slot) {
+            if (null == this.overflow) this.overflow = new LinkedHashMap<>();
+            return this.overflow.put(key, value);
+        }
+        final Object previous = this.value(slot);
+        this.set(slot, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        final int slot = this.shape.slot(key);
+        if (-1 == slot)
+            return null == this.overflow ? null : this.overflow.remove(key);
+        final Object previous = this.value(slot);
+        this.clearSlot(slot);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.values, ABSENT);
+        this.size = 0;
+        this.overflow = null;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super Object, ? super Object> action) {
+        for (int i = 0; i < this.values.length; i++) {
+            if (ABSENT != this.values[i])
+                action.accept(this.shape.keys[i], this.values[i]);
+        }
+        if (null != this.overflow)
+            this.overflow.forEach(action);
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        if (null == this.entrySet) this.entrySet = new EntrySet();
+        return this.entrySet;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            if (ABSENT != this.values[i])
+                hashCode += Objects.hashCode(this.shape.keys[i]) ^ Objects.hashCode(this.values[i]);
+        }
+        return null == this.overflow ? hashCode : hashCode + this.overflow.hashCode();
+    }
+
+    private void clearSlot(final int slot) {
+        if (ABSENT != this.values[slot]) {
+            this.values[slot] = ABSENT;
+            this.size--;
+        }
+    }
+
+    /**
+     * Rows are serialized as a {@code LinkedHashMap} as their shape is only meaningful to the step that made them.
+     */
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+        @Override
+        public int size() {
+            return PropertyRow.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<Object, Object>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Object, Object>> {
+        private int next = -1;
+        private int current = -1;
+        private Iterator<Entry<Object, Object>> overflowIterator = null;
+
+        private EntryIterator() {
+            this.advance();
+        }
+
+        private void advance() {
+            do {
+                this.next++;
+            } while (this.next < values.length && ABSENT == values[this.next]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next < values.length)
+                return true;
+            if (null == this.overflowIterator)
+                this.overflowIterator = null == overflow ? Collections.emptyIterator() : overflow.entrySet().iterator();
+            return this.overflowIterator.hasNext();
+        }
+
+        @Override
+        public Entry<Object, Object> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            if (this.next < values.length) {
+                this.current = this.next;
+                this.advance();
+                return new SlotEntry(this.current);
+            }
+            this.current = -1;
+            return this.overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (null != this.overflowIterator && -1 == this.current)
+                this.overflowIterator.remove();
+            else if (-1 != this.current) {
+                clearSlot(this.current);
+                this.current = -1;
+            } else
+                throw new IllegalStateException();
+        }
+    }
+
+    private final class SlotEntry extends SimpleEntry<Object, Object> {
+        private final int slot;
+
+        private SlotEntry(final int slot) {
+            super(shape.keys[slot], values[slot]);
+            this.slot = slot;
+        }
+
+        @Override
+        public Object setValue(final Object value) {
+            set(this.slot, value);
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * The keys of a {@link PropertyRow} and their positions. A shape starts with tokens such as {@code T.id} or
+     * {@code T.label} which are followed by distinct property keys.
+     */
+    public static final class Shape {
+
+        private final Object[] keys;
+        private final String[] propertyKeys;
+        private final int tokenCount;
+        private final boolean multiValued;
+        private final Map<Object, Integer> slots;
+
+        private Shape(final boolean multiValued, final List<?> tokens, final String... propertyKeys) {
+            final Map<Object, Integer> slots = new HashMap<>();
+            final List<Object> keys = new ArrayList<>(tokens.size() + propertyKeys.length);
+            for (final Object token : tokens) {
+                if (null == slots.putIfAbsent(token, keys.size()))
+                    keys.add(token);
+            }
+            this.tokenCount = keys.size();
+            for (final String propertyKey : propertyKeys) {
+                if (null == slots.putIfAbsent(propertyKey, keys.size()))
+                    keys.add(propertyKey);
+            }
+            this.keys = keys.toArray();
+            this.propertyKeys = keys.subList(this.tokenCount, keys.size()).toArray(new String[keys.size() - this.tokenCount]);
+            this.multiValued = multiValued;
+            this.slots = slots;
+        }
+
+        /**
+         * Creates a shape with the specified tokens followed by the specified property keys, where duplicate keys are
+         * ignored. The values of a multi-valued shape are collected in lists by {@link PropertyRow#add(int, Object)}.
+         */
+        public static Shape of(final boolean multiValued, final List<?> tokens, final String... propertyKeys) {
+            return new Shape(multiValued, tokens, propertyKeys);
+        }
+
+        public int size() {
+            return this.keys.length;
+        }
+
+        public Object key(final int slot) {
+            return this.keys[slot];
+        }
+
+        /**
+         * Gets the position of the specified key or {@code -1} if it is not part of the shape.
+         */
+        public int slot(final Object key) {
+            final Integer slot = this.slots.get(key);
+            return null == slot ? -1 : slot;
+        }
+
+        /**
+         * Gets the distinct property keys of the shape in their order.
+         */
+        public String[] getPropertyKeys() {
+            return this.propertyKeys;
+        }
+
+        public int getTokenCount() {
+            return this.tokenCount;
+        }
+
+        public boolean isMultiValued() {
+            return this.multiValued;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -104,7 +105,7 @@ public class DetachedFactory {
             return (D) set;
         } else if (object instanceof Map) {
             final Map map = object instanceof Tree ? new Tree() :
-                    object instanceof LinkedHashMap ?
+                    object instanceof LinkedHashMap || object instanceof PropertyRow ?
                             new LinkedHashMap(((Map) object).size()) :
                             new HashMap(((Map) object).size());
             for (final Map.Entry<Object, Object> entry : ((Map<Object, Object>) object).entrySet()) {
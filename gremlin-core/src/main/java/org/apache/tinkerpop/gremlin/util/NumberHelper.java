@@ -317,16 +317,34 @@ public final class NumberHelper {
     }
 
     public static Number add(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return a.intValue() + b.intValue();
+        if (a instanceof Long && b instanceof Long)
+            return a.longValue() + b.longValue();
+        if (areDoubles(a, b))
+            return a.doubleValue() + b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).add.apply(a, b);
     }
 
     public static Number sub(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return a.intValue() - b.intValue();
+        if (a instanceof Long && b instanceof Long)
+            return a.longValue() - b.longValue();
+        if (areDoubles(a, b))
+            return a.doubleValue() - b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).sub.apply(a, b);
     }
 
     public static Number mul(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return a.intValue() * b.intValue();
+        if (a instanceof Long && b instanceof Long)
+            return a.longValue() * b.longValue();
+        if (areDoubles(a, b))
+            return a.doubleValue() * b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).mul.apply(a, b);
     }
@@ -336,20 +354,34 @@ public final class NumberHelper {
     }
 
     public static Number div(final Number a, final Number b, final boolean forceFloatingPoint) {
+        if (!forceFloatingPoint) {
+            if (a instanceof Integer && b instanceof Integer)
+                return a.intValue() / b.intValue();
+            if (a instanceof Long && b instanceof Long)
+                return a.longValue() / b.longValue();
+        }
+        if (areDoubles(a, b))
+            return a.doubleValue() / b.doubleValue();
         final Class<? extends Number> clazz = getHighestCommonNumberClass(forceFloatingPoint, a, b);
         return getHelper(clazz).div.apply(a, b);
     }
 
     public static Number min(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return Math.min(a.intValue(), b.intValue());
+        if (a instanceof Long && b instanceof Long)
+            return Math.min(a.longValue(), b.longValue());
+        if (areDoubles(a, b)) {
+            final double x = a.doubleValue(), y = b.doubleValue();
+            return x <= y ? x : y;
+        }
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).min.apply(a, b);
     }
 
     public static Comparable min(final Comparable a, final Comparable b) {
         if (a instanceof Number && b instanceof Number && !a.equals(Double.NaN) && !b.equals(Double.NaN)) {
-            final Number an = (Number) a, bn = (Number) b;
-            final Class<? extends Number> clazz = getHighestCommonNumberClass(an, bn);
-            return (Comparable) getHelper(clazz).min.apply(an, bn);
+            return (Comparable) min((Number) a, (Number) b);
         }
         return isNonValue(a) ? b :
                 isNonValue(b) ? a :
@@ -357,15 +389,21 @@ public final class NumberHelper {
     }
 
     public static Number max(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return Math.max(a.intValue(), b.intValue());
+        if (a instanceof Long && b instanceof Long)
+            return Math.max(a.longValue(), b.longValue());
+        if (areDoubles(a, b)) {
+            final double x = a.doubleValue(), y = b.doubleValue();
+            return x >= y ? x : y;
+        }
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).max.apply(a, b);
     }
 
     public static Comparable max(final Comparable a, final Comparable b) {
         if (a instanceof Number && b instanceof Number && !a.equals(Double.NaN) && !b.equals(Double.NaN)) {
-            final Number an = (Number) a, bn = (Number) b;
-            final Class<? extends Number> clazz = getHighestCommonNumberClass(an, bn);
-            return (Comparable) getHelper(clazz).max.apply(an, bn);
+            return (Comparable) max((Number) a, (Number) b);
         }
         return isNonValue(a) ? b :
                 isNonValue(b) ? a :
@@ -373,6 +411,12 @@ public final class NumberHelper {
     }
 
     public static Integer compare(final Number a, final Number b) {
+        if (a instanceof Integer && b instanceof Integer)
+            return Integer.compare(a.intValue(), b.intValue());
+        if (a instanceof Long && b instanceof Long)
+            return Long.compare(a.longValue(), b.longValue());
+        if (areDoubles(a, b))
+            return Double.compare(a.doubleValue(), b.doubleValue());
         final Class<? extends Number> clazz = getHighestCommonNumberClass(a, b);
         return getHelper(clazz).cmp.apply(a, b);
     }
@@ -434,6 +478,14 @@ public final class NumberHelper {
         }
     }
 
+    /**
+     * Determines if both numbers are {@code Double} values other than {@code NaN}, which the common number class of
+     * two numbers would otherwise skip.
+     */
+    private static boolean areDoubles(final Number a, final Number b) {
+        return a instanceof Double && b instanceof Double && !Double.isNaN(a.doubleValue()) && !Double.isNaN(b.doubleValue());
+    }
+
     private static boolean isNumber(final Number number) {
         return number != null && !number.equals(Double.NaN);
     }
@@ -441,4 +493,164 @@ public final class NumberHelper {
     private static boolean isNonValue(final Object value) {
         return value instanceof Double && !isNumber((Double) value);
     }
+
+    /**
+     * Accumulates a sum of {@code Integer}, {@code Long}, {@code Short}, {@code Byte} and {@code Double} values
+     * multiplied by their bulk into a primitive and only boxes the final sum. The result is the same as if the
+     * products were successively added to the starting sum with {@link #add(Number, Number)}.
+     */
+    public static final class SumAccumulator {
+
+        private static final int NONE = 0;
+        private static final int LONG = 1;
+        private static final int DOUBLE = 2;
+
+        private int mode = NONE;
+        private long longSum;
+        private double doubleSum;
+
+        /**
+         * Adds the product of the number and bulk to the sum, starting from the specified sum if nothing has been
+         * accumulated yet. Returns {@code false} without changing the sum if either number can not be accumulated
+         * as a primitive, in which case the caller should {@link #finish()} and add the number itself.
+         */
+        public boolean add(final Number sum, final Number number, final long bulk) {
+            final boolean integral = isIntegral(number);
+            if (!integral && !(number instanceof Double && !Double.isNaN(number.doubleValue())))
+                return false;
+            if (NONE == this.mode) {
+                if (isIntegral(sum)) {
+                    this.mode = LONG;
+                    this.longSum = sum.longValue();
+                } else if (sum instanceof Double && !Double.isNaN(sum.doubleValue())) {
+                    this.mode = DOUBLE;
+                    this.doubleSum = sum.doubleValue();
+                } else
+                    return false;
+            } else if (DOUBLE == this.mode && Double.isNaN(this.doubleSum))
+                return false;
+
+            if (integral) {
+                final long value = number.longValue() * bulk;
+                if (LONG == this.mode)
+                    this.longSum += value;
+                else
+                    this.doubleSum += value;
+            } else {
+                final double value = number.doubleValue() * bulk;
+                if (LONG == this.mode) {
+                    this.doubleSum = this.longSum + value;
+                    this.mode = DOUBLE;
+                } else
+                    this.doubleSum += value;
+            }
+            return true;
+        }
+
+        public boolean isActive() {
+            return NONE != this.mode;
+        }
+
+        /**
+         * Gets the accumulated sum as a {@code Long} or {@code Double} and resets the accumulator.
+         */
+        public Number finish() {
+            final Number sum = LONG == this.mode ? (Number) this.longSum : (Number) this.doubleSum;
+            this.mode = NONE;
+            return sum;
+        }
+
+        private static boolean isIntegral(final Number number) {
+            return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+        }
+    }
+
+    /**
+     * Accumulates the minimum or maximum of {@code Integer}, {@code Long} and {@code Double} values into a primitive
+     * and only boxes the final result. The result is the same as if the values were successively reduced with
+     * {@link #min(Comparable, Comparable)} or {@link #max(Comparable, Comparable)}, i.e. the result has the highest
+     * common number class of the values and {@code NaN} values are ignored.
+     */
+    public static final class ExtremumAccumulator {
+
+        private static final int NONE = 0;
+        private static final int EMPTY = 1;
+        private static final int INTEGER = 2;
+        private static final int LONG = 3;
+        private static final int DOUBLE = 4;
+
+        private final boolean max;
+        private int mode = NONE;
+        private long longValue;
+        private double doubleValue;
+
+        public ExtremumAccumulator(final boolean max) {
+            this.max = max;
+        }
+
+        /**
+         * Reduces the value into the accumulated extremum, starting from the specified extremum if nothing has been
+         * accumulated yet. Returns {@code false} without changing the extremum if either value can not be
+         * accumulated as a primitive, in which case the caller should {@link #finish()} and reduce the value itself.
+         */
+        public boolean add(final Object extremum, final Object value) {
+            final int valueMode = modeOf(value);
+            if (NONE == valueMode)
+                return false;
+            if (NONE == this.mode) {
+                final int extremumMode = modeOf(extremum);
+                if (NONE == extremumMode)
+                    return false;
+                this.mode = extremumMode;
+                this.longValue = DOUBLE == extremumMode || EMPTY == extremumMode ? 0L : ((Number) extremum).longValue();
+                this.doubleValue = ((Number) extremum).doubleValue();
+            }
+
+            if (EMPTY == valueMode)
+                return true;
+            if (EMPTY == this.mode) {
+                this.mode = valueMode;
+                this.longValue = DOUBLE == valueMode ? 0L : ((Number) value).longValue();
+                this.doubleValue = ((Number) value).doubleValue();
+            } else if (DOUBLE == this.mode || DOUBLE == valueMode) {
+                final double x = DOUBLE == this.mode ? this.doubleValue : this.longValue;
+                final double y = ((Number) value).doubleValue();
+                this.doubleValue = this.max ? (x >= y ? x : y) : (x <= y ? x : y);
+                this.mode = DOUBLE;
+            } else {
+                final long x = this.longValue, y = ((Number) value).longValue();
+                this.longValue = this.max ? Math.max(x, y) : Math.min(x, y);
+                this.mode = Math.max(this.mode, valueMode);
+            }
+            return true;
+        }
+
+        public boolean isActive() {
+            return NONE != this.mode;
+        }
+
+        /**
+         * Gets the accumulated extremum as an {@code Integer}, {@code Long} or {@code Double} ({@code NaN} if only
+         * {@code NaN} values were seen) and resets the accumulator.
+         */
+        public Comparable finish() {
+            final int mode = this.mode;
+            this.mode = NONE;
+            if (INTEGER == mode)
+                return (int) this.longValue;
+            if (LONG == mode)
+                return this.longValue;
+            return EMPTY == mode ? Double.NaN : this.doubleValue;
+        }
+
+        private static int modeOf(final Object value) {
+            if (value instanceof Integer)
+                return INTEGER;
+            if (value instanceof Long)
+                return LONG;
+            if (value instanceof Double)
+                return Double.isNaN((Double) value) ? EMPTY : DOUBLE;
+            return NONE;
+        }
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.jsr223;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.SubgraphStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class JavaTranslatorTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+    private final JavaTranslator<GraphTraversalSource, Traversal.Admin<?, ?>> translator = JavaTranslator.of(g);
+
+    @Test
+    public void shouldTranslateRepeatedlyToEqualBytecode() {
+        final List<Traversal.Admin<?, ?>> traversals = Arrays.asList(
+                g.V().asAdmin(),
+                g.V(1, 2).out("knows", "created").in().asAdmin(),
+                g.V().has("name", "marko").has("age", P.gt(30)).has(T.label, "person").asAdmin(),
+                g.V().repeat(__.out()).times(2).range(1, 5).limit(2L).asAdmin(),
+                g.V().match(__.as("a").out().as("b"), __.as("b").in().as("c")).select("a", "c").by("name").asAdmin(),
+                g.withStrategies(ReadOnlyStrategy.instance(), SubgraphStrategy.build().vertices(__.hasLabel("person")).create()).
+                        V().out().asAdmin(),
+                g.inject(1, 2, 3).sum().asAdmin());
+        for (int i = 0; i < 3; i++) {
+            for (final Traversal.Admin<?, ?> traversal : traversals) {
+                assertEquals(traversal.getBytecode(), translator.translate(traversal.getBytecode()).getBytecode());
+            }
+        }
+    }
+
+    @Test
+    public void shouldWidenPrimitiveArguments() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("range", 1, 5);
+        bytecode.addStep("limit", (byte) 2);
+        assertEquals(g.V().range(1L, 5L).limit(2L).asAdmin().getBytecode(), translator.translate(bytecode).getBytecode());
+    }
+
+    @Test
+    public void shouldNotNarrowPrimitiveArguments() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("repeat", __.out().asAdmin().getBytecode());
+        bytecode.addStep("times", 2L);
+        try {
+            translator.translate(bytecode);
+            fail("A long should not be passed to times(int)");
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getMessage(), startsWith("argument type mismatch"));
+        }
+    }
+
+    @Test
+    public void shouldNotPassNullToPrimitiveParameter() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("limit", (Object) null);
+        try {
+            translator.translate(bytecode);
+            fail("A null should not be passed to limit(long)");
+        } catch (IllegalStateException ex) {
+            assertEquals(IllegalArgumentException.class, ex.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void shouldNotLocateUnknownMethod() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("notAStep", "x");
+        try {
+            translator.translate(bytecode);
+            fail("There is no notAStep() method");
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getMessage(), startsWith("Could not locate method"));
+        }
+    }
+
+    @Test
+    public void shouldNotLocateMethodForMismatchedArguments() {
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("out", 1);
+        try {
+            translator.translate(bytecode);
+            fail("There is no out(Integer) method");
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getMessage(), startsWith("Could not locate method"));
+        }
+    }
+
+    @Test
+    public void shouldTranslateManyVarArgs() {
+        for (final int count : new int[]{253, 254, 300, 1000}) {
+            final Object[] ids = IntStream.range(0, count).boxed().toArray();
+            assertEquals(g.V(ids).asAdmin().getBytecode(), translator.translate(g.V(ids).asAdmin().getBytecode()).getBytecode());
+            assertEquals(g.inject(ids).asAdmin().getBytecode(), translator.translate(g.inject(ids).asAdmin().getBytecode()).getBytecode());
+            assertEquals(g.V().values(keys(count)).asAdmin().getBytecode(),
+                    translator.translate(g.V().values(keys(count)).asAdmin().getBytecode()).getBytecode());
+        }
+    }
+
+    @Test
+    public void shouldShareDispatchForDifferentNumbersOfVarArgs() {
+        translator.translate(g.V(1, 2).out("a").asAdmin().getBytecode());
+        final int size = JavaTranslator.GLOBAL_DISPATCH_CACHE.size();
+        for (int count = 3; count < 50; count++) {
+            final Object[] ids = IntStream.range(0, count).boxed().toArray();
+            translator.translate(g.V(ids).out(keys(count)).asAdmin().getBytecode());
+        }
+        assertEquals(size, JavaTranslator.GLOBAL_DISPATCH_CACHE.size());
+    }
+
+    private static String[] keys(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> "k" + i).toArray(String[]::new);
+    }
+}
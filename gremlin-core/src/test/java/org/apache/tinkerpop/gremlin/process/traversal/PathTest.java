@@ -24,6 +24,11 @@ import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferencePath;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -125,6 +130,109 @@ public class PathTest {
         });
     }
 
+    @Test
+    public void shouldHandleManyDistinctLabels() {
+        PATH_SUPPLIERS.forEach(supplier -> {
+            Path path = supplier.get();
+            for (int i = 0; i < 100; i++) {
+                path = path.extend(i, new LinkedHashSet<>(Arrays.asList("many" + i, "many" + (i % 2 == 0 ? "Even" : "Odd"))));
+            }
+            assertEquals(100, path.size());
+            for (int i = 0; i < 100; i++) {
+                assertTrue(path.hasLabel("many" + i));
+                assertEquals(Integer.valueOf(i), path.get("many" + i));
+            }
+            assertFalse(path.hasLabel("many100"));
+            assertEquals(Integer.valueOf(98), path.get(Pop.last, "manyEven"));
+            assertEquals(Integer.valueOf(1), path.get(Pop.first, "manyOdd"));
+            assertEquals(50, path.<List<Integer>>get(Pop.all, "manyEven").size());
+            assertEquals(Integer.valueOf(0), path.<List<Integer>>get(Pop.all, "manyEven").get(0));
+
+            path = path.retract(new HashSet<>(Arrays.asList("many99", "manyOdd", "many3")));
+            assertEquals(98, path.size());
+            assertFalse(path.hasLabel("many99"));
+            assertFalse(path.hasLabel("manyOdd"));
+            assertFalse(path.hasLabel("many3"));
+            assertEquals(Integer.valueOf(4), path.get(3));
+            assertEquals(Integer.valueOf(97), path.get("many97"));
+            assertEquals(Integer.valueOf(5), path.get("many5"));
+        });
+    }
+
+    @Test
+    public void shouldKeepLabelTablesOfImmutablePathsApart() throws Exception {
+        // every path started with make() maps its own labels so that no path runs out of label bits because of others
+        final List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            paths.add(ImmutablePath.make().extend(i, Collections.singleton("other" + i)).extend(i, Collections.singleton("a")));
+        }
+        Path path = ImmutablePath.make().extend(1, Collections.singleton("b")).extend(2, Collections.singleton("a"));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(paths.get(i).hasLabel("other" + i));
+            assertFalse(paths.get(i).hasLabel("b"));
+            assertEquals(Integer.valueOf(i), paths.get(i).get("a"));
+        }
+
+        // the label table is rebuilt for a deserialized path
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(path);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            path = (Path) in.readObject();
+        }
+        assertTrue(path.hasLabel("a"));
+        assertFalse(path.hasLabel("c"));
+        path = path.extend(3, Collections.singleton("c"));
+        assertEquals(Integer.valueOf(3), path.get("c"));
+        assertEquals(Integer.valueOf(1), path.get("b"));
+        assertEquals(Arrays.asList(1, 3), path.retract(Collections.singleton("a")).objects());
+    }
+
+    @Test
+    public void shouldNotGiveLabelBitsToLabelsOnlySelectedFromImmutablePath() {
+        // selecting labels that the path does not carry must leave all 64 label bits to the labels it is extended with
+        Path path = ImmutablePath.make().extend(0, Collections.singleton("a0"));
+        for (int i = 0; i < 100; i++) {
+            final String absent = "absent" + i;
+            assertFalse(path.hasLabel(absent));
+            assertEquals(Collections.emptyList(), path.get(Pop.all, absent));
+            try {
+                path.get(Pop.last, absent);
+                fail("The label is not on the path");
+            } catch (IllegalArgumentException ex) {
+                assertEquals(Path.Exceptions.stepWithProvidedLabelDoesNotExist(absent).getMessage(), ex.getMessage());
+            }
+            assertTrue(path.retract(Collections.singleton(absent)) == path);
+        }
+        for (int i = 1; i < 63; i++) {
+            path = path.extend(i, Collections.singleton("a" + i));
+        }
+        final Path prefix = path;
+        path = path.extend(63, Collections.singleton("a63"));
+
+        // the last label only has a bit if none went to the absent labels and only then is the prefix kept as it is
+        assertTrue(path.retract(Collections.singleton("a63")) == prefix);
+        assertEquals(Integer.valueOf(63), path.get("a63"));
+        assertFalse(path.hasLabel("absent0"));
+    }
+
+    @Test
+    public void shouldShareSectionsOfImmutablePathOnRetract() {
+        Path path = ImmutablePath.make();
+        path = path.extend(1, Collections.singleton("a"));
+        path = path.extend(2, Collections.singleton("b"));
+        final Path prefix = path;
+        path = path.extend(3, Collections.singleton("c"));
+        path = path.extend(4, Collections.singleton("d"));
+
+        final Path retracted = path.retract(Collections.singleton("c"));
+        assertEquals(Arrays.asList(1, 2, 4), retracted.objects());
+        assertTrue(retracted.retract(Collections.singleton("d")) == prefix);
+        assertTrue(path.retract(Collections.singleton("x")) == path);
+        assertEquals(Arrays.asList(1, 2), prefix.objects());
+    }
+
     @Test
     public void shouldExcludeUnlabeledLabelsFromPath() {
         PATH_SUPPLIERS.forEach(supplier -> {
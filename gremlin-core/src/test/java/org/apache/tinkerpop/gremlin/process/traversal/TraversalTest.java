@@ -32,9 +32,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.junit.Assert.assertEquals;
@@ -84,6 +86,17 @@ public class TraversalTest {
         assertEquals(0, batchFive.size());
     }
 
+    @Test
+    public void shouldGetTwoAtATimeAsync() {
+        final MockTraversal<Integer> t = new MockTraversal<>(1, 2, 3, 4, 5);
+        final CompletableFuture<List<Integer>> batchOne = t.nextAsync(2);
+        assertThat(batchOne.isDone(), is(true));
+        assertThat(batchOne.join(), contains(1, 2));
+        assertThat(t.nextAsync(2).join(), contains(3, 4));
+        assertThat(t.nextAsync(2).join(), contains(5));
+        assertEquals(0, t.nextAsync(2).join().size());
+    }
+
     @Test
     public void shouldFillList() {
         final MockTraversal<Integer> t = new MockTraversal<>(1, 2, 3, 4, 5, 6, 7);
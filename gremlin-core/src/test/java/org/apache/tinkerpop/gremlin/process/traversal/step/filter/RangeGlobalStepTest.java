@@ -21,9 +21,13 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -38,4 +42,12 @@ public class RangeGlobalStepTest extends StepTest {
                 __.range(1L, 10L)
         );
     }
+
+    @Test
+    public void shouldNotPullTraversersBeyondHighRange() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final Traversal<Integer, Integer> traversal = __.inject(1, 2, 3, 4, 5).sideEffect(t -> pulled.incrementAndGet()).limit(2);
+        assertEquals(Arrays.asList(1, 2), traversal.toList());
+        assertEquals(2, pulled.get());
+    }
 }
@@ -18,12 +18,21 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -39,4 +48,15 @@ public class ElementMapStepTest extends StepTest {
                 __.elementMap("name", "age")
         );
     }
+
+    @Test
+    public void shouldSerializeBeforeAndAfterExecution() {
+        final Vertex vertex = DetachedVertex.build().setId(1).setLabel("person").addProperty(DetachedVertexProperty.build().setId(2).setLabel("name").setValue("marko").create()).create();
+        final Traversal.Admin<Vertex, Map<Object, Object>> traversal = EmptyGraph.instance().traversal().inject(vertex).elementMap("name").asAdmin();
+        final Traversal.Admin<Vertex, Map<Object, Object>> copy = SerializationUtils.clone(traversal);
+        final List<Map<Object, Object>> results = traversal.toList();
+        assertEquals(1, results.size());
+        assertEquals(results, copy.clone().toList());
+        SerializationUtils.clone(traversal);
+    }
 }
@@ -22,9 +22,14 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -39,4 +44,15 @@ public class GroupCountStepTest extends StepTest {
                 __.groupCount().by("age")
         );
     }
+
+    @Test
+    public void shouldCountBulkedTraversersByKey() {
+        final Map<Object, Long> expected = new HashMap<>();
+        expected.put(1, 3L);
+        expected.put(2, 1L);
+        expected.put(3, 2L);
+        expected.put(null, 1L);
+        assertEquals(expected, __.inject(1, 2, 1, 3, null, 1, 3).barrier().groupCount().next());
+        assertEquals(expected, __.inject(1, 2, 1, 3, null, 1, 3).groupCount().next());
+    }
 }
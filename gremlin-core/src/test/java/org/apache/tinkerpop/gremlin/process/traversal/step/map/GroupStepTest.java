@@ -23,9 +23,15 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -40,4 +46,21 @@ public class GroupStepTest extends StepTest {
                 __.group().by(T.label).by(__.values("name").count())
         );
     }
+
+    @Test
+    public void shouldReduceGroupsWithReducingValueSteps() {
+        assertEquals(groups(2L, 3L), __.inject(1, 2, 3, 4, 5).barrier().group().by(__.is(gt(2)).count()).by(__.count()).next());
+        assertEquals(groups(3L, 12L), __.inject(1, 2, 3, 4, 5).barrier().group().by(__.is(gt(2)).count()).by(__.sum()).next());
+        assertEquals(groups(2, 5), __.inject(1, 2, 3, 4, 5, 5).barrier().group().by(__.is(gt(2)).count()).by(__.max()).next());
+        assertEquals(groups(1, 3), __.inject(1, 2, 3, 4, 5, 5).barrier().group().by(__.is(gt(2)).count()).by(__.min()).next());
+        assertEquals(groups(Arrays.asList(1, 1, 2), Arrays.asList(3, 3)), __.inject(1, 1, 2, 3, 3).barrier().group().by(__.is(gt(2)).count()).next());
+        assertEquals(groups(2L, 0L), __.inject(1, 1, 2, 3, 3).barrier().group().by(__.is(gt(2)).count()).by(__.is(1).count()).next());
+    }
+
+    private static Map<Long, Object> groups(final Object notGreater, final Object greater) {
+        final Map<Long, Object> groups = new HashMap<>();
+        groups.put(0L, notGreater);
+        groups.put(1L, greater);
+        return groups;
+    }
 }
@@ -31,12 +31,16 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_P_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.eq;
@@ -396,6 +400,67 @@ public class MatchStepTest extends StepTest {
         traverser.addLabels(Collections.singleton("d"));
     }
 
+    @Test
+    public void testWorstCaseOptimalMatchAlgorithm() {
+        final StarGraph graph = StarGraph.open();
+        final Vertex marko = graph.addVertex(T.id, 1);
+        final Vertex vadas = graph.addVertex(T.id, 2);
+        final Vertex lop = graph.addVertex(T.id, 3);
+        final Vertex ripple = graph.addVertex(T.id, 4);
+        marko.addEdge("knows", vadas);
+        marko.addEdge("knows", vadas);
+        marko.addEdge("knows", lop);
+        marko.addEdge("created", lop);
+        marko.addEdge("created", ripple);
+
+        // the bulk of a solution is the number of ways it matched
+        Map<Object, Long> solutions = joinMatch(match(as("a").out("knows").as("b")), marko);
+        assertEquals(2, solutions.size());
+        assertEquals(2L, solutions.get(2).longValue());
+        assertEquals(1L, solutions.get(3).longValue());
+
+        // the candidates of "b" are the intersection of the adjacencies of "a"
+        solutions = joinMatch(match(as("a").out("knows").as("b"), as("b").in("created").as("a")), marko);
+        assertEquals(1, solutions.size());
+        assertEquals(1L, solutions.get(3).longValue());
+
+        solutions = joinMatch(match(as("a").out("knows").as("b"), as("a").out("knows").as("b")), marko);
+        assertEquals(4L, solutions.get(2).longValue());
+        assertEquals(1L, solutions.get(3).longValue());
+
+        solutions = joinMatch(match(as("a").out().as("b"), as("a").has(T.id, 2)), marko);
+        assertTrue(solutions.isEmpty());
+
+        // patterns that are not single vertex steps or has() filters are left to the CountMatchAlgorithm
+        final Traverser.Admin<Object> traverser = B_LP_O_P_S_SE_SL_TraverserGenerator.instance().generate(marko, EmptyStep.instance(), 1L);
+        assertFalse(joinable(match(as("a").out().out().as("b")), false).canJoin(traverser));
+        assertFalse(joinable(match(as("a").out().as("b"), as("b").out().count().as("c")), false).canJoin(traverser));
+        assertFalse(joinable(match(as("a").out().as("b"), as("c").out().as("d")), false).canJoin(traverser));
+        assertFalse(joinable(match(as("a").out().as("a")), false).canJoin(traverser));
+        assertFalse(joinable(match(as("a").out().as("b")), true).canJoin(traverser));
+        assertTrue(joinable(match(as("a").out().as("b")), false).canJoin(traverser));
+        traverser.addLabels(Collections.singleton("b"));
+        assertFalse(joinable(match(as("a").out().as("b")), false).canJoin(traverser));
+    }
+
+    private static MatchStep.WorstCaseOptimalMatchAlgorithm joinable(final Traversal<?, ?> traversal, final boolean onComputer) {
+        final MatchStep.WorstCaseOptimalMatchAlgorithm algorithm = new MatchStep.WorstCaseOptimalMatchAlgorithm();
+        algorithm.initialize(onComputer, ((MatchStep<?, ?>) traversal.asAdmin().getStartStep()).getGlobalChildren());
+        return algorithm;
+    }
+
+    private static Map<Object, Long> joinMatch(final Traversal<?, ?> traversal, final Vertex start) {
+        final MatchStep.WorstCaseOptimalMatchAlgorithm algorithm = joinable(traversal, false);
+        final Traverser.Admin<Object> traverser = B_LP_O_P_S_SE_SL_TraverserGenerator.instance().generate(start, EmptyStep.instance(), 1L);
+        assertTrue(algorithm.canJoin(traverser));
+        final Map<Object, Long> solutions = new HashMap<>();
+        algorithm.join(Collections.singletonList(traverser)).forEachRemaining(solution -> {
+            assertEquals(start, solution.path().get("a"));
+            solutions.merge(((Vertex) solution.path().get("b")).id(), solution.bulk(), Long::sum);
+        });
+        return solutions;
+    }
+
     @Test
     public void shouldCalculateStartLabelCorrectly() {
         Traversal.Admin<?, ?> traversal = match(
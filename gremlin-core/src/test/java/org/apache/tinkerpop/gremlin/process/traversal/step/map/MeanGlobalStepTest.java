@@ -47,5 +47,7 @@ public class MeanGlobalStepTest extends StepTest {
         assertEquals(BigDecimal.ONE, __.__(BigInteger.ONE, BigInteger.ONE).mean().next());
         assertEquals(BigDecimal.ONE, __.__((short) 1, BigInteger.ONE).mean().next());
         assertEquals(BigDecimal.ONE, __.__(BigInteger.ONE, (short) 1).mean().next());
+        assertEquals(2.5d, __.__(1, 2L, 3.5d, 3.5d).mean().next());
+        assertEquals(new BigDecimal("2.5"), __.__(1, 2L, BigDecimal.valueOf(3.5d), 3.5d).mean().next());
     }
 }
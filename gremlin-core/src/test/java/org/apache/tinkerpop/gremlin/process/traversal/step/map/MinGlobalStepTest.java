@@ -21,10 +21,13 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -34,4 +37,12 @@ public class MinGlobalStepTest extends StepTest {
     protected List<Traversal> getTraversals() {
         return Collections.singletonList(__.min());
     }
+
+    @Test
+    public void testReturnTypes() {
+        assertEquals(-3L, __.__(1, -3L, 2).min().next());
+        assertEquals(-3.5d, __.__(1, Double.NaN, -3.5d, 2L).min().next());
+        assertEquals(Double.NaN, __.__(Double.NaN, Double.NaN).min().next());
+        assertEquals("a", __.__("a", "b").min().next());
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class NoOpBarrierStepTest extends StepTest {
+
+    @Override
+    protected List<Traversal> getTraversals() {
+        return Arrays.asList(
+                __.barrier(),
+                __.barrier(10),
+                adaptiveBarrier(__.start(), 10, 100),
+                adaptiveBarrier(__.start(), 20, 100)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowMinSizeGreaterThanMaxSize() {
+        new NoOpBarrierStep<>(__.start().asAdmin(), 20, 10);
+    }
+
+    @Test
+    public void shouldGrowWhileTraversersAreMerged() {
+        // runs of ten equal values so that most traversers are merged
+        final Traversal.Admin<Integer, Integer> traversal = adaptiveBarrier(runs(1000, 10), 2, 64);
+        final NoOpBarrierStep barrier = (NoOpBarrierStep) traversal.getEndStep();
+        assertEquals(2, barrier.getBarrierSize());
+
+        final Traverser.Admin<Integer> traverser = traversal.nextTraverser();
+        assertEquals(0, traverser.get().intValue());
+        assertEquals(10L, traverser.bulk());
+        assertEquals(4, barrier.getBarrierSize());
+        long bulk = traverser.bulk();
+        while (traversal.hasNext()) {
+            bulk += traversal.nextTraverser().bulk();
+        }
+        assertEquals(1000L, bulk);
+        assertEquals(64, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldShrinkWhenTraversersAreNotMerged() {
+        final Traversal.Admin<Integer, Integer> traversal = adaptiveBarrier(runs(1000, 1), 2, 64);
+        final NoOpBarrierStep barrier = (NoOpBarrierStep) traversal.getEndStep();
+        assertEquals(1000, traversal.toList().size());
+        assertEquals(2, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldResetToMinSize() {
+        final Traversal.Admin<Integer, Integer> traversal = adaptiveBarrier(runs(1000, 10), 2, 64);
+        final NoOpBarrierStep barrier = (NoOpBarrierStep) traversal.getEndStep();
+        traversal.iterate();
+        assertEquals(64, barrier.getBarrierSize());
+        assertEquals(2, barrier.clone().getBarrierSize());
+        barrier.reset();
+        assertEquals(2, barrier.getBarrierSize());
+    }
+
+    @Test
+    public void shouldKeepFixedSize() {
+        final Traversal.Admin<Integer, Integer> traversal = runs(1000, 10).barrier(16).asAdmin();
+        final NoOpBarrierStep barrier = (NoOpBarrierStep) traversal.getEndStep();
+        traversal.iterate();
+        assertEquals(16, barrier.getBarrierSize());
+    }
+
+    /**
+     * Emits {@code size} integers in runs of {@code runLength} equal values. The values are only mapped after the
+     * {@code inject()} as it would already merge equal values itself.
+     */
+    private static GraphTraversal<Integer, Integer> runs(final int size, final int runLength) {
+        return __.inject(IntStream.range(0, size).boxed().toArray(Integer[]::new)).map(t -> t.get() / runLength);
+    }
+
+    private static <S, E> Traversal.Admin<S, E> adaptiveBarrier(final Traversal<S, E> traversal, final int minBarrierSize, final int maxBarrierSize) {
+        return traversal.asAdmin().addStep(new NoOpBarrierStep<>(traversal.asAdmin(), minBarrierSize, maxBarrierSize));
+    }
+}
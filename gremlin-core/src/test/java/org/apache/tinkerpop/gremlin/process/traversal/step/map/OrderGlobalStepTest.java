@@ -21,14 +21,25 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSpill;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -64,4 +75,93 @@ public class OrderGlobalStepTest extends StepTest {
             __.inject(list).unfold().order().by(__.identity(), Order.shuffle).by().iterate();
         }
     }
+
+    @Test
+    public void shouldRetainOnlyTraversersWithinLimit() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(OrderLimitStrategy.instance());
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        Collections.shuffle(list);
+
+        assertEquals(Arrays.asList(999, 998, 997), g.inject(list).unfold().order().by(Order.desc).limit(3).toList());
+        assertEquals(Arrays.asList(5, 6), g.inject(list).unfold().order().range(5, 7).toList());
+        assertEquals(Arrays.asList(1, 1), g.inject(1, 1, 1, 2, 3).order().limit(2).toList());
+        assertEquals(Arrays.asList(1, 1), g.inject(3, 1, 2, 1, 1).barrier().order().limit(2).toList());
+
+        // ties retain the order in which traversers arrived
+        assertEquals(Arrays.asList("a", "c", "e"), g.inject("bb", "a", "c", "dd", "e", "f").order().
+                by(__.map(t -> ((String) t.get()).length())).limit(3).toList());
+    }
+
+    @Test
+    public void shouldSpillToDiskAndMergeSortedRuns() throws Exception {
+        final File directory = Files.createTempDirectory("order-spill").toFile();
+        try {
+            final GraphTraversalSource g = EmptyGraph.instance().traversal().
+                    with(TraverserSpill.SPILL_THRESHOLD, 7).
+                    with(TraverserSpill.SPILL_DIRECTORY, directory.getAbsolutePath());
+            final List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                list.add(i % 50);
+            }
+            Collections.shuffle(list);
+
+            final List<Integer> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            final Traversal<?, Object> traversal = g.inject(list).unfold().order();
+            assertEquals(0, traversal.next());
+            assertTrue(directory.list().length > 0);
+            traversal.close();
+            assertEquals(0, directory.list().length);
+
+            assertEquals(expected, g.inject(list).unfold().order().toList());
+
+            Collections.reverse(expected);
+            assertEquals(expected, g.inject(list).unfold().order().by(Order.desc).toList());
+
+            assertEquals(expected.subList(0, 10), g.inject(list).unfold().order().by(Order.desc).limit(10).toList());
+
+            // all spill files are removed once consumed
+            assertEquals(0, directory.list().length);
+        } finally {
+            for (final File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void shouldSpillCollectionsAsEqualCopies() throws Exception {
+        final File directory = Files.createTempDirectory("order-spill").toFile();
+        try {
+            final GraphTraversalSource g = EmptyGraph.instance().traversal().
+                    with(TraverserSpill.SPILL_THRESHOLD, 3).
+                    with(TraverserSpill.SPILL_DIRECTORY, directory.getAbsolutePath());
+            final List<Map<String, Object>> maps = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final Map<String, Object> m = new LinkedHashMap<>();
+                m.put("i", i);
+                m.put("l", Arrays.asList("x", i));
+                maps.add(m);
+            }
+            final List<Map<String, Object>> shuffled = new ArrayList<>(maps);
+            Collections.shuffle(shuffled);
+
+            final Traversal<?, Object> traversal = g.inject(shuffled).unfold().order().by(__.select("i"));
+            assertEquals(maps.get(0), traversal.next());
+            assertTrue(directory.list().length > 0);
+            final List<Object> results = new ArrayList<>(Collections.singletonList(maps.get(0)));
+            traversal.fill(results);
+            assertEquals(maps, results);
+            assertEquals(0, directory.list().length);
+        } finally {
+            for (final File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
 }
@@ -19,12 +19,18 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -44,4 +50,14 @@ public class ProjectStepTest extends StepTest {
                 __.project("y").by("name")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSerializeBeforeAndAfterExecution() {
+        final Traversal.Admin<Integer, Map<String, Object>> traversal = EmptyGraph.instance().traversal().inject(1, 2).<Object>project("x", "y").by(__.identity()).by(__.constant("a")).asAdmin();
+        final Traversal.Admin<Integer, Map<String, Object>> copy = SerializationUtils.clone(traversal);
+        final List<Map<String, Object>> results = traversal.toList();
+        assertEquals(2, results.size());
+        assertEquals(results, copy.clone().toList());
+        SerializationUtils.clone(traversal);
+    }
+}
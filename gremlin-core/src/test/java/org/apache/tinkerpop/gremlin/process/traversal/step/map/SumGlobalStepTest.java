@@ -21,10 +21,14 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -34,4 +38,14 @@ public class SumGlobalStepTest extends StepTest {
     protected List<Traversal> getTraversals() {
         return Collections.singletonList(__.sum());
     }
+
+    @Test
+    public void testReturnTypes() {
+        assertEquals(6L, __.__(1, 2, 3).sum().next());
+        assertEquals(6L, __.__((short) 1, 2L, 3).sum().next());
+        assertEquals(7.5d, __.__(1, 2L, 3.5d, 1).sum().next());
+        assertEquals(3d, __.__(1, 2f).sum().next()); // the bulk is a Long value
+        assertEquals(new BigDecimal("7.5"), __.__(1, BigDecimal.valueOf(3.5d), 3).sum().next());
+        assertEquals(Integer.MAX_VALUE * 2L, __.__(Integer.MAX_VALUE, Integer.MAX_VALUE).sum().next());
+    }
 }
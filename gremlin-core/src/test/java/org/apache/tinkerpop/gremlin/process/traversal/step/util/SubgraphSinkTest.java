@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class SubgraphSinkTest {
+
+    @Test
+    public void shouldAddEachIdOnce() {
+        final SubgraphSink.IdSet ids = new SubgraphSink.IdSet();
+        for (long i = -1000L; i < 100000L; i++) {
+            assertTrue(ids.add(i));
+        }
+        for (long i = -1000L; i < 100000L; i++) {
+            assertFalse(ids.add(i));
+        }
+        assertEquals(101000L, ids.size());
+    }
+
+    @Test
+    public void shouldSeparateIdsOfDifferentTypes() {
+        final SubgraphSink.IdSet ids = new SubgraphSink.IdSet();
+        assertTrue(ids.add(0L));
+        assertTrue(ids.add(0));
+        assertTrue(ids.add("0"));
+        assertTrue(ids.add(Long.MIN_VALUE));
+        assertTrue(ids.add(Integer.MAX_VALUE));
+        assertFalse(ids.add(0L));
+        assertFalse(ids.add(0));
+        assertFalse(ids.add("0"));
+        assertFalse(ids.add(Long.MIN_VALUE));
+        assertFalse(ids.add(Integer.MAX_VALUE));
+        assertEquals(5L, ids.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowEmptyBatches() {
+        SubgraphSink.of(mock(GraphWriter.class), new ByteArrayOutputStream(), 0);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.Event;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy.AsyncEventQueue;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy.AsyncEventQueue.Backpressure;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.keyed.KeyedVertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncEventQueueTest {
+
+    private static final Vertex v1 = new ReferenceVertex(1, "person");
+    private static final Vertex v2 = new ReferenceVertex(2, "person");
+
+    private final RecordingListener listener = new RecordingListener();
+    private AsyncEventQueue queue;
+
+    @After
+    public void tearDown() throws Exception {
+        // a failed assertion must not leave the consumer blocked in the listener
+        listener.release();
+        if (queue != null) queue.close();
+    }
+
+    @Test
+    public void shouldFireEventsInOrderOnConsumerThread() throws Exception {
+        queue = createQueue(listener, AsyncEventQueue.DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+        queue.addEvent(new Event.VertexAddedEvent(v1));
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        queue.addEvent(changed(v1, "name", "a", "b"));
+        queue.flush();
+        assertEquals(Arrays.asList("added:1", "added:2", "changed:1:name:a->b"), listener.events);
+        assertThat(listener.thread, startsWith("gremlin-event-queue-"));
+    }
+
+    @Test
+    public void shouldCoalesceConsecutiveChangesOfProperty() throws Exception {
+        queue = createQueue(listener, AsyncEventQueue.DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+        listener.block();
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        listener.awaitBlocked();
+        queue.addEvent(changed(v1, "name", "a", "b"));
+        queue.addEvent(changed(v1, "name", "b", "c"));
+        queue.addEvent(changed(v1, "age", 29, 30));
+        queue.addEvent(changed(v1, "name", "c", "d"));
+        listener.release();
+        queue.flush();
+        assertEquals(Arrays.asList("added:2", "changed:1:name:a->c", "changed:1:age:29->30", "changed:1:name:c->d"), listener.events);
+    }
+
+    @Test
+    public void shouldNotCoalesceWhenDisabled() throws Exception {
+        queue = createQueue(listener, AsyncEventQueue.DEFAULT_CAPACITY, Backpressure.BLOCK, false);
+        listener.block();
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        listener.awaitBlocked();
+        queue.addEvent(changed(v1, "name", "a", "b"));
+        queue.addEvent(changed(v1, "name", "b", "c"));
+        listener.release();
+        queue.flush();
+        assertEquals(Arrays.asList("added:2", "changed:1:name:a->b", "changed:1:name:b->c"), listener.events);
+    }
+
+    @Test
+    public void shouldNotCoalesceAdditionsToMultiProperty() throws Exception {
+        queue = createQueue(listener, AsyncEventQueue.DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+        listener.block();
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        listener.awaitBlocked();
+        queue.addEvent(new Event.VertexPropertyChangedEvent(v1, new KeyedVertexProperty("location"), "centreville"));
+        queue.addEvent(new Event.VertexPropertyChangedEvent(v1, new KeyedVertexProperty("location"), "dulles"));
+        listener.release();
+        queue.flush();
+        assertEquals(Arrays.asList("added:2", "changed:1:location:null->centreville", "changed:1:location:null->dulles"), listener.events);
+    }
+
+    @Test
+    public void shouldDropEventsWhenFull() throws Exception {
+        queue = createQueue(listener, 1, Backpressure.DROP, true);
+        listener.block();
+        queue.addEvent(new Event.VertexAddedEvent(v1));
+        listener.awaitBlocked();
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        queue.addEvent(new Event.VertexRemovedEvent(v2));
+        assertEquals(1, queue.getDropped());
+        listener.release();
+        queue.close();
+        assertEquals(Arrays.asList("added:1", "added:2"), listener.events);
+    }
+
+    @Test
+    public void shouldCoalesceIntoLatestChangeOfElementWhenFull() throws Exception {
+        queue = createQueue(listener, 2, Backpressure.COALESCE, false);
+        listener.block();
+        queue.addEvent(new Event.VertexAddedEvent(v2));
+        listener.awaitBlocked();
+        queue.addEvent(changed(v1, "name", "a", "b"));
+        queue.addEvent(changed(v2, "name", "x", "y"));
+        queue.addEvent(changed(v1, "name", "b", "c"));
+        listener.release();
+        queue.close();
+        assertEquals(Arrays.asList("added:2", "changed:1:name:a->c", "changed:2:name:x->y"), listener.events);
+        assertEquals(0, queue.getDropped());
+    }
+
+    @Test
+    public void shouldContinueAfterListenerFailure() throws Exception {
+        final List<MutationListener> listeners = Arrays.asList(new RecordingListener() {
+            @Override
+            public void vertexAdded(final Vertex vertex) {
+                throw new IllegalStateException("listener failure");
+            }
+        }, listener);
+        queue = new AsyncEventQueue();
+        queue.setListeners(listeners);
+        queue.addEvent(new Event.VertexAddedEvent(v1));
+        queue.addEvent(new Event.VertexRemovedEvent(v1));
+        queue.flush();
+        assertEquals(Collections.singletonList("removed:1"), listener.events);
+    }
+
+    @Test
+    public void shouldRejectEventsAfterClose() throws Exception {
+        queue = createQueue(listener, AsyncEventQueue.DEFAULT_CAPACITY, Backpressure.BLOCK, true);
+        queue.addEvent(new Event.VertexAddedEvent(v1));
+        queue.close();
+        assertEquals(Collections.singletonList("added:1"), listener.events);
+        try {
+            queue.addEvent(new Event.VertexAddedEvent(v2));
+            fail("The closed queue should not accept events");
+        } catch (IllegalStateException ex) {
+            assertTrue(ex.getMessage().contains("closed"));
+        }
+    }
+
+    private static AsyncEventQueue createQueue(final MutationListener listener, final int capacity,
+                                               final Backpressure backpressure, final boolean coalesce) {
+        final AsyncEventQueue queue = new AsyncEventQueue(capacity, backpressure, coalesce);
+        queue.setListeners(Collections.singletonList(listener));
+        return queue;
+    }
+
+    private static Event changed(final Vertex vertex, final String key, final Object oldValue, final Object newValue) {
+        return new Event.VertexPropertyChangedEvent(vertex, new DetachedVertexProperty<>(key + vertex.id(), key, oldValue, null, vertex), newValue);
+    }
+
+    /**
+     * Records the events it receives and can hold the consumer in its next {@code vertexAdded} call so that events
+     * pile up in the buffer.
+     */
+    private static class RecordingListener implements MutationListener {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile String thread;
+        private volatile CountDownLatch blocked;
+        private volatile CountDownLatch released;
+        private final AtomicBoolean blockNext = new AtomicBoolean(false);
+
+        void block() {
+            this.blocked = new CountDownLatch(1);
+            this.released = new CountDownLatch(1);
+            this.blockNext.set(true);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            this.blocked.await();
+        }
+
+        void release() {
+            final CountDownLatch released = this.released;
+            if (null != released) released.countDown();
+        }
+
+        @Override
+        public void vertexAdded(final Vertex vertex) {
+            record("added:" + vertex.id());
+            if (this.blockNext.compareAndSet(true, false)) {
+                this.blocked.countDown();
+                try {
+                    this.released.await();
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+
+        @Override
+        public void vertexRemoved(final Vertex vertex) {
+            record("removed:" + vertex.id());
+        }
+
+        @Override
+        public void vertexPropertyChanged(final Vertex element, final VertexProperty oldValue, final Object setValue, final Object... vertexPropertyKeyValues) {
+            record("changed:" + element.id() + ":" + oldValue.key() + ":" + oldValue.orElse(null) + "->" + setValue);
+        }
+
+        @Override
+        public void vertexPropertyRemoved(final VertexProperty vertexProperty) {
+        }
+
+        @Override
+        public void edgeAdded(final Edge edge) {
+        }
+
+        @Override
+        public void edgeRemoved(final Edge edge) {
+        }
+
+        @Override
+        public void edgePropertyChanged(final Edge element, final Property oldValue, final Object setValue) {
+        }
+
+        @Override
+        public void edgePropertyRemoved(final Edge element, final Property property) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyChanged(final VertexProperty element, final Property oldValue, final Object setValue) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyRemoved(final VertexProperty element, final Property property) {
+        }
+
+        private void record(final String event) {
+            this.thread = Thread.currentThread().getName();
+            this.events.add(event);
+        }
+    }
+}
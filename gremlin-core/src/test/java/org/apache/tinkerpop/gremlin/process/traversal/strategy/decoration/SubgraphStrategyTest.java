@@ -25,14 +25,17 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.InlineFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.StandardVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.hamcrest.CoreMatchers;
@@ -42,6 +45,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.has;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
@@ -139,20 +144,47 @@ public class SubgraphStrategyTest {
             assertThat(((DefaultGraphTraversal) h.getLocalChildren().get(0)).getEndStep(), CoreMatchers.instanceOf(TraversalFilterStep.class));
         }
 
+        @Test
+        public void shouldInlineSimpleCriteria() {
+            final SubgraphStrategy strategy = SubgraphStrategy.build().vertices(hasLabel("person")).edges(has("weight", P.gt(0.5))).create();
+            final Traversal.Admin<?, ?> t = __.V().out().asAdmin();
+            strategy.apply(t);
+            assertEquals(Arrays.asList(GraphStep.class, HasStep.class, HasStep.class, VertexStep.class, HasStep.class, EdgeVertexStep.class, HasStep.class),
+                    t.getSteps().stream().map(Object::getClass).collect(Collectors.toList()));
+            assertEquals("weight", ((HasStep<?>) t.getSteps().get(4)).getHasContainers().get(0).getKey());
+            assertEquals(T.label.getAccessor(), ((HasStep<?>) t.getSteps().get(6)).getHasContainers().get(0).getKey());
+        }
+
+        @Test
+        public void shouldInlineSimpleEdgeCriterionAheadOfAdjacentVertexCheck() {
+            final SubgraphStrategy strategy = SubgraphStrategy.build().vertices(__.and(has("name", "marko"), has("age", 29))).edges(hasLabel("knows")).create();
+            final Traversal.Admin<?, ?> t = __.outE().as("e").asAdmin();
+            strategy.apply(t);
+            assertEquals(Arrays.asList(VertexStep.class, HasStep.class, TraversalFilterStep.class),
+                    t.getSteps().stream().map(Object::getClass).collect(Collectors.toList()));
+            assertTrue(t.getSteps().get(0).getLabels().isEmpty());
+            assertEquals(Collections.singleton("e"), t.getEndStep().getLabels());
+        }
+
         @Test
         public void shouldNotRetainMarkers() {
             final SubgraphStrategy strategy = SubgraphStrategy.build().vertices(__.<Vertex>out().hasLabel("person")).create();
             final Traversal.Admin<?, ?> t = out().inE().asAdmin();
             t.setStrategies(t.getStrategies().clone().addStrategies(strategy, StandardVerificationStrategy.instance()));
             t.applyStrategies();
-            assertEquals(t.getSteps().get(0).getClass(), VertexStep.class);
-            assertEquals(t.getSteps().get(1).getClass(), TraversalFilterStep.class);
-            assertEquals(AndStep.class, ((TraversalFilterStep<?>) t.getSteps().get(1)).getLocalChildren().get(0).getStartStep().getClass());
-            assertEquals(0, ((TraversalFilterStep<?>) t.getSteps().get(1)).getLocalChildren().get(0).getStartStep().getLabels().size());
+            // out() checks the vertex it starts from once rather than both vertices of every edge
+            assertEquals(t.getSteps().get(0).getClass(), TraversalFilterStep.class);
+            assertEquals(VertexStep.class, ((TraversalFilterStep<?>) t.getSteps().get(0)).getLocalChildren().get(0).getStartStep().getClass());
+            assertEquals(0, ((TraversalFilterStep<?>) t.getSteps().get(0)).getLocalChildren().get(0).getStartStep().getLabels().size());
+            assertEquals(t.getSteps().get(1).getClass(), VertexStep.class);
             assertEquals(t.getSteps().get(2).getClass(), EdgeVertexStep.class);
             assertEquals(t.getSteps().get(3).getClass(), TraversalFilterStep.class);
             assertEquals(VertexStep.class, ((TraversalFilterStep<?>) t.getSteps().get(3)).getLocalChildren().get(0).getStartStep().getClass());
             assertEquals(0, ((TraversalFilterStep<?>) t.getSteps().get(3)).getLocalChildren().get(0).getStartStep().getLabels().size());
+            assertEquals(t.getSteps().get(4).getClass(), VertexStep.class);
+            assertEquals(t.getSteps().get(5).getClass(), TraversalFilterStep.class);
+            assertEquals(AndStep.class, ((TraversalFilterStep<?>) t.getSteps().get(5)).getLocalChildren().get(0).getStartStep().getClass());
+            assertEquals(0, ((TraversalFilterStep<?>) t.getSteps().get(5)).getLocalChildren().get(0).getStartStep().getLabels().size());
             TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, t).forEach(step -> assertTrue(step.getLabels().isEmpty()));
         }
     }
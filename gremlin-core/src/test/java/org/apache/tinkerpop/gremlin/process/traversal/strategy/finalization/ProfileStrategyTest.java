@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ProfileStrategyTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(ProfileStrategy.instance());
+
+    @Test
+    public void shouldTimeEveryCallByDefault() {
+        final Traversal.Admin<Integer, ?> traversal = g.inject(1, 2, 3).map(t -> t.get() + 1).profile().asAdmin();
+        traversal.applyStrategies();
+        final List<ProfileStep> profileSteps = TraversalHelper.getStepsOfAssignableClassRecursively(ProfileStep.class, traversal);
+        assertEquals(2, profileSteps.size());
+        profileSteps.forEach(step -> assertEquals(1.0d, step.getSampleRate(), 0.0d));
+    }
+
+    @Test
+    public void shouldConfigureSampleRateFromOptions() {
+        final Traversal.Admin<Integer, ?> traversal = g.with(ProfileStrategy.SAMPLE_RATE, "0.25").
+                inject(1, 2, 3).map(t -> t.get() + 1).filter(t -> t.get() > 2).profile().asAdmin();
+        traversal.applyStrategies();
+        final List<ProfileStep> profileSteps = TraversalHelper.getStepsOfAssignableClassRecursively(ProfileStep.class, traversal);
+        assertEquals(3, profileSteps.size());
+        profileSteps.forEach(step -> assertEquals(0.25d, step.getSampleRate(), 0.0d));
+    }
+
+    @Test
+    public void shouldKeepCountsExactWhenSampling() {
+        final Integer[] values = IntStream.range(0, 10000).boxed().toArray(Integer[]::new);
+        final TraversalMetrics metrics = g.with(ProfileStrategy.SAMPLE_RATE, 0.01).
+                inject(values).map(t -> t.get() % 100).filter(t -> t.get() < 50).profile().next();
+
+        final Metrics injectMetrics = metrics.getMetrics(0);
+        assertEquals(10000L, injectMetrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        assertEquals(10000L, injectMetrics.getCount(TraversalMetrics.TRAVERSER_COUNT_ID).longValue());
+        assertEquals(10000L, metrics.getMetrics(1).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        assertEquals(5000L, metrics.getMetrics(2).getCount(TraversalMetrics.ELEMENT_COUNT_ID).longValue());
+        for (final Metrics m : metrics.getMetrics()) {
+            assertTrue(m.getDuration(TimeUnit.NANOSECONDS) >= 0L);
+        }
+        assertTrue(metrics.getDuration(TimeUnit.NANOSECONDS) > 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowInvalidSampleRate() {
+        g.with(ProfileStrategy.SAMPLE_RATE, 0.0d).inject(1).profile().iterate();
+    }
+}
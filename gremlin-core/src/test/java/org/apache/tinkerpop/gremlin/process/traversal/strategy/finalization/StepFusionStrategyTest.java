@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FusedStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.apache.tinkerpop.gremlin.process.traversal.P.lt;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class StepFusionStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal original;
+
+    @Parameterized.Parameter(value = 1)
+    public Traversal optimized;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Traversal[][]{
+                {__.out(), __.out()},
+                {__.out().out(), fused(__.start(), __.out().out())},
+                {__.out().has("name", "marko").out().values("age"), fused(__.start(), __.out().has("name", "marko").out().values("age"))},
+                {__.outE().inV().id(), fused(__.start(), __.outE().inV().id())},
+                {__.out().label().is("person"), fused(__.start(), __.out().label().is("person"))},
+                {__.out().barrier().out().in(), fused(__.out().barrier(), __.out().in())},
+                {__.out().out().as("a").in().in(), fused(fused(__.start(), __.out().out()).as("a"), __.in().in())},
+                {__.out().as("a").out().fold(), __.out().as("a").out().fold()},
+                {__.out().out().path(), __.out().out().path()},
+                {__.out().local(__.out().out()).path(), __.out().local(__.out().out()).path()},
+                {__.out().out().map(__.in().in()), fused(__.start(), __.out().out()).map(fused(__.start(), __.in().in()))},
+                {__.out().out().count(), fused(__.start(), __.out().out()).count()}});
+    }
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StepFusionStrategy.instance());
+        this.original.asAdmin().setStrategies(strategies);
+        this.original.asAdmin().applyStrategies();
+        assertEquals(this.optimized, this.original);
+    }
+
+    @Test
+    public void shouldProduceSameResultsAsUnfusedSteps() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StepFusionStrategy.instance());
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 2, 3, 4, 5).is(gt(1)).is(lt(5)).asAdmin();
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        assertEquals(FusedStep.class, traversal.getSteps().get(1).getClass());
+        assertThat(traversal.toList(), contains(2, 3, 4));
+    }
+
+    /**
+     * Appends the steps of the second traversal as a single {@link FusedStep} to the first traversal.
+     */
+    private static GraphTraversal fused(final GraphTraversal traversal, final Traversal toFuse) {
+        final List<Step> steps = new ArrayList<>(toFuse.asAdmin().getSteps());
+        return (GraphTraversal) traversal.asAdmin().addStep(new FusedStep<>(traversal.asAdmin(), steps));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class BreadthFirstRepeatStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal traversal;
+
+    @Parameterized.Parameter(value = 1)
+    public boolean pruneVisited;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.repeat(out()).until(__.loops().is(4)), false},
+                {__.repeat(out()).emit(), false},
+                {__.repeat(out()).emit().dedup(), true},
+                {__.repeat(out()).emit().dedup("a"), false},
+                {__.repeat(out()).emit().dedup().by("name"), false},
+                {__.repeat(out().simplePath()).until(__.hasLabel("person")).dedup(), false},
+                {__.repeat(out().cyclicPath()).until(__.hasLabel("person")).dedup(), false},
+                {__.repeat(out().simplePath().by("name")).until(__.hasLabel("person")).dedup(), false},
+                {__.repeat(out().path()).emit().dedup(), false},
+                {__.repeat(out()).until(__.simplePath()).dedup(), false},
+                {__.repeat(out()).emit(__.loops().is(2)).dedup(), false},
+                {__.repeat(out()).until(__.loops().is(4)).dedup(), false},
+                {__.repeat(out().limit(10)).emit().dedup(), false},
+                {__.repeat(out().aggregate("x")).emit().dedup(), false},
+                {__.repeat(out().filter(t -> true)).emit().dedup(), false},
+                {__.repeat(out().repeat(out()).emit()).emit().dedup(), false},
+                {__.emit().repeat((Traversal) out()).until(__.has("age")).dedup(), true}});
+    }
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(BreadthFirstRepeatStrategy.instance());
+        this.traversal.asAdmin().setStrategies(strategies);
+        this.traversal.asAdmin().applyStrategies();
+        final RepeatStep<?> repeatStep = TraversalHelper.getFirstStepOfAssignableClass(RepeatStep.class, this.traversal.asAdmin()).get();
+        assertEquals(true, repeatStep.isBreadthFirst());
+        assertEquals(this.pruneVisited, repeatStep.isPruneVisited());
+    }
+
+    @Test
+    public void shouldMergeTraversersOfEachLoop() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(1, 1).repeat(__.union(__.identity(), __.identity())).until(__.loops().is(3)).asAdmin();
+        traversal.setStrategies(new DefaultTraversalStrategies().addStrategies(BreadthFirstRepeatStrategy.instance()));
+        assertEquals(1, traversal.clone().toBulkSet().uniqueSize());
+        assertEquals(16, traversal.toList().size());
+    }
+
+    @Test
+    public void shouldEmitAndUntilLikeDepthFirstRepeat() {
+        assertThat(breadthFirst(__.inject(1).emit().repeat(__.union(__.constant(2), __.constant(3))).until(__.loops().is(2))),
+                containsInAnyOrder(depthFirst(__.inject(1).emit().repeat(__.union(__.constant(2), __.constant(3))).until(__.loops().is(2))).toArray()));
+        assertThat(breadthFirst(__.inject(1, 2).repeat(__.union(__.constant(2), __.constant(3))).emit().until(__.loops().is(3))),
+                containsInAnyOrder(depthFirst(__.inject(1, 2).repeat(__.union(__.constant(2), __.constant(3))).emit().until(__.loops().is(3))).toArray()));
+        assertThat(breadthFirst(__.inject(1, 2).until(__.or(__.is(2), __.loops().is(3))).repeat(__.union(__.constant(2), __.constant(3)))),
+                containsInAnyOrder(depthFirst(__.inject(1, 2).until(__.or(__.is(2), __.loops().is(3))).repeat(__.union(__.constant(2), __.constant(3)))).toArray()));
+    }
+
+    @Test
+    public void shouldPruneVisitedObjects() {
+        // without pruning, this repeat would never end as the objects are revisited forever
+        assertThat(breadthFirst(__.inject(1).repeat(__.union(__.constant(2), __.constant(3))).emit().dedup()), containsInAnyOrder(2, 3));
+    }
+
+    private static List<Object> breadthFirst(final Traversal traversal) {
+        traversal.asAdmin().setStrategies(new DefaultTraversalStrategies().addStrategies(BreadthFirstRepeatStrategy.instance()));
+        return traversal.toList();
+    }
+
+    private static List<Object> depthFirst(final Traversal traversal) {
+        traversal.asAdmin().setStrategies(new DefaultTraversalStrategies());
+        return traversal.toList();
+    }
+}
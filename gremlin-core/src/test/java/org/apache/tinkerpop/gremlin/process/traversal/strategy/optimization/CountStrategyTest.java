@@ -28,6 +28,7 @@ import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
 
+import static org.apache.tinkerpop.gremlin.process.traversal.P.eq;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.gte;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.inside;
@@ -77,7 +78,22 @@ public class CountStrategyTest {
                 {__.out().count().is(inside(2, 4)), __.out().limit(4).count().is(inside(2, 4))},
                 {__.out().count().is(outside(2, 4)), __.out().limit(5).count().is(outside(2, 4))},
                 {__.out().count().is(within(2, 6, 4)), __.out().limit(7).count().is(within(2, 6, 4))},
-                {__.out().count().is(without(2, 6, 4)), __.out().limit(6).count().is(without(2, 6, 4))},
+                {__.out().count().is(without(2, 6, 4)), __.out().limit(7).count().is(without(2, 6, 4))},
+                {__.out().count().is(within(2, "a", 4L)), __.out().limit(5).count().is(within(2, "a", 4L))},
+                {__.out().count().is(gt(2.5)), __.out().limit(3).count().is(gt(2.5))},
+                {__.out().count().is(lt(2.5)), __.out().limit(3).count().is(lt(2.5))},
+                {__.out().count().is(gt(-1)), __.out().limit(0).count().is(gt(-1))},
+                {__.out().count().is(gt(2).and(lt(4).or(eq(7)))), __.out().limit(8).count().is(gt(2).and(lt(4).or(eq(7))))},
+                {__.out().count().is(eq("x")), __.out().count().is(eq("x"))},
+                {__.out().count().is(gt(2.0).and(lt(Double.NaN))), __.out().count().is(gt(2.0).and(lt(Double.NaN)))},
+                {__.order().by(__.outE().count().is(lt(3))), __.order().by(__.outE().limit(3).count().is(lt(3)))},
+                {__.order().by(__.outE().count().is(gt(3))), __.order().by(__.outE().count().is(gt(3)))},
+                {__.order().by(__.outE().count().is(neq(3))), __.order().by(__.outE().count().is(neq(3)))},
+                {__.filter(__.outE().count().is(eq(0.5))), __.filter(__.outE().limit(1).count().is(eq(0.5)))},
+                {__.filter(__.outE().count().is(lt(1).and(gt(0)))), __.filter(__.outE().limit(1).count().is(lt(1).and(gt(0))))},
+                {__.filter(__.outE().count().is(lt(1).or(gt(0)))), __.filter(__.outE().limit(1).count().is(lt(1).or(gt(0))))},
+                {__.where(__.out("knows").out().count().is(gte(3))), __.where(__.out("knows").out().limit(3).count().is(gte(3)))},
+                {__.where(__.map(__.outE().count().is(0))), __.where(__.map(__.outE().limit(1).count().is(0)))},
                 {__.map(__.count().is(0)), __.map(__.limit(1).count().is(0))},
                 {__.flatMap(__.count().is(0)), __.flatMap(__.limit(1).count().is(0))},
                 {__.flatMap(__.count().is(0)).as("a"), __.flatMap(__.count().is(0)).as("a")},
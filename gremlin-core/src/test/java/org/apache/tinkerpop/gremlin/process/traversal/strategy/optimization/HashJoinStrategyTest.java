@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TraversalFilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.lte;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class HashJoinStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal traversal;
+
+    @Parameterized.Parameter(value = 1)
+    public List<Boolean> hashJoins;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.as("a").out().as("b").where(__.as("a").out("knows").as("b")), Arrays.asList(true)},
+                {__.as("a").out().as("b").where(__.as("a").out("knows")), Arrays.asList(true)},
+                {__.as("a").out().as("b").where(__.not(__.as("a").out().as("b"))), Arrays.asList(false, true)},
+                {__.out().where(__.V().has("name", "marko").as("b")), Arrays.asList(true)},
+                {__.out().not(__.V().hasLabel("software")), Arrays.asList(true)},
+                {__.out().filter(__.V().hasLabel("software")), Arrays.asList(true)},
+                {__.out().filter(__.out()), Arrays.asList(false)},
+                {__.out().not(__.in()), Arrays.asList(false)},
+                {__.match(__.as("a").out().as("b"), __.where(__.as("a").out("knows").as("b"))), Arrays.asList(true)},
+                {__.as("a").out().as("b").where(__.as("a").out().path().as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out().aggregate("x").as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out().filter(t -> true).as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out().coin(0.5).as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out().order().by(Order.shuffle).limit(1).as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out().sack().as("b")), Arrays.asList(false)},
+                {__.as("a").out().as("b").where(__.as("a").out("knows").as("b")).addE("likes"), Arrays.asList(false)},
+                {__.out().not(__.V().hasLabel("software")).profile(), Arrays.asList(false)}});
+    }
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(HashJoinStrategy.instance());
+        final Traversal.Admin<?, ?> traversal = this.traversal.asAdmin().clone();
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        final List<Boolean> hashJoins = new ArrayList<>();
+        for (final Step<?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, traversal)) {
+            if (step instanceof WhereTraversalStep)
+                hashJoins.add(((WhereTraversalStep<?>) step).isHashJoin());
+            else if (step instanceof NotStep)
+                hashJoins.add(((NotStep<?>) step).isHashJoin());
+            else if (step instanceof TraversalFilterStep)
+                hashJoins.add(((TraversalFilterStep<?>) step).isHashJoin());
+        }
+        assertEquals(this.hashJoins, hashJoins);
+    }
+
+    @Test
+    public void shouldFilterLikeNestedLoopJoin() {
+        assertThat(hashJoin(__.inject(1, 2, 3, 2).as("a").constant(2).as("b").where(__.as("a").is(lte(2)).as("b"))), contains(2, 2));
+        assertThat(hashJoin(__.inject(1, 2, 3, 2).as("a").constant(2).as("b").where(__.as("a").is(lte(2)))), contains(2, 2, 2));
+        assertThat(hashJoin(__.inject(1, 2, 3, 2).as("a").constant(2).as("b").where(__.not(__.as("a").is(lte(2)).as("b")))), contains(2, 2));
+        assertThat(hashJoin(__.inject(1, 2, 3, 2).as("a").constant(2).as("b").where(__.as("a").fold().unfold().as("b")).select("a")), contains(2, 2));
+    }
+
+    private static List<Object> hashJoin(final Traversal traversal) {
+        final Traversal.Admin<?, ?> clone = traversal.asAdmin().clone();
+        clone.setStrategies(new DefaultTraversalStrategies().addStrategies(HashJoinStrategy.instance()));
+        traversal.asAdmin().setStrategies(new DefaultTraversalStrategies());
+        final List<Object> results = (List) clone.toList();
+        assertEquals(traversal.toList(), results);
+        return results;
+    }
+}
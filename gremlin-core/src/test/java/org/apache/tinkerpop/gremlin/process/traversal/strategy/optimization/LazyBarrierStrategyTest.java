@@ -22,7 +22,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.OptionsStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -58,6 +61,8 @@ public class LazyBarrierStrategyTest {
     public void doTest() {
         final TraversalStrategies strategies = new DefaultTraversalStrategies();
         strategies.addStrategies(LazyBarrierStrategy.instance());
+        // pin the size of the barriers unless a test specifies its own options
+        strategies.addStrategies(OptionsStrategy.build().with(LazyBarrierStrategy.BARRIER_MIN_SIZE, LazyBarrierStrategy.MAX_BARRIER_SIZE).create());
         for (final TraversalStrategy strategy : this.otherStrategies) {
             strategies.addStrategies(strategy);
         }
@@ -71,13 +76,14 @@ public class LazyBarrierStrategyTest {
         final int LAZY_SIZE = LazyBarrierStrategy.MAX_BARRIER_SIZE;
         final int REPEAT_SIZE = RepeatUnrollStrategy.MAX_BARRIER_SIZE;
         final int PATH_SIZE = PathRetractionStrategy.MAX_BARRIER_SIZE;
+        final int MIN_SIZE = LazyBarrierStrategy.DEFAULT_MIN_BARRIER_SIZE;
         return Arrays.asList(new Object[][]{
                 {__.out().count(), __.out().count(), Collections.emptyList()},
                 {__.out().out().count(), __.out().out().count(), Collections.emptyList()},
                 {__.out().out().out().count(), __.out().out().barrier(LAZY_SIZE).out().count(), Collections.emptyList()},
                 {__.out().out().out().out().count(), __.out().out().barrier(LAZY_SIZE).out().barrier(LAZY_SIZE).out().count(), Collections.emptyList()},
                 {__.out().out().out().count(), __.out().out().barrier(LAZY_SIZE).outE().count(), Arrays.asList(CountStrategy.instance(), AdjacentToIncidentStrategy.instance())},
-                {__.out().out().out().count().is(P.gt(10)), __.out().out().barrier(LAZY_SIZE).outE().limit(11).count().is(P.gt(10)), Arrays.asList(CountStrategy.instance(), AdjacentToIncidentStrategy.instance())},
+                {__.out().out().out().count().is(P.gt(10)), __.out().out().barrier(11).outE().limit(11).count().is(P.gt(10)), Arrays.asList(CountStrategy.instance(), AdjacentToIncidentStrategy.instance())},
                 {__.outE().inV().outE().inV().outE().inV().groupCount(), __.outE().inV().outE().inV().barrier(LAZY_SIZE).outE().inV().groupCount(), Collections.emptyList()},
                 {__.outE().inV().outE().inV().outE().inV().groupCount(), __.out().out().barrier(LAZY_SIZE).out().groupCount(), Collections.singletonList(IncidentToAdjacentStrategy.instance())},
                 {__.out().out().has("age", 32).out().count(), __.out().out().barrier(LAZY_SIZE).has("age", 32).out().count(), Collections.emptyList()},
@@ -89,7 +95,14 @@ public class LazyBarrierStrategyTest {
                 {__.out().out().as("a").select("a").out(), __.out().out().barrier(LAZY_SIZE).as("a").select("a").out(), Collections.emptyList()},
                 {__.out().out().as("a").select("a").out(), __.out().out().barrier(LAZY_SIZE).as("a").select("a").barrier(PATH_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
                 {__.out().out().as("a").out().select("a").out(), __.out().out().barrier(LAZY_SIZE).as("a").out().select("a").barrier(PATH_SIZE).out(), Collections.singletonList(PathRetractionStrategy.instance())},
-                {__.out().out().out().limit(10).out(), __.out().out().barrier(LAZY_SIZE).out().limit(10).out(), Collections.emptyList()},
+                {__.out().out().out().limit(10).out(), __.out().out().barrier(10).out().limit(10).out(), Collections.emptyList()},
+                {__.out().out().out().limit(1).out(), __.out().out().out().limit(1).out(), Collections.emptyList()},
+                {__.out().out().out().fold().limit(1), __.out().out().barrier(LAZY_SIZE).out().fold().limit(1), Collections.emptyList()},
+                {__.out().out().out().count(), adaptiveBarrier(__.out().out(), MIN_SIZE, LAZY_SIZE).out().count(), Collections.singletonList(OptionsStrategy.build().create())},
+                {__.out().out().out().count(), adaptiveBarrier(__.out().out(), MIN_SIZE, 500).out().count(), Collections.singletonList(OptionsStrategy.build().with(LazyBarrierStrategy.BARRIER_MAX_SIZE, 500).create())},
+                {__.out().out().out().count(), adaptiveBarrier(__.out().out(), 10, 20).out().count(), Collections.singletonList(OptionsStrategy.build().with(LazyBarrierStrategy.BARRIER_MIN_SIZE, "10").with(LazyBarrierStrategy.BARRIER_MAX_SIZE, "20").create())},
+                {__.out().out().out().count(), __.out().out().barrier(50).out().count(), Collections.singletonList(OptionsStrategy.build().with(LazyBarrierStrategy.BARRIER_MIN_SIZE, 500).with(LazyBarrierStrategy.BARRIER_MAX_SIZE, 50).create())},
+                {__.out().out().out().limit(20), adaptiveBarrier(__.out().out(), MIN_SIZE / 10, 20).out().limit(20), Collections.singletonList(OptionsStrategy.build().with(LazyBarrierStrategy.BARRIER_MIN_SIZE, MIN_SIZE / 10).create())},
                 {__.V().out().in().where(P.neq("a")), __.V().out().barrier(LAZY_SIZE).in().barrier(LAZY_SIZE).where(P.neq("a")), Collections.emptyList()},
                 {__.V().as("a").out().in().where(P.neq("a")), __.V().as("a").out().in().where(P.neq("a")), Collections.emptyList()},
                 {__.out().out().in().where(P.neq("a")), __.out().out().barrier(LAZY_SIZE).in().barrier(LAZY_SIZE).where(P.neq("a")), Collections.emptyList()},
@@ -103,4 +116,8 @@ public class LazyBarrierStrategyTest {
                 {__.V().out().out().groupCount().by(__.out().out().out()).out().as("a"), __.V().out().barrier(LAZY_SIZE).out().groupCount().by(__.out().out().barrier(LAZY_SIZE).out()).out().as("a"), Collections.emptyList()}
         });
     }
+
+    private static GraphTraversal adaptiveBarrier(final GraphTraversal traversal, final int minBarrierSize, final int maxBarrierSize) {
+        return (GraphTraversal) traversal.asAdmin().addStep(new NoOpBarrierStep<>(traversal.asAdmin(), minBarrierSize, maxBarrierSize));
+    }
 }
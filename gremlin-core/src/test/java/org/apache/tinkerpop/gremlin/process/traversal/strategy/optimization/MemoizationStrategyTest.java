@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class MemoizationStrategyTest {
+
+    @Parameterized.Parameter(value = 0)
+    public Traversal traversal;
+
+    @Parameterized.Parameter(value = 1)
+    public List<Boolean> memoized;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {__.out().order().by(__.out().count()), Arrays.asList(true)},
+                {__.out().order().by(__.out().count(), Order.desc).by("name"), Arrays.asList(true)},
+                {__.out().filter(__.in("created").count().is(gt(1))), Arrays.asList(true)},
+                {__.out().not(__.in("created")), Arrays.asList(true)},
+                {__.out().local(__.outE().limit(2)), Arrays.asList(true)},
+                {__.out().as("a").local(__.outE().limit(2)).select("a"), Arrays.asList(false)},
+                {__.out().local(__.outE().limit(2)).path(), Arrays.asList(false)},
+                {__.out().project("a", "b").by(__.out().count()).by(__.in().values("name").fold()), Arrays.asList(true, true)},
+                {__.out().group().by(__.label()).by(__.out().count()), Arrays.asList(true, true)},
+                {__.out().filter(__.out().path()), Arrays.asList(false)},
+                {__.out().filter(__.out().loops()), Arrays.asList(false)},
+                {__.out().filter(__.out().sack()), Arrays.asList(false)},
+                {__.out().filter(__.out().coin(0.5)), Arrays.asList(false)},
+                {__.out().filter(__.out().aggregate("x")), Arrays.asList(false)},
+                {__.out().filter(__.out().map(t -> t)), Arrays.asList(false)},
+                {__.out().order().by(__.out().order().by(Order.shuffle)), Arrays.asList(false)},
+                {__.out().filter(__.out().filter(__.in())), Arrays.asList(true, true)},
+                {__.out().filter(__.out()).addE("likes"), Arrays.asList(false)},
+                {__.out().filter(__.out()).profile(), Arrays.asList(false)}});
+    }
+
+    @Test
+    public void doTest() {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(MemoizationStrategy.instance());
+        final Traversal.Admin<?, ?> traversal = this.traversal.asAdmin().clone();
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        final List<Boolean> memoized = new ArrayList<>();
+        for (final TraversalParent parent : TraversalHelper.getStepsOfAssignableClassRecursively(TraversalParent.class, traversal)) {
+            for (final Traversal.Admin<?, ?> child : parent.getLocalChildren()) {
+                if (child instanceof DefaultTraversal)
+                    memoized.add(null != ((DefaultTraversal<?, ?>) child).getMemo());
+            }
+        }
+        assertEquals(this.memoized, memoized);
+    }
+
+    @Test
+    public void shouldProduceSameResultsAsWithoutMemoization() {
+        assertThat(memoize(__.inject(3, 1, 2, 1, 3).order().by(__.is(gt(1)).count())), contains(1, 1, 3, 3, 2));
+        assertThat(memoize(__.inject(3, 1, 2, 1, 3).filter(__.is(gt(1)))), contains(3, 3, 2));
+        assertThat(memoize(__.inject(3, 1, 2, 1, 3).not(__.is(gt(1)))), contains(1, 1));
+        assertThat(memoize(__.inject(3, 1, 2, 1, 3).local(__.union(__.identity(), __.constant(0)))), contains(3, 3, 0, 0, 1, 1, 0, 0, 2, 0));
+        assertThat(memoize(__.inject(3, 1, 2, 1, 3).barrier().local(__.fold().count(Scope.local))), contains(2L, 2L, 1L));
+    }
+
+    @Test
+    public void shouldOnlyEvaluateChildOncePerStartObject() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(3, 1, 2, 1, 3).filter(__.is(gt(1))).asAdmin();
+        traversal.setStrategies(new DefaultTraversalStrategies().addStrategies(MemoizationStrategy.instance()));
+        assertThat(traversal.toList(), contains(3, 3, 2));
+        final DefaultTraversal<?, ?> child = (DefaultTraversal<?, ?>) ((TraversalParent) traversal.getSteps().get(1)).getLocalChildren().get(0);
+        assertEquals(3, child.getMemo().size());
+    }
+
+    private static List<Object> memoize(final Traversal traversal) {
+        final Traversal.Admin<?, ?> clone = traversal.asAdmin().clone();
+        clone.setStrategies(new DefaultTraversalStrategies().addStrategies(MemoizationStrategy.instance()));
+        traversal.asAdmin().setStrategies(new DefaultTraversalStrategies());
+        final List<Object> results = (List) clone.toList();
+        assertEquals(traversal.toList(), results);
+        return results;
+    }
+}
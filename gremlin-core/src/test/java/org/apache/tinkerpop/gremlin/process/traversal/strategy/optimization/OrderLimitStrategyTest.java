@@ -56,6 +56,10 @@ public class OrderLimitStrategyTest {
 
     @Test
     public void doTest() {
+        final Traversal.Admin<?, ?> oltp = traversal.asAdmin().clone();
+        applyOrderLimitStrategyStrategy(oltp);
+        assertEquals(limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, oltp).get().getLimit());
+
         traversal.asAdmin().setParent(new TraversalVertexProgramStep(EmptyTraversal.instance(), EmptyTraversal.instance())); // trick it
         applyOrderLimitStrategyStrategy(traversal);
         assertEquals(limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, traversal.asAdmin()).get().getLimit());
@@ -67,6 +71,7 @@ public class OrderLimitStrategyTest {
                 {__.order().limit(1), 1l},
                 {__.out().order().range(7, 15), 15l},
                 {__.order().select("a").limit(7), 7l},
-                {__.order().out().limit(10), Long.MAX_VALUE}});
+                {__.order().out().limit(10), Long.MAX_VALUE},
+                {__.order().tree().limit(1), Long.MAX_VALUE}});
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(Parameterized.class)
+public class PredicateCompilerTest {
+
+    private static final List<Object> VALUES = Arrays.asList(null, "a", "e", "z", 0, 1, 2, 3, 5, 9, 10, -1,
+            (short) 3, (byte) 5, 3L, 10L, Long.MAX_VALUE, (1L << 53) + 1, 0D, -0D, 0.5D, 3D, 9.5D, 10D, 3F, 2.5F,
+            Double.NaN, Double.POSITIVE_INFINITY, BigInteger.TEN, new BigDecimal("3.0"));
+
+    @Parameterized.Parameter(value = 0)
+    public P<Object> predicate;
+
+    @Parameterized.Parameter(value = 1)
+    public boolean compiled;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Iterable<Object[]> generateTestParameters() {
+        return Arrays.asList(new Object[][]{
+                {P.within(1, 2, 3, 4), true},
+                {P.within(1, 2L, 3D, 9.5D, (short) 5), true},
+                {P.within("a", "b", "c", null, 3), true},
+                {P.within(1L << 53, 2, 3, 4), true},
+                {P.within(-0D, 1, 2, 3), true},
+                {P.without(1, 2, 3, 4, "e"), true},
+                {P.within(1, 2, 3), false},
+                {P.within(1, 2, 3F, 4), false},
+                {P.within(1, 2, BigDecimal.ONE, 4), false},
+                {P.within(1, 2, Double.NaN, 4), false},
+                {P.eq(3), true},
+                {P.neq(3L), true},
+                {P.gt(3), true},
+                {P.gte(2.5D), true},
+                {P.lt((short) 9), true},
+                {P.lte(10L), true},
+                {P.eq(3F), false},
+                {P.gt("e"), false},
+                {P.inside(1, 10), true},
+                {P.between(0.5D, 10), true},
+                {P.outside(1, 10L), true},
+                {P.gt(1).and(P.lt(10)).and(P.neq(5)), true},
+                {P.lt(1).or(P.gte(9.5D)), true},
+                {P.between(1, 10).and(P.within(1, 2, 3, 4)), false},
+                {P.between(1F, 10F), false},
+                {TextP.startingWith("a"), false}});
+    }
+
+    @Test
+    public void shouldCompileOnlySupportedPredicates() {
+        if (this.compiled)
+            assertNotNull(PredicateCompiler.compile(this.predicate));
+        else
+            assertNull(PredicateCompiler.compile(this.predicate));
+    }
+
+    @Test
+    public void shouldTestLikeBiPredicate() {
+        final P<Object> predicate = this.predicate.clone();
+        for (final Object value : VALUES) {
+            Boolean expected;
+            try {
+                expected = predicate.getBiPredicate().test(value, predicate.getValue());
+            } catch (final RuntimeException e) {
+                expected = null;
+            }
+            Boolean actual;
+            try {
+                actual = predicate.test(value);
+            } catch (final RuntimeException e) {
+                actual = null;
+            }
+            assertEquals(predicate + ".test(" + value + ")", expected, actual);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TraversalCancellationTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void shouldNotExpireWithoutDeadline() {
+        assertFalse(TraversalCancellation.create().isExpired());
+        assertFalse(TraversalCancellation.withTimeout(0, TimeUnit.MILLISECONDS).isExpired());
+        assertEquals(Long.MAX_VALUE, TraversalCancellation.create().getRemaining(TimeUnit.MILLISECONDS));
+        TraversalCancellation.create().check();
+    }
+
+    @Test
+    public void shouldExpireAfterTimeout() {
+        final TraversalCancellation cancellation = TraversalCancellation.withTimeout(1, TimeUnit.NANOSECONDS);
+        assertTrue(cancellation.isExpired());
+        assertThat(cancellation.getRemaining(TimeUnit.NANOSECONDS), lessThanOrEqualTo(0L));
+        assertFalse(TraversalCancellation.withTimeout(1, TimeUnit.HOURS).isExpired());
+    }
+
+    @Test
+    public void shouldIgnoreCancellationIfSideEffectsDoNotSupportIt() {
+        // providers with their own side-effects should not fail every request of a server that sets it
+        final TraversalSideEffects sideEffects = EmptyTraversalSideEffects.instance();
+        sideEffects.setCancellation(TraversalCancellation.create());
+        assertEquals(TraversalCancellation.NONE, sideEffects.getCancellation());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotCancelNone() {
+        TraversalCancellation.NONE.cancel();
+    }
+
+    @Test(expected = TraversalInterruptedException.class)
+    public void shouldFailCheckOnceCancelled() {
+        final TraversalCancellation cancellation = TraversalCancellation.create();
+        cancellation.cancel();
+        assertTrue(cancellation.isCancelled());
+        cancellation.check();
+    }
+
+    @Test
+    public void shouldStopTraversalWhenCancelled() {
+        final TraversalCancellation cancellation = TraversalCancellation.create();
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().sideEffect(t -> {
+            if (counter.incrementAndGet() == 100) cancellation.cancel();
+        }).asAdmin();
+        traversal.getSideEffects().setCancellation(cancellation);
+        try {
+            traversal.iterate();
+            fail("The traversal should have been cancelled");
+        } catch (TraversalInterruptedException ex) {
+            assertThat(counter.get(), greaterThan(99));
+            assertThat(counter.get(), lessThan(100 + 2 * AbstractStep.CANCELLATION_CHECK_INTERVAL));
+        }
+    }
+
+    @Test(expected = TraversalInterruptedException.class)
+    public void shouldStopTraversalOnceExpired() {
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().asAdmin();
+        traversal.getSideEffects().setCancellation(TraversalCancellation.withTimeout(1, TimeUnit.NANOSECONDS));
+        traversal.iterate();
+    }
+
+    @Test
+    public void shouldStopChildTraversalsWhenCancelled() {
+        final TraversalCancellation cancellation = TraversalCancellation.create();
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Traversal.Admin<?, ?> traversal = __.inject(1).local(__.constant(NUMBERS).unfold().sideEffect(t -> {
+            if (counter.incrementAndGet() == 100) cancellation.cancel();
+        }).fold()).asAdmin();
+        traversal.getSideEffects().setCancellation(cancellation);
+        try {
+            traversal.iterate();
+            fail("The traversal should have been cancelled");
+        } catch (TraversalInterruptedException ex) {
+            assertThat(counter.get(), lessThan(NUMBERS.size()));
+        }
+    }
+
+    @Test
+    public void shouldStopAtBarrierWhenCancelled() {
+        final TraversalCancellation cancellation = TraversalCancellation.create();
+        final Traversal.Admin<?, ?> traversal = __.inject(1, 2, 3).sideEffect(t -> cancellation.cancel()).order().asAdmin();
+        traversal.getSideEffects().setCancellation(cancellation);
+        try {
+            traversal.next();
+            fail("The traversal should have been cancelled");
+        } catch (TraversalInterruptedException ex) {
+            assertEquals("The traversal was cancelled", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class TraversalEventsTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal().withStrategies(LazyBarrierStrategy.instance());
+
+    @Before
+    public void setup() {
+        assumeTrue(TraversalEvents.isAvailable());
+    }
+
+    @After
+    public void teardown() {
+        TraversalEvents.setEnabled(false);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        assertFalse(TraversalEvents.isEnabled());
+    }
+
+    @Test
+    public void shouldNotRecordEventsWhenDisabled() throws Exception {
+        assertEquals(0, record(() -> g.inject(1, 2, 3).barrier().toList()).size());
+    }
+
+    @Test
+    public void shouldOnlyReturnFlightRecorderEventsWhenEnabled() {
+        assertThat(TraversalEvents.traversal(g.inject(1).asAdmin()), not(instanceOf(Event.class)));
+        TraversalEvents.setEnabled(true);
+        assertThat(TraversalEvents.traversal(g.inject(1).asAdmin()), instanceOf(Event.class));
+    }
+
+    @Test
+    public void shouldRecordTraversalLifecycle() throws Exception {
+        TraversalEvents.setEnabled(true);
+        final List<RecordedEvent> events = record(() -> g.inject(1, 2, 3).barrier().toList());
+        final List<String> names = events.stream().map(e -> e.getEventType().getName()).collect(Collectors.toList());
+        assertThat(names, hasItems("org.apache.tinkerpop.StrategyApplication", "org.apache.tinkerpop.TraversalStart",
+                "org.apache.tinkerpop.Traversal", "org.apache.tinkerpop.Barrier"));
+
+        final RecordedEvent strategy = events.stream().filter(e -> e.getEventType().getName().endsWith("StrategyApplication")).findFirst().get();
+        assertEquals(LazyBarrierStrategy.class.getName(), strategy.getString("strategy"));
+
+        final RecordedEvent barrier = events.stream().filter(e -> e.getEventType().getName().endsWith("Barrier")).findFirst().get();
+        assertEquals(3, barrier.getInt("traversers"));
+        assertEquals(3L, barrier.getLong("bulk"));
+
+        assertEquals(1, events.stream().filter(e -> e.getEventType().getName().equals("org.apache.tinkerpop.Traversal")).count());
+    }
+
+    @Test
+    public void shouldRecordTraversalOnlyOnceExhaustedOrClosed() throws Exception {
+        TraversalEvents.setEnabled(true);
+        final List<RecordedEvent> partial = record(() -> g.inject(1, 2, 3).next());
+        assertEquals(0, partial.stream().filter(e -> e.getEventType().getName().equals("org.apache.tinkerpop.Traversal")).count());
+
+        final List<RecordedEvent> closed = record(() -> {
+            final Traversal<Integer, Integer> traversal = g.inject(1, 2, 3);
+            traversal.next();
+            CloseableIterator.closeIterator(traversal);
+            CloseableIterator.closeIterator(traversal);
+        });
+        assertEquals(1, closed.stream().filter(e -> e.getEventType().getName().equals("org.apache.tinkerpop.Traversal")).count());
+    }
+
+    @Test
+    public void shouldRecordTraverserSetGrowth() throws Exception {
+        TraversalEvents.setEnabled(true);
+        final List<RecordedEvent> events = record(() -> g.inject(IntStream.range(0, 5000).boxed().toArray(Integer[]::new)).barrier().toList());
+        final List<Integer> sizes = events.stream().filter(e -> e.getEventType().getName().endsWith("TraverserSetGrowth")).
+                map(e -> e.getInt("size")).collect(Collectors.toList());
+        assertThat(sizes, hasItems(1024, 2048, 4096));
+        assertTrue(sizes.stream().allMatch(s -> s >= TraversalEvents.TRAVERSER_SET_GROWTH_THRESHOLD));
+    }
+
+    private static List<RecordedEvent> record(final Runnable runnable) throws Exception {
+        final Path file = Files.createTempFile("tinkerpop", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable("org.apache.tinkerpop.StrategyApplication");
+            recording.enable("org.apache.tinkerpop.TraversalStart");
+            recording.enable("org.apache.tinkerpop.Traversal");
+            recording.enable("org.apache.tinkerpop.Barrier");
+            recording.enable("org.apache.tinkerpop.TraverserSetGrowth");
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream().
+                    filter(e -> e.getEventType().getName().startsWith("org.apache.tinkerpop")).collect(Collectors.toList());
+        } finally {
+            new File(file.toString()).delete();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TraversalMemoryQuotaTest {
+
+    private static final List<Integer> NUMBERS = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+
+    @Test
+    public void shouldEstimateLargerCollectionsAsLarger() {
+        final long small = MemoryEstimator.estimate(NUMBERS.subList(0, 10));
+        final long large = MemoryEstimator.estimate(NUMBERS);
+        assertThat(small, greaterThan(0L));
+        assertThat(large, greaterThan(1000 * small));
+        assertEquals(0L, MemoryEstimator.estimate(null));
+    }
+
+    @Test
+    public void shouldEstimateBulkSetByDistinctObjects() {
+        final BulkSet<String> bulkSet = new BulkSet<>();
+        bulkSet.add("a", 1000000L);
+        final BulkSet<String> distinct = new BulkSet<>();
+        IntStream.range(0, 1000).forEach(i -> distinct.add("a" + i, 1L));
+        assertThat(MemoryEstimator.estimate(bulkSet), lessThan(MemoryEstimator.estimate(distinct)));
+    }
+
+    @Test
+    public void shouldEstimateNestedCollectionsWithinBudget() {
+        final List<Object> nested = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            nested.add(Arrays.asList(NUMBERS.subList(0, 1000), "x" + i));
+        }
+        assertThat(MemoryEstimator.estimate(nested), greaterThan(MemoryEstimator.estimate(NUMBERS.subList(0, 1000))));
+    }
+
+    @Test
+    public void shouldTrackUsageAndPeaks() {
+        final TraversalMemoryQuota quota = TraversalMemoryQuota.unlimited();
+        assertTrue(quota.isAccounting());
+        assertFalse(TraversalMemoryQuota.NONE.isAccounting());
+
+        final Traversal.Admin<?, ?> traversal = __.identity().asAdmin();
+        quota.adjust(traversal.getStartStep(), 100L, 100L);
+        quota.adjust(traversal.getStartStep(), 300L, 200L);
+        quota.adjust(traversal.getStartStep(), 0L, -300L);
+        assertEquals(0L, quota.getUsed());
+        assertEquals(300L, quota.getPeak());
+        assertEquals(300L, quota.getPeak(traversal.getStartStep().getId()));
+        assertEquals(0L, quota.getPeak("unknown"));
+    }
+
+    @Test
+    public void shouldIgnoreQuotaIfSideEffectsDoNotSupportIt() {
+        // providers with their own side-effects should not fail every request of a server that sets a quota
+        final TraversalSideEffects sideEffects = EmptyTraversalSideEffects.instance();
+        sideEffects.setMemoryQuota(TraversalMemoryQuota.of(1024));
+        assertEquals(TraversalMemoryQuota.NONE, sideEffects.getMemoryQuota());
+    }
+
+    @Test
+    public void shouldFailTraversalExceedingQuota() {
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().fold().asAdmin();
+        traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(64 * 1024));
+        try {
+            traversal.iterate();
+            fail("The traversal should have exceeded its memory quota");
+        } catch (TraversalMemoryQuotaExceededException ex) {
+            assertEquals(64 * 1024, ex.getLimit());
+            assertThat(ex.getEstimated(), greaterThan(64 * 1024L));
+        }
+    }
+
+    @Test
+    public void shouldFailBarrierExceedingQuota() {
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().order().by(__.identity()).asAdmin();
+        traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(64 * 1024));
+        try {
+            traversal.next();
+            fail("The traversal should have exceeded its memory quota");
+        } catch (TraversalMemoryQuotaExceededException ex) {
+            assertEquals(64 * 1024, ex.getLimit());
+        }
+    }
+
+    @Test
+    public void shouldFailSideEffectExceedingQuota() {
+        final List<Traversal.Admin<?, ?>> traversals = Arrays.asList(
+                __.inject(NUMBERS).unfold().groupCount("x").by(__.identity()).asAdmin(),
+                __.inject(NUMBERS).unfold().group("x").by(__.identity()).asAdmin(),
+                __.inject(NUMBERS).unfold().tree("x").asAdmin(),
+                __.inject(NUMBERS).unfold().aggregate(Scope.local, "x").asAdmin());
+        for (final Traversal.Admin<?, ?> traversal : traversals) {
+            traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(64 * 1024));
+            try {
+                traversal.iterate();
+                fail("The side-effect of the traversal should have exceeded its memory quota");
+            } catch (TraversalMemoryQuotaExceededException ex) {
+                assertEquals(64 * 1024, ex.getLimit());
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepSideEffectChargedOnceBarrierIsReleased() {
+        final TraversalMemoryQuota quota = TraversalMemoryQuota.unlimited();
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().aggregate("x").asAdmin();
+        traversal.getSideEffects().setMemoryQuota(quota);
+        traversal.iterate();
+        assertEquals(MemoryEstimator.estimate(traversal.getSideEffects().get("x")), quota.getUsed());
+    }
+
+    @Test
+    public void shouldReleaseMemoryOnceTraversalCompletes() {
+        final TraversalMemoryQuota quota = TraversalMemoryQuota.of(64L * 1024 * 1024);
+        final Traversal.Admin<?, ?> traversal = __.inject(NUMBERS).unfold().barrier().fold().asAdmin();
+        traversal.getSideEffects().setMemoryQuota(quota);
+        assertEquals(NUMBERS, traversal.next());
+        assertThat(quota.getPeak(), greaterThan(0L));
+        assertEquals(0L, quota.getUsed());
+    }
+
+    @Test
+    public void shouldAnnotateProfileWithPeakMemory() {
+        final TraversalMetrics metrics = EmptyGraph.instance().traversal().withStrategies(ProfileStrategy.instance()).
+                inject(NUMBERS).unfold().fold().profile().next();
+        final List<? extends Metrics> steps = new ArrayList<>(metrics.getMetrics());
+        assertNull(steps.get(1).getAnnotation(TraversalMetrics.PEAK_MEMORY_KEY));
+        assertNotNull(steps.get(2).getAnnotation(TraversalMetrics.PEAK_MEMORY_KEY));
+        assertThat((Long) steps.get(2).getAnnotation(TraversalMetrics.PEAK_MEMORY_KEY), greaterThan(0L));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.CountStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraversalTemplateTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    public void shouldApplyStrategiesOnceAndLeaveTraversalUntouched() {
+        final Traversal.Admin<Integer, Long> traversal = g.withStrategies(CountStrategy.instance()).
+                inject(1, 2, 3).where(__.out().count().is(0)).count().asAdmin();
+        final TraversalTemplate<Integer, Long> template = TraversalTemplate.of(traversal);
+        assertFalse(traversal.isLocked());
+
+        final Traversal.Admin<Integer, Long> copy = template.instantiate();
+        assertTrue(copy.isLocked());
+        assertEquals(traversal.getBytecode(), template.getBytecode());
+    }
+
+    @Test
+    public void shouldCreateIndependentCopies() {
+        final TraversalTemplate<Integer, Integer> template = TraversalTemplate.of(g.inject(1, 2, 3).map(__.constant(1)).asAdmin());
+        final Traversal.Admin<Integer, Integer> first = template.instantiate();
+        final Traversal.Admin<Integer, Integer> second = template.instantiate();
+        assertEquals(1, first.next().intValue());
+        assertEquals(Arrays.asList(1, 1, 1), second.toList());
+        assertEquals(Arrays.asList(1, 1), first.toList());
+        assertEquals(Arrays.asList(1, 1, 1), template.instantiate().toList());
+    }
+
+    @Test
+    public void shouldNotShareSideEffectsBetweenCopies() {
+        final TraversalTemplate<Integer, Object> template = TraversalTemplate.of(g.inject(1, 2).aggregate("x").cap("x").asAdmin());
+        assertEquals(2, ((Collection) template.instantiate().next()).size());
+        assertEquals(2, ((Collection) template.instantiate().next()).size());
+    }
+
+    @Test
+    public void shouldNotShareSideEffectValuesBetweenCopies() {
+        final TraversalTemplateCache cache = new TraversalTemplateCache(2);
+        for (int i = 0; i < 2; i++) {
+            final Traversal.Admin<Integer, Object> copy = cache.instantiate("x", () ->
+                    g.withSideEffect("x", new ArrayList<>()).inject(1, 2, 3).aggregate("x").cap("x").asAdmin());
+            assertEquals(3, ((Collection) copy.next()).size());
+        }
+        assertEquals(0, cache.size());
+
+        final TraversalTemplate<Integer, Number> template = TraversalTemplate.of(
+                g.withSideEffect("x", 1).withSack(0).inject(1, 2, 3).sack(Operator.sum).by(__.constant(1)).sack().sum().asAdmin());
+        assertEquals(3, template.instantiate().next().intValue());
+        assertEquals(3, template.instantiate().next().intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCaptureMutableSideEffectValues() {
+        TraversalTemplate.of(g.withSideEffect("x", new ArrayList<>()).inject(1).aggregate("x").cap("x").asAdmin());
+    }
+
+    @Test
+    public void shouldShareImmutableConfiguration() {
+        final TraversalTemplate<?, ?> template = TraversalTemplate.of(g.V().has("name", "marko").asAdmin());
+        final Traversal.Admin<?, ?> first = template.instantiate();
+        final Traversal.Admin<?, ?> second = template.instantiate();
+        assertSame(first.getBytecode(), second.getBytecode());
+        final HasStep<?> firstHas = TraversalHelper.getFirstStepOfAssignableClass(HasStep.class, first).get();
+        final HasStep<?> secondHas = TraversalHelper.getFirstStepOfAssignableClass(HasStep.class, second).get();
+        assertNotSame(firstHas, secondHas);
+        assertSame(firstHas.getHasContainers().get(0), secondHas.getHasContainers().get(0));
+        assertFalse(TraversalTemplate.isInstantiating());
+    }
+
+    @Test
+    public void shouldGiveCopiesTheirOwnMemoryQuota() {
+        final Traversal.Admin<Integer, List<Integer>> traversal = g.inject(1, 2, 3).fold().asAdmin();
+        traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(1024 * 1024));
+        traversal.getSideEffects().setCancellation(TraversalCancellation.create());
+        final TraversalTemplate<Integer, List<Integer>> template = TraversalTemplate.of(traversal);
+        final Traversal.Admin<Integer, List<Integer>> copy = template.instantiate();
+        assertNotSame(traversal.getSideEffects().getMemoryQuota(), copy.getSideEffects().getMemoryQuota());
+        assertEquals(1024 * 1024, copy.getSideEffects().getMemoryQuota().getLimit());
+        assertSame(TraversalCancellation.NONE, copy.getSideEffects().getCancellation());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldOnlyCaptureRootTraversals() {
+        final Traversal.Admin<?, ?> traversal = g.inject(1).local(__.identity()).asAdmin();
+        final LocalStep<?, ?> localStep = TraversalHelper.getFirstStepOfAssignableClass(LocalStep.class, traversal).get();
+        TraversalTemplate.of(localStep.getLocalChildren().get(0));
+    }
+
+    @Test
+    public void shouldCacheTemplatesByKey() {
+        final TraversalTemplateCache cache = new TraversalTemplateCache(2);
+        final AtomicInteger translations = new AtomicInteger(0);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Collections.singletonList(1), cache.instantiate("a", () -> {
+                translations.incrementAndGet();
+                return g.inject(1).asAdmin();
+            }).toList());
+        }
+        assertEquals(1, translations.get());
+
+        cache.instantiate("b", () -> g.inject(2).asAdmin());
+        cache.instantiate("a", () -> g.inject(1).asAdmin());
+        cache.instantiate("c", () -> g.inject(3).asAdmin());
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(Collections.singletonList(1), cache.get("a").instantiate().toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowEmptyCache() {
+        new TraversalTemplateCache(0);
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.util.function.Lambda;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.junit.Test;
@@ -47,6 +48,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -122,6 +124,18 @@ public class GraphSONMapperEmbeddedTypeTest extends AbstractGraphSONTest {
         assertEquals(o, serializeDeserialize(mapper, o, List.class));
     }
 
+    @Test
+    public void shouldHandlePropertyRow() throws Exception {
+        final PropertyRow o = new PropertyRow(PropertyRow.Shape.of(false, Collections.emptyList(), "name", "age"));
+        o.addProperty(0, "marko");
+        o.addProperty(1, 29);
+        o.put("other", "value");
+
+        final Map<Object,Object> deser = serializeDeserialize(mapper, o, Map.class);
+        assertEquals(o, deser);
+        assertEquals(new ArrayList<>(o.keySet()), new ArrayList<>(deser.keySet()));
+    }
+
     @Test
     public void shouldHandleMap() throws Exception {
         assumeThat(version, startsWith("v3"));
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyRowTest {
+
+    private final PropertyRow.Shape shape = PropertyRow.Shape.of(true, Arrays.asList(T.id, T.label), "name", "age", "name");
+
+    @Test
+    public void shouldIgnoreDuplicateKeysOfShape() {
+        assertEquals(4, shape.size());
+        assertEquals(2, shape.getTokenCount());
+        assertEquals(Arrays.asList("name", "age"), Arrays.asList(shape.getPropertyKeys()));
+        assertEquals(3, shape.slot("age"));
+        assertEquals(-1, shape.slot("location"));
+    }
+
+    @Test
+    public void shouldOnlyContainKeysWithValues() {
+        final PropertyRow row = new PropertyRow(shape);
+        row.set(0, 1);
+        row.addProperty(1, null);
+        assertEquals(2, row.size());
+        assertTrue(row.containsKey("age"));
+        assertFalse(row.containsKey("name"));
+        assertFalse(row.containsKey(T.label));
+        assertEquals(Collections.singletonList(null), row.get("age"));
+        assertNull(row.get("name"));
+    }
+
+    @Test
+    public void shouldCollectValuesOfMultiValuedShape() {
+        final PropertyRow row = new PropertyRow(shape);
+        row.addProperty(0, "marko");
+        row.addProperty(0, "mark");
+        assertEquals(Arrays.asList("marko", "mark"), row.get("name"));
+
+        final PropertyRow single = new PropertyRow(PropertyRow.Shape.of(false, Collections.emptyList(), "name"));
+        single.addProperty(0, "marko");
+        single.addProperty(0, "mark");
+        assertEquals("mark", single.get("name"));
+    }
+
+    @Test
+    public void shouldBehaveAsLinkedHashMap() {
+        final PropertyRow row = new PropertyRow(shape);
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        row.put("other", 0);
+        map.put("other", 0);
+        row.put("age", 29);
+        row.put(T.id, 1);
+        map.put(T.id, 1);
+        map.put("age", 29);
+
+        assertEquals(map, row);
+        assertEquals(row, map);
+        assertEquals(map.hashCode(), row.hashCode());
+        assertEquals(map.entrySet(), row.entrySet());
+        assertEquals(row.entrySet(), map.entrySet());
+        assertEquals(Arrays.asList(T.id, "age", "other"), Arrays.asList(row.keySet().toArray()));
+
+        assertEquals(29, row.remove("age"));
+        assertEquals(0, row.remove("other"));
+        assertNull(row.remove("name"));
+        assertEquals(Collections.singletonMap(T.id, 1), row);
+    }
+
+    @Test
+    public void shouldModifyThroughEntries() {
+        final PropertyRow row = new PropertyRow(shape);
+        row.set(0, 1);
+        row.set(1, "person");
+        row.put("other", 0);
+        for (final Map.Entry<Object, Object> entry : row.entrySet()) {
+            if (entry.getKey().equals(T.id)) entry.setValue(2);
+        }
+        final Iterator<Map.Entry<Object, Object>> entries = row.entrySet().iterator();
+        while (entries.hasNext()) {
+            if (!entries.next().getKey().equals(T.id)) entries.remove();
+        }
+        assertEquals(Collections.singletonMap(T.id, 2), row);
+    }
+}
@@ -26,6 +26,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.apache.tinkerpop.gremlin.util.NumberHelper.add;
 import static org.apache.tinkerpop.gremlin.util.NumberHelper.compare;
@@ -36,6 +37,7 @@ import static org.apache.tinkerpop.gremlin.util.NumberHelper.min;
 import static org.apache.tinkerpop.gremlin.util.NumberHelper.mul;
 import static org.apache.tinkerpop.gremlin.util.NumberHelper.sub;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -426,4 +428,106 @@ public class NumberHelperTest {
             }
         }
     }
+
+    @Test
+    public void shouldComputeSameTypeOperationsLikeNumberHelperOfType() {
+        final List<List<Number>> sameTypeNumbers = Arrays.asList(
+                Arrays.asList(0, 1, -3, Integer.MAX_VALUE, Integer.MIN_VALUE),
+                Arrays.asList(0L, 2L, -7L, Long.MAX_VALUE, Long.MIN_VALUE),
+                Arrays.asList(0D, -0D, 1.5D, -2.25D, Double.MAX_VALUE, Double.NEGATIVE_INFINITY));
+        final List<NumberHelper> helpers = Arrays.asList(
+                NumberHelper.INTEGER_NUMBER_HELPER, NumberHelper.LONG_NUMBER_HELPER, NumberHelper.DOUBLE_NUMBER_HELPER);
+        for (int i = 0; i < helpers.size(); i++) {
+            final NumberHelper helper = helpers.get(i);
+            for (final Number a : sameTypeNumbers.get(i)) {
+                for (final Number b : sameTypeNumbers.get(i)) {
+                    assertEquals(helper.add.apply(a, b), add(a, b));
+                    assertEquals(helper.sub.apply(a, b), sub(a, b));
+                    assertEquals(helper.mul.apply(a, b), mul(a, b));
+                    if (0 != b.doubleValue())
+                        assertEquals(helper.div.apply(a, b), div(a, b));
+                    assertEquals(helper.min.apply(a, b), min(a, b));
+                    assertEquals(helper.max.apply(a, b), max(a, b));
+                    assertEquals(helper.cmp.apply(a, b), compare(a, b));
+                }
+            }
+        }
+
+        // NaN is not taken into account by the highest common number class
+        assertEquals(NumberHelper.BYTE_NUMBER_HELPER.add.apply(Double.NaN, Double.NaN), add(Double.NaN, Double.NaN));
+        assertEquals(NumberHelper.DOUBLE_NUMBER_HELPER.min.apply(Double.NaN, 1D), min((Number) Double.NaN, (Number) 1D));
+        assertEquals(NumberHelper.DOUBLE_NUMBER_HELPER.max.apply(1D, Double.NaN), max((Number) 1D, (Number) Double.NaN));
+    }
+
+    @Test
+    public void shouldAccumulateSumLikeAdd() {
+        final Random random = new Random(123456789L);
+        for (int run = 0; run < 100; run++) {
+            final NumberHelper.SumAccumulator accumulator = new NumberHelper.SumAccumulator();
+            Number expected = 0;
+            Number actual = 0;
+            for (int i = 0; i < 20; i++) {
+                final Number number = randomNumber(random, run % 2 == 0);
+                final long bulk = 1 + random.nextInt(3);
+                expected = add(expected, mul(number, bulk));
+                if (!accumulator.add(actual, number, bulk)) {
+                    if (accumulator.isActive())
+                        actual = accumulator.finish();
+                    actual = add(actual, mul(number, bulk));
+                }
+            }
+            if (accumulator.isActive())
+                actual = accumulator.finish();
+            assertEquals(expected, actual);
+        }
+
+        assertFalse(new NumberHelper.SumAccumulator().add(0, 1F, 1L));
+        assertFalse(new NumberHelper.SumAccumulator().add(BigDecimal.ONE, 1, 1L));
+        assertFalse(new NumberHelper.SumAccumulator().add(0, Double.NaN, 1L));
+    }
+
+    @Test
+    public void shouldAccumulateExtremumLikeMinAndMax() {
+        final Random random = new Random(987654321L);
+        for (int run = 0; run < 100; run++) {
+            final boolean isMax = run % 2 == 0;
+            final NumberHelper.ExtremumAccumulator accumulator = new NumberHelper.ExtremumAccumulator(isMax);
+            Comparable expected = Double.NaN;
+            Comparable actual = Double.NaN;
+            for (int i = 0; i < 20; i++) {
+                final Number number = randomNumber(random, run % 4 < 2);
+                expected = isMax ? max(expected, (Comparable) number) : min(expected, (Comparable) number);
+                if (!accumulator.add(actual, number)) {
+                    if (accumulator.isActive())
+                        actual = accumulator.finish();
+                    actual = isMax ? max(actual, (Comparable) number) : min(actual, (Comparable) number);
+                }
+            }
+            if (accumulator.isActive())
+                actual = accumulator.finish();
+            assertEquals(expected, actual);
+        }
+
+        assertFalse(new NumberHelper.ExtremumAccumulator(true).add(Double.NaN, "a"));
+        assertFalse(new NumberHelper.ExtremumAccumulator(false).add(Double.NaN, (short) 1));
+    }
+
+    private static Number randomNumber(final Random random, final boolean mixed) {
+        switch (random.nextInt(mixed ? 7 : 3)) {
+            case 0:
+                return random.nextInt(2000) - 1000;
+            case 1:
+                return random.nextLong();
+            case 2:
+                return random.nextDouble() * 100;
+            case 3:
+                return Double.NaN;
+            case 4:
+                return (short) random.nextInt(100);
+            case 5:
+                return random.nextFloat();
+            default:
+                return BigDecimal.valueOf(random.nextInt(100));
+        }
+    }
 }
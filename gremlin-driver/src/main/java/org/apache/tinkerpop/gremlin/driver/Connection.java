@@ -42,6 +42,8 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A single connection to a Gremlin Server instance.
@@ -87,6 +89,13 @@ final class Connection {
     private final AtomicBoolean shutdownInitiated = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture> keepAliveFuture = new AtomicReference<>();
 
+    /**
+     * Serializes {@link #closeAsync()} and {@link #shutdown(CompletableFuture)}. The latter may block while waiting
+     * for a session to close, so a {@code Lock} is used rather than a monitor to avoid pinning the carrier thread
+     * when called from a virtual thread.
+     */
+    private final Lock closeLock = new ReentrantLock();
+
     public Connection(final URI uri, final ConnectionPool pool, final int maxInProcess) throws ConnectionException {
         this.uri = uri;
         this.cluster = pool.getCluster();
@@ -159,33 +168,38 @@ final class Connection {
         return pending;
     }
 
-    public synchronized CompletableFuture<Void> closeAsync() {
-        if (isClosing()) return closeFuture.get();
-
-        final CompletableFuture<Void> future = new CompletableFuture<>();
-        closeFuture.set(future);
-
-        // stop any pings being sent at the server for keep-alive
-        final ScheduledFuture keepAlive = keepAliveFuture.get();
-        if (keepAlive != null) keepAlive.cancel(true);
-
-        // make sure all requests in the queue are fully processed before killing.  if they are then shutdown
-        // can be immediate.  if not this method will signal the readCompleted future defined in the write()
-        // operation to check if it can close.  in this way the connection no longer receives writes, but
-        // can continue to read. If a request never comes back the future won't get fulfilled and the connection
-        // will maintain a "pending" request, that won't quite ever go away.  The build up of such a dead requests
-        // on a connection in the connection pool will force the pool to replace the connection for a fresh one.
-        if (isOkToClose()) {
-            if (null == channel)
-                future.complete(null);
-            else
-                shutdown(future);
-        } else {
-            // there may be some pending requests. schedule a job to wait for those to complete and then shutdown
-            new CheckForPending(future).runUntilDone(cluster.executor(), 1000, TimeUnit.MILLISECONDS);
-        }
+    public CompletableFuture<Void> closeAsync() {
+        closeLock.lock();
+        try {
+            if (isClosing()) return closeFuture.get();
+
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            closeFuture.set(future);
 
-        return future;
+            // stop any pings being sent at the server for keep-alive
+            final ScheduledFuture keepAlive = keepAliveFuture.get();
+            if (keepAlive != null) keepAlive.cancel(true);
+
+            // make sure all requests in the queue are fully processed before killing.  if they are then shutdown
+            // can be immediate.  if not this method will signal the readCompleted future defined in the write()
+            // operation to check if it can close.  in this way the connection no longer receives writes, but
+            // can continue to read. If a request never comes back the future won't get fulfilled and the connection
+            // will maintain a "pending" request, that won't quite ever go away.  The build up of such a dead requests
+            // on a connection in the connection pool will force the pool to replace the connection for a fresh one.
+            if (isOkToClose()) {
+                if (null == channel)
+                    future.complete(null);
+                else
+                    shutdown(future);
+            } else {
+                // there may be some pending requests. schedule a job to wait for those to complete and then shutdown
+                new CheckForPending(future).runUntilDone(cluster.executor(), 1000, TimeUnit.MILLISECONDS);
+            }
+
+            return future;
+        } finally {
+            closeLock.unlock();
+        }
     }
 
     public void close() {
@@ -306,55 +320,60 @@ final class Connection {
             shutdown(closeFuture.get());
     }
 
-    private synchronized void shutdown(final CompletableFuture<Void> future) {
-        // shutdown can be called directly from closeAsync() or after write() and therefore this method should only
-        // be called once. once shutdown is initiated, it shouldn't be executed a second time or else it sends more
-        // messages at the server and leads to ugly log messages over there.
-        if (shutdownInitiated.compareAndSet(false, true)) {
-            final String connectionInfo = this.getConnectionInfo();
-
-            // maybe this should be delegated back to the Client implementation??? kinda weird to instanceof here.....
-            if (client instanceof Client.SessionedClient) {
-                final boolean forceClose = client.getSettings().getSession().get().isForceClosed();
-                final RequestMessage closeMessage = client.buildMessage(
-                        RequestMessage.build(Tokens.OPS_CLOSE).addArg(Tokens.ARGS_FORCE, forceClose)).create();
-
-                final CompletableFuture<ResultSet> closed = new CompletableFuture<>();
-                write(closeMessage, closed);
-
-                try {
-                    // make sure we get a response here to validate that things closed as expected.  on error, we'll let
-                    // the server try to clean up on its own.  the primary error here should probably be related to
-                    // protocol issues which should not be something a user has to fuss with.
-                    closed.join().all().get(cluster.connectionPoolSettings().maxWaitForSessionClose, TimeUnit.MILLISECONDS);
-                } catch (TimeoutException ex) {
-                    final String msg = String.format(
-                            "Timeout while trying to close connection on %s - force closing - server will close session on shutdown or expiration.",
-                            ((Client.SessionedClient) client).getSessionId());
-                    logger.warn(msg, ex);
-                } catch (Exception ex) {
-                    final String msg = String.format(
-                            "Encountered an error trying to close connection on %s - force closing - server will close session on shutdown or expiration.",
-                            ((Client.SessionedClient) client).getSessionId());
-                    logger.warn(msg, ex);
+    private void shutdown(final CompletableFuture<Void> future) {
+        closeLock.lock();
+        try {
+            // shutdown can be called directly from closeAsync() or after write() and therefore this method should only
+            // be called once. once shutdown is initiated, it shouldn't be executed a second time or else it sends more
+            // messages at the server and leads to ugly log messages over there.
+            if (shutdownInitiated.compareAndSet(false, true)) {
+                final String connectionInfo = this.getConnectionInfo();
+
+                // maybe this should be delegated back to the Client implementation??? kinda weird to instanceof here.....
+                if (client instanceof Client.SessionedClient) {
+                    final boolean forceClose = client.getSettings().getSession().get().isForceClosed();
+                    final RequestMessage closeMessage = client.buildMessage(
+                            RequestMessage.build(Tokens.OPS_CLOSE).addArg(Tokens.ARGS_FORCE, forceClose)).create();
+
+                    final CompletableFuture<ResultSet> closed = new CompletableFuture<>();
+                    write(closeMessage, closed);
+
+                    try {
+                        // make sure we get a response here to validate that things closed as expected.  on error, we'll let
+                        // the server try to clean up on its own.  the primary error here should probably be related to
+                        // protocol issues which should not be something a user has to fuss with.
+                        closed.join().all().get(cluster.connectionPoolSettings().maxWaitForSessionClose, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException ex) {
+                        final String msg = String.format(
+                                "Timeout while trying to close connection on %s - force closing - server will close session on shutdown or expiration.",
+                                ((Client.SessionedClient) client).getSessionId());
+                        logger.warn(msg, ex);
+                    } catch (Exception ex) {
+                        final String msg = String.format(
+                                "Encountered an error trying to close connection on %s - force closing - server will close session on shutdown or expiration.",
+                                ((Client.SessionedClient) client).getSessionId());
+                        logger.warn(msg, ex);
+                    }
                 }
-            }
 
-            channelizer.close(channel);
+                channelizer.close(channel);
 
-            final ChannelPromise promise = channel.newPromise();
-            promise.addListener(f -> {
-                if (f.cause() != null) {
-                    future.completeExceptionally(f.cause());
-                } else {
-                    if (logger.isDebugEnabled())
-                        logger.debug("{} destroyed successfully.", connectionInfo);
+                final ChannelPromise promise = channel.newPromise();
+                promise.addListener(f -> {
+                    if (f.cause() != null) {
+                        future.completeExceptionally(f.cause());
+                    } else {
+                        if (logger.isDebugEnabled())
+                            logger.debug("{} destroyed successfully.", connectionInfo);
 
-                    future.complete(null);
-                }
-            });
+                        future.complete(null);
+                    }
+                });
 
-            channel.close(promise);
+                channel.close(promise);
+            }
+        } finally {
+            closeLock.unlock();
         }
     }
 
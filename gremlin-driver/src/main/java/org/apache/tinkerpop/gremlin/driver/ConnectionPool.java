@@ -70,6 +70,7 @@ final class ConnectionPool {
     private volatile int waiter = 0;
     private final Lock waitLock = new ReentrantLock(true);
     private final Condition hasAvailableConnection = waitLock.newCondition();
+    private final Lock closeLock = new ReentrantLock();
 
     public ConnectionPool(final Host host, final Client client) {
         this(host, client, Optional.empty(), Optional.empty());
@@ -220,15 +221,20 @@ final class ConnectionPool {
     /**
      * Permanently kills the pool.
      */
-    public synchronized CompletableFuture<Void> closeAsync() {
-        if (closeFuture.get() != null) return closeFuture.get();
+    public CompletableFuture<Void> closeAsync() {
+        closeLock.lock();
+        try {
+            if (closeFuture.get() != null) return closeFuture.get();
 
-        logger.info("Signalled closing of connection pool on {} with core size of {}", host, minPoolSize);
+            logger.info("Signalled closing of connection pool on {} with core size of {}", host, minPoolSize);
 
-        announceAllAvailableConnection();
-        final CompletableFuture<Void> future = killAvailableConnections();
-        closeFuture.set(future);
-        return future;
+            announceAllAvailableConnection();
+            final CompletableFuture<Void> future = killAvailableConnections();
+            closeFuture.set(future);
+            return future;
+        } finally {
+            closeLock.unlock();
+        }
     }
 
     /**
@@ -31,6 +31,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A queue of incoming {@link Result} objects.  The queue is updated by the {@link Handler.GremlinResponseHandler}
@@ -51,6 +53,12 @@ final class ResultQueue {
 
     private final Queue<Pair<CompletableFuture<List<Result>>,Integer>> waiting = new ConcurrentLinkedQueue<>();
 
+    /**
+     * Guards the completion of {@link #waiting} futures. A {@code Lock} is used rather than a monitor so that a thread
+     * blocked here does not pin the carrier when the driver is used from virtual threads.
+     */
+    private final Lock drainLock = new ReentrantLock();
+
     private Map<String,Object> statusAttributes = null;
 
     public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete) {
@@ -130,25 +138,30 @@ final class ResultQueue {
     /**
      * Completes the next waiting future if there is one.
      */
-    private synchronized void tryDrainNextWaiting(final boolean force) {
-        // need to peek because the number of available items needs to be >= the expected size for that future. if not
-        // it needs to keep waiting
-        final Pair<CompletableFuture<List<Result>>, Integer> nextWaiting = waiting.peek();
-        if (nextWaiting != null && (force || (resultLinkedBlockingQueue.size() >= nextWaiting.getValue1() || readComplete.isDone()))) {
-            final int items = nextWaiting.getValue1();
-            final CompletableFuture<List<Result>> future = nextWaiting.getValue0();
-            final List<Result> results = new ArrayList<>(items);
-            resultLinkedBlockingQueue.drainTo(results, items);
-
-            // it's important to check for error here because a future may have already been queued in "waiting" prior
-            // to the first response back from the server. if that happens, any "waiting" futures should be completed
-            // exceptionally otherwise it will look like success.
-            if (null == error.get())
-                future.complete(results);
-            else
-                future.completeExceptionally(error.get());
-
-            waiting.remove(nextWaiting);
+    private void tryDrainNextWaiting(final boolean force) {
+        drainLock.lock();
+        try {
+            // need to peek because the number of available items needs to be >= the expected size for that future. if not
+            // it needs to keep waiting
+            final Pair<CompletableFuture<List<Result>>, Integer> nextWaiting = waiting.peek();
+            if (nextWaiting != null && (force || (resultLinkedBlockingQueue.size() >= nextWaiting.getValue1() || readComplete.isDone()))) {
+                final int items = nextWaiting.getValue1();
+                final CompletableFuture<List<Result>> future = nextWaiting.getValue0();
+                final List<Result> results = new ArrayList<>(items);
+                resultLinkedBlockingQueue.drainTo(results, items);
+
+                // it's important to check for error here because a future may have already been queued in "waiting" prior
+                // to the first response back from the server. if that happens, any "waiting" futures should be completed
+                // exceptionally otherwise it will look like success.
+                if (null == error.get())
+                    future.complete(results);
+                else
+                    future.completeExceptionally(error.get());
+
+                waiting.remove(nextWaiting);
+            }
+        } finally {
+            drainLock.unlock();
         }
     }
 
@@ -33,8 +33,14 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.apache.tinkerpop.gremlin.process.remote.RemoteConnection.GREMLIN_REMOTE;
@@ -49,9 +55,17 @@ import static org.apache.tinkerpop.gremlin.process.remote.RemoteConnection.GREML
  */
 public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
 
+    private final ResultSet rs;
     private final Iterator<Traverser.Admin<E>> traversers;
+    private final Function<Result, Traverser.Admin<E>> toTraverser;
     private Traverser.Admin<E> lastTraverser = EmptyTraverser.instance();
 
+    /**
+     * Traversers that arrived with a call to {@link #nextAsync(int)} but could not be returned as the bulk of the
+     * results exceeded the requested amount.
+     */
+    private final Deque<Traverser.Admin<E>> pending = new ArrayDeque<>();
+
     public DriverRemoteTraversal(final ResultSet rs, final Client client, final boolean attach, final Optional<Configuration> conf) {
         // attaching is really just for testing purposes. it doesn't make sense in any real-world scenario as it would
         // require that the client have access to the Graph instance that produced the result. tests need that
@@ -60,20 +74,23 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
             if (!conf.isPresent()) throw new IllegalStateException("Traverser can't be reattached for testing");
             final Graph graph = ((Supplier<Graph>) conf.get().getProperty(GREMLIN_REMOTE + "attachment")).get();
             this.traversers = new AttachingTraverserIterator<>(rs.iterator(), graph);
+            this.toTraverser = r -> AttachingTraverserIterator.attach(TraverserIterator.toTraverser(r), graph);
         } else {
             this.traversers = new TraverserIterator<>(rs.iterator());
+            this.toTraverser = TraverserIterator::toTraverser;
         }
+        this.rs = rs;
     }
 
     @Override
     public boolean hasNext() {
-        return this.lastTraverser.bulk() > 0L || this.traversers.hasNext();
+        return this.lastTraverser.bulk() > 0L || !this.pending.isEmpty() || this.traversers.hasNext();
     }
 
     @Override
     public E next() {
         if (0L == this.lastTraverser.bulk())
-            this.lastTraverser = this.traversers.next();
+            this.lastTraverser = this.nextFromSource();
         if (1L == this.lastTraverser.bulk()) {
             final E temp = this.lastTraverser.get();
             this.lastTraverser = EmptyTraverser.instance();
@@ -89,7 +106,7 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         // the lastTraverser is initialized as "empty" at start of iteration so the initial pass through will
         // call next() to begin the iteration
         if (0L == this.lastTraverser.bulk())
-            return this.traversers.next();
+            return this.nextFromSource();
         else {
             final Traverser.Admin<E> temp = this.lastTraverser;
             this.lastTraverser = EmptyTraverser.instance();
@@ -97,6 +114,45 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
         }
     }
 
+    /**
+     * Gets the next n-number of results as they arrive in the {@link ResultSet} without blocking on the results.
+     */
+    @Override
+    public CompletableFuture<List<E>> nextAsync(final int amount) {
+        final List<E> results = new ArrayList<>(amount);
+        this.unroll(results, amount);
+        if (results.size() == amount)
+            return CompletableFuture.completedFuture(results);
+
+        return this.rs.some(amount - results.size()).thenApply(arrived -> {
+            for (final Result result : arrived) {
+                this.pending.add(this.toTraverser.apply(result));
+            }
+            this.unroll(results, amount);
+            return results;
+        });
+    }
+
+    /**
+     * Adds results from the traversers already on hand until the specified amount is reached, leaving any remaining
+     * bulk in place for the next call.
+     */
+    private void unroll(final List<E> results, final int amount) {
+        while (results.size() < amount) {
+            if (0L == this.lastTraverser.bulk()) {
+                if (this.pending.isEmpty())
+                    return;
+                this.lastTraverser = this.pending.poll();
+            }
+            results.add(this.lastTraverser.get());
+            this.lastTraverser.setBulk(this.lastTraverser.bulk() - 1L);
+        }
+    }
+
+    private Traverser.Admin<E> nextFromSource() {
+        return this.pending.isEmpty() ? this.traversers.next() : this.pending.poll();
+    }
+
     static class TraverserIterator<E> implements Iterator<Traverser.Admin<E>> {
 
         private final Iterator<Result> inner;
@@ -112,7 +168,11 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
 
         @Override
         public Traverser.Admin<E> next() {
-            return (RemoteTraverser<E>) inner.next().getObject();
+            return toTraverser(inner.next());
+        }
+
+        static <E> Traverser.Admin<E> toTraverser(final Result result) {
+            return (RemoteTraverser<E>) result.getObject();
         }
     }
 
@@ -126,7 +186,10 @@ public class DriverRemoteTraversal<S, E> extends AbstractRemoteTraversal<S, E> {
 
         @Override
         public Traverser.Admin<E> next() {
-            final Traverser.Admin<E> traverser = super.next();
+            return attach(super.next(), graph);
+        }
+
+        static <E> Traverser.Admin<E> attach(final Traverser.Admin<E> traverser, final Graph graph) {
             if (traverser.get() instanceof Attachable && !(traverser.get() instanceof Property))
                 traverser.set((E) ((Attachable<Element>) traverser.get()).attach(Attachable.Method.get(graph)));
             return traverser;
@@ -113,6 +113,9 @@ public class GraphBinaryReaderWriterRoundTripTest {
         final Map<String, Map<String, Integer>> nestedMap = new HashMap<>();
         nestedMap.put("first", map);
 
+        final Map<Object, Object> propertyRow = g.V(1).elementMap("name", "age").next();
+        propertyRow.put("extra", "value");
+
         final List<Object> list = new ArrayList<>();
         list.add("string 1");
         list.add("string 1");
@@ -285,6 +288,10 @@ public class GraphBinaryReaderWriterRoundTripTest {
                 new Object[] {"ListNested", nestedList, null},
                 new Object[] {"Map", map, null},
                 new Object[] {"Map", nestedMap, null},
+                new Object[] {"MapPropertyRow", propertyRow, (Consumer<Map>) m -> {
+                    assertEquals(propertyRow, m);
+                    assertEquals(new ArrayList<>(propertyRow.keySet()), new ArrayList<>(m.keySet()));
+                }},
                 new Object[] {"Set", set, null},
                 new Object[] {"SetNested", nestedSet, null});
     }
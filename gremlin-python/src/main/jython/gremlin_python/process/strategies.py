@@ -106,6 +106,11 @@ class MatchAlgorithmStrategy(TraversalStrategy):
             self.configuration["matchAlgorithm"] = match_algorithm
 
 
+class StepFusionStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self, fqcn="org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy")
+
+
 ###########################
 # OPTIMIZATION STRATEGIES #
 ###########################
@@ -180,6 +185,21 @@ class EarlyLimitStrategy(TraversalStrategy):
     def __init__(self):
         TraversalStrategy.__init__(self, fqcn="org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.EarlyLimitStrategy")
 
+
+class BreadthFirstRepeatStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self, fqcn="org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BreadthFirstRepeatStrategy")
+
+
+class HashJoinStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self, fqcn="org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.HashJoinStrategy")
+
+
+class MemoizationStrategy(TraversalStrategy):
+    def __init__(self):
+        TraversalStrategy.__init__(self, fqcn="org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MemoizationStrategy")
+
 ###########################
 # VERIFICATION STRATEGIES #
 ###########################
@@ -23,7 +23,9 @@ import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -121,7 +123,13 @@ public class Context {
     public void writeAndFlush(final ResponseStatusCode code, final Object responseMessage) {
         final boolean messageIsFinal = code.isFinalResponse();
         if(finalResponseWritten.compareAndSet(false, messageIsFinal)) {
-            this.getChannelHandlerContext().writeAndFlush(responseMessage);
+            if (TraversalEvents.isEnabled()) {
+                // the flush phase lasts until netty has written the response to the channel
+                final ServerEvents.Phase flush = ServerEvents.requestPhase(ServerEvents.FLUSH);
+                this.getChannelHandlerContext().writeAndFlush(responseMessage).addListener(f -> flush.commit(this.getRequestMessage()));
+            } else {
+                this.getChannelHandlerContext().writeAndFlush(responseMessage);
+            }
         } else {
             if (responseMessage instanceof Frame) {
                 ((Frame) responseMessage).tryRelease();
@@ -34,6 +34,7 @@ import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import io.netty.util.internal.logging.Slf4JLoggerFactory;
 import org.apache.commons.lang3.SystemUtils;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
 import org.apache.tinkerpop.gremlin.server.op.OpLoader;
 import org.apache.tinkerpop.gremlin.server.util.LifeCycleHook;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
@@ -95,6 +96,7 @@ public class GremlinServer {
         settings.optionalMetrics().ifPresent(GremlinServer::configureMetrics);
         this.settings = settings;
         provideDefaultForGremlinPoolSize(settings);
+        configureFlightRecorderEvents(settings);
         this.isEpollEnabled = settings.useEpollEventLoop && SystemUtils.IS_OS_LINUX;
         if(settings.useEpollEventLoop && !SystemUtils.IS_OS_LINUX){
             logger.warn("cannot use epoll in non-linux env, falling back to NIO");
@@ -397,6 +399,14 @@ public class GremlinServer {
         logger.info(getHeader());
     }
 
+    private static void configureFlightRecorderEvents(final Settings settings) {
+        if (!settings.enableFlightRecorderEvents) return;
+        if (TraversalEvents.isAvailable())
+            TraversalEvents.setEnabled(true);
+        else
+            logger.warn("enableFlightRecorderEvents is set but JDK Flight Recorder is not available in this JVM - no events will be emitted");
+    }
+
     private static void provideDefaultForGremlinPoolSize(final Settings settings) {
         if (settings.gremlinPool == 0)
             settings.gremlinPool = Runtime.getRuntime().availableProcessors();
@@ -93,6 +93,14 @@ public class Settings {
      */
     public int gremlinPool = 0;
 
+    /**
+     * Determines if Gremlin script and bytecode evaluation, including that of sessions, should run on virtual threads
+     * where each request gets its own thread rather than waiting for one from the {@link #gremlinPool}. This setting
+     * is useful for graphs that spend much of their time blocked on I/O and has no effect (other than a logged
+     * warning) on a JVM that does not support virtual threads. Defaults to {@code false}.
+     */
+    public boolean useVirtualThreads = false;
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
@@ -105,6 +113,13 @@ public class Settings {
      */
     public long evaluationTimeout = 30000L;
 
+    /**
+     * The estimated number of bytes that the barriers and reductions of a traversal (bytecode or returned from a
+     * script) may retain before the request fails. The estimate is approximate and meant to stop a traversal before it
+     * exhausts the heap of the server. Defaults to 0 which does not limit memory.
+     */
+    public long traversalMemoryQuota = 0L;
+
     /**
      * Number of items in a particular resultset to iterate and serialize prior to pushing the data down the wire
      * to the client.
@@ -181,6 +196,14 @@ public class Settings {
      */
     public boolean strictTransactionManagement = false;
 
+    /**
+     * Determines if JDK Flight Recorder events are emitted for the phases of requests (deserialize, evaluate,
+     * serialize and flush) as well as for the traversals they execute. The events still have to be enabled in a
+     * Flight Recorder recording to be captured. On a JVM without Flight Recorder a warning is logged and no events are
+     * emitted. Defaults to {@code false}.
+     */
+    public boolean enableFlightRecorderEvents = false;
+
     /**
      * The full class name of the {@link Channelizer} to use in Gremlin Server.
      */
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,7 +69,10 @@ public class NioGremlinBinaryRequestDecoder extends ReplayingDecoder<NioGremlinB
                     // subtract the contentTypeLength and the byte that held it from the full message length to
                     // figure out how long the rest of the message is
                     final int payloadLength = messageLength - 1 - contentTypeLength;
-                    objects.add(serializer.deserializeRequest(messageFrame.readBytes(payloadLength)));
+                    final ServerEvents.Phase deserialize = ServerEvents.requestPhase(ServerEvents.DESERIALIZE);
+                    final RequestMessage msg = serializer.deserializeRequest(messageFrame.readBytes(payloadLength));
+                    deserialize.commit(msg);
+                    objects.add(msg);
                 } catch (SerializationException se) {
                     objects.add(RequestMessage.INVALID);
                 }
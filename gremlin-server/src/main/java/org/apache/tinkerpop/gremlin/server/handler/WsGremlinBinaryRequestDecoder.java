@@ -26,6 +26,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +75,10 @@ public class WsGremlinBinaryRequestDecoder extends MessageToMessageDecoder<Binar
             channelHandlerContext.channel().attr(StateKey.USE_BINARY).set(true);
 
             try {
-                objects.add(serializer.deserializeRequest(messageBytes.discardReadBytes()));
+                final ServerEvents.Phase deserialize = ServerEvents.requestPhase(ServerEvents.DESERIALIZE);
+                final RequestMessage msg = serializer.deserializeRequest(messageBytes.discardReadBytes());
+                deserialize.commit(msg);
+                objects.add(msg);
             } catch (SerializationException se) {
                 objects.add(RequestMessage.INVALID);
             }
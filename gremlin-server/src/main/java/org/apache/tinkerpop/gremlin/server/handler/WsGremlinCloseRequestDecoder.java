@@ -26,6 +26,7 @@ import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,7 +74,10 @@ public class WsGremlinCloseRequestDecoder extends MessageToMessageDecoder<CloseW
             channelHandlerContext.channel().attr(StateKey.USE_BINARY).set(true);
 
             try {
-                objects.add(serializer.deserializeRequest(messageBytes.discardReadBytes()));
+                final ServerEvents.Phase deserialize = ServerEvents.requestPhase(ServerEvents.DESERIALIZE);
+                final RequestMessage msg = serializer.deserializeRequest(messageBytes.discardReadBytes());
+                deserialize.commit(msg);
+                objects.add(msg);
             } catch (SerializationException se) {
                 objects.add(RequestMessage.INVALID);
             }
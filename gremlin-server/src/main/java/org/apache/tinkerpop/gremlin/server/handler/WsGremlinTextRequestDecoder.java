@@ -26,6 +26,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +62,10 @@ public class WsGremlinTextRequestDecoder extends MessageToMessageDecoder<TextWeb
             channelHandlerContext.channel().attr(StateKey.SERIALIZER).set(serializer);
             channelHandlerContext.channel().attr(StateKey.USE_BINARY).set(false);
 
-            objects.add(serializer.deserializeRequest(frame.text()));
+            final ServerEvents.Phase deserialize = ServerEvents.requestPhase(ServerEvents.DESERIALIZE);
+            final RequestMessage msg = serializer.deserializeRequest(frame.text());
+            deserialize.commit(msg);
+            objects.add(msg);
         } catch (SerializationException se) {
             objects.add(RequestMessage.INVALID);
         }
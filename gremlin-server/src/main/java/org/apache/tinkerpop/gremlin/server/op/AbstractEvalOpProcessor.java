@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.server.op;
 
 import com.codahale.metrics.Timer;
+import io.netty.channel.ChannelFutureListener;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -29,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -52,6 +54,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -222,6 +225,7 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
         // both configurations from being submitted at the same time
         final long seto = args.containsKey(Tokens.ARGS_EVAL_TIMEOUT) ?
                 ((Number) args.get(Tokens.ARGS_EVAL_TIMEOUT)).longValue() : settings.getEvaluationTimeout();
+        final long started = System.nanoTime();
 
         final GremlinExecutor.LifeCycle lifeCycle = GremlinExecutor.LifeCycle.build()
                 .evaluationTimeoutOverride(seto)
@@ -247,6 +251,15 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                         auditLogger.info("User with address {} requested: {}", address, script);
                     }
 
+                    // a traversal returned by the script gets the time that is left of the timeout so that its steps
+                    // stop on their own rather than waiting for the evaluation thread to be interrupted
+                    ChannelFutureListener cancelOnClose = null;
+                    if (o instanceof Traversal.Admin) {
+                        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                        cancelOnClose = attachCancellation(ctx, (Traversal.Admin<?, ?>) o, seto > 0 ? Math.max(1L, seto - elapsed) : 0L);
+                        applyMemoryQuota(ctx, (Traversal.Admin<?, ?>) o);
+                    }
+
                     try {
                         handleIterator(ctx, itty);
                     } catch (Exception ex) {
@@ -255,6 +268,8 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                         // wrap up the exception and rethrow. the error will be written to the client by the evalFuture
                         // as it will completeExceptionally in the GremlinExecutor
                         throw new RuntimeException(ex);
+                    } finally {
+                        if (null != cancelOnClose) detachCancellation(ctx, cancelOnClose);
                     }
                 }).create();
 
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.server.op;
 
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
@@ -25,6 +26,9 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCancellation;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMemoryQuota;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
@@ -32,6 +36,7 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
 import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.util.ExceptionHelper;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +67,40 @@ public abstract class AbstractOpProcessor implements OpProcessor {
         this.manageTransactions = manageTransactions;
     }
 
+    /**
+     * Carries a {@link TraversalCancellation} on the traversal so that its steps stop on their own once the timeout
+     * has elapsed or once the client has closed the channel of the request. The returned listener cancels the
+     * traversal on the close of the channel and has to be passed to
+     * {@link #detachCancellation(Context, ChannelFutureListener)} once the traversal is done.
+     *
+     * @param timeout the time in milliseconds that the traversal may take or zero if it may take any time
+     */
+    protected static ChannelFutureListener attachCancellation(final Context context, final Traversal.Admin<?, ?> traversal,
+                                                              final long timeout) {
+        final TraversalCancellation cancellation = TraversalCancellation.withTimeout(timeout, TimeUnit.MILLISECONDS);
+        traversal.getSideEffects().setCancellation(cancellation);
+        final ChannelFutureListener cancelOnClose = f -> cancellation.cancel();
+        context.getChannelHandlerContext().channel().closeFuture().addListener(cancelOnClose);
+        return cancelOnClose;
+    }
+
+    /**
+     * Limits the memory that the steps of the traversal may retain to the {@link Settings#traversalMemoryQuota}.
+     */
+    protected static void applyMemoryQuota(final Context context, final Traversal.Admin<?, ?> traversal) {
+        final long limit = context.getSettings().traversalMemoryQuota;
+        if (limit > 0)
+            traversal.getSideEffects().setMemoryQuota(TraversalMemoryQuota.of(limit));
+    }
+
+    /**
+     * Removes the listener of {@link #attachCancellation(Context, Traversal.Admin, long)} from the channel so that
+     * listeners do not pile up on long-lived connections.
+     */
+    protected static void detachCancellation(final Context context, final ChannelFutureListener cancelOnClose) {
+        context.getChannelHandlerContext().channel().closeFuture().removeListener(cancelOnClose);
+    }
+
     /**
      * Provides a generic way of iterating a result set back to the client.
      *
@@ -103,6 +142,8 @@ public abstract class AbstractOpProcessor implements OpProcessor {
         // the loop on calls to hasNext().
         boolean hasMore = itty.hasNext();
 
+        // measures the iteration of each batch of results up to its serialization
+        ServerEvents.Phase evaluate = ServerEvents.requestPhase(ServerEvents.EVALUATE);
         while (hasMore) {
             if (Thread.interrupted()) throw new InterruptedException();
 
@@ -134,11 +175,14 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                     // serialize here because in sessionless requests the serialization must occur in the same
                     // thread as the eval.  as eval occurs in the GremlinExecutor there's no way to get back to the
                     // thread that processed the eval of the script so, we have to push serialization down into that
+                    evaluate.commit(msg);
                     Frame frame = null;
                     try {
+                        final ServerEvents.Phase serialize = ServerEvents.requestPhase(ServerEvents.SERIALIZE);
                         frame = makeFrame(context, msg, serializer, useBinary, aggregate, code,
                                 generateResultMetaData(nettyContext, msg, code, itty, settings),
                                 generateStatusAttributes(nettyContext, msg, code, itty, settings));
+                        serialize.commit(msg);
                     } catch (Exception ex) {
                         // a frame may use a Bytebuf which is a countable release - if it does not get written
                         // downstream it needs to be released here
@@ -187,6 +231,7 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                     // should have completely detached objects from the transaction (i.e. serialization has occurred)
                     // so a new one should not be opened on the flush down the netty pipeline
                     context.writeAndFlush(code, frame);
+                    evaluate = ServerEvents.requestPhase(ServerEvents.EVALUATE);
                 }
             } else {
                 // don't keep triggering this warning over and over again for the same request
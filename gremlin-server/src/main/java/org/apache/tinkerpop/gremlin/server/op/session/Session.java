@@ -40,7 +40,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -80,13 +79,11 @@ public class Session {
      */
     private final GremlinExecutor gremlinExecutor;
 
-    private final ThreadFactory threadFactoryWorker = ThreadFactoryUtil.create("session-%d");
-
     /**
      * By binding the session to run ScriptEngine evaluations in a specific thread, each request will respect
      * the ThreadLocal nature of Graph implementations.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactoryWorker);
+    private final ExecutorService executor;
 
     private final ConcurrentHashMap<String, Session> sessions;
 
@@ -95,6 +92,7 @@ public class Session {
         this.session = session;
         this.bindings = new SimpleBindings();
         this.settings = context.getSettings();
+        this.executor = Executors.newSingleThreadExecutor(ThreadFactoryUtil.create("session-%d", settings.useVirtualThreads));
         this.graphManager = context.getGraphManager();
         this.scheduledExecutorService = context.getScheduledExecutorService();
         this.sessions = sessions;
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.server.op.traversal;
 
 import com.codahale.metrics.Timer;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
@@ -31,6 +32,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalTemplate;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalTemplateCache;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
@@ -41,12 +44,14 @@ import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.op.AbstractOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.ServerEvents;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONVersion;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
+import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +60,7 @@ import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,10 +84,39 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
     private static final Bindings EMPTY_BINDINGS = new SimpleBindings();
 
+    /**
+     * Configuration setting for the number of distinct traversals whose strategy-applied form is cached so that
+     * repeated requests with the same bytecode skip translation and strategy application.
+     */
+    public static final String CONFIG_TEMPLATE_CACHE_SIZE = "templateCacheSize";
+
+    /**
+     * Default size of the template cache which disables it.
+     */
+    public static final int DEFAULT_TEMPLATE_CACHE_SIZE = 0;
+
+    static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
+
+    static {
+        DEFAULT_SETTINGS.className = TraversalOpProcessor.class.getCanonicalName();
+        DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
+            put(CONFIG_TEMPLATE_CACHE_SIZE, DEFAULT_TEMPLATE_CACHE_SIZE);
+        }};
+    }
+
+    private TraversalTemplateCache templates = null;
+
     public TraversalOpProcessor() {
         super(false);
     }
 
+    @Override
+    public void init(final Settings settings) {
+        final int templateCacheSize = ((Number) settings.optionalProcessor(TraversalOpProcessor.class).orElse(DEFAULT_SETTINGS).config.
+                getOrDefault(CONFIG_TEMPLATE_CACHE_SIZE, DEFAULT_TEMPLATE_CACHE_SIZE)).intValue();
+        this.templates = templateCacheSize > 0 ? new TraversalTemplateCache(templateCacheSize) : null;
+    }
+
     @Override
     public String getName() {
         return OP_PROCESSOR_NAME;
@@ -170,10 +205,19 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
+        // templates are keyed by the traversal source instance so that they are not used once it is replaced. traversals
+        // with lambdas are not cached as their compiled lambdas could hold state and neither are traversals with
+        // mutable side-effect or sack values as the copies for all equal requests would share them
+        final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
+        final Object templateKey = null == templates || lambdaLanguage.isPresent() || !TraversalTemplate.canCapture(bytecode) ?
+                null : Pair.with(g, bytecode);
+        final TraversalTemplate<?, ?> template = null == templateKey ? null : templates.get(templateKey);
+
         final Traversal.Admin<?, ?> traversal;
         try {
-            final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            if (template != null)
+                traversal = template.instantiate();
+            else if (!lambdaLanguage.isPresent())
                 traversal = JavaTranslator.of(g).translate(bytecode);
             else
                 traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
@@ -191,6 +235,11 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                             .statusAttributeException(ex).create());
         }
 
+        // steps stop on their own once the timeout is reached or the client goes away which does not depend on the
+        // interruption of the thread below
+        final ChannelFutureListener cancelOnClose = attachCancellation(context, traversal, seto);
+        applyMemoryQuota(context, traversal);
+
         final Timer.Context timerContext = traversalOpTimer.time();
         final FutureTask<Void> evalFuture = new FutureTask<>(() -> {
             final Graph graph = g.getGraph();
@@ -199,8 +248,12 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 beforeProcessing(graph, context);
 
                 try {
-                    // compile the traversal - without it getEndStep() has nothing in it
-                    traversal.applyStrategies();
+                    // compile the traversal - without it getEndStep() has nothing in it. copies of a template are
+                    // compiled already and the first compilation of a cacheable traversal becomes its template
+                    if (!traversal.isLocked()) {
+                        traversal.applyStrategies();
+                        if (templateKey != null) templates.put(templateKey, traversal);
+                    }
                     handleIterator(context, new TraverserIterator(traversal), graph);
                 } catch (Exception ex) {
                     Throwable t = ex;
@@ -229,6 +282,7 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                                                      .statusAttributeException(ex).create());
                 onError(graph, context);
             } finally {
+                detachCancellation(context, cancelOnClose);
                 timerContext.stop();
             }
 
@@ -292,6 +346,8 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         // the loop on calls to hasNext().
         boolean hasMore = itty.hasNext();
 
+        // measures the iteration of each batch of results up to its serialization
+        ServerEvents.Phase evaluate = ServerEvents.requestPhase(ServerEvents.EVALUATE);
         while (hasMore) {
             if (Thread.interrupted()) throw new InterruptedException();
 
@@ -325,10 +381,13 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     // thread that processed the eval of the script so, we have to push serialization down into that
                     final Map<String, Object> metadata = generateResultMetaData(nettyContext, msg, code, itty, settings);
                     final Map<String, Object> statusAttrb = generateStatusAttributes(nettyContext, msg, code, itty, settings);
+                    evaluate.commit(msg);
                     Frame frame = null;
                     try {
+                        final ServerEvents.Phase serialize = ServerEvents.requestPhase(ServerEvents.SERIALIZE);
                         frame = makeFrame(context, msg, serializer, useBinary, aggregate, code,
                                           metadata, statusAttrb);
+                        serialize.commit(msg);
                     } catch (Exception ex) {
                         // a frame may use a Bytebuf which is a countable release - if it does not get written
                         // downstream it needs to be released here
@@ -371,6 +430,7 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     // should have completely detached objects from the transaction (i.e. serialization has occurred)
                     // so a new one should not be opened on the flush down the netty pipeline
                     context.writeAndFlush(code, frame);
+                    evaluate = ServerEvents.requestPhase(ServerEvents.EVALUATE);
                 }
             } else {
                 // don't keep triggering this warning over and over again for the same request
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+
+/**
+ * The Flight Recorder events behind {@link ServerEvents} which instantiates this class reflectively once events are
+ * enabled.
+ */
+final class FlightRecorderServerEvents implements ServerEvents.Recorder {
+
+    FlightRecorderServerEvents() {
+    }
+
+    @Override
+    public ServerEvents.Phase requestPhase(final String phase) {
+        final RequestPhaseEvent event = new RequestPhaseEvent();
+        if (event.isEnabled()) {
+            event.phase = phase;
+            event.begin();
+        }
+        return event;
+    }
+
+    @Name("org.apache.tinkerpop.RequestPhase")
+    @Label("Request Phase")
+    @Description("A phase of the processing of a request by Gremlin Server")
+    @Category({"TinkerPop", "Gremlin Server"})
+    @StackTrace(false)
+    static final class RequestPhaseEvent extends Event implements ServerEvents.Phase {
+        @Label("Phase")
+        String phase;
+
+        @Label("Request Id")
+        String requestId;
+
+        @Label("Processor")
+        String processor;
+
+        @Label("Operation")
+        String op;
+
+        @Override
+        public void commit(final RequestMessage msg) {
+            if (this.shouldCommit()) {
+                if (null != msg) {
+                    this.requestId = String.valueOf(msg.getRequestId());
+                    this.processor = msg.getProcessor();
+                    this.op = msg.getOp();
+                }
+                this.commit();
+            }
+        }
+    }
+}
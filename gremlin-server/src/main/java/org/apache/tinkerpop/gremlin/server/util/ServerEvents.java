@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalEvents;
+import org.apache.tinkerpop.gremlin.server.Settings;
+
+/**
+ * Emits JDK Flight Recorder events for the phases of a request processed by Gremlin Server. Events are only
+ * emitted when {@link TraversalEvents#isEnabled()}, which the server turns on with
+ * {@link Settings#enableFlightRecorderEvents}. The Flight Recorder implementation is loaded reflectively on the first
+ * phase that is begun with events enabled and a no-op is used in its place if it can not be loaded.
+ */
+public final class ServerEvents {
+
+    public static final String DESERIALIZE = "deserialize";
+    public static final String EVALUATE = "evaluate";
+    public static final String SERIALIZE = "serialize";
+    public static final String FLUSH = "flush";
+
+    private static final String FLIGHT_RECORDER_SERVER_EVENTS = ServerEvents.class.getPackage().getName() + ".FlightRecorderServerEvents";
+
+    private static final Phase NONE = msg -> {
+    };
+
+    private static final Recorder NO_OP = phase -> NONE;
+
+    private static volatile Recorder recorder;
+
+    private ServerEvents() {
+    }
+
+    /**
+     * A phase of a request that is measured from its creation until it is committed.
+     */
+    public interface Phase {
+        /**
+         * Ends the phase for the specified request which may be {@code null} if it is not known.
+         */
+        public void commit(final RequestMessage msg);
+    }
+
+    /**
+     * The hook that phases are begun through which is implemented by {@code FlightRecorderServerEvents}.
+     */
+    interface Recorder {
+        public Phase requestPhase(final String phase);
+    }
+
+    /**
+     * Begins a phase of a request.
+     */
+    public static Phase requestPhase(final String phase) {
+        if (!TraversalEvents.isEnabled())
+            return NONE;
+
+        Recorder r = recorder;
+        if (null == r)
+            recorder = r = loadRecorder();
+        return r.requestPhase(phase);
+    }
+
+    private static Recorder loadRecorder() {
+        try {
+            return (Recorder) Class.forName(FLIGHT_RECORDER_SERVER_EVENTS).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return NO_OP;
+        }
+    }
+}
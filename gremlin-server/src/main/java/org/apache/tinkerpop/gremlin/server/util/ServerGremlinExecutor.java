@@ -38,7 +38,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -92,8 +95,15 @@ public class ServerGremlinExecutor {
         }
 
         if (null == gremlinExecutorService) {
-            final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d", settings.useVirtualThreads);
+            if (settings.useVirtualThreads && ThreadFactoryUtil.supportsVirtualThreads()) {
+                // virtual threads are cheap so rather than pooling them, each task gets a thread of its own which
+                // terminates as soon as the task is complete
+                this.gremlinExecutorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                        new SynchronousQueue<>(), threadFactoryGremlin);
+            } else {
+                this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            }
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
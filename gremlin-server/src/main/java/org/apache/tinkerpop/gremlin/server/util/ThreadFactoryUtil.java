@@ -19,6 +19,8 @@
 package org.apache.tinkerpop.gremlin.server.util;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ThreadFactory;
 
@@ -26,10 +28,51 @@ import java.util.concurrent.ThreadFactory;
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class ThreadFactoryUtil {
+    private static final Logger logger = LoggerFactory.getLogger(ThreadFactoryUtil.class);
     private static final String SERVER_THREAD_PREFIX = "gremlin-server-";
+
+    /**
+     * The factory for unnamed virtual threads or {@code null} if the running JVM does not support them. It is looked
+     * up reflectively so that Gremlin Server can still be compiled for and run on JVMs without virtual threads.
+     */
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
     private ThreadFactoryUtil() {}
 
     public static ThreadFactory create(final String pattern) {
         return new BasicThreadFactory.Builder().namingPattern(SERVER_THREAD_PREFIX + pattern).build();
     }
+
+    /**
+     * Creates a {@code ThreadFactory} for threads named with the specified pattern. If {@code virtual} is
+     * {@code true} the factory produces virtual threads when the JVM supports them and otherwise falls back to
+     * platform threads.
+     */
+    public static ThreadFactory create(final String pattern, final boolean virtual) {
+        if (!virtual) return create(pattern);
+
+        if (null == VIRTUAL_THREAD_FACTORY) {
+            logger.warn("Virtual threads are not supported by this JVM - using platform threads for {}", SERVER_THREAD_PREFIX + pattern);
+            return create(pattern);
+        }
+
+        return new BasicThreadFactory.Builder().wrappedFactory(VIRTUAL_THREAD_FACTORY).
+                namingPattern(SERVER_THREAD_PREFIX + pattern).build();
+    }
+
+    /**
+     * Determines if the running JVM is able to create virtual threads.
+     */
+    public static boolean supportsVirtualThreads() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    private static ThreadFactory lookupVirtualThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
 }
@@ -47,6 +47,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.server.handler.OpSelectorHandler;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.op.traversal.TraversalOpProcessor;
+import org.apache.tinkerpop.gremlin.server.util.ThreadFactoryUtil;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -58,6 +60,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -78,6 +81,7 @@ import static org.apache.tinkerpop.gremlin.process.remote.RemoteConnection.GREML
 import static org.apache.tinkerpop.gremlin.process.remote.RemoteConnection.GREMLIN_REMOTE_CONNECTION_CLASS;
 import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
@@ -87,6 +91,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Integration tests for server-side settings and processing.
@@ -163,6 +168,9 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldBlockRequestWhenTooBig":
                 settings.maxContentLength = 1024;
                 break;
+            case "shouldEvaluateWithVirtualThreadsEnabled":
+                settings.useVirtualThreads = true;
+                break;
             case "shouldBatchResultsByTwos":
                 settings.resultIterationBatchSize = 2;
                 break;
@@ -193,6 +201,14 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldTimeOutRemoteTraversal":
                 settings.evaluationTimeout = 500;
                 break;
+            case "shouldReuseTemplatesOfRepeatedRemoteTraversals":
+                final Settings.ProcessorSettings processorSettingsTemplates = new Settings.ProcessorSettings();
+                processorSettingsTemplates.className = TraversalOpProcessor.class.getName();
+                processorSettingsTemplates.config = new HashMap<String,Object>() {{
+                    put(TraversalOpProcessor.CONFIG_TEMPLATE_CACHE_SIZE, 16);
+                }};
+                settings.processors.add(processorSettingsTemplates);
+                break;
             case "shouldPingChannelIfClientDies":
                 settings.keepAliveInterval = 1000;
                 break;
@@ -949,6 +965,61 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         assertEquals(3, g.V().promise(Traversal::toList).join().size());
     }
 
+    @Test
+    public void shouldReuseTemplatesOfRepeatedRemoteTraversals() throws Exception {
+        final GraphTraversalSource g = traversal().withRemote(conf);
+        for (int i = 1; i <= 3; i++) {
+            g.addV("person").property("age", i * 10).iterate();
+            assertEquals(i, g.V().hasLabel("person").count().next().intValue());
+            assertEquals(10, (int) g.V().hasLabel("person").has("age", 10).values("age").next());
+            assertEquals(i * 10, (int) g.V().hasLabel("person").<Integer>values("age").max().next());
+        }
+    }
+
+    @Test
+    public void shouldGetResultsAsynchronouslyInBatchesWithRemote() throws Exception {
+        final GraphTraversalSource g = traversal().withRemote(conf);
+        g.addV("person").property("age", 10).iterate();
+        g.addV("person").property("age", 20).iterate();
+        g.addV("person").property("age", 30).iterate();
+
+        final Traversal<Vertex,Integer> traversal = g.V().hasLabel("person").<Integer>values("age").order();
+        assertThat(traversal.nextAsync(2).join(), contains(10, 20));
+        assertThat(traversal.nextAsync(2).join(), contains(30));
+        assertEquals(0, traversal.nextAsync(2).join().size());
+
+        // bulked results are unrolled across calls
+        final Traversal<Vertex,String> bulked = g.V().hasLabel("person").label().barrier();
+        assertEquals("person", bulked.next());
+        assertThat(bulked.nextAsync(1).join(), contains("person"));
+        assertThat(bulked.nextAsync(5).join(), contains("person"));
+        assertThat(bulked.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldEvaluateWithVirtualThreadsEnabled() throws Exception {
+        assumeTrue("Virtual threads are not supported by this JVM", ThreadFactoryUtil.supportsVirtualThreads());
+
+        final Cluster cluster = TestClientFactory.open();
+        try {
+            final Client client = cluster.connect();
+            final List<CompletableFuture<ResultSet>> futures = new ArrayList<>();
+            for (int ix = 0; ix < 8; ix++) {
+                // isVirtual() is called reflectively as the server may be compiled for a JVM that lacks it
+                futures.add(client.submitAsync("Thread.sleep(100);def t = Thread.currentThread();" +
+                        "[t.getName(), Thread.class.getMethod('isVirtual').invoke(t)]"));
+            }
+
+            for (CompletableFuture<ResultSet> future : futures) {
+                final List<Result> results = future.join().all().join();
+                assertThat(results.get(0).getString(), startsWith("gremlin-server-exec-"));
+                assertTrue(results.get(1).getBoolean());
+            }
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldProvideBetterExceptionForMethodCodeTooLarge() {
         final int numberOfParameters = 4000;
@@ -150,6 +150,7 @@ public class ProcessStandardSuite extends AbstractGremlinSuite {
             MapTest.Traversals.class,
             MatchTest.CountMatchTraversals.class,
             MatchTest.GreedyMatchTraversals.class,
+            MatchTest.WorstCaseOptimalMatchTraversals.class,
             MathTest.Traversals.class,
             MaxTest.Traversals.class,
             MeanTest.Traversals.class,
@@ -620,6 +620,14 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
 
     }
 
+    public static class WorstCaseOptimalMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.WorstCaseOptimalMatchAlgorithm.class).create());
+        }
+    }
+
     public abstract static class Traversals extends MatchTest {
         @Override
         public Traversal<Vertex, Map<String, Object>> get_g_V_valueMap_matchXa_selectXnameX_bX() {
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
@@ -36,10 +37,13 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -77,7 +81,7 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         else
             iterator = null == indexedContainer ?
                     this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
+                    queryIndex(indexedContainer, (key, value) -> TinkerHelper.queryEdgeIndex(graph, key, value)).stream()
                                 .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
                                 .collect(Collectors.<Edge>toList()).iterator();
 
@@ -99,7 +103,7 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         else
             iterator = (null == indexedContainer ?
                     this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
+                    IteratorUtils.filter(queryIndex(indexedContainer, (key, value) -> TinkerHelper.queryVertexIndex(graph, key, value)).iterator(),
                                          vertex -> HasContainer.testAll(vertex, this.hasContainers)));
 
         iterators.add(iterator);
@@ -107,13 +111,35 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         return iterator;
     }
 
+    /**
+     * Gets the container to look up in an index, preferring {@code eq} over {@code within} which is answered by a
+     * lookup per value and is what {@code PartitionStrategy} filters by.
+     */
     private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
         final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
 
         final Iterator<HasContainer> itty = IteratorUtils.filter(hasContainers.iterator(),
                 c -> c.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(c.getKey()));
-        return itty.hasNext() ? itty.next() : null;
+        if (itty.hasNext())
+            return itty.next();
+
+        final Iterator<HasContainer> within = IteratorUtils.filter(hasContainers.iterator(),
+                c -> c.getPredicate().getBiPredicate() == Contains.within && c.getPredicate().getValue() instanceof Collection &&
+                        indexedKeys.contains(c.getKey()));
+        return within.hasNext() ? within.next() : null;
+    }
+
+    private static <T extends Element> Collection<T> queryIndex(final HasContainer indexedContainer,
+                                                                final BiFunction<String, Object, List<T>> lookup) {
+        if (indexedContainer.getPredicate().getBiPredicate() == Compare.eq)
+            return lookup.apply(indexedContainer.getKey(), indexedContainer.getPredicate().getValue());
 
+        // a vertex with several of the values in a multi-property is found by several lookups but returned once
+        final Set<T> elements = new LinkedHashSet<>();
+        for (final Object value : (Collection<?>) indexedContainer.getPredicate().getValue()) {
+            elements.addAll(lookup.apply(indexedContainer.getKey(), value));
+        }
+        return elements;
     }
 
     @Override
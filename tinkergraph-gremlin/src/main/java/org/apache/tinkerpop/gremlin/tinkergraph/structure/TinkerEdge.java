@@ -25,6 +25,8 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.Projectable;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
@@ -38,7 +40,7 @@ import java.util.stream.Collectors;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class TinkerEdge extends TinkerElement implements Edge {
+public final class TinkerEdge extends TinkerElement implements Edge, Projectable {
 
     protected Map<String, Property> properties;
     protected final Vertex inVertex;
@@ -138,6 +140,17 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         return this.inVertex.graph();
     }
 
+    @Override
+    public void project(final PropertyRow row) {
+        if (null == this.properties) return;
+        final String[] propertyKeys = row.getShape().getPropertyKeys();
+        for (int i = 0; i < propertyKeys.length; i++) {
+            final Property property = this.properties.get(propertyKeys[i]);
+            if (null != property)
+                row.addProperty(i, property.value());
+        }
+    }
+
     @Override
     public <V> Iterator<Property<V>> properties(final String... propertyKeys) {
         if (null == this.properties) return Collections.emptyIterator();
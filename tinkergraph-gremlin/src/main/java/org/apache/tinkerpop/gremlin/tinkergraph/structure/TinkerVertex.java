@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.Projectable;
+import org.apache.tinkerpop.gremlin.structure.util.PropertyRow;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
@@ -40,7 +42,7 @@ import java.util.stream.Collectors;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class TinkerVertex extends TinkerElement implements Vertex {
+public final class TinkerVertex extends TinkerElement implements Vertex, Projectable {
 
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
@@ -172,6 +174,24 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
                 (Iterator) TinkerHelper.getVertices(this, direction, edgeLabels);
     }
 
+    @Override
+    public void project(final PropertyRow row) {
+        final String[] propertyKeys = row.getShape().getPropertyKeys();
+        if (TinkerHelper.inComputerMode(this.graph)) {
+            this.properties(propertyKeys).forEachRemaining(p -> row.add(row.getShape().slot(p.key()), p.value()));
+            return;
+        }
+        if (this.removed || null == this.properties) return;
+        for (int i = 0; i < propertyKeys.length; i++) {
+            final List<VertexProperty> properties = this.properties.get(propertyKeys[i]);
+            if (null != properties) {
+                for (final VertexProperty property : properties) {
+                    row.addProperty(i, property.value());
+                }
+            }
+        }
+    }
+
     @Override
     public <V> Iterator<VertexProperty<V>> properties(final String... propertyKeys) {
         if (this.removed) return Collections.emptyIterator();
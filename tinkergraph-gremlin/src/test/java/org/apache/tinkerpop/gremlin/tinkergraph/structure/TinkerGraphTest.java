@@ -23,14 +23,27 @@ import org.apache.commons.configuration2.Configuration;
 import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.computer.Computer;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SubgraphSink;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.PartitionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.StepFusionStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.BreadthFirstRepeatStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReservedKeysVerificationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
@@ -47,6 +60,7 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolverV1d0;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoVersion;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -66,6 +80,7 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -75,9 +90,11 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.assertEquals;
@@ -187,6 +204,50 @@ public class TinkerGraphTest {
         }, 35)).has("name", "stephen").count().next());
     }
 
+    @Test
+    public void shouldUseVertexIndexForWithin() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("name", Vertex.class);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "stephen", "age", 35);
+        g.addVertex("name", "daniel", "age", 35);
+
+        // only the vertices found by the index lookups for each of the values should pass through
+        assertEquals(new Long(2), g.traversal().V().has("age", P.test((t, u) -> {
+            assertEquals(35, t);
+            return true;
+        }, 35)).has("name", P.within("stephen", "daniel")).count().next());
+    }
+
+    @Test
+    public void shouldReadPartitionsOverIndexedPartitionKey() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("_partition", Vertex.class);
+
+        g.addVertex("_partition", "a", "age", 29);
+        g.addVertex("_partition", "b", "age", 35);
+        g.addVertex("_partition", "c", "age", 42);
+
+        final GraphTraversalSource gab = g.traversal().withStrategies(PartitionStrategy.build().
+                partitionKey("_partition").writePartition("a").readPartitions("a", "b").create());
+        assertEquals(new HashSet<>(Arrays.asList(29, 35)), gab.V().values("age").toSet());
+        assertEquals(new Long(1), gab.V().has("age", 35).count().next());
+    }
+
+    @Test
+    public void shouldReturnVertexOnceForWithinOverMultiPropertyIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("location", Vertex.class);
+
+        final Vertex v = g.addVertex("name", "stephen");
+        v.property(VertexProperty.Cardinality.list, "location", "centreville");
+        v.property(VertexProperty.Cardinality.list, "location", "dulles");
+        g.addVertex("name", "marko", "location", "santa fe");
+
+        assertEquals(Collections.singletonList(v), g.traversal().V().has("location", P.within("centreville", "dulles")).toList());
+    }
+
     @Test
     public void shouldRemoveAVertexFromAnIndex() {
         final TinkerGraph g = TinkerGraph.open();
@@ -380,6 +441,89 @@ public class TinkerGraphTest {
         }
     }
 
+    @Test
+    public void shouldStreamSubgraphToGryo() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createTheCrew();
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            final SubgraphSink sink = SubgraphSink.of(graph.io(IoCore.gryo()).writer().create(), out, 4);
+            graph.traversal().withSideEffect("sg", sink).E().subgraph("sg").iterate();
+            assertEquals(6, sink.getVertexCount());
+            assertEquals(14, sink.getEdgeCount());
+
+            final TinkerGraph target = TinkerGraph.open(getListCardinalityConfiguration());
+            try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(out.toByteArray())) {
+                graph.io(IoCore.gryo()).reader().create().readVertices(inputStream,
+                        a -> a.attach(Attachable.Method.getOrCreate(target)),
+                        e -> e.attach(Attachable.Method.getOrCreate(target)), Direction.OUT).forEachRemaining(v -> {});
+            }
+            IoTest.assertCrewGraph(target, false);
+        }
+    }
+
+    @Test
+    public void shouldStreamSubgraphToGraphSON() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            final SubgraphSink sink = SubgraphSink.of(graph.io(IoCore.graphson()).writer().create(), out, 3);
+            graph.traversal().withSideEffect("sg", sink).E().hasLabel("knows").subgraph("sg").iterate();
+
+            final TinkerGraph target = TinkerGraph.open();
+            try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(out.toByteArray())) {
+                graph.io(IoCore.graphson()).reader().create().readVertices(inputStream,
+                        a -> a.attach(Attachable.Method.getOrCreate(target)),
+                        e -> e.attach(Attachable.Method.getOrCreate(target)), Direction.OUT).forEachRemaining(v -> {});
+            }
+            assertEquals(3, IteratorUtils.count(target.vertices()));
+            assertEquals(2, IteratorUtils.count(target.edges()));
+            assertEquals(0.5d, target.traversal().E(7).values("weight").next());
+            assertEquals(29, target.traversal().V(1).values("age").next());
+        }
+    }
+
+    @Test
+    public void shouldStreamSubgraphToGraphInBatches() {
+        final TinkerGraph graph = TinkerFactory.createTheCrew();
+        final TinkerGraph target = TinkerGraph.open(getListCardinalityConfiguration());
+        final SubgraphSink sink = SubgraphSink.of(target, 2);
+        graph.traversal().withSideEffect("sg", sink).E().subgraph("sg").iterate();
+        IoTest.assertCrewGraph(target, false);
+    }
+
+    @Test
+    public void shouldStreamEachEdgeOfSubgraphOnce() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final TinkerGraph target = TinkerGraph.open();
+        final SubgraphSink sink = SubgraphSink.of(target, 2);
+        graph.traversal().withSideEffect("sg", sink).V(1).outE().subgraph("sg").inV().inE().subgraph("sg").iterate();
+        assertEquals(5, sink.getEdgeCount());
+        assertEquals(5, IteratorUtils.count(target.edges()));
+        assertEquals(sink.getVertexCount(), IteratorUtils.count(target.vertices()));
+    }
+
+    @Test
+    public void shouldProjectPropertiesInOrderOfKeys() {
+        final GraphTraversalSource g = TinkerFactory.createTheCrew().traversal();
+
+        final Map<Object, Object> valueMap = g.V().has("name", "marko").valueMap("location", "name", "unknown").with(WithOptions.tokens, WithOptions.ids).next();
+        assertEquals(Arrays.asList(T.id, "location", "name"), new ArrayList<>(valueMap.keySet()));
+        assertEquals(Arrays.asList("san diego", "santa cruz", "brussels", "santa fe"), valueMap.get("location"));
+        assertEquals(Collections.singletonList("marko"), valueMap.get("name"));
+
+        final Map<Object, Object> elementMap = g.E(13).elementMap("startTime", "since").next();
+        assertEquals(Arrays.asList(T.id, T.label, Direction.IN, Direction.OUT, "since"), new ArrayList<>(elementMap.keySet()));
+        assertEquals(2009, elementMap.get("since"));
+
+        final Map<String, Object> projection = g.V().has("name", "marko").project("b", "a").by("name").by(__.outE().count()).next();
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(projection.keySet()));
+        assertEquals(4L, projection.get("a"));
+    }
+
+    private static Configuration getListCardinalityConfiguration() {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.list.name());
+        return configuration;
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldRequireGraphLocationIfFormatIsSet() {
         final Configuration conf = new BaseConfiguration();
@@ -675,6 +819,80 @@ public class TinkerGraphTest {
         assertThat(g.V("id").hasNext(), is(true));
     }
 
+    @Test
+    public void shouldEvaluateConnectiveWherePredicateForEachTraverser() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+
+        // the values of where() predicates change for every traverser so a connective of them must not be compiled
+        // against the values of the first one
+        final List<Map<String, Object>> expected = g.V().as("a").out().in().as("b").
+                where("a", P.lt("b")).by("age").select("a", "b").by("name").toList();
+        assertEquals(3, expected.size());
+        assertEquals(expected, g.V().as("a").out().in().as("b").
+                where("a", P.lt("b").and(P.neq("b"))).by("age").select("a", "b").by("name").toList());
+        assertEquals(expected, g.V().as("a").out().in().as("b").
+                where("a", P.lte("b").and(P.neq("b"))).by("age").select("a", "b").by("name").toList());
+        assertEquals(0, g.V().as("a").out().in().as("b").
+                where("a", P.lt("b").and(P.gt("b"))).by("age").count().next().intValue());
+    }
+
+    @Test
+    public void shouldNotPruneVisitedVerticesOfSimplePathRepeatBreadthFirst() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v1 = graph.addVertex(T.id, 1, T.label, "person");
+        final Vertex v2 = graph.addVertex(T.id, 2, T.label, "software");
+        final Vertex v3 = graph.addVertex(T.id, 3, T.label, "software");
+        final Vertex v4 = graph.addVertex(T.id, 4, T.label, "software");
+        v1.addEdge("link", v4);
+        v2.addEdge("link", v3);
+        v3.addEdge("link", v4);
+        v4.addEdge("link", v1);
+        final GraphTraversalSource g = graph.traversal();
+
+        // v[4] is filtered on the path from v[1] but leads to v[1] on the path from v[2]
+        final List<Vertex> expected = g.V(1, 2).repeat(__.out().simplePath()).until(__.hasLabel("person")).dedup().toList();
+        assertEquals(Collections.singletonList(v1), expected);
+        assertEquals(expected, g.withStrategies(BreadthFirstRepeatStrategy.instance()).
+                V(1, 2).repeat(__.out().simplePath()).until(__.hasLabel("person")).dedup().toList());
+    }
+
+    @Test
+    public void shouldNotFuseChildStepsWhenRootRequiresPath() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+        final List<Path> expected = g.V(1).local(__.out().out()).path().toList();
+        assertEquals(2, expected.size());
+        expected.forEach(p -> assertEquals(3, p.size()));
+        assertEquals(expected, g.withStrategies(StepFusionStrategy.instance()).V(1).local(__.out().out()).path().toList());
+    }
+
+    @Test
+    public void shouldReattachElementsAndPropertiesSpilledByOrder() throws Exception {
+        final File directory = new File(TestHelper.makeTestDataDirectory(TinkerGraphTest.class, "shouldReattachElementsAndPropertiesSpilledByOrder"));
+        directory.mkdirs();
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal().
+                with(TraverserSpill.SPILL_THRESHOLD, 2).
+                with(TraverserSpill.SPILL_DIRECTORY, directory.getAbsolutePath());
+
+        final Traversal<Vertex, ? extends Property<Object>> names = g.V().properties("name").order().by(T.value);
+        final List<Property<Object>> properties = new ArrayList<>();
+        properties.add(names.next());
+        assertThat(directory.list().length, greaterThan(0));
+        names.forEachRemaining(properties::add);
+        assertEquals(Arrays.asList("josh", "lop", "marko", "peter", "ripple", "vadas"),
+                properties.stream().map(Property::value).collect(Collectors.toList()));
+        properties.forEach(p -> assertThat(p, instanceOf(TinkerVertexProperty.class)));
+
+        final List<Vertex> vertices = g.V().order().by(T.id, Order.desc).toList();
+        assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1), vertices.stream().map(Element::id).collect(Collectors.toList()));
+        vertices.forEach(v -> assertThat(v, instanceOf(TinkerVertex.class)));
+
+        // vertices within a list could not be re-attached so the lists are ordered in memory
+        final List<List<Vertex>> adjacent = g.V().local(__.out().fold()).order().by(__.count(Scope.local)).toList();
+        assertEquals(6, adjacent.size());
+        adjacent.forEach(l -> l.forEach(v -> assertThat(v, instanceOf(TinkerVertex.class))));
+        assertEquals(0, directory.list().length);
+    }
+
     @Test
     public void shouldOptionalUsingWithComputer() {
         // not all systems will have 3+ available processors (e.g. travis)